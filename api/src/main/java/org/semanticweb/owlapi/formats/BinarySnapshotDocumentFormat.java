@@ -0,0 +1,58 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.formats;
+
+import org.semanticweb.owlapi.model.OWLDocumentFormatImpl;
+
+/**
+ * Compact binary snapshot of an ontology. A snapshot starts with
+ * {@link #MAGIC} and {@link #VERSION}, followed by sections; each section is a
+ * kind, a length and its content. The IRI, entity and literal tables come
+ * first; the ontology header and one section per axiom type follow, with
+ * entities and literals written as indexes in the tables. An empty
+ * {@link #END} section closes the snapshot, so that truncated snapshots are
+ * detected. Sections can be
+ * mapped in memory and decoded without parsing text.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class BinarySnapshotDocumentFormat extends OWLDocumentFormatImpl {
+
+    /** Magic number at the start of a snapshot ("OWLB"). */
+    public static final int MAGIC = 0x4F574C42;
+    /** Version of the snapshot layout. */
+    public static final int VERSION = 1;
+    /** Section holding the IRI table. */
+    public static final int IRI_TABLE = 1;
+    /** Section holding the entity table. */
+    public static final int ENTITY_TABLE = 2;
+    /** Section holding the literal table. */
+    public static final int LITERAL_TABLE = 3;
+    /** Section holding ontology id, imports and ontology annotations. */
+    public static final int ONTOLOGY_HEADER = 4;
+    /** Section holding the axioms of one axiom type. */
+    public static final int AXIOMS = 5;
+    /** Empty section closing the snapshot. */
+    public static final int END = 6;
+
+    @Override
+    public String getKey() {
+        return "OWLAPI Binary Snapshot";
+    }
+
+    @Override
+    public boolean isTextual() {
+        return false;
+    }
+}
@@ -25,6 +25,12 @@ public class OBODocumentFormat extends OWLDocumentFormatImpl {
      * Boolean.FALSE. No parameter is interpreted as TRUE.
      */
     public static final String VALIDATION = "obo.validation";
+    /**
+     * Key for the number of threads used to convert and render an ontology.
+     * Supports Integer values; no parameter is interpreted as 0, i.e., the
+     * ontology is rendered on the calling thread.
+     */
+    public static final String THREADS = "obo.threads";
 
     @Override
     public String getKey() {
@@ -0,0 +1,286 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.model;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A change broadcast strategy that delivers changes on a separate thread, so
+ * that the cost of listeners does not add to the time the manager lock is held
+ * while applying changes. Changes are queued in lists, one per listener and
+ * ontology. Once the number of queued lists reaches the capacity, further
+ * changes are appended to the list already queued for the same listener and
+ * ontology; if there is none, the thread applying changes waits until the
+ * delivery thread takes the queued lists. Lists queued for the same listener
+ * while it was busy are coalesced and delivered in a single call. Each
+ * listener receives the changes to an ontology in the order they were
+ * applied.
+ * <p>
+ * Listeners are called after the changes have been applied, so they may see
+ * an ontology that already includes later changes. A manager may hold its
+ * lock while broadcasting changes, so listeners that need the manager lock
+ * must use a capacity larger than the number of ontologies changed while they
+ * run, or the thread applying changes and the delivery thread wait for each
+ * other. Changes applied by listeners never wait. Exceptions thrown by
+ * listeners are logged. Empty change lists are not delivered.
+ * <p>
+ * {@link #close()} delivers the changes still queued and stops the delivery
+ * thread; changes broadcast after that are delivered on the thread applying
+ * them.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class AsynchronousChangeBroadcastStrategy
+    implements OWLOntologyChangeBroadcastStrategy, AutoCloseable {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(AsynchronousChangeBroadcastStrategy.class);
+    private final int capacity;
+    /**
+     * Change lists waiting to be delivered; guarded by this.
+     */
+    @Nullable
+    private transient Deque<Batch> queue;
+    @Nullable
+    private transient Thread worker;
+    private transient boolean closed;
+    /**
+     * True once the delivery thread has delivered all the changes queued
+     * before closing, and will not take any more.
+     */
+    private transient boolean stopped;
+    /**
+     * Number of change lists queued or being delivered; guarded by this.
+     */
+    private transient int pending;
+
+    /**
+     * Creates a strategy with a queue of 1024 change lists.
+     */
+    public AsynchronousChangeBroadcastStrategy() {
+        this(1024);
+    }
+
+    /**
+     * @param capacity number of change lists that can be queued before
+     *        changes are appended to lists already queued, or wait for space
+     */
+    public AsynchronousChangeBroadcastStrategy(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void broadcastChanges(OWLOntologyChangeListener listener,
+        List<? extends OWLOntologyChange> changes)
+        throws OWLException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<OWLOntologyChange> undelivered;
+        synchronized (this) {
+            undelivered = enqueue(listener, changes);
+        }
+        if (!undelivered.isEmpty()) {
+            listener.ontologiesChanged(undelivered);
+        }
+    }
+
+    /**
+     * Queues the changes, split by ontology. Must be called while holding the
+     * monitor.
+     *
+     * @return the changes that the caller must deliver, because the strategy
+     *         has been closed
+     */
+    private List<OWLOntologyChange> enqueue(OWLOntologyChangeListener listener,
+        List<? extends OWLOntologyChange> changes) {
+        if (closed && (queue == null || stopped)) {
+            return new ArrayList<>(changes);
+        }
+        Map<OWLOntology, List<OWLOntologyChange>> byOntology = new LinkedHashMap<>();
+        for (OWLOntologyChange change : changes) {
+            byOntology.computeIfAbsent(change.getOntology(), o -> new ArrayList<>()).add(change);
+        }
+        List<OWLOntologyChange> undelivered = new ArrayList<>();
+        Deque<Batch> q = queue();
+        byOntology.forEach((ontology, list) -> {
+            if (!append(q, listener, ontology, list)) {
+                undelivered.addAll(list);
+            }
+        });
+        return undelivered;
+    }
+
+    /**
+     * Must be called while holding the monitor.
+     *
+     * @return false if the delivery thread stopped while waiting for space
+     */
+    private boolean append(Deque<Batch> q, OWLOntologyChangeListener listener,
+        OWLOntology ontology, List<OWLOntologyChange> changes) {
+        while (q.size() >= capacity) {
+            Iterator<Batch> it = q.descendingIterator();
+            while (it.hasNext()) {
+                Batch b = it.next();
+                if (b.listener == listener && b.ontology.equals(ontology)) {
+                    b.changes.addAll(changes);
+                    return true;
+                }
+            }
+            // listeners applying changes cannot wait for themselves; after
+            // closing, the delivery thread takes whatever is queued
+            if (closed || Thread.currentThread() == worker) {
+                break;
+            }
+            try {
+                wait();
+            } catch (@SuppressWarnings("unused") InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (stopped) {
+            return false;
+        }
+        q.add(new Batch(listener, ontology, changes));
+        pending++;
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Waits until all the changes queued so far have been delivered. Must not be called from a
+     * listener, or while holding a lock that listeners need.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized void flush() throws InterruptedException {
+        while (pending > 0) {
+            wait();
+        }
+    }
+
+    /**
+     * Delivers the changes still queued and stops the delivery thread. Changes
+     * broadcast afterwards are delivered synchronously. Must not be called while
+     * holding a lock that listeners need; calling it from a listener stops the
+     * thread without waiting for it.
+     */
+    @Override
+    public void close() {
+        Thread t;
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+            t = worker;
+        }
+        if (t == null || t == Thread.currentThread()) {
+            return;
+        }
+        try {
+            t.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Deque<Batch> queue() {
+        if (queue == null) {
+            queue = new ArrayDeque<>();
+            Thread t = new Thread(this::deliver, "owlapi-change-broadcast");
+            t.setDaemon(true);
+            worker = t;
+            t.start();
+        }
+        return verifyNotNull(queue);
+    }
+
+    private synchronized void delivered(int batches) {
+        pending -= batches;
+        if (pending == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * @return the batches queued, or an empty list when closed and the queue
+     *         is empty
+     */
+    private synchronized List<Batch> take() {
+        Deque<Batch> q = verifyNotNull(queue);
+        while (q.isEmpty() && !closed) {
+            try {
+                wait();
+            } catch (@SuppressWarnings("unused") InterruptedException e) {
+                // the thread is only stopped by close()
+            }
+        }
+        List<Batch> batches = new ArrayList<>(q);
+        q.clear();
+        if (batches.isEmpty()) {
+            stopped = true;
+        }
+        // threads applying changes might be waiting for space
+        notifyAll();
+        return batches;
+    }
+
+    private void deliver() {
+        Map<OWLOntologyChangeListener, List<OWLOntologyChange>> coalesced = new LinkedHashMap<>();
+        List<Batch> batches = take();
+        while (!batches.isEmpty()) {
+            for (Batch b : batches) {
+                coalesced.computeIfAbsent(b.listener, x -> new ArrayList<>()).addAll(b.changes);
+            }
+            coalesced.forEach((listener, changes) -> {
+                try {
+                    listener.ontologiesChanged(changes);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Badly behaving change listener: {}", e.getMessage(), e);
+                }
+            });
+            delivered(batches.size());
+            coalesced.clear();
+            batches = take();
+        }
+    }
+
+    private static class Batch {
+
+        final OWLOntologyChangeListener listener;
+        final OWLOntology ontology;
+        final List<OWLOntologyChange> changes;
+
+        Batch(OWLOntologyChangeListener listener, OWLOntology ontology,
+            List<OWLOntologyChange> changes) {
+            this.listener = listener;
+            this.ontology = ontology;
+            this.changes = changes;
+        }
+    }
+}
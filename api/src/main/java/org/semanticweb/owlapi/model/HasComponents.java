@@ -31,4 +31,26 @@ public interface HasComponents {
     default Stream<?> componentsWithoutAnnotations() {
         return components();
     }
+
+    /**
+     * @return number of components accessible through {@link #componentAt(int)}, or -1 if indexed
+     * access is not supported. When supported, the components are the same and in the same order as
+     * those in {@link #components()}. This allows hashcode, equals and comparisons to be computed
+     * without creating streams.
+     */
+    default int componentCount() {
+        return -1;
+    }
+
+    /**
+     * @param index index of the component, between 0 and {@code componentCount() - 1}
+     * @return the component at the specified index; components that {@link #components()} returns as
+     * streams are returned as lists. These lists might be the internal state of the object and must
+     * not be modified.
+     * @throws IndexOutOfBoundsException if the index is out of range or indexed access is not
+     * supported
+     */
+    default Object componentAt(int index) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", components: " + componentCount());
+    }
 }
@@ -41,7 +41,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
     OWLPrimitive,
     HasShortForm, org.apache.commons.rdf.api.IRI {
 
-    // Cache prefixes for memory gains.
+    // Cache prefixes for memory gains. Not used if IRIs are interned.
     private static final LoadingCache<String, String> CACHE = Caffeine.newBuilder()
         .maximumSize(2048).build(k -> k);
     private static final AtomicLong COUNTER = new AtomicLong(System.nanoTime());
@@ -58,7 +58,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      * @param suffix The suffix.
      */
     protected IRI(String prefix, @Nullable String suffix) {
-        namespace = CACHE.get(prefix);
+        namespace = IRIInterner.isEnabled() ? IRIInterner.namespace(prefix) : CACHE.get(prefix);
         remainder = suffix == null ? "" : suffix;
     }
 
@@ -81,9 +81,9 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
         int index = XMLUtils.getNCNameSuffixIndex(str);
         if (index < 0) {
             // no ncname
-            return new IRI(str, "");
+            return IRIInterner.intern(new IRI(str, ""));
         }
-        return new IRI(str.substring(0, index), str.substring(index));
+        return IRIInterner.intern(new IRI(str.substring(0, index), str.substring(index)));
     }
 
     /**
@@ -116,7 +116,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
             // the prefix does not contain an ncname character and there is
             // no illegal character in the suffix
             // the split is therefore correct
-            return new IRI(prefix, suffix);
+            return IRIInterner.intern(new IRI(prefix, suffix));
         }
         // otherwise the split is wrong; we could obtain the right split by
         // using index and test, but it's just as easy to use the other
@@ -130,7 +130,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      */
     public static IRI create(File file) {
         checkNotNull(file, "file cannot be null");
-        return new IRI(file.toURI());
+        return IRIInterner.intern(new IRI(file.toURI()));
     }
 
     /**
@@ -139,7 +139,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      */
     public static IRI create(URI uri) {
         checkNotNull(uri, "uri cannot be null");
-        return new IRI(uri);
+        return IRIInterner.intern(new IRI(uri));
     }
 
     /**
@@ -150,7 +150,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
     public static IRI create(URL url) {
         checkNotNull(url, "url cannot be null");
         try {
-            return new IRI(url.toURI());
+            return IRIInterner.intern(new IRI(url.toURI()));
         } catch (URISyntaxException e) {
             throw new OWLRuntimeException(e);
         }
@@ -416,16 +416,19 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
     public int compareTo(@Nullable OWLObject o) {
         checkNotNull(o);
         assert o != null;
-        if (o == this || equals(o)) {
+        if (o == this) {
             return 0;
         }
         if (!o.isIRI()) {
             return -1;
         }
         IRI other = (IRI) o;
-        int diff = namespace.compareTo(other.namespace);
-        if (diff != 0) {
-            return diff;
+        // namespaces are shared, so the identity check is often enough
+        if (namespace != other.namespace) {
+            int diff = namespace.compareTo(other.namespace);
+            if (diff != 0) {
+                return diff;
+            }
         }
         return remainder.compareTo(other.remainder);
     }
@@ -497,4 +500,11 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
     public int hashIndex() {
         return 863;
     }
+
+    /**
+     * @return the interned IRI equal to this one, if interning is enabled
+     */
+    protected Object readResolve() {
+        return IRIInterner.intern(this);
+    }
 }
@@ -0,0 +1,110 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.model;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.Collections;
+import java.util.concurrent.atomic.LongAdder;
+import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
+
+/**
+ * Global interner for IRIs. Interning is enabled by setting
+ * {@link ConfigurationOptions#IRI_INTERNING} in the system properties or in
+ * {@code owlapi.properties}, read when this class is loaded, or through
+ * {@link #setEnabled(boolean)}. When enabled, equal IRIs created through the
+ * {@code IRI.create} methods are the same instance, and namespaces are shared
+ * through a weak interner rather than through the bounded namespace cache.
+ * Interned values are weakly referenced, so IRIs no longer in use can be
+ * garbage collected.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public final class IRIInterner {
+
+    private static volatile boolean enabled = ConfigurationOptions.IRI_INTERNING
+        .getValue(Boolean.class, Collections.emptyMap()).booleanValue();
+    private static final Interner<IRI> IRIS = Interners.newWeakInterner();
+    private static final Interner<String> NAMESPACES = Interners.newWeakInterner();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private IRIInterner() {}
+
+    /**
+     * @return true if IRIs are interned
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switches interning on or off. IRIs created while interning was off are
+     * not interned retroactively; equality of IRIs does not depend on this
+     * setting.
+     *
+     * @param b true if IRIs should be interned
+     */
+    public static void setEnabled(boolean b) {
+        enabled = b;
+    }
+
+    /**
+     * @param iri IRI to intern
+     * @return the interned instance equal to the input, or the input itself if
+     * interning is disabled
+     */
+    public static IRI intern(IRI iri) {
+        if (!enabled) {
+            return iri;
+        }
+        IRI interned = IRIS.intern(iri);
+        if (interned == iri) {
+            MISSES.increment();
+        } else {
+            HITS.increment();
+        }
+        return interned;
+    }
+
+    /**
+     * @param namespace namespace to intern
+     * @return the interned namespace
+     */
+    static String namespace(String namespace) {
+        return NAMESPACES.intern(namespace);
+    }
+
+    /**
+     * @return number of interned IRIs returned in place of a new instance
+     */
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return number of IRIs added to the interner
+     */
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Resets hit and miss counts.
+     */
+    public static void resetStatistics() {
+        HITS.reset();
+        MISSES.reset();
+    }
+}
@@ -14,14 +14,18 @@ package org.semanticweb.owlapi.model;
 
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ACCEPT_HTTP_COMPRESSION;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.BANNED_PARSERS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.COMPACT_TRIPLE_BUFFER;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.CONNECTION_TIMEOUT;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ENTITY_EXPANSION_LIMIT;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.FOLLOW_REDIRECTS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LOAD_ANNOTATIONS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_IMPORT_HANDLING_STRATEGY;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_ONTOLOGY_HEADER_STRATEGY;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARALLEL_IMPORTS_LOADING_THREADS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARALLEL_PARSING_THREADS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARSE_WITH_STRICT_CONFIGURATION;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PRIORITY_COLLECTION_SORTING;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.RDF_STREAMING_MODE;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.REPORT_STACK_TRACES;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.RETRIES_TO_ATTEMPT;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.TREAT_DUBLINCORE_AS_BUILTIN;
@@ -247,6 +251,97 @@ public class OWLOntologyLoaderConfiguration implements Serializable {
         return copy;
     }
 
+    /**
+     * @return number of threads used to load imported ontologies concurrently; 0 means imports are
+     * loaded sequentially, while the importing ontology is parsed.
+     */
+    public int getParallelImportsLoadingThreads() {
+        return PARALLEL_IMPORTS_LOADING_THREADS.getValue(Integer.class, overrides).intValue();
+    }
+
+    /**
+     * @param threads number of threads used to load imported ontologies concurrently. If greater
+     * than 0, each imported document is parsed on a bounded executor, without its own imports
+     * available, and the loaded ontologies are registered with the manager once the whole imports
+     * closure has been parsed.
+     * @return copy of this configuration with modified number of threads.
+     */
+    public OWLOntologyLoaderConfiguration setParallelImportsLoadingThreads(int threads) {
+        // do not make copies if setting the same value
+        if (getParallelImportsLoadingThreads() == threads) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration copy = copyConfiguration();
+        copy.overrides.put(PARALLEL_IMPORTS_LOADING_THREADS, Integer.valueOf(threads));
+        return copy;
+    }
+
+    /**
+     * @return number of threads used by parsers able to parse a document in chunks; 0 means
+     * documents are parsed on the calling thread.
+     */
+    public int getParallelParsingThreads() {
+        return PARALLEL_PARSING_THREADS.getValue(Integer.class, overrides).intValue();
+    }
+
+    /**
+     * @param threads number of threads used by parsers able to parse a document in chunks. Parsers
+     * that do not support chunked parsing ignore this setting.
+     * @return copy of this configuration with modified number of threads.
+     */
+    public OWLOntologyLoaderConfiguration setParallelParsingThreads(int threads) {
+        // do not make copies if setting the same value
+        if (getParallelParsingThreads() == threads) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration copy = copyConfiguration();
+        copy.overrides.put(PARALLEL_PARSING_THREADS, Integer.valueOf(threads));
+        return copy;
+    }
+
+    /**
+     * @return how RDF parsers buffer triples that cannot be translated immediately
+     */
+    public RDFStreamingMode getRDFStreamingMode() {
+        return RDF_STREAMING_MODE.getValue(RDFStreamingMode.class, overrides);
+    }
+
+    /**
+     * @param mode new streaming mode for RDF parsers
+     * @return a copy of this configuration object with a different streaming mode
+     */
+    public OWLOntologyLoaderConfiguration setRDFStreamingMode(RDFStreamingMode mode) {
+        // do not make copies if setting the same value
+        if (getRDFStreamingMode() == mode) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration copy = copyConfiguration();
+        copy.overrides.put(RDF_STREAMING_MODE, mode);
+        return copy;
+    }
+
+    /**
+     * @return true if RDF parsers buffer triples as int ids in primitive arrays, which takes much
+     *         less memory than the default maps for very large documents
+     */
+    public boolean isCompactTripleBuffer() {
+        return COMPACT_TRIPLE_BUFFER.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @param b true if RDF parsers should buffer triples as int ids in primitive arrays
+     * @return a copy of this configuration object with the new value
+     */
+    public OWLOntologyLoaderConfiguration setCompactTripleBuffer(boolean b) {
+        // do not make copies if setting the same value
+        if (isCompactTripleBuffer() == b) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration copy = copyConfiguration();
+        copy.overrides.put(COMPACT_TRIPLE_BUFFER, Boolean.valueOf(b));
+        return copy;
+    }
+
     /**
      * @return true if http compression should be accepted.
      */
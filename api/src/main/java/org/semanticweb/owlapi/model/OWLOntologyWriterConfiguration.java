@@ -29,6 +29,7 @@ public class OWLOntologyWriterConfiguration implements Serializable {
     private boolean labelsAsBanner = false;
     private boolean bannersEnabled = true;
     private int indentSize = 4;
+    private boolean streamingRDFRendering = false;
 
     private OWLOntologyWriterConfiguration copy() {
         OWLOntologyWriterConfiguration toReturn = new OWLOntologyWriterConfiguration();
@@ -37,6 +38,7 @@ public class OWLOntologyWriterConfiguration implements Serializable {
         toReturn.useNamespaceEntities = useNamespaceEntities;
         toReturn.remapIds = remapIds;
         toReturn.saveIds = saveIds;
+        toReturn.streamingRDFRendering = streamingRDFRendering;
         return toReturn;
     }
 
@@ -89,6 +91,14 @@ public class OWLOntologyWriterConfiguration implements Serializable {
         return labelsAsBanner;
     }
 
+    /**
+     * @return true if RDF renderers should write entities and axioms in ontology order, one
+     *         subject at a time, instead of sorting them first
+     */
+    public boolean isStreamingRDFRendering() {
+        return streamingRDFRendering;
+    }
+
     /**
      * @param label True if banner comments should be enabled.
      * @return new config object
@@ -179,4 +189,18 @@ public class OWLOntologyWriterConfiguration implements Serializable {
         copy.labelsAsBanner = label;
         return copy;
     }
+
+    /**
+     * @param streaming true if RDF renderers should write entities and axioms in ontology order,
+     *        one subject at a time, instead of sorting them first
+     * @return new config object
+     */
+    public OWLOntologyWriterConfiguration withStreamingRDFRendering(boolean streaming) {
+        if (streamingRDFRendering == streaming) {
+            return this;
+        }
+        OWLOntologyWriterConfiguration copy = copy();
+        copy.streamingRDFRendering = streaming;
+        return copy;
+    }
 }
@@ -15,6 +15,8 @@ package org.semanticweb.owlapi.model;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ACCEPT_HTTP_COMPRESSION;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.BANNED_PARSERS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.BANNERS_ENABLED;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.COMPACT_TRIPLE_BUFFER;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.CONCURRENT_INDEXES;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.CONNECTION_TIMEOUT;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.FOLLOW_REDIRECTS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.INDENTING;
@@ -23,8 +25,12 @@ import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LABEL
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LOAD_ANNOTATIONS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_IMPORT_HANDLING_STRATEGY;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_ONTOLOGY_HEADER_STRATEGY;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARALLEL_IMPORTS_LOADING_THREADS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARALLEL_PARSING_THREADS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARSE_WITH_STRICT_CONFIGURATION;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PRIORITY_COLLECTION_SORTING;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.RDF_STREAMING_MODE;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.RDF_STREAMING_RENDERING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.REMAP_IDS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.REPORT_STACK_TRACES;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.RETRIES_TO_ATTEMPT;
@@ -282,6 +288,90 @@ public class OntologyConfigurator implements Serializable {
         return this;
     }
 
+    /**
+     * @return number of threads used to load imported ontologies concurrently
+     */
+    public int getParallelImportsLoadingThreads() {
+        return PARALLEL_IMPORTS_LOADING_THREADS.getValue(Integer.class, overrides).intValue();
+    }
+
+    /**
+     * @param threads number of threads used to load imported ontologies concurrently; 0 loads
+     * imports sequentially
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OntologyConfigurator withParallelImportsLoadingThreads(int threads) {
+        overrides.put(PARALLEL_IMPORTS_LOADING_THREADS, Integer.valueOf(threads));
+        return this;
+    }
+
+    /**
+     * @return number of threads used by parsers able to parse a document in chunks
+     */
+    public int getParallelParsingThreads() {
+        return PARALLEL_PARSING_THREADS.getValue(Integer.class, overrides).intValue();
+    }
+
+    /**
+     * @param threads number of threads used by parsers able to parse a document in chunks; 0 parses
+     * on the calling thread
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OntologyConfigurator withParallelParsingThreads(int threads) {
+        overrides.put(PARALLEL_PARSING_THREADS, Integer.valueOf(threads));
+        return this;
+    }
+
+    /**
+     * @return how RDF parsers buffer triples that cannot be translated immediately
+     */
+    public RDFStreamingMode getRDFStreamingMode() {
+        return RDF_STREAMING_MODE.getValue(RDFStreamingMode.class, overrides);
+    }
+
+    /**
+     * @param mode new streaming mode for RDF parsers
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OntologyConfigurator withRDFStreamingMode(RDFStreamingMode mode) {
+        overrides.put(RDF_STREAMING_MODE, mode);
+        return this;
+    }
+
+    /**
+     * @return true if RDF parsers should buffer triples as int ids in primitive arrays
+     */
+    public boolean shouldUseCompactTripleBuffer() {
+        return COMPACT_TRIPLE_BUFFER.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @param b true if RDF parsers should buffer triples as int ids in primitive arrays rather
+     *        than in maps; this saves memory on very large documents
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OntologyConfigurator withCompactTripleBuffer(boolean b) {
+        overrides.put(COMPACT_TRIPLE_BUFFER, Boolean.valueOf(b));
+        return this;
+    }
+
+    /**
+     * @return true if ontologies created with this configuration should use lock free indexes
+     */
+    public boolean shouldUseConcurrentIndexes() {
+        return CONCURRENT_INDEXES.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @param b true if ontologies created with this configuration should use indexes that do not
+     *        synchronize readers; changing this value does not affect existing ontologies
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OntologyConfigurator withConcurrentIndexes(boolean b) {
+        overrides.put(CONCURRENT_INDEXES, Boolean.valueOf(b));
+        return this;
+    }
+
     /**
      * @param strict new value for strict
      * @return copy of the configuration with new strict value
@@ -329,7 +419,11 @@ public class OntologyConfigurator implements Serializable {
                 shouldReportStackTraces()).setRetriesToAttempt(getRetriesToAttempt()).setStrict(
                 shouldParseWithStrictConfiguration())
             .setTreatDublinCoreAsBuiltIn(shouldTreatDublinCoreAsBuiltin())
-            .setBannedParsers(getBannedParsers());
+            .setBannedParsers(getBannedParsers())
+            .setParallelImportsLoadingThreads(getParallelImportsLoadingThreads())
+            .setParallelParsingThreads(getParallelParsingThreads())
+            .setRDFStreamingMode(getRDFStreamingMode())
+            .setCompactTripleBuffer(shouldUseCompactTripleBuffer());
     }
 
     /**
@@ -445,6 +539,23 @@ public class OntologyConfigurator implements Serializable {
         return BANNERS_ENABLED.getValue(Boolean.class, overrides).booleanValue();
     }
 
+    /**
+     * @param streaming True if RDF/XML and Turtle renderers should write entities and axioms in
+     *        ontology order, one subject at a time, instead of sorting them first.
+     * @return new config object
+     */
+    public OntologyConfigurator withStreamingRDFRendering(boolean streaming) {
+        overrides.put(RDF_STREAMING_RENDERING, Boolean.valueOf(streaming));
+        return this;
+    }
+
+    /**
+     * @return should stream RDF rendering
+     */
+    public boolean shouldStreamRDFRendering() {
+        return RDF_STREAMING_RENDERING.getValue(Boolean.class, overrides).booleanValue();
+    }
+
     /**
      * @return a new OWLOntologyWriterConfiguration from the builder current settings
      */
@@ -454,6 +565,7 @@ public class OntologyConfigurator implements Serializable {
             .withLabelsAsBanner(shouldUseLabelsAsBanner())
             .withRemapAllAnonymousIndividualsIds(shouldRemapIds())
             .withSaveIdsForAllAnonymousIndividuals(shouldSaveIds()).withUseNamespaceEntities(
-                shouldUseNamespaceEntities()).withBannersEnabled(shouldUseBanners());
+                shouldUseNamespaceEntities()).withBannersEnabled(shouldUseBanners())
+            .withStreamingRDFRendering(shouldStreamRDFRendering());
     }
 }
@@ -7,9 +7,11 @@ import java.util.Map;
 import java.util.Properties;
 import javax.annotation.Nullable;
 import org.semanticweb.owlapi.model.ByName;
+import org.semanticweb.owlapi.model.EntityCachePolicy;
 import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
 import org.semanticweb.owlapi.model.MissingOntologyHeaderStrategy;
 import org.semanticweb.owlapi.model.PriorityCollectionSorting;
+import org.semanticweb.owlapi.model.RDFStreamingMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,12 +40,30 @@ public enum ConfigurationOptions {
     REPORT_STACK_TRACES(Boolean.TRUE),
     /** Number of retries to attempt when retrieving an ontology form a remote URL. Defaults to 5. */
     RETRIES_TO_ATTEMPT(Integer.valueOf(5)),
+    /** Number of threads used to load imported ontologies concurrently. Zero loads imports sequentially. */
+    PARALLEL_IMPORTS_LOADING_THREADS(Integer.valueOf(0)),
+    /** Number of threads used by parsers that can split a document in chunks. Zero parses on the calling thread. */
+    PARALLEL_PARSING_THREADS(Integer.valueOf(0)),
+    /** How RDF parsers buffer triples that cannot be translated immediately. */
+    RDF_STREAMING_MODE(RDFStreamingMode.DISABLED),
+    /** True if RDF parsers should buffer triples as int ids in primitive arrays rather than in maps. */
+    COMPACT_TRIPLE_BUFFER(Boolean.FALSE),
     /** True if strict parsing should be used. */
     PARSE_WITH_STRICT_CONFIGURATION(Boolean.FALSE),
     /** True if Dublin Core. */
     TREAT_DUBLINCORE_AS_BUILTIN(Boolean.TRUE),
     /** sort configuration for priority collections */
     PRIORITY_COLLECTION_SORTING(PriorityCollectionSorting.ON_SET_INJECTION_ONLY),
+    /** True if ontology indexes should use lock free reads instead of synchronizing on each index. */
+    CONCURRENT_INDEXES(Boolean.FALSE),
+    /** True if IRIs should be interned. Global setting, read once from system properties or owlapi.properties. */
+    IRI_INTERNING(Boolean.FALSE),
+    /** Entity cache policy for data factories. Global setting, read when a data factory is created. */
+    ENTITY_CACHE_POLICY(EntityCachePolicy.BOUNDED),
+    /** Maximum size of each bounded entity cache in data factories. Global setting, read when a data factory is created. */
+    ENTITY_CACHE_SIZE(Integer.valueOf(1024)),
+    /** True if axioms should keep their own signature instead of using the shared signature caches. Global setting, can be changed at runtime. */
+    COMPACT_SIGNATURES(Boolean.FALSE),
     // Save options
     /** True if ids for blank nodes should always be written (axioms and anonymous individuals only). */
     SAVE_IDS(Boolean.FALSE),
@@ -59,6 +79,8 @@ public enum ConfigurationOptions {
     LABELS_AS_BANNER(Boolean.FALSE),
     /** True if banners for ontology sections and entity comments should be outputted. */
     BANNERS_ENABLED(Boolean.FALSE),
+    /** True if RDF/XML and Turtle renderers should write entities and axioms in ontology order, one subject at a time, instead of sorting them first. */
+    RDF_STREAMING_RENDERING(Boolean.FALSE),
     /** List of banned parsers keys. */
     BANNED_PARSERS(""),
     /** Entity expansion limit for XML parsing. */
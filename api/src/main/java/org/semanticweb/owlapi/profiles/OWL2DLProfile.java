@@ -15,12 +15,14 @@ package org.semanticweb.owlapi.profiles;
 import static org.semanticweb.owlapi.model.parameters.Imports.INCLUDED;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import org.semanticweb.owlapi.model.IRI;
@@ -58,11 +60,13 @@ import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectUnionOf;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyID;
 import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
 import org.semanticweb.owlapi.model.OWLSubDataPropertyOfAxiom;
 import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
 import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.profiles.ProfileChecker.ProfileVisitor;
 import org.semanticweb.owlapi.profiles.violations.CycleInDatatypeDefinition;
 import org.semanticweb.owlapi.profiles.violations.DatatypeIRIAlsoUsedAsClassIRI;
 import org.semanticweb.owlapi.profiles.violations.EmptyOneOfAxiom;
@@ -129,37 +133,59 @@ public class OWL2DLProfile implements OWLProfile {
      */
     @Override
     public OWLProfileReport checkOntology(OWLOntology ontology) {
-        OWL2Profile owl2Profile = new OWL2Profile();
-        OWLProfileReport report = owl2Profile.checkOntology(ontology);
-        Set<OWLProfileViolation> violations = new LinkedHashSet<>();
-        if (!report.isInProfile()) {
-            // We won't be in the OWL 2 DL Profile then!
-            violations.addAll(report.getViolations());
-        }
-        OWLOntologyProfileWalker walker = new OWLOntologyProfileWalker(ontology.importsClosure());
-        OWL2DLProfileObjectVisitor visitor = new OWL2DLProfileObjectVisitor(walker);
-        walker.walkStructure(visitor);
-        violations.addAll(visitor.getProfileViolations());
-        return new OWLProfileReport(this, violations);
+        return checkOntology(ontology, 0);
     }
 
-    private static class OWL2DLProfileObjectVisitor extends OWLOntologyWalkerVisitor {
+    @Override
+    public OWLProfileReport checkOntology(OWLOntology ontology, int threads) {
+        return new OWLProfileReport(this,
+            ProfileChecker.check(ontology, visitors(ontology), threads));
+    }
+
+    @Override
+    public OWLProfileReport recheckOntology(OWLOntology ontology, OWLProfileReport report,
+        Collection<? extends OWLOntologyChange> changes, int threads) {
+        return new OWLProfileReport(this, ProfileChecker
+            .recheck(ontology, report.getViolations(), changes, visitors(ontology), threads));
+    }
+
+    /**
+     * @param ontology ontology to check
+     * @return factories for the visitors checking this profile
+     */
+    List<Function<OWLOntologyWalker, ProfileVisitor>> visitors(OWLOntology ontology) {
+        // violations of OWL 2 first
+        List<Function<OWLOntologyWalker, ProfileVisitor>> visitors = new OWL2Profile()
+            .visitors(ontology);
+        visitors.add(walker -> new OWL2DLProfileObjectVisitor(walker, ontology));
+        return visitors;
+    }
+
+    private static class OWL2DLProfileObjectVisitor extends OWLOntologyWalkerVisitor
+        implements ProfileVisitor {
 
-        private final Set<OWLProfileViolation> profileViolations = new HashSet<>();
+        private final Set<OWLProfileViolation> profileViolations = new LinkedHashSet<>();
+        private final OWLOntology ontology;
         @Nullable
         private OWLObjectPropertyManager objectPropertyManager = null;
 
-        OWL2DLProfileObjectVisitor(OWLOntologyWalker walker) {
+        /**
+         * @param walker walker
+         * @param ontology ontology whose imports closure defines which
+         *        properties are simple
+         */
+        OWL2DLProfileObjectVisitor(OWLOntologyWalker walker, OWLOntology ontology) {
             super(walker);
+            this.ontology = ontology;
         }
 
         public Set<OWLProfileViolation> getProfileViolations() {
-            return new HashSet<>(profileViolations);
+            return new LinkedHashSet<>(profileViolations);
         }
 
         private OWLObjectPropertyManager getPropertyManager() {
             if (objectPropertyManager == null) {
-                objectPropertyManager = new OWLObjectPropertyManager(getCurrentOntology());
+                objectPropertyManager = new OWLObjectPropertyManager(ontology);
             }
             return verifyNotNull(objectPropertyManager);
         }
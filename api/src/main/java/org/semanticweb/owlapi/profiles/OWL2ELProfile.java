@@ -16,9 +16,11 @@ import static org.semanticweb.owlapi.model.parameters.Imports.INCLUDED;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
 
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.IRI;
@@ -52,9 +54,11 @@ import org.semanticweb.owlapi.model.OWLObjectOneOf;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectUnionOf;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
 import org.semanticweb.owlapi.model.OWLSymmetricObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.SWRLRule;
+import org.semanticweb.owlapi.profiles.ProfileChecker.ProfileVisitor;
 import org.semanticweb.owlapi.profiles.violations.LastPropertyInChainNotInImposedRange;
 import org.semanticweb.owlapi.profiles.violations.UseOfAnonymousIndividual;
 import org.semanticweb.owlapi.profiles.violations.UseOfDataOneOfWithMultipleLiterals;
@@ -89,21 +93,38 @@ public class OWL2ELProfile implements OWLProfile {
 
     @Override
     public OWLProfileReport checkOntology(OWLOntology ontology) {
-        OWL2DLProfile profile = new OWL2DLProfile();
-        OWLProfileReport report = profile.checkOntology(ontology);
-        Set<OWLProfileViolation> violations = new HashSet<>();
-        violations.addAll(report.getViolations());
-        OWLOntologyProfileWalker ontologyWalker = new OWLOntologyProfileWalker(
-            ontology.importsClosure());
-        OWL2ELProfileObjectVisitor visitor = new OWL2ELProfileObjectVisitor(ontologyWalker);
-        ontologyWalker.walkStructure(visitor);
-        violations.addAll(visitor.getProfileViolations());
-        return new OWLProfileReport(this, violations);
+        return checkOntology(ontology, 0);
     }
 
-    protected class OWL2ELProfileObjectVisitor extends OWLOntologyWalkerVisitor {
+    @Override
+    public OWLProfileReport checkOntology(OWLOntology ontology, int threads) {
+        return new OWLProfileReport(this,
+            ProfileChecker.check(ontology, visitors(ontology), threads));
+    }
+
+    @Override
+    public OWLProfileReport recheckOntology(OWLOntology ontology, OWLProfileReport report,
+        Collection<? extends OWLOntologyChange> changes, int threads) {
+        return new OWLProfileReport(this, ProfileChecker
+            .recheck(ontology, report.getViolations(), changes, visitors(ontology), threads));
+    }
+
+    /**
+     * @param ontology ontology to check
+     * @return factories for the visitors checking this profile
+     */
+    List<Function<OWLOntologyWalker, ProfileVisitor>> visitors(OWLOntology ontology) {
+        // violations of OWL 2 DL first
+        List<Function<OWLOntologyWalker, ProfileVisitor>> visitors = new OWL2DLProfile()
+            .visitors(ontology);
+        visitors.add(OWL2ELProfileObjectVisitor::new);
+        return visitors;
+    }
+
+    protected class OWL2ELProfileObjectVisitor extends OWLOntologyWalkerVisitor
+        implements ProfileVisitor {
 
-        private final Set<OWLProfileViolation> profileViolations = new HashSet<>();
+        private final Set<OWLProfileViolation> profileViolations = new LinkedHashSet<>();
         @Nullable
         private OWLObjectPropertyManager propertyManager;
 
@@ -112,7 +133,7 @@ public class OWL2ELProfile implements OWLProfile {
         }
 
         public Set<OWLProfileViolation> getProfileViolations() {
-            return new HashSet<>(profileViolations);
+            return new LinkedHashSet<>(profileViolations);
         }
 
         private OWLObjectPropertyManager getPropertyManager() {
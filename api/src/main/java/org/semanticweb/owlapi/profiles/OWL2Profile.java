@@ -14,9 +14,13 @@ package org.semanticweb.owlapi.profiles;
 
 import static org.semanticweb.owlapi.model.parameters.Imports.INCLUDED;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLDatatype;
@@ -24,7 +28,9 @@ import org.semanticweb.owlapi.model.OWLDatatypeDefinitionAxiom;
 import org.semanticweb.owlapi.model.OWLDatatypeRestriction;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.profiles.ProfileChecker.ProfileVisitor;
 import org.semanticweb.owlapi.profiles.violations.LexicalNotInLexicalSpace;
 import org.semanticweb.owlapi.profiles.violations.OntologyIRINotAbsolute;
 import org.semanticweb.owlapi.profiles.violations.OntologyVersionIRINotAbsolute;
@@ -66,23 +72,43 @@ public class OWL2Profile implements OWLProfile {
      */
     @Override
     public OWLProfileReport checkOntology(OWLOntology ontology) {
-        OWLOntologyProfileWalker walker = new OWLOntologyProfileWalker(ontology.importsClosure());
-        OWL2ProfileObjectWalker visitor = new OWL2ProfileObjectWalker(walker);
-        walker.walkStructure(visitor);
-        Set<OWLProfileViolation> pv = visitor.getProfileViolations();
-        return new OWLProfileReport(this, pv);
+        return checkOntology(ontology, 0);
     }
 
-    private static class OWL2ProfileObjectWalker extends OWLOntologyWalkerVisitor {
+    @Override
+    public OWLProfileReport checkOntology(OWLOntology ontology, int threads) {
+        return new OWLProfileReport(this,
+            ProfileChecker.check(ontology, visitors(ontology), threads));
+    }
+
+    @Override
+    public OWLProfileReport recheckOntology(OWLOntology ontology, OWLProfileReport report,
+        Collection<? extends OWLOntologyChange> changes, int threads) {
+        return new OWLProfileReport(this, ProfileChecker
+            .recheck(ontology, report.getViolations(), changes, visitors(ontology), threads));
+    }
+
+    /**
+     * @param ontology ontology to check
+     * @return factories for the visitors checking this profile
+     */
+    List<Function<OWLOntologyWalker, ProfileVisitor>> visitors(OWLOntology ontology) {
+        List<Function<OWLOntologyWalker, ProfileVisitor>> visitors = new ArrayList<>();
+        visitors.add(OWL2ProfileObjectWalker::new);
+        return visitors;
+    }
+
+    private static class OWL2ProfileObjectWalker extends OWLOntologyWalkerVisitor
+        implements ProfileVisitor {
 
-        private final Set<OWLProfileViolation> profileViolations = new HashSet<>();
+        private final Set<OWLProfileViolation> profileViolations = new LinkedHashSet<>();
 
         OWL2ProfileObjectWalker(OWLOntologyWalker walker) {
             super(walker);
         }
 
         public Set<OWLProfileViolation> getProfileViolations() {
-            return new HashSet<>(profileViolations);
+            return new LinkedHashSet<>(profileViolations);
         }
 
         @Override
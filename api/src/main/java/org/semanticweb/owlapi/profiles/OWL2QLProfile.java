@@ -14,8 +14,11 @@ package org.semanticweb.owlapi.profiles;
 
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
 
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
 import org.semanticweb.owlapi.model.OWLClass;
@@ -44,11 +47,13 @@ import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
 import org.semanticweb.owlapi.model.OWLObjectSomeValuesFrom;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
 import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
 import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.SWRLRule;
+import org.semanticweb.owlapi.profiles.ProfileChecker.ProfileVisitor;
 import org.semanticweb.owlapi.profiles.violations.UseOfAnonymousIndividual;
 import org.semanticweb.owlapi.profiles.violations.UseOfIllegalAxiom;
 import org.semanticweb.owlapi.profiles.violations.UseOfIllegalDataRange;
@@ -95,15 +100,32 @@ public class OWL2QLProfile implements OWLProfile {
      */
     @Override
     public OWLProfileReport checkOntology(OWLOntology ontology) {
-        OWL2DLProfile profile = new OWL2DLProfile();
-        OWLProfileReport report = profile.checkOntology(ontology);
-        Set<OWLProfileViolation> violations = new HashSet<>();
-        violations.addAll(report.getViolations());
-        OWLOntologyProfileWalker walker = new OWLOntologyProfileWalker(ontology.importsClosure());
-        OWL2QLObjectVisitor visitor = new OWL2QLObjectVisitor(walker);
-        walker.walkStructure(visitor);
-        violations.addAll(visitor.getProfileViolations());
-        return new OWLProfileReport(this, violations);
+        return checkOntology(ontology, 0);
+    }
+
+    @Override
+    public OWLProfileReport checkOntology(OWLOntology ontology, int threads) {
+        return new OWLProfileReport(this,
+            ProfileChecker.check(ontology, visitors(ontology), threads));
+    }
+
+    @Override
+    public OWLProfileReport recheckOntology(OWLOntology ontology, OWLProfileReport report,
+        Collection<? extends OWLOntologyChange> changes, int threads) {
+        return new OWLProfileReport(this, ProfileChecker
+            .recheck(ontology, report.getViolations(), changes, visitors(ontology), threads));
+    }
+
+    /**
+     * @param ontology ontology to check
+     * @return factories for the visitors checking this profile
+     */
+    List<Function<OWLOntologyWalker, ProfileVisitor>> visitors(OWLOntology ontology) {
+        // violations of OWL 2 DL first
+        List<Function<OWLOntologyWalker, ProfileVisitor>> visitors = new OWL2DLProfile()
+            .visitors(ontology);
+        visitors.add(OWL2QLObjectVisitor::new);
+        return visitors;
     }
 
     protected boolean isOWL2QLSubClassExpression(OWLClassExpression ce) {
@@ -145,16 +167,16 @@ public class OWL2QLProfile implements OWLProfile {
         }
     }
 
-    private class OWL2QLObjectVisitor extends OWLOntologyWalkerVisitor {
+    private class OWL2QLObjectVisitor extends OWLOntologyWalkerVisitor implements ProfileVisitor {
 
-        private final Set<OWLProfileViolation> violations = new HashSet<>();
+        private final Set<OWLProfileViolation> violations = new LinkedHashSet<>();
 
         OWL2QLObjectVisitor(OWLOntologyWalker walker) {
             super(walker);
         }
 
         public Set<OWLProfileViolation> getProfileViolations() {
-            return new HashSet<>(violations);
+            return new LinkedHashSet<>(violations);
         }
 
         @Override
@@ -14,8 +14,11 @@ package org.semanticweb.owlapi.profiles;
 
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
 
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
@@ -47,8 +50,10 @@ import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
 import org.semanticweb.owlapi.model.OWLObjectSomeValuesFrom;
 import org.semanticweb.owlapi.model.OWLObjectUnionOf;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 import org.semanticweb.owlapi.model.SWRLRule;
+import org.semanticweb.owlapi.profiles.ProfileChecker.ProfileVisitor;
 import org.semanticweb.owlapi.profiles.violations.UseOfIllegalAxiom;
 import org.semanticweb.owlapi.profiles.violations.UseOfIllegalDataRange;
 import org.semanticweb.owlapi.profiles.violations.UseOfNonEquivalentClassExpression;
@@ -95,15 +100,32 @@ public class OWL2RLProfile implements OWLProfile {
      */
     @Override
     public OWLProfileReport checkOntology(OWLOntology ontology) {
-        OWL2DLProfile profile = new OWL2DLProfile();
-        OWLProfileReport report = profile.checkOntology(ontology);
-        Set<OWLProfileViolation> violations = new HashSet<>();
-        violations.addAll(report.getViolations());
-        OWLOntologyProfileWalker walker = new OWLOntologyProfileWalker(ontology.importsClosure());
-        OWL2RLObjectVisitor visitor = new OWL2RLObjectVisitor(walker);
-        walker.walkStructure(visitor);
-        violations.addAll(visitor.getProfileViolations());
-        return new OWLProfileReport(this, violations);
+        return checkOntology(ontology, 0);
+    }
+
+    @Override
+    public OWLProfileReport checkOntology(OWLOntology ontology, int threads) {
+        return new OWLProfileReport(this,
+            ProfileChecker.check(ontology, visitors(ontology), threads));
+    }
+
+    @Override
+    public OWLProfileReport recheckOntology(OWLOntology ontology, OWLProfileReport report,
+        Collection<? extends OWLOntologyChange> changes, int threads) {
+        return new OWLProfileReport(this, ProfileChecker
+            .recheck(ontology, report.getViolations(), changes, visitors(ontology), threads));
+    }
+
+    /**
+     * @param ontology ontology to check
+     * @return factories for the visitors checking this profile
+     */
+    List<Function<OWLOntologyWalker, ProfileVisitor>> visitors(OWLOntology ontology) {
+        // violations of OWL 2 DL first
+        List<Function<OWLOntologyWalker, ProfileVisitor>> visitors = new OWL2DLProfile()
+            .visitors(ontology);
+        visitors.add(OWL2RLObjectVisitor::new);
+        return visitors;
     }
 
     protected boolean isOWL2RLSubClassExpression(OWLClassExpression ce) {
@@ -158,16 +180,16 @@ public class OWL2RLProfile implements OWLProfile {
         }
     }
 
-    private class OWL2RLObjectVisitor extends OWLOntologyWalkerVisitor {
+    private class OWL2RLObjectVisitor extends OWLOntologyWalkerVisitor implements ProfileVisitor {
 
-        private final Set<OWLProfileViolation> violations = new HashSet<>();
+        private final Set<OWLProfileViolation> violations = new LinkedHashSet<>();
 
         OWL2RLObjectVisitor(OWLOntologyWalker walker) {
             super(walker);
         }
 
         public Set<OWLProfileViolation> getProfileViolations() {
-            return new HashSet<>(violations);
+            return new LinkedHashSet<>(violations);
         }
 
         @Override
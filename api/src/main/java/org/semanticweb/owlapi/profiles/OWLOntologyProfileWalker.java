@@ -12,13 +12,17 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.profiles;
 
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 
 import java.util.Collection;
 import java.util.stream.Stream;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectVisitor;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.util.OWLObjectWalker;
 import org.semanticweb.owlapi.util.OWLOntologyWalker;
@@ -32,6 +36,8 @@ import org.semanticweb.owlapi.util.StructureWalker;
  */
 public class OWLOntologyProfileWalker extends OWLOntologyWalker {
 
+    private final ProfileWalker profileWalker = new ProfileWalker(this);
+
     /**
      * @param objects ontologies to walk
      */
@@ -44,7 +50,35 @@ public class OWLOntologyProfileWalker extends OWLOntologyWalker {
      */
     public OWLOntologyProfileWalker(Collection<OWLOntology> objects) {
         super(objects);
-        setStructureWalker(new ProfileWalker(this));
+        setStructureWalker(profileWalker);
+    }
+
+    /**
+     * Walks the ontology itself and its annotations, but not its axioms.
+     *
+     * @param v visitor
+     * @param ontology ontology to walk
+     */
+    public void walkHeader(OWLObjectVisitor v, OWLOntology ontology) {
+        setVisitor(checkNotNull(v, "v cannot be null"));
+        this.ontology = checkNotNull(ontology, "ontology cannot be null");
+        setAxiom(null);
+        profileWalker.process(ontology);
+    }
+
+    /**
+     * Walks some of the axioms of an ontology; the ontology is the current
+     * ontology for the visitor.
+     *
+     * @param v visitor
+     * @param ontology ontology containing the axioms
+     * @param axioms axioms to walk
+     */
+    public void walkAxioms(OWLObjectVisitor v, OWLOntology ontology,
+        Collection<? extends OWLAxiom> axioms) {
+        setVisitor(checkNotNull(v, "v cannot be null"));
+        this.ontology = checkNotNull(ontology, "ontology cannot be null");
+        axioms.forEach(ax -> ax.accept(profileWalker));
     }
 
     class ProfileWalker extends StructureWalker<OWLOntology> {
@@ -53,6 +87,15 @@ public class OWLOntologyProfileWalker extends OWLOntologyWalker {
             super(owlObjectWalker);
         }
 
+        @Override
+        protected void process(OWLObject object) {
+            if (object instanceof OWLAxiom) {
+                // annotations of the previous axiom are not relevant
+                annotation = null;
+            }
+            super.process(object);
+        }
+
         @Override
         public void visit(OWLAnnotationAssertionAxiom axiom) {
             process(axiom);
@@ -12,8 +12,10 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.profiles;
 
+import java.util.Collection;
 import org.semanticweb.owlapi.model.HasIRI;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
 
 /**
  * @author Matthew Horridge, The University of Manchester, Information Management Group
@@ -36,4 +38,42 @@ public interface OWLProfile extends HasIRI {
      * profile.
      */
     OWLProfileReport checkOntology(OWLOntology ontology);
+
+    /**
+     * Checks an ontology and its import closure to see if it is within this
+     * profile, partitioning the axioms across a pool of worker threads. The
+     * report is the same as the one returned by
+     * {@link #checkOntology(OWLOntology)}.
+     *
+     * @param ontology The ontology to be checked.
+     * @param threads number of worker threads; 0 or less checks the ontology
+     *        on the calling thread
+     * @return An {@code OWLProfileReport} that describes whether or not the ontology is within this
+     * profile.
+     */
+    default OWLProfileReport checkOntology(OWLOntology ontology, int threads) {
+        return checkOntology(ontology);
+    }
+
+    /**
+     * Checks again an ontology and its import closure after changes have been
+     * applied, checking only the axioms whose violations might have been
+     * changed by the changes; violations of other axioms are taken from the
+     * previous report. Profiles that cannot check changes incrementally check
+     * the whole ontology.
+     *
+     * @param ontology The ontology to be checked.
+     * @param report report for the ontology before the changes, created by this
+     *        profile
+     * @param changes changes applied to the ontology or its imports closure
+     *        after the report was created
+     * @param threads number of worker threads; 0 or less checks the ontology
+     *        on the calling thread
+     * @return An {@code OWLProfileReport} that describes whether or not the ontology is within this
+     * profile.
+     */
+    default OWLProfileReport recheckOntology(OWLOntology ontology, OWLProfileReport report,
+        Collection<? extends OWLOntologyChange> changes, int threads) {
+        return checkOntology(ontology, threads);
+    }
 }
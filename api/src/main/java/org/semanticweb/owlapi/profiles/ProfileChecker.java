@@ -0,0 +1,199 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.profiles;
+
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.getResult;
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.newDaemonThreadPool;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectVisitor;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.util.OWLOntologyWalker;
+
+/**
+ * Checks the imports closure of an ontology with the visitors of a profile.
+ * Each ontology header and each chunk of axioms is walked with its own walker
+ * and visitors, possibly on a pool of worker threads; violations are merged in
+ * walk order, so the result does not depend on the number of threads.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+final class ProfileChecker {
+
+    /**
+     * Changes to axioms of these types can change the violations of any axiom
+     * in the imports closure: property hierarchies decide which properties are
+     * simple, and datatype definitions and ranges are looked up by other
+     * checks.
+     */
+    private static final Set<AxiomType<?>> GLOBAL_AXIOM_TYPES = new HashSet<>();
+
+    static {
+        GLOBAL_AXIOM_TYPES.addAll(AxiomType.RBoxAxiomTypes);
+        GLOBAL_AXIOM_TYPES.add(AxiomType.OBJECT_PROPERTY_RANGE);
+        GLOBAL_AXIOM_TYPES.add(AxiomType.DATATYPE_DEFINITION);
+    }
+
+    private ProfileChecker() {}
+
+    /**
+     * Visitor collecting the violations of a profile.
+     */
+    interface ProfileVisitor extends OWLObjectVisitor {
+
+        /**
+         * @return violations found, in the order in which they were found
+         */
+        Set<OWLProfileViolation> getProfileViolations();
+    }
+
+    /**
+     * @param ontology ontology to check
+     * @param visitors visitor factories, in the order in which their
+     *        violations are reported
+     * @param threads number of worker threads; 0 or less walks each ontology
+     *        on the calling thread
+     * @return violations
+     */
+    static Set<OWLProfileViolation> check(OWLOntology ontology,
+        List<Function<OWLOntologyWalker, ProfileVisitor>> visitors, int threads) {
+        return walk(asList(ontology.importsClosure()), o -> asList(o.axioms()), visitors,
+            threads);
+    }
+
+    /**
+     * Checks again an ontology after changes have been applied to its imports
+     * closure. Only the changed axioms and the axioms referring to entities
+     * in the changed axioms are checked again, along with the ontology headers;
+     * changes to imports, ontology ids or annotations, and changes to axioms
+     * that can change the violations of any axiom, cause a full check.
+     *
+     * @param ontology ontology to check
+     * @param previous violations found before the changes
+     * @param changes changes applied since the previous check
+     * @param visitors visitor factories, in the order in which their
+     *        violations are reported
+     * @param threads number of worker threads; 0 or less walks each ontology
+     *        on the calling thread
+     * @return violations
+     */
+    static Set<OWLProfileViolation> recheck(OWLOntology ontology,
+        Collection<OWLProfileViolation> previous, Collection<? extends OWLOntologyChange> changes,
+        List<Function<OWLOntologyWalker, ProfileVisitor>> visitors, int threads) {
+        List<OWLOntology> closure = asList(ontology.importsClosure());
+        Set<OWLAxiom> changed = new HashSet<>();
+        for (OWLOntologyChange change : changes) {
+            if (!closure.contains(change.getOntology())) {
+                continue;
+            }
+            if (!change.isAxiomChange()
+                || GLOBAL_AXIOM_TYPES.contains(change.getAxiom().getAxiomType())) {
+                return check(ontology, visitors, threads);
+            }
+            changed.add(change.getAxiom());
+        }
+        // declarations and punning checks depend on the signature, so axioms
+        // using entities with the same IRIs as changed entities are checked
+        // again
+        Set<IRI> iris = new HashSet<>();
+        changed.forEach(ax -> ax.signature().forEach(e -> iris.add(e.getIRI())));
+        OWLDataFactory df = ontology.getOWLOntologyManager().getOWLDataFactory();
+        Map<OWLOntology, Set<OWLAxiom>> touched = new HashMap<>();
+        for (OWLOntology o : closure) {
+            Set<OWLAxiom> axioms = new HashSet<>(changed);
+            iris.forEach(iri -> EntityType.values().forEach(
+                type -> o.referencingAxioms(df.getOWLEntity(type, iri)).forEach(axioms::add)));
+            touched.put(o, axioms);
+        }
+        Set<OWLProfileViolation> violations = new LinkedHashSet<>();
+        for (OWLProfileViolation v : previous) {
+            // header violations are always found again
+            if (v.axiom != null && touched.containsKey(v.ontology)
+                && !touched.get(v.ontology).contains(v.axiom)) {
+                violations.add(v);
+            }
+        }
+        Function<OWLOntology, List<OWLAxiom>> axioms = o -> asList(
+            o.axioms().filter(touched.getOrDefault(o, Collections.emptySet())::contains));
+        violations.addAll(walk(closure, axioms, visitors, threads));
+        return violations;
+    }
+
+    private static Set<OWLProfileViolation> walk(List<OWLOntology> closure,
+        Function<OWLOntology, List<OWLAxiom>> axioms,
+        List<Function<OWLOntologyWalker, ProfileVisitor>> visitors, int threads) {
+        List<Supplier<Set<OWLProfileViolation>>> tasks = new ArrayList<>();
+        for (Function<OWLOntologyWalker, ProfileVisitor> visitor : visitors) {
+            for (OWLOntology o : closure) {
+                List<OWLAxiom> list = axioms.apply(o);
+                if (threads <= 0) {
+                    tasks.add(() -> walk(closure, visitor, o, true, list));
+                } else {
+                    tasks.add(() -> walk(closure, visitor, o, true, Collections.emptyList()));
+                    int chunks = threads * 4;
+                    Lists.partition(list, Math.max(1, (list.size() + chunks - 1) / chunks))
+                        .forEach(chunk -> tasks.add(() -> walk(closure, visitor, o, false, chunk)));
+                }
+            }
+        }
+        Set<OWLProfileViolation> violations = new LinkedHashSet<>();
+        if (threads <= 0) {
+            tasks.forEach(task -> violations.addAll(task.get()));
+            return violations;
+        }
+        ExecutorService executor = newDaemonThreadPool(threads, "owlapi-profile-checker");
+        try {
+            List<Future<Set<OWLProfileViolation>>> futures = new ArrayList<>(tasks.size());
+            tasks.forEach(task -> futures.add(executor.submit(task::get)));
+            for (Future<Set<OWLProfileViolation>> f : futures) {
+                violations.addAll(getResult(f));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return violations;
+    }
+
+    private static Set<OWLProfileViolation> walk(List<OWLOntology> closure,
+        Function<OWLOntologyWalker, ProfileVisitor> visitors, OWLOntology o, boolean header,
+        List<OWLAxiom> axioms) {
+        OWLOntologyProfileWalker walker = new OWLOntologyProfileWalker(closure);
+        ProfileVisitor visitor = visitors.apply(walker);
+        if (header) {
+            walker.walkHeader(visitor, o);
+        }
+        walker.walkAxioms(visitor, o, axioms);
+        return visitor.getProfileViolations();
+    }
+}
@@ -19,6 +19,7 @@ import java.util.stream.Stream;
 import org.semanticweb.owlapi.model.HasIRI;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLRuntimeException;
 import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
 import org.semanticweb.owlapi.util.CollectionFactory;
@@ -93,6 +94,17 @@ public enum Profiles implements HasIRI, KnownFactories, OWLProfile {
         return getOWLProfile().checkOntology(ontology);
     }
 
+    @Override
+    public OWLProfileReport checkOntology(OWLOntology ontology, int threads) {
+        return getOWLProfile().checkOntology(ontology, threads);
+    }
+
+    @Override
+    public OWLProfileReport recheckOntology(OWLOntology ontology, OWLProfileReport report,
+        Collection<? extends OWLOntologyChange> changes, int threads) {
+        return getOWLProfile().recheckOntology(ontology, report, changes, threads);
+    }
+
     @Override
     public IRI getIRI() {
         return iri;
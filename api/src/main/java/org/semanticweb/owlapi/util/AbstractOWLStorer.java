@@ -78,6 +78,10 @@ public abstract class AbstractOWLStorer implements OWLStorer {
     private void store(OWLOntology ontology, OWLDocumentFormat ontologyFormat,
         OutputStream tempOutputStream)
         throws OWLOntologyStorageException, IOException {
+        if (!ontologyFormat.isTextual()) {
+            storeOntology(ontology, tempOutputStream, ontologyFormat);
+            return;
+        }
         try (OutputStreamWriter osw = new OutputStreamWriter(tempOutputStream,
             StandardCharsets.UTF_8);
             BufferedWriter bw = new BufferedWriter(osw);
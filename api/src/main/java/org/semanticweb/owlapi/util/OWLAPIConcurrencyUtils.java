@@ -0,0 +1,82 @@
+package org.semanticweb.owlapi.util;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+
+/**
+ * A few util methods for the thread pools used by parallel parsers, renderers and checkers.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public final class OWLAPIConcurrencyUtils {
+
+    private OWLAPIConcurrencyUtils() {
+    }
+
+    /**
+     * @param threads number of threads
+     * @param name prefix for the thread names; threads are numbered from 1
+     * @return a fixed size thread pool whose threads are daemons, so that a pool that is not shut
+     *         down does not keep the JVM alive
+     */
+    public static ExecutorService newDaemonThreadPool(int threads, String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, name + '-' + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Waits for a task to complete. Runtime exceptions thrown by the task are rethrown as they
+     * are, other exceptions are wrapped in an {@link OWLRuntimeException}.
+     *
+     * @param future future to wait for
+     * @param <T> result type
+     * @return the result of the task
+     * @throws OWLRuntimeException if the task failed with a checked exception, or the current
+     *         thread is interrupted; the interrupt status is restored
+     */
+    public static <T> T getResult(Future<T> future) {
+        return getResult(future, RuntimeException.class);
+    }
+
+    /**
+     * Waits for a task to complete. Exceptions of the specified type and runtime exceptions
+     * thrown by the task are rethrown as they are, other exceptions are wrapped in an
+     * {@link OWLRuntimeException}.
+     *
+     * @param future future to wait for
+     * @param checked type of the exceptions to rethrow
+     * @param <T> result type
+     * @param <E> exception type
+     * @return the result of the task
+     * @throws E if the task failed with an exception of this type
+     * @throws OWLRuntimeException if the task failed with another checked exception, or the
+     *         current thread is interrupted; the interrupt status is restored
+     */
+    public static <T, E extends Exception> T getResult(Future<T> future, Class<E> checked)
+        throws E {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OWLRuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (checked.isInstance(cause)) {
+                throw checked.cast(cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new OWLRuntimeException(cause);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.semanticweb.owlapi.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author ignazio
+ */
+@SuppressWarnings("javadoc")
+public class IRIInternerTestCase {
+
+    private boolean enabled;
+
+    @Before
+    public void setUp() {
+        enabled = IRIInterner.isEnabled();
+    }
+
+    @After
+    public void tearDown() {
+        IRIInterner.setEnabled(enabled);
+    }
+
+    private static String unique() {
+        return "urn:test:interner:" + UUID.randomUUID() + "#";
+    }
+
+    @Test
+    public void shouldReturnSameInstanceWhenEnabled() throws Exception {
+        IRIInterner.setEnabled(true);
+        String ns = unique();
+        IRI iri = IRI.create(ns + "A");
+        // equal strings that are not the same instance
+        assertSame(iri, IRI.create(new String(ns + "A")));
+        assertSame(iri, IRI.create(ns, "A"));
+        assertSame(iri, IRI.create(URI.create(ns + "A")));
+        assertSame(iri, deserialize(serialize(iri)));
+        // IRIs in the same namespace share the namespace string
+        assertSame(iri.getNamespace(), IRI.create(ns + "B").getNamespace());
+    }
+
+    @Test
+    public void shouldReturnNewInstancesWhenDisabled() {
+        IRIInterner.setEnabled(false);
+        String ns = unique();
+        IRI iri = IRI.create(ns + "A");
+        IRI other = IRI.create(new String(ns + "A"));
+        assertNotSame(iri, other);
+        assertEquals(iri, other);
+    }
+
+    @Test
+    public void shouldCountHitsAndMisses() {
+        IRIInterner.setEnabled(true);
+        IRIInterner.resetStatistics();
+        String ns = unique();
+        IRI a = IRI.create(ns + "A");
+        assertEquals(0, IRIInterner.hits());
+        assertEquals(1, IRIInterner.misses());
+        IRI.create(ns + "A");
+        IRI.create(ns, "A");
+        assertEquals(2, IRIInterner.hits());
+        assertEquals(1, IRIInterner.misses());
+        IRI.create(ns + "B");
+        assertEquals(2, IRIInterner.hits());
+        assertEquals(2, IRIInterner.misses());
+        // IRIs created while disabled are not counted
+        IRIInterner.setEnabled(false);
+        IRI.create(ns + "A");
+        IRI.create(ns + "C");
+        assertEquals(2, IRIInterner.hits());
+        assertEquals(2, IRIInterner.misses());
+        IRIInterner.resetStatistics();
+        assertEquals(0, IRIInterner.hits());
+        assertEquals(0, IRIInterner.misses());
+        assertEquals(ns + "A", a.toString());
+    }
+
+    @Test
+    public void shouldOrderByNamespaceThenRemainder() {
+        for (boolean interning : new boolean[] {false, true}) {
+            IRIInterner.setEnabled(interning);
+            String ns = unique();
+            IRI a = IRI.create(ns + "a");
+            IRI b = IRI.create(ns + "b");
+            // the namespace decides first, even for a smaller remainder
+            IRI later = IRI.create(ns + "z/", "a");
+            List<IRI> expected = Arrays.asList(a, b, later);
+            List<IRI> sorted = new ArrayList<>(Arrays.asList(later, b, a));
+            Collections.sort(sorted);
+            assertEquals(expected, sorted);
+            assertTrue(a.compareTo(b) < 0);
+            assertTrue(b.compareTo(a) > 0);
+            assertTrue(b.compareTo(later) < 0);
+            assertTrue(later.compareTo(a) > 0);
+            // equal IRIs compare as equal, whether or not they are the same
+            // instance
+            IRI copy = IRI.create(new String(ns + "a"));
+            assertEquals(interning, a == copy);
+            assertEquals(0, a.compareTo(copy));
+            assertEquals(0, copy.compareTo(a));
+            assertEquals(0, a.compareTo(a));
+        }
+    }
+
+    private static byte[] serialize(IRI iri) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeObject(iri);
+        }
+        return out.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+}
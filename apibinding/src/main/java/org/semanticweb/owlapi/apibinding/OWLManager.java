@@ -54,6 +54,29 @@ public class OWLManager implements OWLOntologyManagerFactory {
         return createOWLOntologyManager(createInjector(Concurrency.CONCURRENT));
     }
 
+    /**
+     * Creates an OWL ontology manager that is configured with the standard
+     * parsers and storers and provides locking for concurrent access, with a
+     * separate lock for each ontology. Changes to one ontology do not block
+     * queries on the other ontologies in the manager.
+     *
+     * @return The new manager.
+     */
+    public static OWLOntologyManager createPerOntologyConcurrentOWLOntologyManager() {
+        return createOWLOntologyManager(createInjector(Concurrency.PER_ONTOLOGY));
+    }
+
+    /**
+     * Creates an OWL ontology manager that is configured with the standard
+     * parsers and storers and provides locking for concurrent access, with
+     * optimistic reads for small, frequent lookups.
+     *
+     * @return The new manager.
+     */
+    public static OWLOntologyManager createOptimisticConcurrentOWLOntologyManager() {
+        return createOWLOntologyManager(createInjector(Concurrency.OPTIMISTIC));
+    }
+
     /**
      * Gets a global data factory that can be used to create OWL API objects.
      *
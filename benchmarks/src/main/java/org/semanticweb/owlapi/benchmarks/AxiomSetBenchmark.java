@@ -0,0 +1,111 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.GZipFileDocumentSource;
+import org.semanticweb.owlapi.io.GZipStreamDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.util.OWLObjectDuplicator;
+
+/**
+ * Measures hashcode, equals and compareTo on axioms, as exercised when axiom
+ * sets are built and sorted. Axioms are duplicated before each invocation, so
+ * that hashcodes are not already cached. Run with {@code -prof gc} to see the
+ * allocation rate; set {@code -p ontology=<path>} to use a different ontology,
+ * e.g., FullGalen.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Benchmark)
+public class AxiomSetBenchmark {
+
+    @Param({"/ncbitaxon.rdf.ofn.gz"})
+    public String ontology;
+    private OWLOntologyManager manager;
+    private OWLObjectDuplicator duplicator;
+    private List<OWLAxiom> axioms;
+    private List<OWLAxiom> copies;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        manager = OWLManager.createOWLOntologyManager();
+        duplicator = new OWLObjectDuplicator(manager);
+        OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration()
+            .setStrict(false);
+        OWLOntology o = manager.loadOntologyFromOntologyDocument(source(), config);
+        axioms = o.axioms().collect(Collectors.toList());
+    }
+
+    private OWLOntologyDocumentSource source() {
+        InputStream resource = getClass().getResourceAsStream(ontology);
+        if (resource != null) {
+            return new GZipStreamDocumentSource(resource);
+        }
+        File file = new File(ontology);
+        if (file.getName().endsWith(".gz")) {
+            return new GZipFileDocumentSource(file);
+        }
+        return new FileDocumentSource(file);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        copies = new ArrayList<>(axioms.size());
+        for (OWLAxiom ax : axioms) {
+            copies.add(duplicator.duplicateObject(ax));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.clearOntologies();
+    }
+
+    @BenchmarkMode(Mode.AverageTime)
+    @Benchmark
+    public Set<OWLAxiom> buildSet() {
+        Set<OWLAxiom> set = new HashSet<>(axioms);
+        set.addAll(copies);
+        return set;
+    }
+
+    @BenchmarkMode(Mode.AverageTime)
+    @Benchmark
+    public int equalCopies() {
+        int equal = 0;
+        for (int i = 0; i < axioms.size(); i++) {
+            if (axioms.get(i).equals(copies.get(i))) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+
+    @BenchmarkMode(Mode.AverageTime)
+    @Benchmark
+    public List<OWLAxiom> sort() {
+        Collections.sort(copies);
+        return copies;
+    }
+}
@@ -0,0 +1,109 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.GZipFileDocumentSource;
+import org.semanticweb.owlapi.io.GZipStreamDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.Concurrency;
+
+/**
+ * Measures the throughput of small lookups on a concurrent ontology, with the
+ * shared read/write lock and with optimistic reads. Run with different thread
+ * counts, e.g., {@code -t 1}, {@code -t 4} and {@code -t 16}, to see how read
+ * throughput scales; set {@code -p ontology=<path>} to use a different
+ * ontology.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Benchmark)
+public class ConcurrentReadBenchmark {
+
+    @Param({"/ncbitaxon.rdf.ofn.gz"})
+    public String ontology;
+    @Param({"CONCURRENT", "OPTIMISTIC"})
+    public Concurrency concurrency;
+    private OWLOntologyManager manager;
+    private OWLOntology o;
+    private List<OWLAxiom> axioms;
+    private List<OWLClass> classes;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        int next(int size) {
+            index++;
+            if (index >= size) {
+                index = 0;
+            }
+            return index;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        manager = OWLManager.createOWLOntologyManager(OWLManager.createInjector(concurrency));
+        OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration()
+            .setStrict(false);
+        o = manager.loadOntologyFromOntologyDocument(source(), config);
+        axioms = o.axioms().collect(Collectors.toList());
+        classes = o.classesInSignature().collect(Collectors.toList());
+    }
+
+    private OWLOntologyDocumentSource source() {
+        InputStream resource = getClass().getResourceAsStream(ontology);
+        if (resource != null) {
+            return new GZipStreamDocumentSource(resource);
+        }
+        File file = new File(ontology);
+        if (file.getName().endsWith(".gz")) {
+            return new GZipFileDocumentSource(file);
+        }
+        return new FileDocumentSource(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.clearOntologies();
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @Benchmark
+    public boolean containsAxiom(Cursor cursor) {
+        return o.containsAxiom(axioms.get(cursor.next(axioms.size())));
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @Benchmark
+    public boolean isDeclared(Cursor cursor) {
+        return o.isDeclared(classes.get(cursor.next(classes.size())));
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @Benchmark
+    public void annotationAssertionAxioms(Cursor cursor, Blackhole bh) {
+        o.annotationAssertionAxioms(classes.get(cursor.next(classes.size())).getIRI())
+            .forEach(bh::consume);
+    }
+}
@@ -3,6 +3,7 @@ package org.semanticweb.owlapi.benchmarks;
 import static java.lang.management.ManagementFactory.*;
 
 import com.sun.management.HotSpotDiagnosticMXBean;
+import com.sun.management.ThreadMXBean;
 import com.sun.management.VMOption;
 import java.io.File;
 import java.io.IOException;
@@ -20,6 +21,7 @@ import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.util.AutoIRIMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
 
 /**
  * Created by ses on 3/19/14.
@@ -67,10 +69,23 @@ public class MemoryBenchmark {
         }
         OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration()
             .setStrict(false);
+        // run with different values of ConfigurationOptions.ENTITY_CACHE_POLICY
+        // and ENTITY_CACHE_SIZE to compare allocation rates
+        ThreadMXBean threads = (ThreadMXBean) getThreadMXBean();
+        long allocatedBefore = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
         long start = System.currentTimeMillis();
         OWLOntology ontology = manager.loadOntologyFromOntologyDocument(ds, config);
-        System.out.println(
-            "MemoryBenchmark.memoryProfile() elapsed: " + (System.currentTimeMillis() - start));
+        long elapsed = System.currentTimeMillis() - start;
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId())
+            - allocatedBefore;
+        System.out.println("MemoryBenchmark.memoryProfile() elapsed: " + elapsed);
+        System.out.println("MemoryBenchmark.memoryProfile() allocated bytes: " + allocated
+            + " (" + allocated * 1000 / Math.max(elapsed, 1) + " bytes/s)");
+        if (manager.getOWLDataFactory() instanceof OWLDataFactoryImpl) {
+            ((OWLDataFactoryImpl) manager.getOWLDataFactory()).getCacheStatistics().forEach(
+                (name, stats) -> System.out.println("MemoryBenchmark.memoryProfile() " + name
+                    + " cache: " + stats));
+        }
         getDiagnostics().dumpHeap(hprofPath.toString(), true);
         manager.removeOntology(ontology);
     }
@@ -0,0 +1,88 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.GZipFileDocumentSource;
+import org.semanticweb.owlapi.io.GZipStreamDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import uk.ac.manchester.cs.owl.owlapi.OWLObjectImpl;
+
+/**
+ * Compares signature computation with the shared signature caches and with
+ * compact signatures. Run with {@code -prof gc} to compare GC time; set
+ * {@code -p ontology=<path>} to use a different ontology, e.g., FullGalen.
+ */
+@SuppressWarnings("javadoc")
+@State(Scope.Benchmark)
+public class SignatureBenchmark {
+
+    @Param({"/ncbitaxon.rdf.ofn.gz"})
+    public String ontology;
+    @Param({"false", "true"})
+    public boolean compact;
+    private OWLOntologyManager manager;
+    private List<OWLAxiom> axioms;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        OWLObjectImpl.setCompactSignatures(compact);
+        manager = OWLManager.createOWLOntologyManager();
+        OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration()
+            .setStrict(false);
+        OWLOntology o = manager.loadOntologyFromOntologyDocument(source(), config);
+        axioms = o.axioms().collect(Collectors.toList());
+    }
+
+    private OWLOntologyDocumentSource source() {
+        InputStream resource = getClass().getResourceAsStream(ontology);
+        if (resource != null) {
+            return new GZipStreamDocumentSource(resource);
+        }
+        File file = new File(ontology);
+        if (file.getName().endsWith(".gz")) {
+            return new GZipFileDocumentSource(file);
+        }
+        return new FileDocumentSource(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.clearOntologies();
+        OWLObjectImpl.setCompactSignatures(false);
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @Benchmark
+    public void signature(Blackhole bh) {
+        for (OWLAxiom ax : axioms) {
+            ax.signature().forEach(bh::consume);
+        }
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @Benchmark
+    public void classesInSignature(Blackhole bh) {
+        for (OWLAxiom ax : axioms) {
+            ax.classesInSignature().forEach(bh::consume);
+        }
+    }
+}
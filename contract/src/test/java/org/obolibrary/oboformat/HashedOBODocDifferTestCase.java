@@ -0,0 +1,131 @@
+package org.obolibrary.oboformat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.obolibrary.oboformat.diff.Diff;
+import org.obolibrary.oboformat.diff.OBODocDiffer;
+import org.obolibrary.oboformat.model.OBODoc;
+import org.obolibrary.oboformat.parser.OBOFormatParser;
+
+@SuppressWarnings("javadoc")
+public class HashedOBODocDifferTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static String document(int terms, boolean changed) {
+        return document(terms, changed, "test_ns");
+    }
+
+    private static String document(int terms, boolean changed, String namespace) {
+        StringBuilder b = new StringBuilder();
+        b.append("format-version: 1.2\nontology: test\ndefault-namespace: ").append(namespace)
+            .append("\n\n");
+        b.append("[Typedef]\nid: part_of\nname: part of\nis_transitive: ")
+            .append(changed ? "false" : "true").append("\n\n");
+        for (int i = 0; i < terms; i++) {
+            if (changed && i % 101 == 0) {
+                // removed term
+                continue;
+            }
+            b.append("[Term]\nid: TEST:").append(i).append('\n');
+            b.append("name: term ").append(changed && i % 37 == 0 ? "renamed " : "").append(i)
+                .append('\n');
+            if (i % 5 == 0) {
+                b.append("namespace: own_ns\n");
+            }
+            b.append("xref: OTHER:").append(i);
+            if (!changed || i % 41 != 0) {
+                // only the xref annotation changes
+                b.append(" \"other ").append(i).append('"');
+            }
+            b.append('\n');
+            if (i > 0) {
+                b.append("is_a: TEST:").append(i / 2).append(" {source=\"")
+                    .append(changed && i % 43 == 0 ? "b" : "a").append("\"}\n");
+            }
+            b.append('\n');
+            if (i % 53 == 0) {
+                // frame defined by two stanzas
+                b.append("[Term]\nid: TEST:").append(i).append("\ncomment: ")
+                    .append(changed && i % 2 == 0 ? "changed" : "same").append("\n\n");
+            }
+        }
+        if (changed) {
+            b.append("[Term]\nid: TEST:added\nname: added\n\n");
+        }
+        return b.toString();
+    }
+
+    private static List<String> strings(List<Diff> diffs) {
+        List<String> list = new ArrayList<>(diffs.size());
+        diffs.forEach(d -> list.add(d.toString()));
+        return list;
+    }
+
+    private File file(String content) throws Exception {
+        File f = folder.newFile();
+        Files.write(f.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return f;
+    }
+
+    @Test
+    public void shouldFindSameDiffs() throws Exception {
+        String input1 = document(3000, false);
+        String input2 = document(3000, true);
+        OBODoc doc1 = new OBOFormatParser().parse(new StringReader(input1));
+        OBODoc doc2 = new OBOFormatParser().parse(new StringReader(input2));
+        for (OBODoc[] docs : new OBODoc[][] {{doc1, doc2}, {doc2, doc1}, {doc1, doc1}}) {
+            List<String> expected = strings(OBODocDiffer.getDiffs(docs[0], docs[1]));
+            for (int threads : new int[] {0, 1, 4}) {
+                assertEquals(expected, strings(OBODocDiffer.getDiffs(docs[0], docs[1], threads)));
+            }
+        }
+        assertTrue(OBODocDiffer.getDiffs(doc1, doc2).size() > 100);
+    }
+
+    @Test
+    public void shouldFindSameDiffsInFiles() throws Exception {
+        String input1 = document(3000, false);
+        String input2 = document(3000, true);
+        File file1 = file(input1);
+        File file2 = file(input2);
+        OBODoc doc1 = new OBOFormatParser().parse(file1);
+        OBODoc doc2 = new OBOFormatParser().parse(file2);
+        List<String> expected = strings(OBODocDiffer.getDiffs(doc1, doc2));
+        List<String> reversed = strings(OBODocDiffer.getDiffs(doc2, doc1));
+        for (int threads : new int[] {0, 4}) {
+            assertEquals(expected, strings(OBODocDiffer.getDiffs(file1, file2, threads)));
+            assertEquals(reversed, strings(OBODocDiffer.getDiffs(file2, file1, threads)));
+            assertEquals(0, OBODocDiffer.getDiffs(file1, file(input1), threads).size());
+        }
+        // the default namespace is added to frames without a namespace
+        File file3 = file(document(3000, false, "other_ns"));
+        expected = strings(OBODocDiffer.getDiffs(doc1, new OBOFormatParser().parse(file3)));
+        assertTrue(expected.size() > 3000);
+        assertEquals(expected, strings(OBODocDiffer.getDiffs(file1, file3, 4)));
+    }
+
+    @Test
+    public void shouldFindDiffsInDuplicateQualifiers() throws Exception {
+        String input1 = document(100, false);
+        String input2 = input1.replace("is_a: TEST:1 {source=\"a\"}",
+            "is_a: TEST:1 {source=\"a\", source=\"a\"}");
+        OBODoc doc1 = new OBOFormatParser().parse(new StringReader(input1));
+        OBODoc doc2 = new OBOFormatParser().parse(new StringReader(input2));
+        List<String> expected = strings(OBODocDiffer.getDiffs(doc1, doc2));
+        assertTrue(expected.size() > 0);
+        assertEquals(expected, strings(OBODocDiffer.getDiffs(doc1, doc2, 4)));
+        assertEquals(expected, strings(OBODocDiffer.getDiffs(file(input1), file(input2), 4)));
+    }
+}
@@ -0,0 +1,145 @@
+package org.obolibrary.oboformat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import javax.annotation.Nullable;
+import org.junit.Test;
+import org.obolibrary.oboformat.model.Frame;
+import org.obolibrary.oboformat.model.OBODoc;
+import org.obolibrary.oboformat.parser.OBOFormatConstants.OboFormatTag;
+import org.obolibrary.oboformat.parser.OBOFormatParser;
+import org.obolibrary.oboformat.parser.OBOFormatParserException;
+import org.obolibrary.oboformat.writer.OBOFormatWriter;
+
+@SuppressWarnings("javadoc")
+public class ParallelOBOFormatParserTestCase {
+
+    private static String document(int terms) {
+        return document(terms, false);
+    }
+
+    private static String document(int terms, boolean duplicate) {
+        StringBuilder b = new StringBuilder();
+        b.append("format-version: 1.2\nontology: test\ndefault-namespace: test_ns\n");
+        b.append("subsetdef: core \"core terms\"\n\n");
+        b.append("[Typedef]\nid: part_of\nname: part of\nis_transitive: true\n\n");
+        for (int i = 0; i < terms; i++) {
+            // stanzas may be indented and separated by comments
+            b.append(i % 10 == 0 ? "  [Term]\n" : "[Term]\n");
+            b.append("id: TEST:").append(i).append(" ! term ").append(i).append('\n');
+            b.append("name: term ").append(i).append('\n');
+            b.append("def: \"a rather long definition of term ").append(i)
+                .append(", with \\\"escaped\\\" quotes\" [PMID:").append(i).append("]\n");
+            b.append("synonym: \"t").append(i).append("\" EXACT []\n");
+            if (i > 0) {
+                b.append("is_a: TEST:").append(i / 2).append(" {source=\"a\"} ! parent\n");
+                b.append("relationship: part_of TEST:").append(i - 1).append('\n');
+            }
+            if (i % 7 == 0) {
+                b.append("! a comment line\nsubset: core\n");
+            }
+            b.append('\n');
+        }
+        if (duplicate) {
+            // a second stanza for a term is merged with the first one
+            b.append("[Term]\nid: TEST:1\ncomment: merged\n\n");
+        }
+        return b.toString();
+    }
+
+    private static OBODoc parse(String input, int threads) throws Exception {
+        OBOFormatParser parser = new OBOFormatParser();
+        parser.setParallelParsingThreads(threads);
+        return parser.parse(new StringReader(input));
+    }
+
+    private static String render(OBODoc doc) throws Exception {
+        OBOFormatWriter writer = new OBOFormatWriter();
+        writer.setCheckStructure(false);
+        StringWriter out = new StringWriter();
+        writer.write(doc, out);
+        return out.toString();
+    }
+
+    @Test
+    public void shouldParseSameDocumentInParallel() throws Exception {
+        String input = document(4000);
+        OBODoc sequential = parse(input, 0);
+        assertEquals(4000, sequential.getTermFrames().size());
+        String expected = render(sequential);
+        for (int threads : new int[] {1, 3, 8}) {
+            OBODoc parallel = parse(input, threads);
+            assertEquals(4000, parallel.getTermFrames().size());
+            assertEquals(expected, render(parallel));
+        }
+    }
+
+    @Test
+    public void shouldMergeRepeatedStanzasInDocumentOrder() throws Exception {
+        String input = document(2000, true);
+        Frame expected = parse(input, 0).getTermFrame("TEST:1");
+        assertNotNull(expected);
+        assertEquals("merged", expected.getTagValue(OboFormatTag.TAG_COMMENT));
+        Frame merged = parse(input, 4).getTermFrame("TEST:1");
+        assertNotNull(merged);
+        assertEquals(new ArrayList<>(expected.getClauses()), new ArrayList<>(merged.getClauses()));
+    }
+
+    @Test
+    public void shouldReportSameErrorLine() throws Exception {
+        String input = document(2000);
+        // break a clause near the end of the document
+        int index = input.indexOf("name: term 1900\n");
+        String broken = input.substring(0, index) + "name: term 1900\nis_a\n"
+            + input.substring(index + "name: term 1900\n".length());
+        int expected = errorLine(broken, 0);
+        assertTrue(expected > 1000);
+        assertEquals(expected, errorLine(broken, 4));
+    }
+
+    private static int errorLine(String input, int threads) throws Exception {
+        try {
+            parse(input, threads);
+            fail("Expected a parser exception");
+            return -1;
+        } catch (OBOFormatParserException e) {
+            return e.getLineNo();
+        }
+    }
+
+    @Test
+    public void shouldAddParallelFramesThroughOverriddenHook() throws Exception {
+        String input = document(2000);
+        for (int threads : new int[] {0, 4}) {
+            OBOFormatParser parser = new OBOFormatParser() {
+
+                @Override
+                protected void addFrame(OBODoc obodoc, Frame f, int lineNo,
+                    @Nullable String line) {
+                    if (f.getId() == null || !f.getId().endsWith("0")) {
+                        super.addFrame(obodoc, f, lineNo, line);
+                    }
+                }
+            };
+            parser.setParallelParsingThreads(threads);
+            OBODoc doc = parser.parse(new StringReader(input));
+            assertEquals(1800, doc.getTermFrames().size());
+            assertNull(doc.getTermFrame("TEST:1990"));
+            assertNotNull(doc.getTermFrame("TEST:1999"));
+        }
+    }
+
+    @Test
+    public void shouldStopAtInstanceStanza() throws Exception {
+        String input = document(1000) + "[Instance]\nid: I:1\n\n[Term]\nid: TEST:after\n";
+        assertEquals(render(parse(input, 0)), render(parse(input, 4)));
+        assertEquals(1000, parse(input, 4).getTermFrames().size());
+    }
+}
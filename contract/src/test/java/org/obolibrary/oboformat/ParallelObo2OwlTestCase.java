@@ -0,0 +1,88 @@
+package org.obolibrary.oboformat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.io.StringReader;
+import org.junit.Test;
+import org.obolibrary.obo2owl.OWLAPIObo2Owl;
+import org.obolibrary.oboformat.model.OBODoc;
+import org.obolibrary.oboformat.parser.OBOFormatParser;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.OBODocumentFormat;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+@SuppressWarnings("javadoc")
+public class ParallelObo2OwlTestCase {
+
+    private static String document(int terms) {
+        StringBuilder b = new StringBuilder();
+        b.append("format-version: 1.2\nontology: test\n");
+        b.append("subsetdef: core \"core terms\"\n");
+        b.append("synonymtypedef: ABBR \"abbreviation\"\n\n");
+        b.append("[Typedef]\nid: part_of\nname: part of\nxref: BFO:0000050\nis_transitive: true\n\n");
+        b.append("[Typedef]\nid: has_note\nname: has note\nis_metadata_tag: true\n\n");
+        for (int i = 0; i < terms; i++) {
+            b.append("[Term]\nid: TEST:").append(i).append('\n');
+            b.append("name: term ").append(i).append('\n');
+            b.append("def: \"definition of ").append(i).append("\" [PMID:").append(i)
+                .append("]\n");
+            b.append("synonym: \"t").append(i).append("\" EXACT ABBR []\n");
+            b.append("xref: OTHER:").append(i).append(" \"other ").append(i).append("\"\n");
+            if (i % 7 == 0) {
+                b.append("subset: core\nalt_id: TEST:alt").append(i).append('\n');
+            }
+            if (i > 0) {
+                b.append("is_a: TEST:").append(i / 2).append(" {source=\"a\"}\n");
+                b.append("relationship: part_of TEST:").append(i - 1).append('\n');
+            }
+            if (i % 11 == 0 && i > 1) {
+                b.append("intersection_of: TEST:").append(i / 3).append('\n');
+                b.append("intersection_of: part_of TEST:").append(i / 5).append('\n');
+                b.append("disjoint_from: TEST:").append(i - 2).append('\n');
+            }
+            b.append("property_value: has_note \"note ").append(i)
+                .append("\" xsd:string\n\n");
+        }
+        return b.toString();
+    }
+
+    private static OWLOntology convert(OBODoc doc, int threads) throws Exception {
+        OWLAPIObo2Owl bridge = new OWLAPIObo2Owl(OWLManager.createOWLOntologyManager());
+        bridge.setParallelTranslationThreads(threads);
+        return bridge.convert(doc);
+    }
+
+    @Test
+    public void shouldTranslateSameAxiomsInParallel() throws Exception {
+        OBODoc doc = new OBOFormatParser().parse(new StringReader(document(2000)));
+        OWLOntology sequential = convert(doc, 0);
+        assertTrue(sequential.getAxiomCount() > 10000);
+        for (int threads : new int[] {1, 3, 8}) {
+            OWLOntology parallel = convert(doc, threads);
+            assertEquals(sequential.getOntologyID(), parallel.getOntologyID());
+            assertEquals(asUnorderedSet(sequential.axioms()), asUnorderedSet(parallel.axioms()));
+            assertEquals(asUnorderedSet(sequential.annotations()),
+                asUnorderedSet(parallel.annotations()));
+        }
+    }
+
+    @Test
+    public void shouldUseParallelParsingThreads() throws Exception {
+        String input = document(500);
+        OWLOntologyManager m1 = OWLManager.createOWLOntologyManager();
+        OWLOntology sequential = m1.loadOntologyFromOntologyDocument(new StringDocumentSource(
+            input, IRI.generateDocumentIRI(), new OBODocumentFormat(), null));
+        OWLOntologyManager m2 = OWLManager.createOWLOntologyManager();
+        OWLOntology parallel = m2.loadOntologyFromOntologyDocument(
+            new StringDocumentSource(input, IRI.generateDocumentIRI(), new OBODocumentFormat(),
+                null),
+            new OWLOntologyLoaderConfiguration().setParallelParsingThreads(4));
+        assertEquals(asUnorderedSet(sequential.axioms()), asUnorderedSet(parallel.axioms()));
+    }
+}
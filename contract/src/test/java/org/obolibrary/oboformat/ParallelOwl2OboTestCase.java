@@ -0,0 +1,110 @@
+package org.obolibrary.oboformat;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringWriter;
+import org.junit.Test;
+import org.obolibrary.obo2owl.OWLAPIOwl2Obo;
+import org.obolibrary.oboformat.model.OBODoc;
+import org.obolibrary.oboformat.writer.OBOFormatWriter;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.OBODocumentFormat;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+@SuppressWarnings("javadoc")
+public class ParallelOwl2OboTestCase {
+
+    private static final String OBO = "http://purl.obolibrary.org/obo/";
+    private final OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+    private final OWLDataFactory df = m.getOWLDataFactory();
+
+    private OWLClass c(int i) {
+        return df.getOWLClass(OBO, "TEST_" + i);
+    }
+
+    private OWLOntology ontology(int size) throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(OBO, "test.owl"));
+        OWLObjectProperty partOf = df.getOWLObjectProperty(OBO, "BFO_0000050");
+        OWLAnnotationProperty replacedBy = df.getOWLAnnotationProperty(OBO, "IAO_0100001");
+        OWLAnnotationProperty reason = df.getOWLAnnotationProperty(OBO, "IAO_0000231");
+        OWLAnnotationProperty synonym = df.getOWLAnnotationProperty(
+            IRI.create("http://www.geneontology.org/formats/oboInOwl#", "hasExactSynonym"));
+        o.add(df.getOWLDeclarationAxiom(partOf), df.getOWLTransitiveObjectPropertyAxiom(partOf),
+            df.getOWLAnnotationAssertionAxiom(partOf.getIRI(), df.getRDFSLabel("part of")));
+        for (int i = 0; i < size; i++) {
+            OWLClass c = c(i);
+            o.add(df.getOWLDeclarationAxiom(c),
+                df.getOWLAnnotationAssertionAxiom(c.getIRI(), df.getRDFSLabel("term " + i)),
+                df.getOWLAnnotationAssertionAxiom(synonym, c.getIRI(),
+                    df.getOWLLiteral("t" + i)));
+            if (i > 0) {
+                o.add(df.getOWLSubClassOfAxiom(c, c(i / 2),
+                    i % 3 == 0 ? singleton(df.getRDFSComment("asserted")) : emptySet()),
+                    df.getOWLSubClassOfAxiom(c, df.getOWLObjectSomeValuesFrom(partOf, c(i - 1))));
+            }
+            if (i % 13 == 0 && i > 1) {
+                o.add(df.getOWLEquivalentClassesAxiom(c, df.getOWLObjectIntersectionOf(c(i / 3),
+                    df.getOWLObjectSomeValuesFrom(partOf, c(i / 5)))),
+                    df.getOWLDisjointClassesAxiom(c, c(i - 2)),
+                    // not expressible in OBO
+                    df.getOWLSubClassOfAxiom(c,
+                        df.getOWLObjectUnionOf(c(i - 3), df.getOWLObjectComplementOf(c(i - 4)))),
+                    df.getOWLSubClassOfAxiom(
+                        df.getOWLObjectIntersectionOf(c, df.getOWLObjectSomeValuesFrom(partOf,
+                            c(i - 5))), c(i - 6)));
+            }
+            if (i % 17 == 0) {
+                // alt_id of the class
+                OWLClass alt = df.getOWLClass(OBO, "TEST_alt" + i);
+                o.add(df.getOWLDeclarationAxiom(alt),
+                    df.getDeprecatedOWLAnnotationAssertionAxiom(alt.getIRI()),
+                    df.getOWLAnnotationAssertionAxiom(replacedBy, alt.getIRI(), c.getIRI()),
+                    df.getOWLAnnotationAssertionAxiom(reason, alt.getIRI(),
+                        df.getOWLClass(OBO, "IAO_0000227").getIRI()));
+            }
+        }
+        return o;
+    }
+
+    private static String render(OWLOntology o, int threads) throws Exception {
+        OWLAPIOwl2Obo translator = new OWLAPIOwl2Obo(o.getOWLOntologyManager());
+        translator.setParallelTranslationThreads(threads);
+        OBODoc doc = translator.convert(o);
+        OBOFormatWriter writer = new OBOFormatWriter();
+        writer.setCheckStructure(false);
+        writer.setParallelWritingThreads(threads);
+        StringWriter out = new StringWriter();
+        writer.write(doc, out);
+        return out.toString();
+    }
+
+    @Test
+    public void shouldRenderSameDocumentInParallel() throws Exception {
+        OWLOntology o = ontology(3000);
+        String sequential = render(o, 0);
+        for (int threads : new int[] {1, 3, 8}) {
+            assertEquals(sequential, render(o, threads));
+        }
+    }
+
+    @Test
+    public void shouldUseThreadsParameter() throws Exception {
+        OWLOntology o = ontology(500);
+        StringDocumentTarget sequential = new StringDocumentTarget();
+        o.saveOntology(new OBODocumentFormat(), sequential);
+        OBODocumentFormat format = new OBODocumentFormat();
+        format.setParameter(OBODocumentFormat.THREADS, Integer.valueOf(4));
+        StringDocumentTarget parallel = new StringDocumentTarget();
+        o.saveOntology(format, parallel);
+        assertEquals(sequential.toString(), parallel.toString());
+    }
+}
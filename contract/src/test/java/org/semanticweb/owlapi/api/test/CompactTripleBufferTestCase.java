@@ -0,0 +1,78 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+@SuppressWarnings({"javadoc"})
+public class CompactTripleBufferTestCase extends TestBase {
+
+    private static final String INPUT = "@prefix : <http://example.com/compact#> .\n"
+        + "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n"
+        + "@prefix rdf: <http://www.w3.org/1999/02/22-rdf-syntax-ns#> .\n"
+        + "@prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .\n"
+        + "@prefix xsd: <http://www.w3.org/2001/XMLSchema#> .\n"
+        + "<http://example.com/compact> a owl:Ontology ; rdfs:comment \"test\" .\n"
+        + ":p a owl:ObjectProperty ; rdfs:domain :A ; rdfs:range :B .\n"
+        + ":q a owl:ObjectProperty ; owl:propertyChainAxiom ( :p :p ) .\n"
+        + ":d a owl:DatatypeProperty ; rdfs:range xsd:integer .\n"
+        + ":A a owl:Class ; rdfs:label \"A\"@en ; rdfs:subClassOf :B, "
+        + "[ a owl:Restriction ; owl:onProperty :p ; owl:someValuesFrom :C ] .\n"
+        + ":B a owl:Class ; owl:equivalentClass [ a owl:Class ; owl:intersectionOf ( :C "
+        + "[ a owl:Restriction ; owl:onProperty :d ; owl:hasValue \"1\"^^xsd:integer ] ) ] .\n"
+        + ":C a owl:Class .\n"
+        + "[] a owl:AllDisjointClasses ; owl:members ( :A :B :C ) .\n"
+        + "[] a owl:Axiom ; owl:annotatedSource :A ; owl:annotatedProperty rdfs:subClassOf ;"
+        + " owl:annotatedTarget :B ; rdfs:comment \"annotated\" .\n"
+        + ":i a owl:NamedIndividual, :A ; :p :j ; :d \"2\"^^xsd:integer .\n"
+        + ":j a owl:NamedIndividual .\n";
+
+    private OWLOntology load(String input, OWLDocumentFormat format, boolean compact)
+        throws Exception {
+        return loadOntologyWithConfig(
+            new StringDocumentSource(input, IRI.create("urn:test:", "compact"), format, null),
+            config.setCompactTripleBuffer(compact));
+    }
+
+    private void assertSameAxioms(String input, OWLDocumentFormat format) throws Exception {
+        OWLOntology expected = load(input, format, false);
+        OWLOntology actual = load(input, format, true);
+        assertTrue(expected.getAxiomCount() > 0);
+        assertEquals(asUnorderedSet(expected.axioms()), asUnorderedSet(actual.axioms()));
+        assertEquals(asUnorderedSet(expected.annotations()), asUnorderedSet(actual.annotations()));
+    }
+
+    @Test
+    public void shouldParseTurtleWithCompactBuffer() throws Exception {
+        assertSameAxioms(INPUT, new TurtleDocumentFormat());
+    }
+
+    @Test
+    public void shouldParseRDFXMLWithCompactBuffer() throws Exception {
+        OWLOntology o = load(INPUT, new TurtleDocumentFormat(), false);
+        StringDocumentTarget target = saveOntology(o, new RDFXMLDocumentFormat());
+        assertSameAxioms(target.toString(), new RDFXMLDocumentFormat());
+    }
+}
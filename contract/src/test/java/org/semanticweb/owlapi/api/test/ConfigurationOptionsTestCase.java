@@ -5,16 +5,26 @@ import static org.semanticweb.owlapi.model.MissingImportHandlingStrategy.THROW_E
 import static org.semanticweb.owlapi.model.MissingOntologyHeaderStrategy.INCLUDE_GRAPH;
 import static org.semanticweb.owlapi.model.PriorityCollectionSorting.ON_SET_INJECTION_ONLY;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ACCEPT_HTTP_COMPRESSION;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.COMPACT_SIGNATURES;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.COMPACT_TRIPLE_BUFFER;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.CONCURRENT_INDEXES;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.CONNECTION_TIMEOUT;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ENTITY_CACHE_POLICY;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ENTITY_CACHE_SIZE;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.FOLLOW_REDIRECTS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.INDENTING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.INDENT_SIZE;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.IRI_INTERNING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LABELS_AS_BANNER;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LOAD_ANNOTATIONS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_IMPORT_HANDLING_STRATEGY;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_ONTOLOGY_HEADER_STRATEGY;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARALLEL_IMPORTS_LOADING_THREADS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARALLEL_PARSING_THREADS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARSE_WITH_STRICT_CONFIGURATION;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PRIORITY_COLLECTION_SORTING;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.RDF_STREAMING_MODE;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.RDF_STREAMING_RENDERING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.REMAP_IDS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.REPORT_STACK_TRACES;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.RETRIES_TO_ATTEMPT;
@@ -30,6 +40,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
+import org.semanticweb.owlapi.model.EntityCachePolicy;
+import org.semanticweb.owlapi.model.RDFStreamingMode;
 import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 
 @RunWith(Parameterized.class)
@@ -45,16 +57,26 @@ public class ConfigurationOptionsTestCase {
     public static List<Object[]> values() {
         List<Object[]> toReturn = new ArrayList<>();
         toReturn.add(new Object[]{ACCEPT_HTTP_COMPRESSION, Boolean.TRUE});
+        toReturn.add(new Object[]{COMPACT_SIGNATURES, Boolean.FALSE});
+        toReturn.add(new Object[]{COMPACT_TRIPLE_BUFFER, Boolean.FALSE});
+        toReturn.add(new Object[]{CONCURRENT_INDEXES, Boolean.FALSE});
         toReturn.add(new Object[]{CONNECTION_TIMEOUT, Integer.valueOf(20000)});
+        toReturn.add(new Object[]{ENTITY_CACHE_POLICY, EntityCachePolicy.BOUNDED});
+        toReturn.add(new Object[]{ENTITY_CACHE_SIZE, Integer.valueOf(1024)});
         toReturn.add(new Object[]{FOLLOW_REDIRECTS, Boolean.TRUE});
         toReturn.add(new Object[]{INDENT_SIZE, Integer.valueOf(4)});
         toReturn.add(new Object[]{INDENTING, Boolean.TRUE});
+        toReturn.add(new Object[]{IRI_INTERNING, Boolean.FALSE});
         toReturn.add(new Object[]{LABELS_AS_BANNER, Boolean.FALSE});
         toReturn.add(new Object[]{LOAD_ANNOTATIONS, Boolean.TRUE});
+        toReturn.add(new Object[]{PARALLEL_IMPORTS_LOADING_THREADS, Integer.valueOf(0)});
+        toReturn.add(new Object[]{PARALLEL_PARSING_THREADS, Integer.valueOf(0)});
         toReturn.add(new Object[]{PARSE_WITH_STRICT_CONFIGURATION, Boolean.FALSE});
         toReturn.add(new Object[]{MISSING_IMPORT_HANDLING_STRATEGY, THROW_EXCEPTION});
         toReturn.add(new Object[]{MISSING_ONTOLOGY_HEADER_STRATEGY, INCLUDE_GRAPH});
         toReturn.add(new Object[]{PRIORITY_COLLECTION_SORTING, ON_SET_INJECTION_ONLY});
+        toReturn.add(new Object[]{RDF_STREAMING_MODE, RDFStreamingMode.DISABLED});
+        toReturn.add(new Object[]{RDF_STREAMING_RENDERING, Boolean.FALSE});
         toReturn.add(new Object[]{REMAP_IDS, Boolean.TRUE});
         toReturn.add(new Object[]{REPORT_STACK_TRACES, Boolean.TRUE});
         toReturn.add(new Object[]{RETRIES_TO_ATTEMPT, Integer.valueOf(5)});
@@ -0,0 +1,91 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+
+@SuppressWarnings({"javadoc"})
+@RunWith(Parameterized.class)
+public class IndexedComponentsTestCase {
+
+    private final OWLAxiom object;
+    private final OWLAxiom copy;
+
+    public IndexedComponentsTestCase(OWLAxiom object, OWLAxiom copy) {
+        this.object = object;
+        this.copy = copy;
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> getData() {
+        List<OWLAxiom> objects = new Builder().all();
+        List<OWLAxiom> copies = new Builder().all();
+        List<Object[]> toReturn = new ArrayList<>();
+        for (int i = 0; i < objects.size(); i++) {
+            toReturn.add(new Object[] {objects.get(i), copies.get(i)});
+        }
+        return toReturn;
+    }
+
+    private static int streamHash(OWLObject o) {
+        return o.components().mapToInt(
+            c -> c instanceof Stream ? ((Stream<?>) c).mapToInt(Object::hashCode).sum()
+                : c.hashCode())
+            .reduce(o.hashIndex(), (a, b) -> a * 37 + b);
+    }
+
+    private static void assertSameComponents(OWLObject o) {
+        int count = o.componentCount();
+        if (count < 0) {
+            return;
+        }
+        List<?> components = asList(o.components());
+        assertEquals(components.size(), count);
+        for (int i = 0; i < count; i++) {
+            Object c = components.get(i);
+            if (c instanceof Stream) {
+                c = ((Stream<?>) c).collect(Collectors.toList());
+            }
+            assertEquals(c, o.componentAt(i));
+        }
+        assertEquals(streamHash(o), o.hashCode());
+    }
+
+    @Test
+    public void shouldMatchComponentStream() {
+        assertSameComponents(object);
+        object.nestedClassExpressions().forEach(IndexedComponentsTestCase::assertSameComponents);
+        object.signature().forEach(IndexedComponentsTestCase::assertSameComponents);
+    }
+
+    @Test
+    public void shouldBeEqualToCopy() {
+        assertNotSame(object, copy);
+        assertEquals(object, copy);
+        assertEquals(object.hashCode(), copy.hashCode());
+        assertEquals(0, object.compareTo(copy));
+    }
+}
@@ -15,6 +15,8 @@ package org.semanticweb.owlapi.api.test;
 import static org.junit.Assert.assertTrue;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.Collection;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -22,6 +24,7 @@ import org.junit.runners.Parameterized;
 import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
 import org.semanticweb.owlapi.dlsyntax.parser.DLSyntaxOWLParserFactory;
 import org.semanticweb.owlapi.dlsyntax.renderer.DLSyntaxStorerFactory;
+import org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat;
 import org.semanticweb.owlapi.formats.DLSyntaxDocumentFormat;
 import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
 import org.semanticweb.owlapi.formats.KRSS2DocumentFormat;
@@ -35,6 +38,8 @@ import org.semanticweb.owlapi.functional.parser.OWLFunctionalSyntaxOWLParserFact
 import org.semanticweb.owlapi.functional.renderer.FunctionalSyntaxStorerFactory;
 import org.semanticweb.owlapi.io.OWLParserException;
 import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.io.StreamDocumentTarget;
 import org.semanticweb.owlapi.io.StringDocumentSource;
 import org.semanticweb.owlapi.io.StringDocumentTarget;
 import org.semanticweb.owlapi.krss1.parser.KRSSOWLParserFactory;
@@ -58,6 +63,8 @@ import org.semanticweb.owlapi.rdf.rdfxml.parser.RDFXMLParserFactory;
 import org.semanticweb.owlapi.rdf.rdfxml.renderer.RDFXMLStorerFactory;
 import org.semanticweb.owlapi.rdf.turtle.parser.TurtleOntologyParserFactory;
 import org.semanticweb.owlapi.rdf.turtle.renderer.TurtleStorerFactory;
+import org.semanticweb.owlapi.snapshot.parser.BinarySnapshotParserFactory;
+import org.semanticweb.owlapi.snapshot.renderer.BinarySnapshotStorerFactory;
 
 @SuppressWarnings({"javadoc"})
 @RunWith(Parameterized.class)
@@ -198,6 +205,20 @@ public class ParsersStorersTestCase extends TestBase {
             true, false);
     }
 
+    @Test
+    public void testBinarySnapshot() throws Exception {
+        OWLOntology ont = ont();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinarySnapshotStorerFactory().createStorer()
+            .storeOntology(ont, new StreamDocumentTarget(out), new BinarySnapshotDocumentFormat());
+        OWLOntology o = getAnonymousOWLOntology();
+        new BinarySnapshotParserFactory().createParser().parse(
+            new StreamDocumentSource(new ByteArrayInputStream(out.toByteArray())), o,
+            new OWLOntologyLoaderConfiguration());
+        // anonymous individuals are renamed when parsed
+        assertTrue(equal(ont, o));
+    }
+
     @Test
     public void testLatex() throws Exception {
         LatexDocumentFormat ontologyFormat = new LatexDocumentFormat();
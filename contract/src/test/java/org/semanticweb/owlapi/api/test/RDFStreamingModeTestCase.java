@@ -0,0 +1,81 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.RDFStreamingMode;
+
+@SuppressWarnings({"javadoc"})
+public class RDFStreamingModeTestCase extends TestBase {
+
+    private static final String NS = "http://example.com/streaming#";
+    // assertions appear both before and after the declarations of their properties
+    private static final String INPUT = "@prefix : <" + NS + "> .\n"
+        + "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n"
+        + "@prefix rdf: <http://www.w3.org/1999/02/22-rdf-syntax-ns#> .\n"
+        + "@prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .\n"
+        + "@prefix xsd: <http://www.w3.org/2001/XMLSchema#> .\n"
+        + "<http://example.com/streaming> a owl:Ontology .\n"
+        + ":a :knows :b .\n"
+        + ":a :age \"42\"^^xsd:integer .\n"
+        + ":b :knows :a .\n"
+        + "[] a owl:Axiom ; owl:annotatedSource :b ; owl:annotatedProperty :knows ;"
+        + " owl:annotatedTarget :a ; rdfs:comment \"annotated\" .\n"
+        + ":knows a owl:ObjectProperty .\n"
+        + ":age a owl:DatatypeProperty .\n"
+        + ":label a owl:AnnotationProperty .\n"
+        + ":a a owl:NamedIndividual ; :label \"a\" .\n"
+        + ":b a owl:NamedIndividual .\n"
+        + ":c :knows :a ; :age \"1\"^^xsd:integer .\n";
+
+    private OWLOntology load(String input, OWLDocumentFormat format, RDFStreamingMode mode)
+        throws Exception {
+        return loadOntologyWithConfig(
+            new StringDocumentSource(input, IRI.create("urn:test:", "streaming"), format, null),
+            config.setRDFStreamingMode(mode));
+    }
+
+    private void assertSameAxioms(String input, OWLDocumentFormat format) throws Exception {
+        OWLOntology expected = load(input, format, RDFStreamingMode.DISABLED);
+        assertTrue(expected.getAxiomCount() > 0);
+        for (RDFStreamingMode mode : RDFStreamingMode.values()) {
+            OWLOntology actual = load(input, format, mode);
+            assertEquals(mode.toString(), asUnorderedSet(expected.axioms()),
+                asUnorderedSet(actual.axioms()));
+        }
+    }
+
+    @Test
+    public void shouldParseTurtleInAllModes() throws Exception {
+        assertSameAxioms(INPUT, new TurtleDocumentFormat());
+    }
+
+    @Test
+    public void shouldParseRDFXMLInAllModes() throws Exception {
+        OWLOntology o = load(INPUT, new TurtleDocumentFormat(), RDFStreamingMode.DISABLED);
+        StringDocumentTarget target = saveOntology(o, new RDFXMLDocumentFormat());
+        assertSameAxioms(target.toString(), new RDFXMLDocumentFormat());
+    }
+}
@@ -0,0 +1,105 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.api.test;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+
+import java.util.Set;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+@SuppressWarnings({"javadoc"})
+public class RDFStreamingRenderingTestCase {
+
+    private static final String NS = "http://example.com/rendering#";
+    private final OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+    private final OWLDataFactory df = m.getOWLDataFactory();
+
+    private OWLOntology ontology() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create("http://example.com/rendering"));
+        OWLObjectProperty p = df.getOWLObjectProperty(NS, "p");
+        OWLNamedIndividual i = df.getOWLNamedIndividual(NS, "i");
+        OWLAnonymousIndividual anon = df.getOWLAnonymousIndividual();
+        for (int n = 0; n < 50; n++) {
+            OWLClass c = df.getOWLClass(NS, "C" + n);
+            OWLClass d = df.getOWLClass(NS, "C" + (n + 1) % 50);
+            o.add(df.getOWLDeclarationAxiom(c),
+                df.getOWLSubClassOfAxiom(c, df.getOWLObjectSomeValuesFrom(p, d),
+                    n % 5 == 0 ? singleton(df.getRDFSComment("annotated " + n)) : emptySet()),
+                df.getOWLAnnotationAssertionAxiom(c.getIRI(), df.getRDFSLabel("c" + n)));
+        }
+        o.add(df.getOWLDeclarationAxiom(p), df.getOWLDeclarationAxiom(i),
+            df.getOWLSubClassOfAxiom(df.getOWLObjectUnionOf(df.getOWLClass(NS, "C1"),
+                df.getOWLClass(NS, "C2")), df.getOWLClass(NS, "C3")),
+            df.getOWLDisjointClassesAxiom(df.getOWLClass(NS, "C4"), df.getOWLClass(NS, "C5"),
+                df.getOWLClass(NS, "C6")),
+            df.getOWLObjectPropertyAssertionAxiom(p, i, anon),
+            df.getOWLClassAssertionAxiom(df.getOWLClass(NS, "C7"), anon),
+            df.getOWLAnnotationAssertionAxiom(IRI.create(NS, "untyped"), df.getRDFSLabel("u")));
+        return o;
+    }
+
+    private OWLOntology roundTrip(OWLOntology o, OWLDocumentFormat format) throws Exception {
+        StringDocumentTarget target = new StringDocumentTarget();
+        o.saveOntology(format, target);
+        OWLOntologyManager m2 = OWLManager.createOWLOntologyManager();
+        return m2.loadOntologyFromOntologyDocument(new StringDocumentSource(target.toString(),
+            IRI.create("urn:test:", "rendering"), format, null));
+    }
+
+    private static Set<OWLAxiom> namedAxioms(OWLOntology o) {
+        return asUnorderedSet(o.axioms().filter(ax -> ax.anonymousIndividuals().count() == 0));
+    }
+
+    private void assertSameAxioms(OWLDocumentFormat format) throws Exception {
+        OWLOntology o = ontology();
+        OWLOntology sorted = roundTrip(o, format);
+        m.setOntologyWriterConfiguration(
+            m.getOntologyWriterConfiguration().withStreamingRDFRendering(true));
+        assertTrue(m.getOntologyWriterConfiguration().isStreamingRDFRendering());
+        OWLOntology streamed = roundTrip(o, format);
+        // blank node ids differ between loads
+        assertEquals(namedAxioms(sorted), namedAxioms(streamed));
+        assertEquals(o.getLogicalAxiomCount(), streamed.getLogicalAxiomCount());
+        assertEquals(o.getAxiomCount(), streamed.getAxiomCount());
+    }
+
+    @Test
+    public void shouldStreamRDFXML() throws Exception {
+        assertSameAxioms(new RDFXMLDocumentFormat());
+    }
+
+    @Test
+    public void shouldStreamTurtle() throws Exception {
+        assertSameAxioms(new TurtleDocumentFormat());
+    }
+}
@@ -0,0 +1,168 @@
+package org.semanticweb.owlapi.api.test.imports;
+
+import static org.junit.Assert.assertEquals;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyIRIMapper;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.UnloadableImportException;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.util.AutoIRIMapper;
+import org.semanticweb.owlapi.util.SimpleIRIMapper;
+
+@SuppressWarnings("javadoc")
+public class ParallelImportsLoadingTestCase extends TestBase {
+
+    @Test
+    public void shouldLoadSameImportsClosureInParallel() throws OWLOntologyCreationException {
+        m.getIRIMappers().add(new AutoIRIMapper(new File(RESOURCES, "imports"), true));
+        OWLOntology sequential = m.loadOntologyFromOntologyDocument(new File(RESOURCES, "/imports/D.owl"));
+        m1.getIRIMappers().add(new AutoIRIMapper(new File(RESOURCES, "imports"), true));
+        m1.getOntologyConfigurator().withParallelImportsLoadingThreads(4);
+        OWLOntology parallel = m1.loadOntologyFromOntologyDocument(new File(RESOURCES, "/imports/D.owl"));
+        assertEquals(ids(sequential), ids(parallel));
+        assertEquals(asUnorderedSet(sequential.axioms(Imports.INCLUDED)),
+            asUnorderedSet(parallel.axioms(Imports.INCLUDED)));
+        assertEquals(asUnorderedSet(sequential.directImports().map(OWLOntology::getOntologyID)),
+            asUnorderedSet(parallel.directImports().map(OWLOntology::getOntologyID)));
+        parallel.importsClosure().forEach(o -> assertEquals(m1, o.getOWLOntologyManager()));
+    }
+
+    @Test
+    public void shouldLoadCyclicImportsInParallel() throws OWLOntologyCreationException {
+        m.getIRIMappers().add(new AutoIRIMapper(new File(RESOURCES, "importscyclic"), true));
+        OWLOntology sequential =
+            m.loadOntologyFromOntologyDocument(new File(RESOURCES, "/importscyclic/D.owl"));
+        m1.getIRIMappers().add(new AutoIRIMapper(new File(RESOURCES, "importscyclic"), true));
+        m1.getOntologyConfigurator().withParallelImportsLoadingThreads(2);
+        OWLOntology parallel =
+            m1.loadOntologyFromOntologyDocument(new File(RESOURCES, "/importscyclic/D.owl"));
+        assertEquals(ids(sequential), ids(parallel));
+        assertEquals(asUnorderedSet(sequential.axioms(Imports.INCLUDED)),
+            asUnorderedSet(parallel.axioms(Imports.INCLUDED)));
+    }
+
+    @Test(expected = UnloadableImportException.class)
+    public void shouldThrowExceptionForMissingImport() throws OWLOntologyCreationException {
+        String input = "<?xml version=\"1.0\"?>\n"
+            + "<rdf:RDF xmlns:owl=\"http://www.w3.org/2002/07/owl#\"\n"
+            + "     xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\">\n"
+            + "    <owl:Ontology rdf:about=\"http://www.semanticweb.org/fake/ontologies/2012/8/1\">\n"
+            + "        <owl:imports rdf:resource=\"http://localhost:1\"/>\n"
+            + "    </owl:Ontology>\n" + "</rdf:RDF>";
+        m.getOntologyConfigurator().withParallelImportsLoadingThreads(2);
+        m.loadOntologyFromOntologyDocument(new StringDocumentSource(input));
+    }
+
+    private static final String NS = "urn:test:parallel#";
+
+    private static String rdf(String name, String imported, String body) {
+        return "<?xml version=\"1.0\"?>\n"
+            + "<rdf:RDF xmlns:owl=\"http://www.w3.org/2002/07/owl#\"\n"
+            + "     xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\"\n"
+            + "     xmlns:t=\"" + NS + "\">\n"
+            + "    <owl:Ontology rdf:about=\"" + NS + name + "\">\n"
+            + (imported.isEmpty() ? ""
+                : "        <owl:imports rdf:resource=\"" + NS + imported + "\"/>\n")
+            + "    </owl:Ontology>\n" + body + "</rdf:RDF>";
+    }
+
+    private void map(OWLOntologyManager manager, File dir, String name, String content)
+        throws IOException {
+        File file = new File(dir, name + ".owl");
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        manager.getIRIMappers().add(new SimpleIRIMapper(IRI.create(NS, name), IRI.create(file)));
+    }
+
+    private StringDocumentSource chain(OWLOntologyManager manager, File dir) throws IOException {
+        // the properties used in each document are only typed in the
+        // ontology it imports, so the RDF parser needs the imports closure to
+        // tell object and data property assertions from annotations
+        map(manager, dir, "c", rdf("c", "", "    <owl:ObjectProperty rdf:about=\"" + NS + "p\"/>\n"
+            + "    <owl:DatatypeProperty rdf:about=\"" + NS + "d\"/>\n"
+            + "    <owl:AnnotationProperty rdf:about=\"" + NS + "n\"/>\n"));
+        map(manager, dir, "b", rdf("b", "c", "    <owl:NamedIndividual rdf:about=\"" + NS + "x\">\n"
+            + "        <t:p rdf:resource=\"" + NS + "y\"/>\n"
+            + "        <t:d>1</t:d>\n" + "    </owl:NamedIndividual>\n"));
+        String a = rdf("a", "b", "    <owl:NamedIndividual rdf:about=\"" + NS + "y\">\n"
+            + "        <t:p rdf:resource=\"" + NS + "x\"/>\n"
+            + "        <t:d>2</t:d>\n" + "        <t:n rdf:resource=\"" + NS + "x\"/>\n"
+            + "    </owl:NamedIndividual>\n");
+        return new StringDocumentSource(a);
+    }
+
+    @Test
+    public void shouldTypeEntitiesFromImportedOntologiesInParallel() throws Exception {
+        // strict parsing does not guess the type of undeclared properties
+        m.getOntologyConfigurator().setStrict(true);
+        m1.getOntologyConfigurator().setStrict(true);
+        OWLOntology sequential = m.loadOntologyFromOntologyDocument(chain(m, folder.newFolder()));
+        m1.getOntologyConfigurator().withParallelImportsLoadingThreads(4);
+        OWLOntology parallel =
+            m1.loadOntologyFromOntologyDocument(chain(m1, folder.newFolder()));
+        OWLObjectProperty p = df.getOWLObjectProperty(NS, "p");
+        OWLDataProperty d = df.getOWLDataProperty(NS, "d");
+        OWLNamedIndividual x = df.getOWLNamedIndividual(NS, "x");
+        OWLNamedIndividual y = df.getOWLNamedIndividual(NS, "y");
+        assertTrue(parallel.containsAxiom(df.getOWLObjectPropertyAssertionAxiom(p, y, x)));
+        assertTrue(parallel.containsAxiom(df.getOWLDataPropertyAssertionAxiom(d, y, "2")));
+        // without the imports closure, n would be taken for an object property
+        assertTrue(parallel.containsAxiom(df.getOWLAnnotationAssertionAxiom(
+            df.getOWLAnnotationProperty(NS, "n"), y.getIRI(), x.getIRI())));
+        assertTrue(parallel.importsClosure()
+            .anyMatch(o -> o.containsAxiom(df.getOWLObjectPropertyAssertionAxiom(p, x, y))));
+        assertEquals(ids(sequential), ids(parallel));
+        assertEquals(asUnorderedSet(sequential.axioms(Imports.INCLUDED)),
+            asUnorderedSet(parallel.axioms(Imports.INCLUDED)));
+        parallel.importsClosure().forEach(o -> assertEquals(m1, o.getOWLOntologyManager()));
+    }
+
+    @Test
+    public void shouldNotHoldManagerLockWhileParsing() throws Exception {
+        m1.getOntologyConfigurator().withParallelImportsLoadingThreads(2);
+        OWLOntology other = m1.createOntology(IRI.create(NS, "other"));
+        StringDocumentSource source = chain(m1, folder.newFolder());
+        // the mapper runs while the imports are loaded; another thread must be
+        // able to change an ontology in the same manager meanwhile
+        AtomicBoolean changed = new AtomicBoolean();
+        m1.getIRIMappers().add((OWLOntologyIRIMapper) iri -> {
+            Thread t = new Thread(() -> other.add(df.getOWLDeclarationAxiom(
+                df.getOWLClass(NS, "C"))));
+            t.start();
+            try {
+                t.join(10000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            changed.compareAndSet(false, !t.isAlive());
+            return null;
+        });
+        m1.loadOntologyFromOntologyDocument(source);
+        assertTrue(changed.get());
+        assertTrue(other.containsClassInSignature(IRI.create(NS, "C")));
+    }
+
+    private static Set<OWLOntologyID> ids(OWLOntology o) {
+        return o.importsClosure().map(OWLOntology::getOntologyID).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,64 @@
+package org.semanticweb.owlapi.api.test.multithread;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+
+@SuppressWarnings("javadoc")
+public class ConcurrentIndexesTestCase {
+
+    private static final String NS = "urn:test:concurrent#";
+
+    @Test
+    public void shouldAnswerQueriesFromManyThreads() throws Exception {
+        OWLOntologyManager m = OWLManager.createConcurrentOWLOntologyManager();
+        m.getOntologyConfigurator().withConcurrentIndexes(true);
+        OWLDataFactory df = m.getOWLDataFactory();
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        OWLClass top = df.getOWLClass(IRI.create(NS, "Top"));
+        List<OWLClass> classes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            OWLClass c = df.getOWLClass(IRI.create(NS, "C" + i));
+            classes.add(c);
+            o.add(df.getOWLSubClassOfAxiom(c, top));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    int found = 0;
+                    for (OWLClass c : classes) {
+                        List<OWLSubClassOfAxiom> axioms = asList(o.subClassAxiomsForSubClass(c));
+                        found += axioms.size();
+                        assertTrue(o.containsClassInSignature(c.getIRI()));
+                    }
+                    return Integer.valueOf(found);
+                }));
+            }
+            for (Future<Integer> f : results) {
+                assertEquals(100, f.get().intValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(100, asList(o.subClassAxiomsForSuperClass(top)).size());
+        o.remove(df.getOWLSubClassOfAxiom(classes.get(0), top));
+        assertEquals(99, asList(o.subClassAxiomsForSuperClass(top)).size());
+        assertEquals(0, asList(o.subClassAxiomsForSubClass(classes.get(0))).size());
+    }
+}
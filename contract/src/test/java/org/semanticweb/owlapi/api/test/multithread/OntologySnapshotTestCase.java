@@ -0,0 +1,165 @@
+package org.semanticweb.owlapi.api.test.multithread;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChangeException;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.SetOntologyID;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.OWLOntologySnapshotPublisher;
+
+@SuppressWarnings("javadoc")
+public class OntologySnapshotTestCase {
+
+    private static final String NS = "urn:test:snapshot#";
+    private final OWLOntologyManager m = OWLManager.createConcurrentOWLOntologyManager();
+    private final OWLDataFactory df = m.getOWLDataFactory();
+
+    @Test
+    public void shouldNotSeeLaterChanges() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        OWLAxiom a = df.getOWLDeclarationAxiom(df.getOWLClass(NS, "A"));
+        OWLAxiom b = df.getOWLDeclarationAxiom(df.getOWLClass(NS, "B"));
+        o.add(a);
+        OWLOntologySnapshotPublisher publisher = new OWLOntologySnapshotPublisher(o);
+        OWLOntology first = publisher.getSnapshot();
+        assertSame(first, publisher.getSnapshot());
+        o.add(b);
+        o.remove(a);
+        assertTrue(first.containsAxiom(a));
+        assertFalse(first.containsAxiom(b));
+        OWLOntology second = publisher.getSnapshot();
+        assertNotSame(first, second);
+        assertFalse(second.containsAxiom(a));
+        assertTrue(second.containsAxiom(b));
+        assertEquals(1, second.getAxiomCount());
+        publisher.dispose();
+    }
+
+    @Test(expected = OWLOntologyChangeException.class)
+    public void shouldRejectChanges() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        OWLOntologySnapshotPublisher publisher = new OWLOntologySnapshotPublisher(o, true);
+        publisher.getSnapshot().add(df.getOWLDeclarationAxiom(df.getOWLClass(NS, "A")));
+    }
+
+    @Test
+    public void shouldCopyEagerlyOutsideTheListener() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        OWLAxiom a = df.getOWLDeclarationAxiom(df.getOWLClass(NS, "A"));
+        OWLAxiom b = df.getOWLDeclarationAxiom(df.getOWLClass(NS, "B"));
+        List<Runnable> tasks = new ArrayList<>();
+        OWLOntologySnapshotPublisher publisher = new OWLOntologySnapshotPublisher(o, tasks::add);
+        OWLOntology first = publisher.getSnapshot();
+        o.add(a);
+        o.add(b);
+        // both batches share one copy, which has not run yet
+        assertEquals(1, tasks.size());
+        assertFalse(first.containsAxiom(a));
+        tasks.get(0).run();
+        OWLOntology second = publisher.getSnapshot();
+        assertNotSame(first, second);
+        assertTrue(second.containsAxiom(a));
+        assertTrue(second.containsAxiom(b));
+        assertSame(second, publisher.getSnapshot());
+        o.remove(a);
+        assertEquals(2, tasks.size());
+        publisher.dispose();
+    }
+
+    @Test
+    public void shouldFollowOntologyIDChanges() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        OWLOntologySnapshotPublisher publisher = new OWLOntologySnapshotPublisher(o);
+        OWLOntologyID renamed = new OWLOntologyID(IRI.create(NS, "renamed"));
+        m.applyChange(new SetOntologyID(o, renamed));
+        assertEquals(renamed, publisher.getSnapshot().getOntologyID());
+        OWLAxiom a = df.getOWLDeclarationAxiom(df.getOWLClass(NS, "A"));
+        o.add(a);
+        assertTrue(publisher.getSnapshot().containsAxiom(a));
+        publisher.dispose();
+    }
+
+    @Test
+    public void shouldIgnoreOtherOntologiesWithSameID() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        OWLOntologySnapshotPublisher publisher = new OWLOntologySnapshotPublisher(o);
+        OWLOntology snapshot = publisher.getSnapshot();
+        m.removeOntology(o);
+        m.createOntology(IRI.create(NS)).add(df.getOWLDeclarationAxiom(df.getOWLClass(NS, "A")));
+        assertSame(snapshot, publisher.getSnapshot());
+        publisher.dispose();
+    }
+
+    @Test
+    public void shouldIncludeImportedOntologies() throws Exception {
+        OWLOntology imported = m.createOntology(IRI.create(NS, "imported"));
+        imported.add(df.getOWLDeclarationAxiom(df.getOWLClass(NS, "I")));
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        m.applyChange(new AddImport(o, df.getOWLImportsDeclaration(IRI.create(NS, "imported"))));
+        OWLOntologySnapshotPublisher publisher = new OWLOntologySnapshotPublisher(o, true);
+        o.add(df.getOWLDeclarationAxiom(df.getOWLClass(NS, "A")));
+        OWLOntology snapshot = publisher.getSnapshot();
+        o.add(df.getOWLDeclarationAxiom(df.getOWLClass(NS, "B")));
+        assertEquals(2, snapshot.getAxiomCount(Imports.INCLUDED));
+        assertEquals(3, o.getAxiomCount(Imports.INCLUDED));
+        publisher.dispose();
+    }
+
+    @Test
+    public void shouldReadConsistentSnapshotsWhileWriting() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        List<OWLAxiom> axioms = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            axioms.add(df.getOWLDeclarationAxiom(df.getOWLClass(NS, "C" + i)));
+        }
+        OWLOntologySnapshotPublisher publisher = new OWLOntologySnapshotPublisher(o);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                readers.add(executor.submit(() -> {
+                    int count = 0;
+                    while (count < axioms.size()) {
+                        OWLOntology snapshot = publisher.getSnapshot();
+                        // axioms are added in order, and a snapshot never
+                        // changes
+                        count = snapshot.getAxiomCount();
+                        for (int i = 0; i < axioms.size(); i++) {
+                            assertEquals(i < count, snapshot.containsAxiom(axioms.get(i)));
+                        }
+                        assertEquals(count, snapshot.getAxiomCount());
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < axioms.size(); i += 10) {
+                o.add(axioms.subList(i, i + 10));
+            }
+            for (Future<?> f : readers) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+            publisher.dispose();
+        }
+    }
+}
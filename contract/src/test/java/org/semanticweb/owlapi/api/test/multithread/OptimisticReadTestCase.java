@@ -0,0 +1,88 @@
+package org.semanticweb.owlapi.api.test.multithread;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.OptimisticOWLOntologyImpl;
+
+@SuppressWarnings("javadoc")
+public class OptimisticReadTestCase {
+
+    private static final String NS = "urn:test:optimistic#";
+    private final OWLOntologyManager m = OWLManager.createOptimisticConcurrentOWLOntologyManager();
+    private final OWLDataFactory df = m.getOWLDataFactory();
+
+    @Test
+    public void shouldAnswerLookups() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        assertTrue(o instanceof OptimisticOWLOntologyImpl);
+        OWLClass a = df.getOWLClass(NS, "A");
+        OWLAxiom declaration = df.getOWLDeclarationAxiom(a);
+        assertTrue(o.isEmpty());
+        o.add(declaration, df.getOWLAnnotationAssertionAxiom(a.getIRI(), df.getRDFSLabel("a")));
+        assertFalse(o.isEmpty());
+        assertTrue(o.containsAxiom(declaration));
+        assertTrue(o.isDeclared(a));
+        assertTrue(o.containsClassInSignature(a.getIRI()));
+        assertEquals(2, o.getAxiomCount());
+        assertEquals(1, asList(o.annotationAssertionAxioms(a.getIRI())).size());
+        assertEquals(1, asList(o.declarationAxioms(a)).size());
+        o.remove(declaration);
+        assertFalse(o.containsAxiom(declaration));
+        assertFalse(o.isDeclared(a));
+    }
+
+    @Test
+    public void shouldSeeChangesFromOtherThreads() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        List<OWLAxiom> axioms = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            axioms.add(df.getOWLDeclarationAxiom(df.getOWLClass(NS, "C" + i)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                readers.add(executor.submit(() -> {
+                    // axioms are added in order, so once an axiom is found
+                    // all the preceding ones must be found as well
+                    for (int i = 0; i < axioms.size(); i++) {
+                        while (!o.containsAxiom(axioms.get(i))) {
+                            Thread.yield();
+                        }
+                        for (int j = 0; j < i; j += 97) {
+                            assertTrue(o.containsAxiom(axioms.get(j)));
+                        }
+                        assertTrue(o.getAxiomCount() > i);
+                    }
+                    return null;
+                }));
+            }
+            for (OWLAxiom ax : axioms) {
+                o.add(ax);
+            }
+            for (Future<?> f : readers) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(axioms.size(), o.getAxiomCount());
+    }
+}
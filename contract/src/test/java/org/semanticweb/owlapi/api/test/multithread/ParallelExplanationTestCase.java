@@ -0,0 +1,101 @@
+package org.semanticweb.owlapi.api.test.multithread;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.clarkparsia.owlapi.explanation.BlackBoxExplanation;
+import com.clarkparsia.owlapi.explanation.HSTExplanationGenerator;
+import com.clarkparsia.owlapi.explanation.ParallelHSTExplanationGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
+
+@SuppressWarnings("javadoc")
+public class ParallelExplanationTestCase {
+
+    private static final String NS = "urn:test:explanation#";
+    private final OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+    private final OWLDataFactory df = m.getOWLDataFactory();
+    private final OWLReasonerFactory factory = new StructuralReasonerFactory();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    private OWLClass c(String name) {
+        return df.getOWLClass(NS, name);
+    }
+
+    /**
+     * X is equivalent to owl:Nothing through three chains of equivalences, and has plenty of
+     * unrelated axioms to prune.
+     */
+    private OWLOntology ontology() throws Exception {
+        List<OWLAxiom> axioms = new ArrayList<>();
+        OWLClass nothing = df.getOWLNothing();
+        axioms.add(df.getOWLEquivalentClassesAxiom(c("X"), nothing));
+        axioms.add(df.getOWLEquivalentClassesAxiom(c("X"), c("Y")));
+        axioms.add(df.getOWLEquivalentClassesAxiom(c("Y"), nothing));
+        axioms.add(df.getOWLEquivalentClassesAxiom(c("X"), c("Z")));
+        axioms.add(df.getOWLEquivalentClassesAxiom(c("Z"), c("W")));
+        axioms.add(df.getOWLEquivalentClassesAxiom(c("W"), nothing));
+        for (int i = 0; i < 40; i++) {
+            axioms.add(df.getOWLSubClassOfAxiom(c("X"), c("N" + i)));
+            axioms.add(df.getOWLSubClassOfAxiom(c("N" + i), c("M" + i)));
+        }
+        return m.createOntology(axioms);
+    }
+
+    private ParallelHSTExplanationGenerator parallel(OWLOntology o) {
+        return new ParallelHSTExplanationGenerator(o, factory, factory.createNonBufferingReasoner(o),
+            OWLManager.createConcurrentOWLOntologyManager(), executor, 4);
+    }
+
+    @Test
+    public void shouldFindSameExplanationsAsSequentialSearch() throws Exception {
+        OWLOntology o = ontology();
+        int axiomCount = o.getAxiomCount();
+        HSTExplanationGenerator sequential = new HSTExplanationGenerator(
+            new BlackBoxExplanation(o, factory, factory.createNonBufferingReasoner(o)));
+        Set<Set<OWLAxiom>> expected = sequential.getExplanations(c("X"));
+        assertEquals(3, expected.size());
+        ParallelHSTExplanationGenerator parallel = parallel(o);
+        assertEquals(expected, parallel.getExplanations(c("X")));
+        assertEquals(axiomCount, o.getAxiomCount());
+        assertTrue(parallel.getExplanations(c("N1")).isEmpty());
+    }
+
+    @Test
+    public void shouldStopAtRequestedExplanations() throws Exception {
+        OWLOntology o = ontology();
+        ParallelHSTExplanationGenerator parallel = parallel(o);
+        Set<Set<OWLAxiom>> explanations = parallel.getExplanations(c("X"), 2);
+        assertEquals(2, explanations.size());
+        assertTrue(parallel.getExplanations(c("X")).containsAll(explanations));
+    }
+
+    @Test
+    public void shouldReleaseWorkersOnDispose() throws Exception {
+        OWLOntology o = ontology();
+        OWLOntologyManager debuggingManager = OWLManager.createConcurrentOWLOntologyManager();
+        ParallelHSTExplanationGenerator parallel = new ParallelHSTExplanationGenerator(o, factory,
+            factory.createNonBufferingReasoner(o), debuggingManager, executor, 4);
+        assertEquals(3, parallel.getExplanations(c("X")).size());
+        parallel.dispose();
+        assertEquals(0, debuggingManager.ontologies().count());
+    }
+}
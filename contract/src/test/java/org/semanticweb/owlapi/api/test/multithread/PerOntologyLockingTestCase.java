@@ -0,0 +1,214 @@
+package org.semanticweb.owlapi.api.test.multithread;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyImpl;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.OntologyReadWriteLock;
+
+@SuppressWarnings("javadoc")
+public class PerOntologyLockingTestCase {
+
+    private static final String NS = "urn:test:locks";
+    private final OWLOntologyManager m = OWLManager.createPerOntologyConcurrentOWLOntologyManager();
+    private final OWLDataFactory df = m.getOWLDataFactory();
+
+    @Test
+    public void shouldGiveEachOntologyItsOwnLock() throws Exception {
+        OWLOntology o1 = m.createOntology(IRI.create(NS, "1"));
+        OWLOntology o2 = m.createOntology(IRI.create(NS, "2"));
+        assertTrue(lock(o1) instanceof OntologyReadWriteLock);
+        assertTrue(lock(o2) instanceof OntologyReadWriteLock);
+        assertNotSame(lock(o1), lock(o2));
+    }
+
+    @Test
+    public void shouldChangeOtherOntologiesWhileOneIsLocked() throws Exception {
+        OWLOntology o1 = m.createOntology(IRI.create(NS, "1"));
+        OWLOntology o2 = m.createOntology(IRI.create(NS, "2"));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = executor.submit(() -> {
+                Lock lock = lock(o1).writeLock();
+                lock.lock();
+                try {
+                    locked.countDown();
+                    done.await(10, TimeUnit.SECONDS);
+                } finally {
+                    lock.unlock();
+                }
+                return null;
+            });
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+            o2.add(df.getOWLDeclarationAxiom(df.getOWLClass(NS + "#A")));
+            assertEquals(1, o2.getAxiomCount());
+            done.countDown();
+            holder.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(0, o1.getAxiomCount());
+    }
+
+    @Test
+    public void shouldApplyChangesSpanningImportedOntologies() throws Exception {
+        int size = 6;
+        List<OWLOntology> ontologies = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            OWLOntology o = m.createOntology(IRI.create(NS, Integer.toString(i)));
+            if (i > 0) {
+                m.applyChange(new AddImport(o, df.getOWLImportsDeclaration(
+                    IRI.create(NS, Integer.toString(i - 1)))));
+            }
+            ontologies.add(o);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        // later ontologies import earlier ones, so queries
+                        // lock in descending order while changes lock in
+                        // ascending order
+                        OWLOntology first = ontologies.get((thread + i) % size);
+                        OWLOntology second = ontologies.get((thread + i + 1) % size);
+                        List<OWLOntologyChange> changes = new ArrayList<>();
+                        changes.add(new AddAxiom(first, declaration(thread, i, "a")));
+                        changes.add(new AddAxiom(second, declaration(thread, i, "b")));
+                        m.applyChanges(changes);
+                        ontologies.get(size - 1).getAxiomCount(Imports.INCLUDED);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : results) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(8 * 50 * 2, ontologies.get(size - 1).getAxiomCount(Imports.INCLUDED));
+    }
+
+    @Test
+    public void shouldLetListenersChangeTheManager() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS, "1"));
+        IRI created = IRI.create(NS, "created");
+        IRI impending = IRI.create(NS, "impending");
+        // both listeners need the manager write lock
+        m.addImpendingOntologyChangeListener(changes -> {
+            if (!m.contains(impending)) {
+                createOntology(impending);
+            }
+        });
+        m.addOntologyChangeListener(changes -> {
+            if (!m.contains(created)) {
+                OWLOntology c = createOntology(created);
+                m.applyChange(new AddImport(c, df.getOWLImportsDeclaration(IRI.create(NS, "1"))));
+            }
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> o.add(df.getOWLDeclarationAxiom(df.getOWLClass(NS + "#A"))))
+                .get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(m.contains(impending));
+        assertEquals(1, m.getOntology(created).getAxiomCount(Imports.INCLUDED));
+    }
+
+    private OWLOntology createOntology(IRI iri) {
+        try {
+            return m.createOntology(iri);
+        } catch (OWLOntologyCreationException e) {
+            throw new OWLRuntimeException(e);
+        }
+    }
+
+    @Test
+    public void shouldReleaseManagerLockWhileWaitingOnCondition() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS, "1"));
+        Lock lock = lock(o).writeLock();
+        Condition condition = lock.newCondition();
+        AtomicBoolean ready = new AtomicBoolean(false);
+        CountDownLatch waiting = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> waiter = executor.submit(() -> {
+                lock.lock();
+                try {
+                    waiting.countDown();
+                    while (!ready.get()) {
+                        condition.await();
+                    }
+                    // the ontology can be changed after waking up
+                    o.add(df.getOWLDeclarationAxiom(df.getOWLClass(NS + "#A")));
+                } finally {
+                    lock.unlock();
+                }
+                return null;
+            });
+            assertTrue(waiting.await(10, TimeUnit.SECONDS));
+            // needs the manager write lock, not available if the waiting
+            // thread still held the manager read lock
+            executor.submit(() -> m.createOntology(IRI.create(NS, "2"))).get(30,
+                TimeUnit.SECONDS);
+            lock.lock();
+            try {
+                ready.set(true);
+                condition.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            waiter.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, o.getAxiomCount());
+        try {
+            lock(o).readLock().newCondition();
+            fail("Read locks should not support conditions");
+        } catch (@SuppressWarnings("unused") UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    private static ReadWriteLock lock(OWLOntology o) {
+        return ((ConcurrentOWLOntologyImpl) o).getReadWriteLock();
+    }
+
+    private OWLAxiom declaration(int thread, int i, String suffix) {
+        return df.getOWLDeclarationAxiom(df.getOWLClass(NS + "#C" + thread + "_" + i + suffix));
+    }
+}
@@ -12,20 +12,39 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.api.test.ontology;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.AsynchronousChangeBroadcastStrategy;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.RemoveAxiom;
 
 /**
  * @author Matthew Horridge, The University of Manchester, Bio-Health Informatics Group
@@ -74,4 +93,146 @@ public class OntologyChangeListenerTestCase extends TestBase {
         assertFalse(removals.contains(ax));
         assertTrue(impendingRemovals.contains(ax));
     }
+
+    @Test
+    public void testAsynchronousChangeListener() throws InterruptedException {
+        OWLOntology ont1 = getOWLOntology();
+        OWLOntology ont2 = getOWLOntology();
+        OWLOntologyManager manager = ont1.getOWLOntologyManager();
+        // small capacity, so that the thread applying changes has to wait
+        AsynchronousChangeBroadcastStrategy strategy = new AsynchronousChangeBroadcastStrategy(2);
+        List<OWLOntologyChange> received = Collections.synchronizedList(new ArrayList<>());
+        manager.addOntologyChangeListener(changes -> {
+            received.addAll(changes);
+            // a failing listener does not stop later deliveries
+            throw new IllegalStateException("listener failure");
+        }, strategy);
+        List<OWLOntologyChange> applied = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            OWLOntology o = i % 2 == 0 ? ont1 : ont2;
+            OWLSubClassOfAxiom ax = SubClassOf(Class(iri("A" + i)), Class(iri("B" + i)));
+            applied.add(new AddAxiom(o, ax));
+            if (i % 5 == 0) {
+                applied.add(new RemoveAxiom(o, ax));
+            }
+        }
+        applied.forEach(manager::applyChange);
+        strategy.flush();
+        for (OWLOntology o : new OWLOntology[] {ont1, ont2}) {
+            assertEquals(
+                applied.stream().filter(c -> c.getOntology() == o).collect(Collectors.toList()),
+                received.stream().filter(c -> c.getOntology() == o).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testAsynchronousListenerReadingConcurrentOntology() throws Exception {
+        OWLOntologyManager manager = OWLManager.createConcurrentOWLOntologyManager();
+        OWLOntology o = manager.createOntology();
+        // the queue fills up at once, and the listener needs the manager lock
+        AsynchronousChangeBroadcastStrategy strategy = new AsynchronousChangeBroadcastStrategy(1);
+        List<OWLOntologyChange> received = Collections.synchronizedList(new ArrayList<>());
+        manager.addOntologyChangeListener(changes -> {
+            assertTrue(o.getAxiomCount() > 0);
+            received.addAll(changes);
+        }, strategy);
+        List<OWLOntologyChange> applied = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            applied.add(new AddAxiom(o, SubClassOf(Class(iri("A" + i)), Class(iri("B" + i)))));
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> applying = executor.submit(() -> applied.forEach(manager::applyChange));
+            applying.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        strategy.flush();
+        assertEquals(applied, received);
+        strategy.close();
+    }
+
+    @Test
+    public void testCloseAsynchronousStrategy() throws Exception {
+        OWLOntology o = getOWLOntology();
+        OWLOntologyManager manager = o.getOWLOntologyManager();
+        AsynchronousChangeBroadcastStrategy strategy = new AsynchronousChangeBroadcastStrategy(4);
+        List<OWLOntologyChange> received = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<Thread> delivering = new AtomicReference<>();
+        manager.addOntologyChangeListener(changes -> {
+            delivering.set(Thread.currentThread());
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.addAll(changes);
+        }, strategy);
+        List<OWLOntologyChange> applied = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            applied.add(new AddAxiom(o, SubClassOf(Class(iri("A" + i)), Class(iri("B" + i)))));
+        }
+        applied.forEach(manager::applyChange);
+        // close delivers what is still queued and stops the delivery thread
+        strategy.close();
+        assertEquals(applied, received);
+        Thread worker = delivering.get();
+        assertFalse(worker.isAlive());
+        // later changes are delivered on the thread applying them
+        OWLOntologyChange late = new AddAxiom(o, SubClassOf(Class(iri("C")), Class(iri("D"))));
+        manager.applyChange(late);
+        assertEquals(late, received.get(received.size() - 1));
+        assertEquals(Thread.currentThread(), delivering.get());
+        strategy.close();
+    }
+
+    @Test
+    public void testAsynchronousQueuePastCapacity() throws Exception {
+        OWLOntology[] ontologies =
+            {getOWLOntology(), getOWLOntology(), getOWLOntology(), getOWLOntology()};
+        OWLOntologyManager manager = ontologies[0].getOWLOntologyManager();
+        AsynchronousChangeBroadcastStrategy strategy = new AsynchronousChangeBroadcastStrategy(2);
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<OWLOntologyChange>> received = Collections.synchronizedList(new ArrayList<>());
+        manager.addOntologyChangeListener(changes -> {
+            delivering.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(new ArrayList<>(changes));
+        }, strategy);
+        List<OWLOntologyChange> applied = new ArrayList<>();
+        for (int i : new int[] {0, 1, 2, 1, 3}) {
+            OWLSubClassOfAxiom ax = SubClassOf(Class(iri("A" + applied.size())), Class(iri("B")));
+            applied.add(new AddAxiom(ontologies[i], ax));
+        }
+        // the delivery thread takes the first change, and waits in the listener
+        manager.applyChange(applied.get(0));
+        assertTrue(delivering.await(10, TimeUnit.SECONDS));
+        // two changes fill the queue, the third is appended to the list for the same ontology
+        applied.subList(1, 4).forEach(manager::applyChange);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> applying = executor.submit(() -> manager.applyChange(applied.get(4)));
+            // no list is queued for the last ontology, so the change waits for space
+            try {
+                applying.get(200, TimeUnit.MILLISECONDS);
+                fail("Expected the change to wait for space in the queue");
+            } catch (@SuppressWarnings("unused") TimeoutException e) {
+                // expected
+            }
+            release.countDown();
+            applying.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        strategy.flush();
+        assertEquals(Arrays.asList(applied.subList(0, 1),
+            Arrays.asList(applied.get(1), applied.get(3), applied.get(2)), applied.subList(4, 5)),
+            received);
+        strategy.close();
+    }
 }
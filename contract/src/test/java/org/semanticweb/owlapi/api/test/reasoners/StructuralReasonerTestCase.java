@@ -13,6 +13,7 @@
 package org.semanticweb.owlapi.api.test.reasoners;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.EquivalentClasses;
@@ -90,4 +91,23 @@ public class StructuralReasonerTestCase extends TestBase {
         ont.remove(SubClassOf(clsA, OWLThing()));
         testClassHierarchy(reasoner);
     }
+
+    @Test
+    public void testUnsatisfiableClassesAfterUnrelatedChanges() {
+        OWLClass clsX = Class(iri("X"));
+        OWLClass clsA = Class(iri("A"));
+        OWLClass clsB = Class(iri("B"));
+        OWLOntology ont = getOWLOntology();
+        ont.add(EquivalentClasses(clsX, OWLNothing()), SubClassOf(clsB, clsA));
+        StructuralReasoner reasoner = new StructuralReasoner(ont, new SimpleConfiguration(),
+            BufferingMode.BUFFERING);
+        assertFalse(reasoner.isSatisfiable(clsX));
+        ont.remove(SubClassOf(clsB, clsA));
+        reasoner.flush();
+        assertFalse(reasoner.isSatisfiable(clsX));
+        assertTrue(reasoner.isSatisfiable(clsB));
+        ont.add(SubClassOf(clsA, clsB));
+        reasoner.flush();
+        assertFalse(reasoner.isSatisfiable(clsX));
+    }
 }
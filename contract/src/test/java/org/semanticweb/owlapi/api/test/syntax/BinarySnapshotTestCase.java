@@ -0,0 +1,217 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.io.StreamDocumentTarget;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.snapshot.parser.BinarySnapshotParserFactory;
+import org.semanticweb.owlapi.util.SimpleIRIMapper;
+
+@SuppressWarnings("javadoc")
+public class BinarySnapshotTestCase {
+
+    private static final String NS = "urn:test:snapshot#";
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private final OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+    private final OWLDataFactory df = m.getOWLDataFactory();
+    private final OWLClass a = df.getOWLClass(NS, "A");
+    private final OWLClass b = df.getOWLClass(NS, "B");
+    private final OWLObjectProperty p = df.getOWLObjectProperty(NS, "p");
+
+    private OWLOntology ontology(String name) throws Exception {
+        OWLOntology o = m.createOntology(new OWLOntologyID(IRI.create(NS, name),
+            IRI.create(NS, name + "/1.0")));
+        o.add(df.getOWLDeclarationAxiom(a), df.getOWLDeclarationAxiom(b),
+            df.getOWLSubClassOfAxiom(a, df.getOWLObjectSomeValuesFrom(p, b),
+                Collections.singleton(df.getRDFSComment("some"))),
+            df.getOWLObjectPropertyAssertionAxiom(p, df.getOWLNamedIndividual(NS, "i"),
+                df.getOWLNamedIndividual(NS, "j")),
+            df.getOWLDataPropertyAssertionAxiom(df.getOWLDataProperty(NS, "d"),
+                df.getOWLNamedIndividual(NS, "i"), df.getOWLLiteral("text", "en")));
+        return o;
+    }
+
+    private static byte[] bytes(OWLOntology o) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        o.saveOntology(new BinarySnapshotDocumentFormat(), new StreamDocumentTarget(out));
+        return out.toByteArray();
+    }
+
+    private File file(byte[] content) throws Exception {
+        File file = folder.newFile();
+        Files.write(file.toPath(), content);
+        return file;
+    }
+
+    private static OWLOntology parse(OWLOntologyDocumentSource source) throws Exception {
+        OWLOntology o = OWLManager.createOWLOntologyManager().createOntology();
+        new BinarySnapshotParserFactory().createParser().parse(source, o,
+            new OWLOntologyLoaderConfiguration());
+        return o;
+    }
+
+    @Test
+    public void shouldLoadMappedFileAndStream() throws Exception {
+        OWLOntology o = ontology("mapped");
+        byte[] content = bytes(o);
+        // local files are mapped in memory, other sources are streamed
+        OWLOntology mapped = OWLManager.createOWLOntologyManager()
+            .loadOntologyFromOntologyDocument(file(content));
+        OWLOntology streamed = parse(new StreamDocumentSource(new ByteArrayInputStream(content)));
+        assertTrue(mapped.getFormat() instanceof BinarySnapshotDocumentFormat);
+        assertEquals(asUnorderedSet(o.axioms()), asUnorderedSet(mapped.axioms()));
+        assertEquals(asUnorderedSet(o.axioms()), asUnorderedSet(streamed.axioms()));
+    }
+
+    @Test
+    public void shouldRoundTripHeaderAndImports() throws Exception {
+        OWLOntology imported = ontology("imported");
+        OWLOntology o = m.createOntology(new OWLOntologyID(IRI.create(NS, "importing"),
+            IRI.create(NS, "importing/2.0")));
+        OWLImportsDeclaration declaration =
+            df.getOWLImportsDeclaration(IRI.create(NS, "imported"));
+        m.applyChange(new AddImport(o, declaration));
+        m.applyChange(new AddOntologyAnnotation(o,
+            df.getRDFSLabel("importing")));
+        o.add(df.getOWLSubClassOfAxiom(b, a));
+        File importedFile = file(bytes(imported));
+        File importingFile = file(bytes(o));
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        manager.getIRIMappers()
+            .add(new SimpleIRIMapper(IRI.create(NS, "imported"), IRI.create(importedFile)));
+        OWLOntology loaded = manager.loadOntologyFromOntologyDocument(importingFile);
+        assertEquals(o.getOntologyID(), loaded.getOntologyID());
+        assertEquals(asUnorderedSet(o.importsDeclarations()),
+            asUnorderedSet(loaded.importsDeclarations()));
+        assertEquals(asUnorderedSet(o.annotations()), asUnorderedSet(loaded.annotations()));
+        assertEquals(asUnorderedSet(o.axioms(Imports.INCLUDED)),
+            asUnorderedSet(loaded.axioms(Imports.INCLUDED)));
+        assertEquals(imported.getOntologyID(),
+            manager.getImportedOntology(declaration).getOntologyID());
+    }
+
+    @Test
+    public void shouldKeepSharedAnonymousIndividuals() throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS, "anonymous"));
+        OWLAnonymousIndividual x = df.getOWLAnonymousIndividual();
+        o.add(df.getOWLClassAssertionAxiom(a, x),
+            df.getOWLObjectPropertyAssertionAxiom(p, df.getOWLNamedIndividual(NS, "i"), x),
+            df.getOWLAnnotationAssertionAxiom(x, df.getRDFSComment("blank")));
+        byte[] content = bytes(o);
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        OWLOntology first = manager.loadOntologyFromOntologyDocument(file(content));
+        manager.removeOntology(first);
+        OWLOntology second = manager.loadOntologyFromOntologyDocument(file(content));
+        assertEquals(3, first.getAxiomCount());
+        OWLAnonymousIndividual parsed = anonymous(first);
+        // every occurrence in a document is the same node
+        assertTrue(first.containsAxiom(df.getOWLClassAssertionAxiom(a, parsed)));
+        assertTrue(first.containsAxiom(df.getOWLAnnotationAssertionAxiom(parsed,
+            df.getRDFSComment("blank"))));
+        // nodes from different loads are not merged
+        assertNotEquals(parsed, anonymous(second));
+    }
+
+    private static OWLAnonymousIndividual anonymous(OWLOntology o) {
+        List<OWLAnonymousIndividual> objects = o.axioms(AxiomType.OBJECT_PROPERTY_ASSERTION)
+            .map(OWLObjectPropertyAssertionAxiom::getObject)
+            .map(i -> (OWLAnonymousIndividual) i).collect(Collectors.toList());
+        assertEquals(1, objects.size());
+        assertEquals(objects.get(0), o.axioms(AxiomType.CLASS_ASSERTION).map(OWLClassAssertionAxiom::getIndividual).findAny().get());
+        return objects.get(0);
+    }
+
+    @Test
+    public void shouldRejectTruncatedSnapshots() throws Exception {
+        byte[] content = bytes(ontology("truncated"));
+        // every proper prefix, including those ending between sections
+        for (int length = 0; length < content.length; length++) {
+            byte[] truncated = Arrays.copyOf(content, length);
+            assertRejected(new StreamDocumentSource(new ByteArrayInputStream(truncated)));
+            assertRejected(new FileDocumentSource(file(truncated)));
+        }
+    }
+
+    @Test
+    public void shouldRejectCorruptSnapshots() throws Exception {
+        byte[] content = bytes(ontology("corrupt"));
+        // the first section length, after magic, version and kind
+        byte[] badLength = content.clone();
+        Arrays.fill(badLength, 12, 20, (byte) 0x7F);
+        assertRejected(new StreamDocumentSource(new ByteArrayInputStream(badLength)));
+        assertRejected(new FileDocumentSource(file(badLength)));
+        // section content that does not match the layout
+        for (int i = 20; i < content.length; i += 7) {
+            byte[] corrupt = content.clone();
+            corrupt[i] = (byte) 0xFF;
+            assertRejectedOrParsed(new StreamDocumentSource(new ByteArrayInputStream(corrupt)));
+            assertRejectedOrParsed(new FileDocumentSource(file(corrupt)));
+        }
+    }
+
+    private static void assertRejected(OWLOntologyDocumentSource source) throws Exception {
+        try {
+            parse(source);
+            fail("Expected the snapshot to be rejected");
+        } catch (@SuppressWarnings("unused") OWLParserException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A corrupt byte can still decode to a well formed snapshot; any failure
+     * must be reported as a parser exception.
+     */
+    private static void assertRejectedOrParsed(OWLOntologyDocumentSource source)
+        throws Exception {
+        try {
+            parse(source);
+        } catch (@SuppressWarnings("unused") OWLParserException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldLeaveOtherDocumentsToOtherParsers() throws Exception {
+        File file = file("Ontology(<urn:test:snapshot#text>)".getBytes("UTF-8"));
+        OWLOntology o = OWLManager.createOWLOntologyManager().loadOntologyFromOntologyDocument(file);
+        assertNotEquals(BinarySnapshotDocumentFormat.class, o.getFormat().getClass());
+    }
+}
@@ -0,0 +1,84 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.assertEquals;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+@SuppressWarnings("javadoc")
+public class ChunkedFunctionalSyntaxParserTestCase extends TestBase {
+
+    private static String document(int classes) {
+        StringBuilder b = new StringBuilder();
+        b.append("Prefix(:=<urn:test#>)\nPrefix(rdfs:=<http://www.w3.org/2000/01/rdf-schema#>)\n");
+        b.append("Ontology(<urn:test> <urn:test:1>\n");
+        b.append("Annotation(rdfs:comment \"header (with # and \\\"quotes\\\")\")\n");
+        b.append("ClassAssertion(:A _:x)\n");
+        for (int i = 0; i < classes; i++) {
+            b.append("# class ").append(i).append(" (comment)\n");
+            b.append("SubClassOf(:C").append(i).append(" ObjectSomeValuesFrom(:p :D").append(i)
+                .append("))\n");
+            b.append("AnnotationAssertion(rdfs:label :C").append(i).append(" \"label ) ").append(i)
+                .append("\")\n");
+        }
+        b.append("ClassAssertion(:B _:x)\n");
+        b.append(")\n# trailing comment\n");
+        return b.toString();
+    }
+
+    @Test
+    public void shouldParseSameAxiomsInChunks() throws OWLOntologyCreationException {
+        String input = document(40000);
+        OWLOntology sequential =
+            m.loadOntologyFromOntologyDocument(new StringDocumentSource(input));
+        m1.getOntologyConfigurator().withParallelParsingThreads(4);
+        OWLOntology parallel =
+            m1.loadOntologyFromOntologyDocument(new StringDocumentSource(input));
+        assertEquals(sequential.getOntologyID(), parallel.getOntologyID());
+        assertEquals(asUnorderedSet(sequential.annotations()),
+            asUnorderedSet(parallel.annotations()));
+        assertEquals(sequential.getAxiomCount(), parallel.getAxiomCount());
+        assertEquals(asUnorderedSet(sequential.axioms(AxiomType.SUBCLASS_OF)),
+            asUnorderedSet(parallel.axioms(AxiomType.SUBCLASS_OF)));
+        assertEquals(asUnorderedSet(sequential.axioms(AxiomType.ANNOTATION_ASSERTION)),
+            asUnorderedSet(parallel.axioms(AxiomType.ANNOTATION_ASSERTION)));
+        // the blank node in the first and last chunk is the same individual
+        assertEquals(1L, parallel.anonymousIndividuals().count());
+    }
+
+    @Test
+    public void shouldParseOntologyWithoutAxioms() throws OWLOntologyCreationException {
+        m.getOntologyConfigurator().withParallelParsingThreads(2);
+        OWLOntology o = m.loadOntologyFromOntologyDocument(
+            new StringDocumentSource("Prefix(:=<urn:test#>)\nOntology(<urn:test>)"));
+        assertEquals(0, o.getAxiomCount());
+    }
+
+    @Test
+    public void shouldParseEmptyPrefixOntologyIRI() throws OWLOntologyCreationException {
+        String input = "Prefix(:=<urn:test#>)\nOntology(:ont :v1\n"
+            + "SubClassOf(:A :B)\nDeclaration(Class(:C))\n)";
+        OWLOntology sequential = m.loadOntologyFromOntologyDocument(new StringDocumentSource(
+            input, "test", new FunctionalSyntaxDocumentFormat(), null));
+        m1.getOntologyConfigurator().withParallelParsingThreads(2);
+        OWLOntology parallel = m1.loadOntologyFromOntologyDocument(new StringDocumentSource(
+            input, "test", new FunctionalSyntaxDocumentFormat(), null));
+        assertEquals(sequential.getOntologyID(), parallel.getOntologyID());
+        assertEquals(asUnorderedSet(sequential.axioms()), asUnorderedSet(parallel.axioms()));
+        assertEquals(2, parallel.getAxiomCount());
+    }
+
+    @Test(expected = OWLOntologyCreationException.class)
+    public void shouldReportErrorInChunk() throws OWLOntologyCreationException {
+        m.getOntologyConfigurator().withParallelParsingThreads(2);
+        m.loadOntologyFromOntologyDocument(new StringDocumentSource(
+            "Prefix(:=<urn:test#>)\nOntology(<urn:test>\nSubClassOf(:A :B)\nSubClassOf(:A)\n)",
+            "test", new FunctionalSyntaxDocumentFormat(), null));
+    }
+}
@@ -0,0 +1,145 @@
+package org.semanticweb.owlapi.profiles;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+
+@SuppressWarnings("javadoc")
+public class ParallelProfileCheckerTestCase {
+
+    private static final String NS = "urn:test:profiles#";
+    private final OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+    private final OWLDataFactory df = m.getOWLDataFactory();
+    private final OWLObjectProperty p = df.getOWLObjectProperty(NS, "p");
+    private final OWLObjectProperty transitive = df.getOWLObjectProperty(NS, "t");
+
+    private static OWLProfile[] profiles() {
+        return new OWLProfile[] {new OWL2Profile(), new OWL2DLProfile(), new OWL2ELProfile(),
+            new OWL2QLProfile(), new OWL2RLProfile()};
+    }
+
+    private OWLClass c(int i) {
+        return df.getOWLClass(NS, "C" + i);
+    }
+
+    private OWLOntology ontology(int size) throws Exception {
+        OWLOntology imported = m.createOntology(IRI.create(NS, "imported"));
+        imported.add(df.getOWLDeclarationAxiom(p), df.getOWLDeclarationAxiom(transitive),
+            df.getOWLTransitiveObjectPropertyAxiom(transitive));
+        for (int i = 0; i < size; i += 2) {
+            imported.add(df.getOWLDeclarationAxiom(c(i)));
+        }
+        OWLOntology o = m.createOntology(IRI.create(NS, "test"));
+        m.applyChange(new AddImport(o, df.getOWLImportsDeclaration(imported.getOntologyID()
+            .getOntologyIRI().get())));
+        // punning between object and data properties
+        OWLDataProperty punned = df.getOWLDataProperty(NS, "p");
+        o.add(df.getOWLDeclarationAxiom(punned));
+        for (int i = 1; i < size; i++) {
+            // odd classes are undeclared
+            o.add(df.getOWLSubClassOfAxiom(c(i), c(i / 2)));
+            if (i % 3 == 0) {
+                o.add(df.getOWLSubClassOfAxiom(c(i),
+                    df.getOWLObjectUnionOf(c(i - 1), c(i - 2))));
+            }
+            if (i % 7 == 0) {
+                // non simple property in a cardinality restriction
+                o.add(df.getOWLSubClassOfAxiom(c(i),
+                    df.getOWLObjectMaxCardinality(1, transitive, c(i - 1))));
+            }
+            if (i % 11 == 0) {
+                o.add(df.getOWLSubClassOfAxiom(df.getOWLObjectSomeValuesFrom(p, c(i)), c(i - 1)),
+                    df.getOWLDataPropertyAssertionAxiom(punned,
+                        df.getOWLNamedIndividual(NS, "i" + i), i));
+            }
+        }
+        return o;
+    }
+
+    private static List<String> strings(OWLProfileReport report) {
+        List<String> list = new ArrayList<>();
+        report.getViolations().forEach(v -> list.add(v.toString()));
+        return list;
+    }
+
+    private static List<String> sorted(OWLProfileReport report) {
+        List<String> list = strings(report);
+        Collections.sort(list);
+        return list;
+    }
+
+    @Test
+    public void shouldFindSameViolationsInParallel() throws Exception {
+        OWLOntology o = ontology(2000);
+        for (OWLProfile profile : profiles()) {
+            List<String> expected = strings(profile.checkOntology(o));
+            // the ontology is structurally valid, so only OWL 2 is satisfied
+            assertEquals(profile.getName(), profile instanceof OWL2Profile, expected.isEmpty());
+            for (int threads : new int[] {1, 3, 8}) {
+                assertEquals(profile.getName(), expected,
+                    strings(profile.checkOntology(o, threads)));
+            }
+        }
+    }
+
+    @Test
+    public void shouldRecheckChangedAxioms() throws Exception {
+        OWLOntology o = ontology(500);
+        for (OWLProfile profile : profiles()) {
+            OWLProfileReport report = profile.checkOntology(o);
+            List<OWLOntologyChange> changes = new ArrayList<>();
+            // new undeclared class
+            changes.add(new AddAxiom(o, df.getOWLSubClassOfAxiom(df.getOWLClass(NS, "new"),
+                df.getOWLObjectUnionOf(c(1), c(2)))));
+            // declarations remove violations of existing axioms
+            changes.add(new AddAxiom(o, df.getOWLDeclarationAxiom(c(3))));
+            changes.add(new AddAxiom(o, df.getOWLDeclarationAxiom(c(5))));
+            changes.add(new RemoveAxiom(o, df.getOWLSubClassOfAxiom(c(21),
+                df.getOWLObjectMaxCardinality(1, transitive, c(20)))));
+            changes.add(new RemoveAxiom(o, df.getOWLSubClassOfAxiom(c(9), c(4))));
+            m.applyChanges(changes);
+            OWLProfileReport expected = profile.checkOntology(o);
+            assertEquals(profile.getName(), sorted(expected),
+                sorted(profile.recheckOntology(o, report, changes, 4)));
+            assertEquals(profile.getName(), sorted(expected),
+                sorted(profile.recheckOntology(o, report, changes, 0)));
+            // undo the changes for the next profile
+            List<OWLOntologyChange> reverse = new ArrayList<>();
+            changes.forEach(c -> reverse.add(0, c.reverseChange()));
+            m.applyChanges(reverse);
+            assertEquals(sorted(report), sorted(profile.checkOntology(o)));
+        }
+    }
+
+    @Test
+    public void shouldRecheckEverythingAfterPropertyChanges() throws Exception {
+        OWLOntology o = ontology(500);
+        o.add(df.getOWLSubClassOfAxiom(c(2), df.getOWLObjectMinCardinality(2, p, c(4))));
+        OWLProfile profile = new OWL2DLProfile();
+        OWLProfileReport report = profile.checkOntology(o);
+        // p becomes non simple, so the existing cardinality restriction on p
+        // is a violation
+        List<OWLOntologyChange> changes = new ArrayList<>();
+        changes.add(new AddAxiom(o, df.getOWLSubObjectPropertyOfAxiom(transitive, p)));
+        m.applyChanges(changes);
+        OWLProfileReport expected = profile.checkOntology(o);
+        assertTrue(expected.getViolations().size() > report.getViolations().size());
+        assertEquals(sorted(expected), sorted(profile.recheckOntology(o, report, changes, 4)));
+    }
+}
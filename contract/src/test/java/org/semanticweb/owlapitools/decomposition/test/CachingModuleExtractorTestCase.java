@@ -0,0 +1,190 @@
+package org.semanticweb.owlapitools.decomposition.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import uk.ac.manchester.cs.owlapi.modularity.CachingModuleExtractor;
+import uk.ac.manchester.cs.owlapi.modularity.ModuleType;
+import uk.ac.manchester.cs.owlapi.modularity.SyntacticLocalityModuleExtractor;
+
+@SuppressWarnings("javadoc")
+public class CachingModuleExtractorTestCase {
+
+    private static final String NS = "urn:test:modules#";
+    private final OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+    private final OWLDataFactory df = m.getOWLDataFactory();
+    private final Random random = new Random(17);
+
+    private OWLClass c(int i) {
+        return df.getOWLClass(NS, "C" + i);
+    }
+
+    private OWLOntology ontology(int size) throws Exception {
+        OWLObjectProperty p = df.getOWLObjectProperty(NS, "p");
+        List<OWLAxiom> axioms = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            OWLClass d = c(random.nextInt(size));
+            switch (random.nextInt(4)) {
+                case 0:
+                    axioms.add(df.getOWLSubClassOfAxiom(c(i), d));
+                    break;
+                case 1:
+                    axioms.add(df.getOWLSubClassOfAxiom(c(i), df.getOWLObjectSomeValuesFrom(p, d)));
+                    break;
+                case 2:
+                    axioms.add(df.getOWLEquivalentClassesAxiom(c(i),
+                        df.getOWLObjectIntersectionOf(d, c(random.nextInt(size)))));
+                    break;
+                default:
+                    axioms.add(df.getOWLDeclarationAxiom(c(i)));
+                    axioms.add(df.getOWLAnnotationAssertionAxiom(c(i).getIRI(),
+                        df.getRDFSLabel("c" + i)));
+            }
+        }
+        return m.createOntology(axioms);
+    }
+
+    private Set<OWLEntity> signature(int size, int count) {
+        Set<OWLEntity> signature = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            signature.add(c(random.nextInt(size)));
+        }
+        return signature;
+    }
+
+    private void assertSameModules(OWLOntology o, CachingModuleExtractor cached,
+        List<Set<OWLEntity>> signatures) {
+        for (ModuleType type : ModuleType.values()) {
+            SyntacticLocalityModuleExtractor extractor = new SyntacticLocalityModuleExtractor(m, o,
+                type);
+            for (Set<OWLEntity> signature : signatures) {
+                assertEquals(extractor.extract(signature), cached.extract(signature, type));
+            }
+        }
+    }
+
+    @Test
+    public void shouldReuseCachedModules() throws Exception {
+        OWLOntology o = ontology(300);
+        CachingModuleExtractor cached = new CachingModuleExtractor(o, ModuleType.BOT);
+        List<Set<OWLEntity>> signatures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Set<OWLEntity> signature = signature(300, 1 + i % 3);
+            signatures.add(signature);
+            // supersets of cached signatures
+            Set<OWLEntity> superset = new HashSet<>(signature);
+            superset.addAll(signature(300, 2));
+            signatures.add(superset);
+        }
+        assertSameModules(o, cached, signatures);
+        long misses = cached.getMisses();
+        assertSameModules(o, cached, signatures);
+        assertEquals(misses, cached.getMisses());
+        assertTrue(cached.getHits() > 0);
+        cached.dispose();
+    }
+
+    @Test
+    public void shouldExtractWhileConcurrentOntologyChanges() throws Exception {
+        OWLOntologyManager concurrent = OWLManager.createConcurrentOWLOntologyManager();
+        OWLOntology o = concurrent.createOntology(ontology(300).axioms());
+        CachingModuleExtractor cached = new CachingModuleExtractor(o, ModuleType.BOT);
+        List<Set<OWLEntity>> signatures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            signatures.add(signature(300, 1 + i % 3));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 5; i++) {
+                        signatures.forEach(cached::extract);
+                    }
+                }));
+            }
+            // the extractor is notified of each change on the writer thread, while other
+            // threads extract modules
+            tasks.add(executor.submit(() -> {
+                for (int i = 0; i < 20; i++) {
+                    o.add(df.getOWLSubClassOfAxiom(c(i), c(i + 1)));
+                }
+            }));
+            for (Future<?> f : tasks) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        SyntacticLocalityModuleExtractor extractor = new SyntacticLocalityModuleExtractor(
+            concurrent, o, ModuleType.BOT);
+        for (Set<OWLEntity> signature : signatures) {
+            assertEquals(extractor.extract(signature), cached.extract(signature));
+        }
+        cached.dispose();
+    }
+
+    @Test
+    public void shouldInvalidateChangedModules() throws Exception {
+        OWLOntology o = ontology(300);
+        CachingModuleExtractor cached = new CachingModuleExtractor(o, ModuleType.BOT);
+        List<Set<OWLEntity>> signatures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            signatures.add(signature(300, 1 + i % 3));
+        }
+        assertSameModules(o, cached, signatures);
+        for (int i = 0; i < 10; i++) {
+            OWLClass a = c(random.nextInt(300));
+            o.add(df.getOWLSubClassOfAxiom(a, c(random.nextInt(300))),
+                df.getOWLDeclarationAxiom(c(random.nextInt(300))),
+                df.getOWLAnnotationAssertionAxiom(a.getIRI(), df.getRDFSComment("changed")));
+            o.remove(cached.extract(signatures.get(i)).iterator().next());
+            assertSameModules(o, cached, signatures);
+        }
+        cached.dispose();
+    }
+
+    @Test
+    public void shouldRemoveDiscardedExtractorOntologies() throws Exception {
+        OWLOntology o = ontology(300);
+        CachingModuleExtractor cached = new CachingModuleExtractor(o, ModuleType.BOT);
+        List<Set<OWLEntity>> signatures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            signatures.add(signature(300, 1 + i % 3));
+        }
+        for (ModuleType type : ModuleType.values()) {
+            signatures.forEach(signature -> cached.extract(signature, type));
+        }
+        // the ontology and one extractor copy for each module type
+        long count = m.ontologies().count();
+        assertEquals(1 + ModuleType.values().length, count);
+        for (int i = 0; i < 10; i++) {
+            o.add(df.getOWLSubClassOfAxiom(c(i), c(i + 1)));
+            for (ModuleType type : ModuleType.values()) {
+                signatures.forEach(signature -> cached.extract(signature, type));
+            }
+            // types whose modules are all still cached need no new extractor
+            assertTrue(m.ontologies().count() <= count);
+        }
+        cached.dispose();
+        assertEquals(1, m.ontologies().count());
+    }
+}
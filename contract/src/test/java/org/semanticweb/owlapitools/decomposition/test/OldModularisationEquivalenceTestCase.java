@@ -1,12 +1,17 @@
 package org.semanticweb.owlapitools.decomposition.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -157,6 +162,45 @@ public class OldModularisationEquivalenceTestCase extends TestBase {
         makeAssertion(module1, module2);
     }
 
+    @Test
+    public void testIndexedModularization() throws OWLException {
+        OWLOntology o = m.loadOntologyFromOntologyDocument(new StringDocumentSource(KOALA));
+        for (ModuleType type : ModuleType.values()) {
+            SyntacticLocalityModuleExtractor scan = new SyntacticLocalityModuleExtractor(m, o,
+                type);
+            assertFalse(scan.isIndexed());
+            SyntacticLocalityModuleExtractor indexed = new SyntacticLocalityModuleExtractor(m, o,
+                type);
+            indexed.setIndexed(true);
+            // extract twice to reuse the index
+            assertEquals(scan.extract(signature), indexed.extract(signature));
+            assertEquals(scan.extract(signature), indexed.extract(signature));
+        }
+    }
+
+    @Test
+    public void testIndexedModularizationOnSeveralThreads() throws Exception {
+        OWLOntology o = m.loadOntologyFromOntologyDocument(new StringDocumentSource(KOALA));
+        Set<OWLAxiom> expected =
+            new SyntacticLocalityModuleExtractor(m, o, ModuleType.STAR).extract(signature);
+        SyntacticLocalityModuleExtractor indexed =
+            new SyntacticLocalityModuleExtractor(m, o, ModuleType.STAR);
+        indexed.setIndexed(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // the index is built by whichever thread extracts first
+            List<Future<Set<OWLAxiom>>> modules = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                modules.add(executor.submit(() -> indexed.extract(signature)));
+            }
+            for (Future<Set<OWLAxiom>> module : modules) {
+                assertEquals(expected, module.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     protected void makeAssertion(List<OWLAxiom> module1, List<OWLAxiom> module2) {
         List<OWLAxiom> l = new ArrayList<>(module1);
         module1.removeAll(module2);
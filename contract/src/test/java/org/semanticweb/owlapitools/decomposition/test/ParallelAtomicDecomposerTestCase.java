@@ -0,0 +1,109 @@
+package org.semanticweb.owlapitools.decomposition.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.atomicdecomposition.ModuleMethod;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapitools.decomposition.AxiomSelector;
+import org.semanticweb.owlapitools.decomposition.AxiomWrapper;
+import org.semanticweb.owlapitools.decomposition.OntologyAtom;
+import uk.ac.manchester.cs.factplusplusad.AtomicDecomposer;
+import uk.ac.manchester.cs.owlapi.modularity.ModuleType;
+
+@SuppressWarnings("javadoc")
+public class ParallelAtomicDecomposerTestCase {
+
+    private static final String NS = "urn:test:decomposition#";
+    private final OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+    private final OWLDataFactory df = m.getOWLDataFactory();
+
+    private List<OWLAxiom> randomAxioms(int size) {
+        Random random = new Random(23);
+        OWLObjectProperty p = df.getOWLObjectProperty(NS, "p");
+        List<OWLAxiom> axioms = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            OWLClass c = df.getOWLClass(NS, "C" + i);
+            OWLClass d = df.getOWLClass(NS, "C" + random.nextInt(size));
+            switch (random.nextInt(3)) {
+                case 0:
+                    axioms.add(df.getOWLSubClassOfAxiom(c, d));
+                    break;
+                case 1:
+                    axioms.add(df.getOWLSubClassOfAxiom(c, df.getOWLObjectSomeValuesFrom(p, d)));
+                    break;
+                default:
+                    axioms.add(df.getOWLEquivalentClassesAxiom(c, df.getOWLObjectIntersectionOf(d,
+                        df.getOWLClass(NS, "C" + random.nextInt(size)))));
+            }
+        }
+        return axioms;
+    }
+
+    /**
+     * @return the dependencies of each atom, with atoms identified by their axioms
+     */
+    private static Map<Set<OWLAxiom>, Set<Set<OWLAxiom>>> structure(List<OntologyAtom> atoms) {
+        Map<Set<OWLAxiom>, Set<Set<OWLAxiom>>> structure = new HashMap<>();
+        for (OntologyAtom atom : atoms) {
+            Set<Set<OWLAxiom>> dependencies = new HashSet<>();
+            atom.getDependencies().forEach(d -> dependencies.add(axioms(d)));
+            structure.put(axioms(atom), dependencies);
+        }
+        return structure;
+    }
+
+    private static Set<OWLAxiom> axioms(OntologyAtom atom) {
+        Set<OWLAxiom> axioms = new HashSet<>();
+        for (AxiomWrapper w : atom.getAtomAxioms()) {
+            axioms.add(w.getAxiom());
+        }
+        return axioms;
+    }
+
+    private static void assertSameDecomposition(List<OWLAxiom> axioms) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (ModuleType type : ModuleType.values()) {
+                AtomicDecomposer sequential =
+                    new AtomicDecomposer(ModuleMethod.SYNTACTIC_STANDARD);
+                AtomicDecomposer parallel = new AtomicDecomposer(ModuleMethod.SYNTACTIC_STANDARD);
+                List<OntologyAtom> expected = sequential.decompose(axioms, type);
+                List<OntologyAtom> actual = parallel.decompose(axioms, type, pool);
+                assertEquals(expected.size(), actual.size());
+                assertEquals(structure(expected), structure(actual));
+                assertTrue(parallel.getLocChekNumber() > 0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldBuildSameAtomsInParallel() throws Exception {
+        OWLOntology o = m.loadOntologyFromOntologyDocument(
+            new StringDocumentSource(OldModularisationEquivalenceTestCase.KOALA));
+        assertSameDecomposition(AxiomSelector.selectAxioms(o));
+    }
+
+    @Test
+    public void shouldBuildSameAtomsInParallelForLargerOntologies() {
+        assertSameDecomposition(randomAxioms(400));
+    }
+}
@@ -926,7 +926,32 @@ public class StructuralReasoner extends OWLReasonerBase {
          */
         @SuppressWarnings("unused")
         public void processChanges(Set<T> signature, Set<OWLAxiom> added, Set<OWLAxiom> removed) {
+            // the bottom node is cleared, so members not in the signature
+            // would otherwise be lost
+            boolean refreshBottom = nodeCache.getBottomNode().entities()
+                .anyMatch(e -> !e.equals(bottomEntity) && !signature.contains(e));
             updateForSignature(signature, null);
+            if (refreshBottom) {
+                refreshBottomNode();
+            }
+        }
+
+        /**
+         * Recomputes the members of the bottom node, i.e., the cycle that the
+         * bottom entity is involved in, without processing other nodes again.
+         */
+        private void refreshBottomNode() {
+            Set<Set<T>> cycles = new HashSet<>();
+            tarjan(bottomEntity, 0, new LinkedList<T>(), new HashMap<T, Integer>(),
+                new HashMap<T, Integer>(), cycles, new HashSet<T>(), new HashSet<T>(), null,
+                new HashSet<T>(), new HashSet<T>());
+            for (Set<T> cycle : cycles) {
+                if (cycle.contains(bottomEntity)) {
+                    nodeCache.addNode(cycle);
+                    directChildrenOfTopNode.removeAll(cycle);
+                    directParentsOfBottomNode.removeAll(cycle);
+                }
+            }
         }
 
         /**
@@ -0,0 +1,222 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLAxiomVisitorEx;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
+import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitCollectionVisitor;
+import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitVisitor;
+
+/**
+ * Common base for the index maps held by {@link Internals}: the axiom type and
+ * visitor used for lazy initialization, and the operations on the map. How
+ * keys and values are stored, and how access is synchronized, is left to the
+ * implementations.
+ *
+ * @param <K> key
+ * @param <V> value
+ * @author ignazio
+ * @since 5.1.1
+ */
+public abstract class AbstractMapPointer<K, V extends OWLAxiom> {
+
+    protected final Internals i;
+    @Nullable
+    private final AxiomType<?> type;
+    @Nullable
+    private final OWLAxiomVisitorEx<?> visitor;
+
+    /**
+     * @param t type of axioms contained
+     * @param v visitor
+     * @param i internals containing this pointer
+     */
+    protected AbstractMapPointer(@Nullable AxiomType<?> t, @Nullable OWLAxiomVisitorEx<?> v,
+        Internals i) {
+        type = t;
+        visitor = v;
+        this.i = checkNotNull(i, "i cannot be null");
+    }
+
+    /**
+     * Adds the keys and values for the axioms of the pointer type in the
+     * internals.
+     *
+     * @param put consumer for key and value pairs; keys can be null
+     */
+    @SuppressWarnings("unchecked")
+    protected void fill(BiConsumer<K, V> put) {
+        if (visitor == null || type == null) {
+            return;
+        }
+        if (visitor instanceof InitVisitor) {
+            i.getAxiomsByType().forEach(verifyNotNull(type),
+                ax -> put.accept(ax.accept((InitVisitor<K>) verifyNotNull(visitor)), (V) ax));
+        } else if (visitor instanceof InitCollectionVisitor) {
+            i.getAxiomsByType().forEach(verifyNotNull(type),
+                ax -> ax.accept((InitCollectionVisitor<K>) verifyNotNull(visitor))
+                    .forEach(key -> put.accept(key, (V) ax)));
+        }
+    }
+
+    /**
+     * This method replicates the Map.forEach on all the key/value pairs
+     *
+     * @param consumer a consumer with two arguments
+     */
+    public void forEach(BiConsumer<K, V> consumer) {
+        keySet().forEach(k -> forEach(k, v -> consumer.accept(k, v)));
+    }
+
+    /**
+     * @param e entity
+     * @return true if an entity with the same iri as the input exists in the collection
+     */
+    public abstract boolean containsReference(OWLEntity e);
+
+    /**
+     * @param e IRI
+     * @return true if an entity with the same iri as the input exists in the collection
+     */
+    public abstract boolean containsReference(IRI e);
+
+    /**
+     * @return true if initialized
+     */
+    public abstract boolean isInitialized();
+
+    /**
+     * init the map pointer
+     *
+     * @return the map pointer
+     */
+    public abstract AbstractMapPointer<K, V> init();
+
+    /**
+     * @return keyset
+     */
+    public abstract Collection<K> keySet();
+
+    /**
+     * @param key key to look up
+     * @return value
+     */
+    public abstract Stream<V> getValues(K key);
+
+    /**
+     * @param key key to look up
+     * @param function consumer to apply
+     */
+    public abstract void forEach(K key, Consumer<V> function);
+
+    /**
+     * @param key key to look up
+     * @param function predicate to evaluate
+     * @return value
+     */
+    public abstract boolean matchOnValues(K key, Predicate<V> function);
+
+    /**
+     * @param key key to look up
+     * @return value
+     */
+    public abstract Collection<V> getValuesAsCollection(K key);
+
+    /**
+     * @param key key to look up
+     * @return value
+     */
+    public abstract int countValues(K key);
+
+    /**
+     * @param key key to look up
+     * @param classType type of the returned values
+     * @return value
+     */
+    public abstract <O extends V> Stream<O> values(K key, Class<O> classType);
+
+    /**
+     * @param <T> type of key
+     * @param filter filter to satisfy
+     * @param key key
+     * @return set of values
+     */
+    public abstract <T> Collection<OWLAxiom> filterAxioms(OWLAxiomSearchFilter filter, T key);
+
+    /**
+     * @param key key to look up
+     * @return true if there are values for key
+     */
+    public abstract boolean hasValues(K key);
+
+    /**
+     * @param key key to add
+     * @param value value to add
+     * @return true if addition happens
+     */
+    public abstract boolean put(K key, V value);
+
+    /**
+     * @param key key to look up
+     * @param value value to remove
+     * @return true if removal happens
+     */
+    public abstract boolean remove(K key, V value);
+
+    /**
+     * @param key key to look up
+     * @return true if there are values for key
+     */
+    public abstract boolean containsKey(K key);
+
+    /**
+     * @param key key to look up
+     * @param value value to look up
+     * @return true if key and value are contained
+     */
+    public abstract boolean contains(K key, V value);
+
+    /**
+     * @return all values contained
+     */
+    public abstract Stream<V> getAllValues();
+
+    /**
+     * @return number of mapping contained
+     */
+    public abstract int size();
+
+    /**
+     * @return true if empty
+     */
+    public abstract boolean isEmpty();
+
+    /**
+     * Trims the capacity of the map entries . An application can use this
+     * operation to minimize the storage of the map pointer instance.
+     */
+    public abstract void trimToSize();
+}
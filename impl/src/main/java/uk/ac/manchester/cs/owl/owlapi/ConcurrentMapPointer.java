@@ -0,0 +1,404 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentHashMap.KeySetView;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.HasIRI;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLAxiomVisitorEx;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
+
+/**
+ * An index map that does not synchronize on itself for reads. Keys are held in
+ * a {@link ConcurrentHashMap}; small value buckets are copied on write and
+ * never modified after publication, larger buckets are concurrent sets.
+ * Writers for the same key are serialized by the map bin lock, so writers for
+ * different keys do not contend. Lazy initialization happens once, under the
+ * pointer monitor, and is published through a volatile flag. This class
+ * extends {@link MapPointer} so that the fields of {@link Internals} keep their
+ * declared type; every operation is overridden, and the inherited map stays
+ * empty.
+ *
+ * @param <K> key
+ * @param <V> value
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class ConcurrentMapPointer<K, V extends OWLAxiom> extends MapPointer<K, V> {
+
+    /**
+     * Buckets up to this size are copied on write; larger buckets are
+     * concurrent sets updated in place.
+     */
+    private static final int COPY_ON_WRITE_LIMIT = 8;
+    private final ConcurrentHashMap<K, Collection<V>> map = new ConcurrentHashMap<>(17, 0.75F);
+    private final AtomicInteger size = new AtomicInteger(0);
+    /**
+     * Incremented on every change; used to validate the cached IRI set.
+     */
+    private final AtomicInteger modCount = new AtomicInteger(0);
+    private volatile boolean initialized;
+    @Nullable
+    private volatile IRISnapshot iris;
+
+    /**
+     * @param t type of axioms contained
+     * @param v visitor
+     * @param initialized true if initialized
+     * @param i internals containing this pointer
+     */
+    public ConcurrentMapPointer(@Nullable AxiomType<?> t, @Nullable OWLAxiomVisitorEx<?> v,
+        boolean initialized, Internals i) {
+        super(t, v, initialized, i);
+        this.initialized = initialized;
+    }
+
+    @Override
+    public boolean containsReference(OWLEntity e) {
+        return map.containsKey(e);
+    }
+
+    @Override
+    public boolean containsReference(IRI e) {
+        IRISnapshot snapshot = iris;
+        Set<IRI> set = null;
+        if (snapshot != null && snapshot.stamp == modCount.get()) {
+            set = snapshot.iris.get();
+        }
+        if (set == null) {
+            set = initSet();
+        }
+        return set.contains(e);
+    }
+
+    private Set<IRI> initSet() {
+        int stamp = modCount.get();
+        Set<IRI> set = CollectionFactory.createSet();
+        for (K k : map.keySet()) {
+            if (k instanceof HasIRI) {
+                set.add(((HasIRI) k).getIRI());
+            } else if (k instanceof IRI) {
+                set.add((IRI) k);
+            }
+        }
+        iris = new IRISnapshot(stamp, set);
+        return set;
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    @Override
+    public ConcurrentMapPointer<K, V> init() {
+        if (initialized) {
+            return this;
+        }
+        synchronized (this) {
+            if (!initialized) {
+                fill();
+                initialized = true;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Populates the map from the axioms in the internals. Called at most once,
+     * while holding the pointer monitor and before the map is published as
+     * initialized.
+     */
+    protected void fill() {
+        fill(this::putInternal);
+    }
+
+    @Override
+    public String toString() {
+        return initialized + map.toString();
+    }
+
+    @Override
+    public Collection<K> keySet() {
+        init();
+        return map.keySet();
+    }
+
+    @Override
+    public Stream<V> getValues(K key) {
+        init();
+        return get(key);
+    }
+
+    @Override
+    public void forEach(K key, Consumer<V> function) {
+        init();
+        Collection<V> t = map.get(key);
+        if (t != null) {
+            t.forEach(function);
+        }
+    }
+
+    @Override
+    public boolean matchOnValues(K key, Predicate<V> function) {
+        init();
+        Collection<V> t = map.get(key);
+        if (t == null) {
+            return false;
+        }
+        for (V v : t) {
+            if (function.test(v)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Collection<V> getValuesAsCollection(K key) {
+        init();
+        Collection<V> t = map.get(key);
+        if (t == null) {
+            return Collections.emptySet();
+        }
+        return new ArrayList<>(t);
+    }
+
+    @Override
+    public int countValues(K key) {
+        init();
+        Collection<V> t = map.get(key);
+        if (t == null) {
+            return 0;
+        }
+        return t.size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <O extends V> Stream<O> values(K key, @SuppressWarnings("unused") Class<O> classType) {
+        init();
+        return (Stream<O>) get(key);
+    }
+
+    @Override
+    public <T> Collection<OWLAxiom> filterAxioms(OWLAxiomSearchFilter filter, T key) {
+        init();
+        List<OWLAxiom> toReturn = new ArrayList<>();
+        for (AxiomType<?> at : filter.getAxiomTypes()) {
+            Collection<V> collection = map.get(at);
+            if (collection != null) {
+                for (V v : collection) {
+                    if (filter.pass(v, key)) {
+                        toReturn.add(v);
+                    }
+                }
+            }
+        }
+        return toReturn;
+    }
+
+    @Override
+    public boolean hasValues(K key) {
+        init();
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean put(K key, V value) {
+        // lazy init: no elements added until a recall is made. If
+        // initialization is in progress, wait for it to complete so that the
+        // new value is not lost.
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    return false;
+                }
+            }
+        }
+        return putInternal(key, value);
+    }
+
+    @Override
+    public boolean remove(K key, V value) {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    return false;
+                }
+            }
+        }
+        return removeInternal(key, value);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        init();
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean contains(K key, V value) {
+        init();
+        Collection<V> t = map.get(key);
+        return t != null && t.contains(value);
+    }
+
+    @Override
+    public Stream<V> getAllValues() {
+        init();
+        return map.values().stream().flatMap(Collection::stream);
+    }
+
+    @Override
+    public int size() {
+        init();
+        return size.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        init();
+        return size.get() == 0;
+    }
+
+    /**
+     * Concurrent maps cannot be trimmed; this method does nothing.
+     */
+    @Override
+    public void trimToSize() {
+        // nothing to trim
+    }
+
+    /**
+     * Adds a value to the bucket for a key. Must not be called before
+     * initialization, except from {@link #fill()}.
+     *
+     * @param k key
+     * @param v value
+     * @return true if the value was added
+     */
+    protected boolean putInternal(@Nullable K k, V v) {
+        if (k == null) {
+            return false;
+        }
+        boolean[] changed = new boolean[1];
+        map.compute(k, (key, values) -> {
+            if (values == null) {
+                changed[0] = true;
+                return Collections.singleton(v);
+            }
+            if (values instanceof KeySetView) {
+                changed[0] = values.add(v);
+                return values;
+            }
+            if (values.contains(v)) {
+                return values;
+            }
+            changed[0] = true;
+            return grow(values, v);
+        });
+        if (changed[0]) {
+            size.incrementAndGet();
+            modCount.incrementAndGet();
+        }
+        return changed[0];
+    }
+
+    private boolean removeInternal(K k, V v) {
+        boolean[] changed = new boolean[1];
+        map.computeIfPresent(k, (key, values) -> {
+            if (values instanceof KeySetView) {
+                changed[0] = values.remove(v);
+                return values.isEmpty() ? null : values;
+            }
+            if (!values.contains(v)) {
+                return values;
+            }
+            changed[0] = true;
+            return shrink(values, v);
+        });
+        if (changed[0]) {
+            size.decrementAndGet();
+            modCount.incrementAndGet();
+        }
+        return changed[0];
+    }
+
+    private Stream<V> get(K k) {
+        Collection<V> t = map.get(k);
+        if (t == null) {
+            return Stream.empty();
+        }
+        // small buckets are never modified after publication, large ones are
+        // concurrent sets; neither needs copying before streaming
+        return t.stream();
+    }
+
+    private static <V> Collection<V> grow(Collection<V> values, V extra) {
+        if (values.size() < COPY_ON_WRITE_LIMIT) {
+            List<V> list = new ArrayList<>(values.size() + 1);
+            list.addAll(values);
+            list.add(extra);
+            return list;
+        }
+        KeySetView<V, Boolean> set = ConcurrentHashMap.newKeySet(values.size() * 2);
+        set.addAll(values);
+        set.add(extra);
+        return set;
+    }
+
+    @Nullable
+    private static <V> Collection<V> shrink(Collection<V> values, V toRemove) {
+        if (values.size() == 1) {
+            return null;
+        }
+        List<V> list = new ArrayList<>(values.size() - 1);
+        for (V v : values) {
+            if (!v.equals(toRemove)) {
+                list.add(v);
+            }
+        }
+        if (list.size() == 1) {
+            return Collections.singleton(list.get(0));
+        }
+        return list;
+    }
+
+    private static class IRISnapshot {
+
+        final int stamp;
+        final SoftReference<Set<IRI>> iris;
+
+        IRISnapshot(int stamp, Set<IRI> iris) {
+            this.stamp = stamp;
+            this.iris = new SoftReference<>(iris);
+        }
+    }
+}
@@ -45,6 +45,7 @@ import static org.semanticweb.owlapi.model.AxiomType.SUB_DATA_PROPERTY;
 import static org.semanticweb.owlapi.model.AxiomType.SUB_OBJECT_PROPERTY;
 import static org.semanticweb.owlapi.model.AxiomType.SYMMETRIC_OBJECT_PROPERTY;
 import static org.semanticweb.owlapi.model.AxiomType.TRANSITIVE_OBJECT_PROPERTY;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.CONCURRENT_INDEXES;
 import static org.semanticweb.owlapi.util.CollectionFactory.createSyncSet;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.emptyOptional;
@@ -70,6 +71,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -147,72 +149,92 @@ import org.slf4j.LoggerFactory;
 public class Internals implements Serializable {
 
     protected static Logger LOGGER = LoggerFactory.getLogger(Internals.class);
+    /**
+     * True if the map pointers should be concurrent. Must be initialized before
+     * the pointers are built.
+     */
+    private final boolean concurrentIndexes;
     //@formatter:off
     private final AddAxiomVisitor addChangeVisitor = new AddAxiomVisitor();
     private final RemoveAxiomVisitor removeChangeVisitor = new RemoveAxiomVisitor();
     private final ReferenceChecker refChecker = new ReferenceChecker();
     private final ReferencedAxiomsCollector refAxiomsCollector = new ReferencedAxiomsCollector();
-    protected transient MapPointer<OWLClassExpression, OWLClassAssertionAxiom>                          classAssertionAxiomsByClass                         = buildLazy(CLASS_ASSERTION, CLASSEXPRESSIONS);
-    protected transient MapPointer<OWLAnnotationSubject, OWLAnnotationAssertionAxiom>                   annotationAssertionAxiomsBySubject                  = buildLazy(ANNOTATION_ASSERTION, ANNOTSUPERNAMED);
-    protected transient MapPointer<OWLClass, OWLSubClassOfAxiom>                                        subClassAxiomsBySubPosition                         = buildLazy(SUBCLASS_OF, CLASSSUBNAMED);
-    protected transient MapPointer<OWLClass, OWLSubClassOfAxiom>                                        subClassAxiomsBySuperPosition                       = buildLazy(SUBCLASS_OF, CLASSSUPERNAMED);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLSubObjectPropertyOfAxiom>            objectSubPropertyAxiomsBySubPosition                = buildLazy(SUB_OBJECT_PROPERTY, OPSUBNAMED);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLSubObjectPropertyOfAxiom>            objectSubPropertyAxiomsBySuperPosition              = buildLazy(SUB_OBJECT_PROPERTY, OPSUPERNAMED);
-    protected transient MapPointer<OWLDataPropertyExpression, OWLSubDataPropertyOfAxiom>                dataSubPropertyAxiomsBySubPosition                  = buildLazy(SUB_DATA_PROPERTY, DPSUBNAMED);
-    protected transient MapPointer<OWLDataPropertyExpression, OWLSubDataPropertyOfAxiom>                dataSubPropertyAxiomsBySuperPosition                = buildLazy(SUB_DATA_PROPERTY, DPSUPERNAMED);
-
-    protected transient MapPointer<OWLClass, OWLClassAxiom>                                             classAxiomsByClass                                  = buildClassAxiomByClass();
-    protected transient MapPointer<OWLClass, OWLEquivalentClassesAxiom>                                 equivalentClassesAxiomsByClass                      = buildLazy(EQUIVALENT_CLASSES, CLASSCOLLECTIONS);
-    protected transient MapPointer<OWLClass, OWLDisjointClassesAxiom>                                   disjointClassesAxiomsByClass                        = buildLazy(DISJOINT_CLASSES, CLASSCOLLECTIONS);
-    protected transient MapPointer<OWLClass, OWLDisjointUnionAxiom>                                     disjointUnionAxiomsByClass                          = buildLazy(DISJOINT_UNION, CLASSCOLLECTIONS);
-    protected transient MapPointer<OWLClass, OWLHasKeyAxiom>                                            hasKeyAxiomsByClass                                 = buildLazy(HAS_KEY, CLASSSUPERNAMED);
-
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLEquivalentObjectPropertiesAxiom>     equivalentObjectPropertyAxiomsByProperty            = buildLazy(EQUIVALENT_OBJECT_PROPERTIES, OPCOLLECTIONS);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLDisjointObjectPropertiesAxiom>       disjointObjectPropertyAxiomsByProperty              = buildLazy(DISJOINT_OBJECT_PROPERTIES, OPCOLLECTIONS);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLObjectPropertyDomainAxiom>           objectPropertyDomainAxiomsByProperty                = buildLazy(OBJECT_PROPERTY_DOMAIN, OPSUBNAMED);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLObjectPropertyRangeAxiom>            objectPropertyRangeAxiomsByProperty                 = buildLazy(OBJECT_PROPERTY_RANGE, OPSUBNAMED);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLFunctionalObjectPropertyAxiom>       functionalObjectPropertyAxiomsByProperty            = buildLazy(FUNCTIONAL_OBJECT_PROPERTY, OPSUBNAMED);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLInverseFunctionalObjectPropertyAxiom>inverseFunctionalPropertyAxiomsByProperty           = buildLazy(INVERSE_FUNCTIONAL_OBJECT_PROPERTY, OPSUBNAMED);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLSymmetricObjectPropertyAxiom>        symmetricPropertyAxiomsByProperty                   = buildLazy(SYMMETRIC_OBJECT_PROPERTY, OPSUBNAMED);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLAsymmetricObjectPropertyAxiom>       asymmetricPropertyAxiomsByProperty                  = buildLazy(ASYMMETRIC_OBJECT_PROPERTY, OPSUBNAMED);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLReflexiveObjectPropertyAxiom>        reflexivePropertyAxiomsByProperty                   = buildLazy(REFLEXIVE_OBJECT_PROPERTY, OPSUBNAMED);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLIrreflexiveObjectPropertyAxiom>      irreflexivePropertyAxiomsByProperty                 = buildLazy(IRREFLEXIVE_OBJECT_PROPERTY, OPSUBNAMED);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLTransitiveObjectPropertyAxiom>       transitivePropertyAxiomsByProperty                  = buildLazy(TRANSITIVE_OBJECT_PROPERTY, OPSUBNAMED);
-    protected transient MapPointer<OWLObjectPropertyExpression, OWLInverseObjectPropertiesAxiom>        inversePropertyAxiomsByProperty                     = buildLazy(INVERSE_OBJECT_PROPERTIES, OPCOLLECTIONS);
-
-    protected transient MapPointer<OWLDataPropertyExpression, OWLEquivalentDataPropertiesAxiom>         equivalentDataPropertyAxiomsByProperty              = buildLazy(EQUIVALENT_DATA_PROPERTIES, DPCOLLECTIONS);
-    protected transient MapPointer<OWLDataPropertyExpression, OWLDisjointDataPropertiesAxiom>           disjointDataPropertyAxiomsByProperty                = buildLazy(DISJOINT_DATA_PROPERTIES, DPCOLLECTIONS);
-    protected transient MapPointer<OWLDataPropertyExpression, OWLDataPropertyDomainAxiom>               dataPropertyDomainAxiomsByProperty                  = buildLazy(DATA_PROPERTY_DOMAIN, DPSUBNAMED);
-    protected transient MapPointer<OWLDataPropertyExpression, OWLDataPropertyRangeAxiom>                dataPropertyRangeAxiomsByProperty                   = buildLazy(DATA_PROPERTY_RANGE, DPSUBNAMED);
-    protected transient MapPointer<OWLDataPropertyExpression, OWLFunctionalDataPropertyAxiom>           functionalDataPropertyAxiomsByProperty              = buildLazy(FUNCTIONAL_DATA_PROPERTY, DPSUBNAMED);
-
-    protected transient MapPointer<OWLIndividual, OWLClassAssertionAxiom>                               classAssertionAxiomsByIndividual                    = buildLazy(CLASS_ASSERTION, INDIVIDUALSUBNAMED);
-    protected transient MapPointer<OWLIndividual, OWLObjectPropertyAssertionAxiom>                      objectPropertyAssertionsByIndividual                = buildLazy(OBJECT_PROPERTY_ASSERTION, INDIVIDUALSUBNAMED);
-    protected transient MapPointer<OWLIndividual, OWLDataPropertyAssertionAxiom>                        dataPropertyAssertionsByIndividual                  = buildLazy(DATA_PROPERTY_ASSERTION, INDIVIDUALSUBNAMED);
-    protected transient MapPointer<OWLIndividual, OWLNegativeObjectPropertyAssertionAxiom>              negativeObjectPropertyAssertionAxiomsByIndividual   = buildLazy(NEGATIVE_OBJECT_PROPERTY_ASSERTION, INDIVIDUALSUBNAMED);
-    protected transient MapPointer<OWLIndividual, OWLNegativeDataPropertyAssertionAxiom>                negativeDataPropertyAssertionAxiomsByIndividual     = buildLazy(NEGATIVE_DATA_PROPERTY_ASSERTION, INDIVIDUALSUBNAMED);
-    protected transient MapPointer<OWLIndividual, OWLDifferentIndividualsAxiom>                         differentIndividualsAxiomsByIndividual              = buildLazy(DIFFERENT_INDIVIDUALS, ICOLLECTIONS);
-    protected transient MapPointer<OWLIndividual, OWLSameIndividualAxiom>                               sameIndividualsAxiomsByIndividual                   = buildLazy(SAME_INDIVIDUAL, ICOLLECTIONS);
-
-
+    protected transient MapPointer<OWLClassExpression, OWLClassAssertionAxiom>                      classAssertionAxiomsByClass;
+    protected transient MapPointer<OWLAnnotationSubject, OWLAnnotationAssertionAxiom>               annotationAssertionAxiomsBySubject;
+    protected transient MapPointer<OWLClass, OWLSubClassOfAxiom>                                    subClassAxiomsBySubPosition;
+    protected transient MapPointer<OWLClass, OWLSubClassOfAxiom>                                    subClassAxiomsBySuperPosition;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLSubObjectPropertyOfAxiom>        objectSubPropertyAxiomsBySubPosition;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLSubObjectPropertyOfAxiom>        objectSubPropertyAxiomsBySuperPosition;
+    protected transient MapPointer<OWLDataPropertyExpression, OWLSubDataPropertyOfAxiom>            dataSubPropertyAxiomsBySubPosition;
+    protected transient MapPointer<OWLDataPropertyExpression, OWLSubDataPropertyOfAxiom>            dataSubPropertyAxiomsBySuperPosition;
+
+    protected transient MapPointer<OWLClass, OWLClassAxiom>                                         classAxiomsByClass;
+    protected transient MapPointer<OWLClass, OWLEquivalentClassesAxiom>                             equivalentClassesAxiomsByClass;
+    protected transient MapPointer<OWLClass, OWLDisjointClassesAxiom>                               disjointClassesAxiomsByClass;
+    protected transient MapPointer<OWLClass, OWLDisjointUnionAxiom>                                 disjointUnionAxiomsByClass;
+    protected transient MapPointer<OWLClass, OWLHasKeyAxiom>                                        hasKeyAxiomsByClass;
+
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLEquivalentObjectPropertiesAxiom> equivalentObjectPropertyAxiomsByProperty;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLDisjointObjectPropertiesAxiom>   disjointObjectPropertyAxiomsByProperty;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLObjectPropertyDomainAxiom>       objectPropertyDomainAxiomsByProperty;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLObjectPropertyRangeAxiom>        objectPropertyRangeAxiomsByProperty;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLFunctionalObjectPropertyAxiom>   functionalObjectPropertyAxiomsByProperty;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLInverseFunctionalObjectPropertyAxiom>inverseFunctionalPropertyAxiomsByProperty;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLSymmetricObjectPropertyAxiom>    symmetricPropertyAxiomsByProperty;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLAsymmetricObjectPropertyAxiom>   asymmetricPropertyAxiomsByProperty;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLReflexiveObjectPropertyAxiom>    reflexivePropertyAxiomsByProperty;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLIrreflexiveObjectPropertyAxiom>  irreflexivePropertyAxiomsByProperty;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLTransitiveObjectPropertyAxiom>   transitivePropertyAxiomsByProperty;
+    protected transient MapPointer<OWLObjectPropertyExpression, OWLInverseObjectPropertiesAxiom>    inversePropertyAxiomsByProperty;
+
+    protected transient MapPointer<OWLDataPropertyExpression, OWLEquivalentDataPropertiesAxiom>     equivalentDataPropertyAxiomsByProperty;
+    protected transient MapPointer<OWLDataPropertyExpression, OWLDisjointDataPropertiesAxiom>       disjointDataPropertyAxiomsByProperty;
+    protected transient MapPointer<OWLDataPropertyExpression, OWLDataPropertyDomainAxiom>           dataPropertyDomainAxiomsByProperty;
+    protected transient MapPointer<OWLDataPropertyExpression, OWLDataPropertyRangeAxiom>            dataPropertyRangeAxiomsByProperty;
+    protected transient MapPointer<OWLDataPropertyExpression, OWLFunctionalDataPropertyAxiom>       functionalDataPropertyAxiomsByProperty;
+
+    protected transient MapPointer<OWLIndividual, OWLClassAssertionAxiom>                           classAssertionAxiomsByIndividual;
+    protected transient MapPointer<OWLIndividual, OWLObjectPropertyAssertionAxiom>                  objectPropertyAssertionsByIndividual;
+    protected transient MapPointer<OWLIndividual, OWLDataPropertyAssertionAxiom>                    dataPropertyAssertionsByIndividual;
+    protected transient MapPointer<OWLIndividual, OWLNegativeObjectPropertyAssertionAxiom>          negativeObjectPropertyAssertionAxiomsByIndividual;
+    protected transient MapPointer<OWLIndividual, OWLNegativeDataPropertyAssertionAxiom>            negativeDataPropertyAssertionAxiomsByIndividual;
+    protected transient MapPointer<OWLIndividual, OWLDifferentIndividualsAxiom>                     differentIndividualsAxiomsByIndividual;
+    protected transient MapPointer<OWLIndividual, OWLSameIndividualAxiom>                           sameIndividualsAxiomsByIndividual;
     protected SetPointer<OWLImportsDeclaration> importsDeclarations = new SetPointer<>();
     protected SetPointer<OWLAnnotation> ontologyAnnotations = new SetPointer<>();
     protected SetPointer<OWLClassAxiom> generalClassAxioms = new SetPointer<>();
     protected SetPointer<OWLSubPropertyChainOfAxiom> propertyChainSubPropertyAxioms = new SetPointer<>();
-    protected transient MapPointer<AxiomType<?>, OWLAxiom> axiomsByType = build();
-    protected transient MapPointer<OWLClass, OWLAxiom> owlClassReferences = build();
-    protected transient MapPointer<OWLObjectProperty, OWLAxiom> owlObjectPropertyReferences = build();
-    protected transient MapPointer<OWLDataProperty, OWLAxiom> owlDataPropertyReferences = build();
-    protected transient MapPointer<OWLNamedIndividual, OWLAxiom> owlIndividualReferences = build();
-    protected transient MapPointer<OWLAnonymousIndividual, OWLAxiom> owlAnonymousIndividualReferences = build();
-    protected transient MapPointer<OWLDatatype, OWLAxiom> owlDatatypeReferences = build();
-    protected transient MapPointer<OWLAnnotationProperty, OWLAxiom> owlAnnotationPropertyReferences = build();
-    protected transient MapPointer<OWLEntity, OWLDeclarationAxiom> declarationsByEntity = build();
+    protected transient MapPointer<AxiomType<?>, OWLAxiom> axiomsByType;
+    protected transient MapPointer<OWLClass, OWLAxiom> owlClassReferences;
+    protected transient MapPointer<OWLObjectProperty, OWLAxiom> owlObjectPropertyReferences;
+    protected transient MapPointer<OWLDataProperty, OWLAxiom> owlDataPropertyReferences;
+    protected transient MapPointer<OWLNamedIndividual, OWLAxiom> owlIndividualReferences;
+    protected transient MapPointer<OWLAnonymousIndividual, OWLAxiom> owlAnonymousIndividualReferences;
+    protected transient MapPointer<OWLDatatype, OWLAxiom> owlDatatypeReferences;
+    protected transient MapPointer<OWLAnnotationProperty, OWLAxiom> owlAnnotationPropertyReferences;
+    protected transient MapPointer<OWLEntity, OWLDeclarationAxiom> declarationsByEntity;
     //@formatter:on
 
     @Nullable
     private List<OWLAxiom> axiomsForSerialization;
 
+    /**
+     * Creates an instance with map pointer implementation selected by
+     * {@code ConfigurationOptions.CONCURRENT_INDEXES}.
+     */
+    public Internals() {
+        this(CONCURRENT_INDEXES.getValue(Boolean.class, Collections.emptyMap()).booleanValue());
+    }
+
+    /**
+     * @param concurrentIndexes true if the indexes should be concurrent map
+     * pointers, allowing concurrent readers not to block each other
+     */
+    public Internals(boolean concurrentIndexes) {
+        this.concurrentIndexes = concurrentIndexes;
+        initPointers();
+    }
+
     /**
      * @param p pointer
      * @param <K> key type
@@ -228,6 +250,12 @@ public class Internals implements Serializable {
     @SuppressWarnings("null")
     private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
         stream.defaultReadObject();
+        initPointers();
+        axiomsForSerialization.forEach(this::addAxiom);
+        axiomsForSerialization = null;
+    }
+
+    private void initPointers() {
         axiomsByType = build();
         owlClassReferences = build();
         owlObjectPropertyReferences = build();
@@ -245,7 +273,9 @@ public class Internals implements Serializable {
         objectSubPropertyAxiomsBySuperPosition = buildLazy(SUB_OBJECT_PROPERTY, OPSUPERNAMED);
         dataSubPropertyAxiomsBySubPosition = buildLazy(SUB_DATA_PROPERTY, DPSUBNAMED);
         dataSubPropertyAxiomsBySuperPosition = buildLazy(SUB_DATA_PROPERTY, DPSUPERNAMED);
-        classAxiomsByClass = buildClassAxiomByClass();
+        classAxiomsByClass = concurrentIndexes
+            ? new ConcurrentClassAxiomByClassPointer(null, null, false, this)
+            : buildClassAxiomByClass();
         equivalentClassesAxiomsByClass = buildLazy(EQUIVALENT_CLASSES, CLASSCOLLECTIONS);
         disjointClassesAxiomsByClass = buildLazy(DISJOINT_CLASSES, CLASSCOLLECTIONS);
         disjointUnionAxiomsByClass = buildLazy(DISJOINT_UNION, CLASSCOLLECTIONS);
@@ -284,8 +314,6 @@ public class Internals implements Serializable {
             INDIVIDUALSUBNAMED);
         differentIndividualsAxiomsByIndividual = buildLazy(DIFFERENT_INDIVIDUALS, ICOLLECTIONS);
         sameIndividualsAxiomsByIndividual = buildLazy(SAME_INDIVIDUAL, ICOLLECTIONS);
-        axiomsForSerialization.forEach(this::addAxiom);
-        axiomsForSerialization = null;
     }
 
     /**
@@ -625,7 +653,7 @@ public class Internals implements Serializable {
 
     protected <K, V extends OWLAxiom> MapPointer<K, V> buildLazy(AxiomType<?> t,
         OWLAxiomVisitorEx<?> v) {
-        return new MapPointer<>(t, v, false, this);
+        return newPointer(t, v, false);
     }
 
     protected ClassAxiomByClassPointer buildClassAxiomByClass() {
@@ -634,7 +662,15 @@ public class Internals implements Serializable {
 
     protected <K, V extends OWLAxiom> MapPointer<K, V> build(@Nullable AxiomType<?> t,
         @Nullable OWLAxiomVisitorEx<?> v) {
-        return new MapPointer<>(t, v, true, this);
+        return newPointer(t, v, true);
+    }
+
+    private <K, V extends OWLAxiom> MapPointer<K, V> newPointer(@Nullable AxiomType<?> t,
+        @Nullable OWLAxiomVisitorEx<?> v, boolean initialized) {
+        if (concurrentIndexes) {
+            return new ConcurrentMapPointer<>(t, v, initialized, this);
+        }
+        return new MapPointer<>(t, v, initialized, this);
     }
 
     /**
@@ -12,8 +12,6 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package uk.ac.manchester.cs.owl.owlapi;
 
-import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
-import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.empty;
 
 import gnu.trove.map.hash.THashMap;
@@ -26,7 +24,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -40,8 +37,6 @@ import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.util.CollectionFactory;
 import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
 import org.semanticweb.owlapi.util.SmallSet;
-import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitCollectionVisitor;
-import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitVisitor;
 
 /**
  * * Objects that identify contained maps - so that getting the keys of a
@@ -52,17 +47,12 @@ import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitVisitor;
  * @param <V> value
  * @author ignazio
  */
-public class MapPointer<K, V extends OWLAxiom> {
+public class MapPointer<K, V extends OWLAxiom> extends AbstractMapPointer<K, V> {
 
     private static final AtomicLong totalInUse = new AtomicLong(0);
     private static final AtomicLong totalAllocated = new AtomicLong(0);
     private static final float DEFAULT_LOAD_FACTOR = 0.75F;
     private static final int DEFAULT_INITIAL_CAPACITY = 5;
-    protected final Internals i;
-    @Nullable
-    private final AxiomType<?> type;
-    @Nullable
-    private final OWLAxiomVisitorEx<?> visitor;
     private final THashMap<K, Collection<V>> map = new THashMap<>(17, 0.75F);
     private boolean initialized;
     @Nullable
@@ -78,10 +68,8 @@ public class MapPointer<K, V extends OWLAxiom> {
      */
     public MapPointer(@Nullable AxiomType<?> t, @Nullable OWLAxiomVisitorEx<?> v,
         boolean initialized, Internals i) {
-        type = t;
-        visitor = v;
+        super(t, v, i);
         this.initialized = initialized;
-        this.i = checkNotNull(i, "i cannot be null");
     }
 
     static synchronized void resetCounts() {
@@ -97,27 +85,12 @@ public class MapPointer<K, V extends OWLAxiom> {
         return totalAllocated.get();
     }
 
-    /**
-     * This method replicates the Map.forEach on all the key/value pairs
-     *
-     * @param consumer a consumer with two arguments
-     */
-    public void forEach(BiConsumer<K, V> consumer) {
-        keySet().forEach(k -> forEach(k, v -> consumer.accept(k, v)));
-    }
-
-    /**
-     * @param e entity
-     * @return true if an entity with the same iri as the input exists in the collection
-     */
+    @Override
     public synchronized boolean containsReference(OWLEntity e) {
         return map.containsKey(e);
     }
 
-    /**
-     * @param e IRI
-     * @return true if an entity with the same iri as the input exists in the collection
-     */
+    @Override
     public synchronized boolean containsReference(IRI e) {
         Set<IRI> set = null;
         if (iris != null) {
@@ -142,36 +115,18 @@ public class MapPointer<K, V extends OWLAxiom> {
         return set;
     }
 
-    /**
-     * @return true if initialized
-     */
+    @Override
     public synchronized boolean isInitialized() {
         return initialized;
     }
 
-    /**
-     * init the map pointer
-     *
-     * @return the map pointer
-     */
-    @SuppressWarnings({"unchecked"})
+    @Override
     public synchronized MapPointer<K, V> init() {
         if (initialized) {
             return this;
         }
         initialized = true;
-        if (visitor == null || type == null) {
-            return this;
-        }
-        if (visitor instanceof InitVisitor) {
-            i.getAxiomsByType().forEach(verifyNotNull(type),
-                ax -> putInternal(ax.accept((InitVisitor<K>) verifyNotNull(
-                    visitor)), (V) ax));
-        } else if (visitor instanceof InitCollectionVisitor) {
-            i.getAxiomsByType().forEach(verifyNotNull(type),
-                ax -> ax.accept((InitCollectionVisitor<K>) verifyNotNull(
-                    visitor)).forEach(key -> putInternal(key, (V) ax)));
-        }
+        fill(this::putInternal);
         return this;
     }
 
@@ -180,9 +135,7 @@ public class MapPointer<K, V extends OWLAxiom> {
         return initialized + map.toString();
     }
 
-    /**
-     * @return keyset
-     */
+    @Override
     public synchronized Collection<K> keySet() {
         init();
         Set<K> keySet = map.keySet();
@@ -190,10 +143,7 @@ public class MapPointer<K, V extends OWLAxiom> {
         return keySet;
     }
 
-    /**
-     * @param key key to look up
-     * @return value
-     */
+    @Override
     public synchronized Stream<V> getValues(K key) {
         init();
         Collection<V> t = map.get(key);
@@ -206,29 +156,19 @@ public class MapPointer<K, V extends OWLAxiom> {
         return new ArrayList<>(t).stream();
     }
 
-    /**
-     * @param key key to look up
-     * @param function consumer to apply
-     */
+    @Override
     public synchronized void forEach(K key, Consumer<V> function) {
         init();
         get(key).forEach(function);
     }
 
-    /**
-     * @param key key to look up
-     * @param function predicate to evaluate
-     * @return value
-     */
+    @Override
     public synchronized boolean matchOnValues(K key, Predicate<V> function) {
         init();
         return get(key).anyMatch(function);
     }
 
-    /**
-     * @param key key to look up
-     * @return value
-     */
+    @Override
     public synchronized Collection<V> getValuesAsCollection(K key) {
         init();
         return getCollection(key);
@@ -242,10 +182,7 @@ public class MapPointer<K, V extends OWLAxiom> {
         return new ArrayList<>(t);
     }
 
-    /**
-     * @param key key to look up
-     * @return value
-     */
+    @Override
     public synchronized int countValues(K key) {
         init();
         return count(key);
@@ -259,11 +196,7 @@ public class MapPointer<K, V extends OWLAxiom> {
         return t.size();
     }
 
-    /**
-     * @param key key to look up
-     * @param classType type of the returned values
-     * @return value
-     */
+    @Override
     @SuppressWarnings("unchecked")
     public synchronized <O extends V> Stream<O> values(K key,
         @SuppressWarnings("unused") Class<O> classType) {
@@ -275,12 +208,7 @@ public class MapPointer<K, V extends OWLAxiom> {
         return ((Collection<O>) t).stream();
     }
 
-    /**
-     * @param <T> type of key
-     * @param filter filter to satisfy
-     * @param key key
-     * @return set of values
-     */
+    @Override
     public synchronized <T> Collection<OWLAxiom> filterAxioms(OWLAxiomSearchFilter filter, T key) {
         init();
         List<OWLAxiom> toReturn = new ArrayList<>();
@@ -293,20 +221,13 @@ public class MapPointer<K, V extends OWLAxiom> {
         return toReturn;
     }
 
-    /**
-     * @param key key to look up
-     * @return true if there are values for key
-     */
+    @Override
     public synchronized boolean hasValues(K key) {
         init();
         return map.containsKey(key);
     }
 
-    /**
-     * @param key key to add
-     * @param value value to add
-     * @return true if addition happens
-     */
+    @Override
     public synchronized boolean put(K key, V value) {
         // lazy init: no elements added until a recall is made
         if (!initialized) {
@@ -316,11 +237,7 @@ public class MapPointer<K, V extends OWLAxiom> {
         return putInternal(key, value);
     }
 
-    /**
-     * @param key key to look up
-     * @param value value to remove
-     * @return true if removal happens
-     */
+    @Override
     public synchronized boolean remove(K key, V value) {
         if (!initialized) {
             return false;
@@ -329,36 +246,25 @@ public class MapPointer<K, V extends OWLAxiom> {
         return removeInternal(key, value);
     }
 
-    /**
-     * @param key key to look up
-     * @return true if there are values for key
-     */
+    @Override
     public synchronized boolean containsKey(K key) {
         init();
         return map.containsKey(key);
     }
 
-    /**
-     * @param key key to look up
-     * @param value value to look up
-     * @return true if key and value are contained
-     */
+    @Override
     public synchronized boolean contains(K key, V value) {
         init();
         return containsEntry(key, value);
     }
 
-    /**
-     * @return all values contained
-     */
+    @Override
     public synchronized Stream<V> getAllValues() {
         init();
         return values();
     }
 
-    /**
-     * @return number of mapping contained
-     */
+    @Override
     public synchronized int size() {
         init();
         if (neverTrimmed) {
@@ -367,9 +273,7 @@ public class MapPointer<K, V extends OWLAxiom> {
         return size;
     }
 
-    /**
-     * @return true if empty
-     */
+    @Override
     public synchronized boolean isEmpty() {
         init();
         return size == 0;
@@ -467,10 +371,7 @@ public class MapPointer<K, V extends OWLAxiom> {
         return t.stream();
     }
 
-    /**
-     * Trims the capacity of the map entries . An application can use this
-     * operation to minimize the storage of the map pointer instance.
-     */
+    @Override
     public synchronized void trimToSize() {
         if (initialized) {
             map.trimToSize();
@@ -28,6 +28,8 @@ import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyBuilder;
 import uk.ac.manchester.cs.owl.owlapi.concurrent.NoOpReadWriteLock;
 import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentDelegate;
 import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentOWLOntologyBuilder;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.OptimisticReadWriteLock;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.PerOntologyReadWriteLock;
 
 /**
  * Impl module.
@@ -48,6 +50,10 @@ public class OWLAPIImplModule extends AbstractModule {
     protected void configure() {
         if (concurrency == Concurrency.CONCURRENT) {
             bind(ReadWriteLock.class).to(ReentrantReadWriteLock.class).asEagerSingleton();
+        } else if (concurrency == Concurrency.PER_ONTOLOGY) {
+            bind(ReadWriteLock.class).to(PerOntologyReadWriteLock.class).asEagerSingleton();
+        } else if (concurrency == Concurrency.OPTIMISTIC) {
+            bind(ReadWriteLock.class).to(OptimisticReadWriteLock.class).asEagerSingleton();
         } else {
             bind(ReadWriteLock.class).to(NoOpReadWriteLock.class).asEagerSingleton();
         }
@@ -96,4 +96,25 @@ public class OWLAnnotationAssertionAxiomImpl extends OWLAxiomImpl implements
     public OWLAnnotation getAnnotation() {
         return new OWLAnnotationImplNotAnnotated(property, value);
     }
+
+    @Override
+    public int componentCount() {
+        return 4;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return subject;
+            case 1:
+                return property;
+            case 2:
+                return value;
+            case 3:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
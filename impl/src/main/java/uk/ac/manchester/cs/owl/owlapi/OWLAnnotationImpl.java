@@ -47,6 +47,14 @@ public class OWLAnnotationImpl extends OWLAnnotationImplNotAnnotated {
         return anns.stream();
     }
 
+    @Override
+    public Object componentAt(int index) {
+        if (index == 2) {
+            return anns;
+        }
+        return super.componentAt(index);
+    }
+
     @Override
     public OWLAnnotation getAnnotatedAnnotation(Collection<OWLAnnotation> annotations) {
         if (annotations.isEmpty()) {
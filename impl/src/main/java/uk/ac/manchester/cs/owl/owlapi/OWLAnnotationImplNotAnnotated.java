@@ -15,6 +15,7 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.stream.Stream;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
@@ -68,4 +69,23 @@ public class OWLAnnotationImplNotAnnotated extends OWLObjectImpl implements OWLA
             .isBoolean()
             && ((OWLLiteral) value).parseBoolean();
     }
+
+    @Override
+    public int componentCount() {
+        return 3;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return property;
+            case 1:
+                return value;
+            case 2:
+                return Collections.emptyList();
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -67,4 +67,23 @@ public class OWLAnnotationPropertyDomainAxiomImpl extends OWLAxiomImpl implement
     public OWLAnnotationProperty getProperty() {
         return property;
     }
+
+    @Override
+    public int componentCount() {
+        return 3;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return property;
+            case 1:
+                return domain;
+            case 2:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
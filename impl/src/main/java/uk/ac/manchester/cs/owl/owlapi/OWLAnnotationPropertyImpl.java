@@ -41,4 +41,17 @@ public class OWLAnnotationPropertyImpl extends OWLObjectImpl implements OWLAnnot
     public String toStringID() {
         return iri.toString();
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return iri;
+    }
 }
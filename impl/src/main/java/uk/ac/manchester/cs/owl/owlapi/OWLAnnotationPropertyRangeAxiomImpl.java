@@ -67,4 +67,23 @@ public class OWLAnnotationPropertyRangeAxiomImpl extends OWLAxiomImpl implements
     public IRI getRange() {
         return range;
     }
+
+    @Override
+    public int componentCount() {
+        return 3;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return property;
+            case 1:
+                return range;
+            case 2:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
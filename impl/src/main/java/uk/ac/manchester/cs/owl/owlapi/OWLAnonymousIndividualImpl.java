@@ -54,4 +54,17 @@ public class OWLAnonymousIndividualImpl extends OWLIndividualImpl implements
     public Optional<OWLAnonymousIndividual> asAnonymousIndividual() {
         return optional(this);
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return nodeId;
+    }
 }
@@ -15,11 +15,17 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
 import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.util.NNF;
 
 /**
@@ -28,7 +34,17 @@ import org.semanticweb.owlapi.util.NNF;
  */
 public abstract class OWLAxiomImpl extends OWLObjectImpl implements OWLAxiom {
 
+    private static final OWLEntity[] NO_ENTITIES = new OWLEntity[0];
+    private static final OWLAnonymousIndividual[] NO_ANONYMOUS = new OWLAnonymousIndividual[0];
     protected final List<OWLAnnotation> annotations;
+    /**
+     * Signature and anonymous individuals, computed on first use when compact
+     * signatures are enabled.
+     */
+    @Nullable
+    private transient volatile OWLEntity[] signatureEntities;
+    @Nullable
+    private transient volatile OWLAnonymousIndividual[] anonymousIndividualEntities;
 
     /**
      * @param annotations annotations on the axiom
@@ -38,6 +54,35 @@ public abstract class OWLAxiomImpl extends OWLObjectImpl implements OWLAxiom {
         this.annotations = asAnnotations(annotations);
     }
 
+    @Override
+    public Stream<OWLEntity> signature() {
+        if (!isCompactSignatures()) {
+            return super.signature();
+        }
+        OWLEntity[] entities = signatureEntities;
+        if (entities == null) {
+            Set<OWLEntity> set = addSignatureEntitiesToSet(new HashSet<>());
+            entities = set.isEmpty() ? NO_ENTITIES : set.toArray(new OWLEntity[set.size()]);
+            signatureEntities = entities;
+        }
+        return Arrays.stream(entities);
+    }
+
+    @Override
+    public Stream<OWLAnonymousIndividual> anonymousIndividuals() {
+        if (!isCompactSignatures()) {
+            return super.anonymousIndividuals();
+        }
+        OWLAnonymousIndividual[] anons = anonymousIndividualEntities;
+        if (anons == null) {
+            Set<OWLAnonymousIndividual> set = addAnonymousIndividualsToSet(new HashSet<>());
+            anons = set.isEmpty() ? NO_ANONYMOUS
+                : set.toArray(new OWLAnonymousIndividual[set.size()]);
+            anonymousIndividualEntities = anons;
+        }
+        return Arrays.stream(anons);
+    }
+
     @Override
     public Stream<OWLAnnotation> annotations() {
         return annotations.stream();
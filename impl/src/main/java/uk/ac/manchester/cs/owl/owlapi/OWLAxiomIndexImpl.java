@@ -17,7 +17,18 @@ import org.semanticweb.owlapi.search.Filters;
 public abstract class OWLAxiomIndexImpl extends OWLObjectImpl implements OWLAxiomIndex,
     HasTrimToSize {
 
-    protected final Internals ints = new Internals();
+    protected final Internals ints;
+
+    protected OWLAxiomIndexImpl() {
+        this(new Internals());
+    }
+
+    /**
+     * @param ints internals to use for the indexes
+     */
+    protected OWLAxiomIndexImpl(Internals ints) {
+        this.ints = ints;
+    }
 
     @Override
     public void trimToSize() {
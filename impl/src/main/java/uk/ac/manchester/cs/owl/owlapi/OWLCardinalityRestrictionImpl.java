@@ -43,4 +43,23 @@ public abstract class OWLCardinalityRestrictionImpl<F extends OWLPropertyRange>
     public F getFiller() {
         return filler;
     }
+
+    @Override
+    public int componentCount() {
+        return 3;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return getProperty();
+            case 1:
+                return Integer.valueOf(cardinality);
+            case 2:
+                return filler;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
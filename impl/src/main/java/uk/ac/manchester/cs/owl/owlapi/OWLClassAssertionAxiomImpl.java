@@ -76,4 +76,23 @@ public class OWLClassAssertionAxiomImpl extends OWLIndividualAxiomImpl implement
             getClassExpression(),
             NO_ANNOTATIONS);
     }
+
+    @Override
+    public int componentCount() {
+        return 3;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return individual;
+            case 1:
+                return classExpression;
+            case 2:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
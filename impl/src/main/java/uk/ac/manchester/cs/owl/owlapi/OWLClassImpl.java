@@ -94,4 +94,17 @@ public class OWLClassImpl extends OWLClassExpressionImpl implements OWLClass, Se
     public OWLClassExpression getComplementNNF() {
         return new OWLObjectComplementOfImpl(this);
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return iri;
+    }
 }
@@ -36,4 +36,17 @@ public class OWLDataComplementOfImpl extends OWLObjectImpl implements OWLDataCom
     public OWLDataRange getDataRange() {
         return dataRange;
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return dataRange;
+    }
 }
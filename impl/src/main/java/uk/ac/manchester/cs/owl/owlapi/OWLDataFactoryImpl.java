@@ -31,6 +31,7 @@ import static uk.ac.manchester.cs.owl.owlapi.InternalizedEntities.RDFS_IS_DEFINE
 import static uk.ac.manchester.cs.owl.owlapi.InternalizedEntities.RDFS_LABEL;
 import static uk.ac.manchester.cs.owl.owlapi.InternalizedEntities.RDFS_SEE_ALSO;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
@@ -40,6 +41,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
@@ -189,6 +191,14 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         dataFactoryInternals.purge();
     }
 
+    /**
+     * @return hit, miss and eviction statistics for each entity and annotation
+     * cache, by cache name; empty if caching is disabled
+     */
+    public Map<String, CacheStats> getCacheStatistics() {
+        return dataFactoryInternals.getCacheStatistics();
+    }
+
     @Override
     public <E extends OWLEntity> E getOWLEntity(EntityType<E> entityType, IRI iri) {
         checkNotNull(entityType, "entityType cannot be null");
@@ -12,7 +12,10 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package uk.ac.manchester.cs.owl.owlapi;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import org.semanticweb.owlapi.model.IRI;
@@ -42,6 +45,13 @@ public interface OWLDataFactoryInternals extends Serializable {
      */
     void purge();
 
+    /**
+     * @return statistics for each cache, by cache name; empty if no caches are used
+     */
+    default Map<String, CacheStats> getCacheStatistics() {
+        return Collections.emptyMap();
+    }
+
     /**
      * @param iri new object property IRI
      * @return a new OWLObjectProperty object, or a cached one depending on policies
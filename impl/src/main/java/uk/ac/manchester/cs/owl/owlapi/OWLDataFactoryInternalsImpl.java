@@ -12,13 +12,21 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package uk.ac.manchester.cs.owl.owlapi;
 
-import com.github.benmanes.caffeine.cache.CacheLoader;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ENTITY_CACHE_POLICY;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ENTITY_CACHE_SIZE;
+
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
+import org.semanticweb.owlapi.model.EntityCachePolicy;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
@@ -39,6 +47,9 @@ public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCa
 
     private static Logger logger = LoggerFactory.getLogger(OWLDataFactoryInternalsImpl.class);
     private final AtomicInteger annotationsCount = new AtomicInteger(0);
+    private final EntityCachePolicy policy;
+    private final int cacheSize;
+    private final transient Map<String, LoadingCache<?, ?>> caches = new LinkedHashMap<>();
     /**
      * Annotations Cache uses a loading cache as a size limited Interner; the
      * value of the loader is simply the key. As with an interner, each access
@@ -47,77 +58,113 @@ public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCa
      * reused extremely frequently. for ontologies in the OBO family, a few
      * annotations will be reused extremely frequently.
      */
-    private final transient LoadingCache<OWLAnnotation, OWLAnnotation> annotations = builder(
-        key -> key);
-    private final LoadingCache<IRI, OWLClass> classes = builder(key -> new OWLClassImpl(key));
-    private final LoadingCache<IRI, OWLObjectProperty> objectProperties = builder(
-        key -> new OWLObjectPropertyImpl(
-            key));
-    private final LoadingCache<IRI, OWLDataProperty> dataProperties = builder(
-        key -> new OWLDataPropertyImpl(key));
-    private final LoadingCache<IRI, OWLDatatype> datatypes = builder(
-        key -> new OWLDatatypeImpl(key));
-    private final LoadingCache<IRI, OWLNamedIndividual> individuals = builder(
-        key -> new OWLNamedIndividualImpl(key));
-    private final LoadingCache<IRI, OWLAnnotationProperty> annotationProperties = builder(
-        key -> new OWLAnnotationPropertyImpl(key));
+    private final transient Function<OWLAnnotation, OWLAnnotation> annotations;
+    private final transient Function<IRI, OWLClass> classes;
+    private final transient Function<IRI, OWLObjectProperty> objectProperties;
+    private final transient Function<IRI, OWLDataProperty> dataProperties;
+    private final transient Function<IRI, OWLDatatype> datatypes;
+    private final transient Function<IRI, OWLNamedIndividual> individuals;
+    private final transient Function<IRI, OWLAnnotationProperty> annotationProperties;
 
     /**
+     * Caches are configured by
+     * {@link org.semanticweb.owlapi.model.parameters.ConfigurationOptions#ENTITY_CACHE_POLICY}
+     * and
+     * {@link org.semanticweb.owlapi.model.parameters.ConfigurationOptions#ENTITY_CACHE_SIZE}.
+     *
      * @param useCompression true if literals should be compressed
      */
     public OWLDataFactoryInternalsImpl(boolean useCompression) {
+        this(useCompression,
+            ENTITY_CACHE_POLICY.getValue(EntityCachePolicy.class, Collections.emptyMap()),
+            ENTITY_CACHE_SIZE.getValue(Integer.class, Collections.emptyMap()).intValue());
+    }
+
+    /**
+     * @param useCompression true if literals should be compressed
+     * @param policy cache policy
+     * @param cacheSize maximum size of each cache, for bounded caches
+     */
+    public OWLDataFactoryInternalsImpl(boolean useCompression, EntityCachePolicy policy,
+        int cacheSize) {
         super(useCompression);
+        this.policy = policy;
+        this.cacheSize = cacheSize;
+        // annotations are their own keys, so weak values would never be
+        // collected
+        annotations = builder("annotations",
+            policy == EntityCachePolicy.WEAK ? EntityCachePolicy.BOUNDED : policy, key -> key);
+        classes = builder("classes", policy, OWLClassImpl::new);
+        objectProperties = builder("objectProperties", policy, OWLObjectPropertyImpl::new);
+        dataProperties = builder("dataProperties", policy, OWLDataPropertyImpl::new);
+        datatypes = builder("datatypes", policy, OWLDatatypeImpl::new);
+        individuals = builder("individuals", policy, OWLNamedIndividualImpl::new);
+        annotationProperties = builder("annotationProperties", policy,
+            OWLAnnotationPropertyImpl::new);
     }
 
-    private static <F, T> LoadingCache<F, T> builder(CacheLoader<F, T> f) {
-        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(1024)
-            .expireAfterAccess(5,
-                TimeUnit.MINUTES);
-        if (logger.isDebugEnabled()) {
-            builder.recordStats();
+    private <F, T> Function<F, T> builder(String name, EntityCachePolicy p, Function<F, T> f) {
+        if (p == EntityCachePolicy.DISABLED) {
+            return f;
+        }
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (p == EntityCachePolicy.WEAK) {
+            builder.weakValues();
+        } else {
+            builder.maximumSize(cacheSize).expireAfterAccess(5, TimeUnit.MINUTES);
         }
-        return builder.build(f);
+        LoadingCache<F, T> cache = builder.build(f::apply);
+        caches.put(name, cache);
+        return cache::get;
+    }
+
+    /**
+     * @return the cache policy in use
+     */
+    public EntityCachePolicy getCachePolicy() {
+        return policy;
+    }
+
+    @Override
+    public Map<String, CacheStats> getCacheStatistics() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
     }
 
     @Override
     public OWLClass getOWLClass(IRI iri) {
-        return classes.get(iri);
+        return classes.apply(iri);
     }
 
     @Override
     public void purge() {
-        classes.invalidateAll();
-        objectProperties.invalidateAll();
-        dataProperties.invalidateAll();
-        datatypes.invalidateAll();
-        individuals.invalidateAll();
-        annotationProperties.invalidateAll();
-        annotations.invalidateAll();
+        caches.values().forEach(LoadingCache::invalidateAll);
     }
 
     @Override
     public OWLObjectProperty getOWLObjectProperty(IRI iri) {
-        return objectProperties.get(iri);
+        return objectProperties.apply(iri);
     }
 
     @Override
     public OWLDataProperty getOWLDataProperty(IRI iri) {
-        return dataProperties.get(iri);
+        return dataProperties.apply(iri);
     }
 
     @Override
     public OWLNamedIndividual getOWLNamedIndividual(IRI iri) {
-        return individuals.get(iri);
+        return individuals.apply(iri);
     }
 
     @Override
     public OWLDatatype getOWLDatatype(IRI iri) {
-        return datatypes.get(iri);
+        return datatypes.apply(iri);
     }
 
     @Override
     public OWLAnnotationProperty getOWLAnnotationProperty(IRI iri) {
-        return annotationProperties.get(iri);
+        return annotationProperties.apply(iri);
     }
 
     @Override
@@ -128,12 +175,12 @@ public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCa
     @Override
     public OWLAnnotation getOWLAnnotation(OWLAnnotationProperty property, OWLAnnotationValue value,
         Stream<OWLAnnotation> anns) {
-        OWLAnnotation annotation = annotations.get(new OWLAnnotationImpl(property, value, anns));
+        OWLAnnotation annotation = annotations.apply(new OWLAnnotationImpl(property, value, anns));
         if (logger.isDebugEnabled()) {
             int n = annotationsCount.incrementAndGet();
             if (n % 1000 == 0) {
                 logger.debug("{}: Annotations Cache stats: {}", Integer.valueOf(n),
-                    annotations.stats());
+                    getCacheStatistics().get("annotations"));
             }
         }
         return annotation;
@@ -42,4 +42,21 @@ public abstract class OWLDataPropertyCharacteristicAxiomImpl extends OWLProperty
     public OWLDataPropertyExpression getProperty() {
         return property;
     }
+
+    @Override
+    public int componentCount() {
+        return 2;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return property;
+            case 1:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -50,4 +50,17 @@ public class OWLDataPropertyImpl extends OWLObjectImpl implements OWLDataPropert
     public boolean isBuiltIn() {
         return builtin;
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return iri;
+    }
 }
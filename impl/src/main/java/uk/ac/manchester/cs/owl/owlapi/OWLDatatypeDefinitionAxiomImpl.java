@@ -67,4 +67,23 @@ public class OWLDatatypeDefinitionAxiomImpl extends OWLAxiomImpl implements
     public OWLDataRange getDataRange() {
         return dataRange;
     }
+
+    @Override
+    public int componentCount() {
+        return 3;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return datatype;
+            case 1:
+                return dataRange;
+            case 2:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -108,4 +108,17 @@ public class OWLDatatypeImpl extends OWLObjectImpl implements OWLDatatype {
     public boolean isOWLDatatype() {
         return true;
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return iri;
+    }
 }
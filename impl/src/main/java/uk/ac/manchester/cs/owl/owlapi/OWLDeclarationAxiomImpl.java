@@ -55,4 +55,21 @@ public class OWLDeclarationAxiomImpl extends OWLAxiomImpl implements OWLDeclarat
     public OWLEntity getEntity() {
         return entity;
     }
+
+    @Override
+    public int componentCount() {
+        return 2;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return entity;
+            case 1:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -45,4 +45,21 @@ public class OWLFacetRestrictionImpl extends OWLObjectImpl implements OWLFacetRe
     public OWLLiteral getFacetValue() {
         return facetValue;
     }
+
+    @Override
+    public int componentCount() {
+        return 2;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return facet;
+            case 1:
+                return facetValue;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
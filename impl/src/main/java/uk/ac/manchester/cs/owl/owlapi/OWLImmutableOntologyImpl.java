@@ -83,6 +83,18 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl implements OWLOn
      * @param ontologyID ontology id
      */
     public OWLImmutableOntologyImpl(OWLOntologyManager manager, OWLOntologyID ontologyID) {
+        this(manager, ontologyID, new Internals(checkNotNull(manager, "manager cannot be null")
+            .getOntologyConfigurator().shouldUseConcurrentIndexes()));
+    }
+
+    /**
+     * @param manager ontology manager
+     * @param ontologyID ontology id
+     * @param ints internals to use for the indexes
+     */
+    protected OWLImmutableOntologyImpl(OWLOntologyManager manager, OWLOntologyID ontologyID,
+        Internals ints) {
+        super(ints);
         this.manager = checkNotNull(manager, "manager cannot be null");
         this.ontologyID = checkNotNull(ontologyID, "ontologyID cannot be null");
         df = manager.getOWLDataFactory();
@@ -62,4 +62,25 @@ public abstract class OWLIndividualRelationshipAxiomImpl<P extends OWLPropertyEx
     public O getObject() {
         return o;
     }
+
+    @Override
+    public int componentCount() {
+        return 4;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return subject;
+            case 1:
+                return property;
+            case 2:
+                return o;
+            case 3:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -41,4 +41,17 @@ public class OWLNamedIndividualImpl extends OWLIndividualImpl implements OWLName
     public IRI getIRI() {
         return iri;
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return iri;
+    }
 }
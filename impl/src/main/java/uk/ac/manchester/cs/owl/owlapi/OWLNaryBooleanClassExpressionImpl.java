@@ -43,4 +43,17 @@ public abstract class OWLNaryBooleanClassExpressionImpl extends
     public Stream<OWLClassExpression> operands() {
         return operands.stream();
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return operands;
+    }
 }
@@ -62,4 +62,21 @@ public abstract class OWLNaryClassAxiomImpl extends OWLClassAxiomImpl implements
         }
         return result;
     }
+
+    @Override
+    public int componentCount() {
+        return 2;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return classExpressions;
+            case 1:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -43,4 +43,17 @@ public abstract class OWLNaryDataRangeImpl extends OWLObjectImpl implements OWLN
     public Stream<OWLDataRange> operands() {
         return operands.stream();
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return operands;
+    }
 }
@@ -46,4 +46,21 @@ public abstract class OWLNaryIndividualAxiomImpl extends OWLIndividualAxiomImpl
     public Stream<OWLIndividual> individuals() {
         return individuals.stream();
     }
+
+    @Override
+    public int componentCount() {
+        return 2;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return individuals;
+            case 1:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -72,4 +72,21 @@ public abstract class OWLNaryPropertyAxiomImpl<P extends OWLPropertyExpression>
         props.remove(property);
         return props;
     }
+
+    @Override
+    public int componentCount() {
+        return 2;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return properties;
+            case 1:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -42,4 +42,17 @@ public class OWLObjectComplementOfImpl extends OWLAnonymousClassExpressionImpl i
     public OWLClassExpression getOperand() {
         return operand;
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return operand;
+    }
 }
@@ -37,4 +37,17 @@ public class OWLObjectHasSelfImpl extends OWLAnonymousClassExpressionImpl implem
     public OWLObjectPropertyExpression getProperty() {
         return property;
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return property;
+    }
 }
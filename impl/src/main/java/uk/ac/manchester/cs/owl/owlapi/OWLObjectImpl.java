@@ -13,6 +13,7 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import static java.util.Collections.emptyList;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.COMPACT_SIGNATURES;
 import static org.semanticweb.owlapi.util.CollectionFactory.sortOptionally;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.compareIterators;
@@ -61,8 +62,35 @@ public abstract class OWLObjectImpl implements OWLObject, Serializable,
     protected static LoadingCache<OWLObjectImpl, Set<OWLAnonymousIndividual>> anonCaches = Caffeine
         .newBuilder()
         .weakKeys().softValues().build(key -> key.addAnonymousIndividualsToSet(new HashSet<>()));
+    /**
+     * True if axioms should keep their own signature rather than use the
+     * shared caches.
+     */
+    private static volatile boolean compactSignatures =
+        COMPACT_SIGNATURES.getValue(Boolean.class, Collections.emptyMap()).booleanValue();
     protected int hashCode = 0;
 
+    /**
+     * Selects how signatures are cached. With compact signatures, each axiom
+     * computes its signature and anonymous individuals once and keeps them in
+     * arrays, and entities are their own signature; other objects use the
+     * shared caches. The initial value is read from
+     * {@link org.semanticweb.owlapi.model.parameters.ConfigurationOptions#COMPACT_SIGNATURES}.
+     * Signatures already computed are not discarded when switching.
+     *
+     * @param compact true if compact signatures should be used
+     */
+    public static void setCompactSignatures(boolean compact) {
+        compactSignatures = compact;
+    }
+
+    /**
+     * @return true if compact signatures are used
+     */
+    public static boolean isCompactSignatures() {
+        return compactSignatures;
+    }
+
     /**
      * Streams from components need a start point and the order of the
      * components is important.
@@ -100,7 +128,31 @@ public abstract class OWLObjectImpl implements OWLObject, Serializable,
      * @return the hashcode
      */
     protected int hashCode(OWLObject object) {
-        return hash(object.hashIndex(), object.components());
+        int count = object.componentCount();
+        if (count < 0) {
+            return hash(object.hashIndex(), object.components());
+        }
+        int hash = object.hashIndex();
+        for (int i = 0; i < count; i++) {
+            hash = hashIteration.applyAsInt(hash, hashComponent(object.componentAt(i)));
+        }
+        return hash;
+    }
+
+    /**
+     * Lists returned by {@link OWLObject#componentAt(int)} stand for streams in
+     * {@link OWLObject#components()} and are hashed the same way.
+     */
+    private static int hashComponent(Object o) {
+        if (o instanceof List) {
+            List<?> list = (List<?>) o;
+            int sum = 0;
+            for (int i = 0; i < list.size(); i++) {
+                sum += list.get(i).hashCode();
+            }
+            return sum;
+        }
+        return o.hashCode();
     }
 
     @Override
@@ -110,6 +162,9 @@ public abstract class OWLObjectImpl implements OWLObject, Serializable,
 
     @Override
     public Stream<OWLEntity> signature() {
+        if (compactSignatures && this instanceof OWLEntity) {
+            return Stream.of((OWLEntity) this);
+        }
         return signatures.get(this).stream();
     }
 
@@ -171,6 +226,15 @@ public abstract class OWLObjectImpl implements OWLObject, Serializable,
         if (typeIndex() != other.typeIndex()) {
             return false;
         }
+        int count = componentCount();
+        if (count >= 0 && other.componentCount() == count) {
+            for (int i = 0; i < count; i++) {
+                if (!componentAt(i).equals(other.componentAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
         return equalStreams(components(), other.components());
     }
 
@@ -190,9 +254,36 @@ public abstract class OWLObjectImpl implements OWLObject, Serializable,
         if (diff != 0) {
             return diff;
         }
+        int count = componentCount();
+        if (count >= 0 && o.componentCount() == count) {
+            for (int i = 0; i < count; i++) {
+                diff = compareComponents(componentAt(i), o.componentAt(i));
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return 0;
+        }
         return compareIterators(components().iterator(), o.components().iterator());
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareComponents(Object o1, Object o2) {
+        if (o1 instanceof List && o2 instanceof List) {
+            List<?> l1 = (List<?>) o1;
+            List<?> l2 = (List<?>) o2;
+            int i = 0;
+            for (; i < l1.size() && i < l2.size(); i++) {
+                int diff = ((Comparable) l1.get(i)).compareTo(l2.get(i));
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return Integer.compare(l1.size(), l2.size());
+        }
+        return ((Comparable) o1).compareTo(o2);
+    }
+
     protected int compareAnnotations(List<OWLAnnotation> l1, List<OWLAnnotation> l2) {
         int i = 0;
         for (; i < l1.size() && i < l2.size(); i++) {
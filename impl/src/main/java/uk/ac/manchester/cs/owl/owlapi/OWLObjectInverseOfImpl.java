@@ -39,4 +39,17 @@ public class OWLObjectInverseOfImpl extends OWLObjectImpl implements OWLObjectIn
     public OWLObjectProperty getNamedProperty() {
         return inverseProperty;
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return inverseProperty;
+    }
 }
@@ -65,4 +65,17 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl implemen
             return new OWLObjectUnionOfImpl(individuals().map(i -> new OWLObjectOneOfImpl(i)));
         }
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return values;
+    }
 }
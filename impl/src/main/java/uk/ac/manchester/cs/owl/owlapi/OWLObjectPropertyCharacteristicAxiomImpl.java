@@ -43,4 +43,21 @@ public abstract class OWLObjectPropertyCharacteristicAxiomImpl extends
     public OWLObjectPropertyExpression getProperty() {
         return property;
     }
+
+    @Override
+    public int componentCount() {
+        return 2;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return property;
+            case 1:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
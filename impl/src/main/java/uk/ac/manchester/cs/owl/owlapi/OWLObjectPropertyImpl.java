@@ -56,4 +56,17 @@ public class OWLObjectPropertyImpl extends OWLObjectImpl implements OWLObjectPro
     public OWLObjectInverseOf getInverseProperty() {
         return new OWLObjectInverseOfImpl(this);
     }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return iri;
+    }
 }
@@ -33,6 +33,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +47,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -119,7 +123,13 @@ import org.semanticweb.owlapi.util.OWLAnnotationPropertyTransformer;
 import org.semanticweb.owlapi.util.PriorityCollection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import uk.ac.manchester.cs.owl.owlapi.ParallelImportsLoader.LoadedImport;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyBuilder;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyImpl;
 import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentPriorityCollection;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NoOpReadWriteLock;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.OntologyReadWriteLock;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.PerOntologyReadWriteLock;
 
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
@@ -150,8 +160,15 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
     protected final PriorityCollection<OWLParserFactory> parserFactories;
     protected final PriorityCollection<OWLStorerFactory> ontologyStorers;
     private final AtomicBoolean broadcastChanges = new AtomicBoolean(true);
+    private final ReadWriteLock readWriteLock;
     private final Lock readLock;
     private final Lock writeLock;
+    /**
+     * Lock for listeners and their notification. This is the manager write
+     * lock, except with per ontology locks, where changes are applied and
+     * broadcast while holding the manager lock for reading only.
+     */
+    private final Lock listenersLock;
     protected OWLOntologyChangeBroadcastStrategy defaultChangeBroadcastStrategy = new DefaultChangeBroadcastStrategy();
     protected ImpendingOWLOntologyChangeBroadcastStrategy defaultImpendingChangeBroadcastStrategy = new DefaultImpendingChangeBroadcastStrategy();
     private transient Map<OWLOntologyChangeListener, OWLOntologyChangeBroadcastStrategy> listenerMap = createSyncMap();
@@ -160,6 +177,12 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
     private OntologyConfigurator configProvider = new OntologyConfigurator();
     private transient Optional<OWLOntologyLoaderConfiguration> loaderConfig = emptyOptional();
     private transient Optional<OWLOntologyWriterConfiguration> writerConfig = emptyOptional();
+    /**
+     * Loader for imports, set while an ontology is being loaded with parallel
+     * imports loading enabled.
+     */
+    @Nullable
+    private transient ParallelImportsLoader parallelImportsLoader;
 
     /**
      * @param dataFactory data factory
@@ -178,8 +201,14 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
     public OWLOntologyManagerImpl(OWLDataFactory dataFactory, ReadWriteLock readWriteLock,
         PriorityCollectionSorting sorting) {
         this.dataFactory = checkNotNull(dataFactory, "dataFactory cannot be null");
+        this.readWriteLock = readWriteLock;
         readLock = readWriteLock.readLock();
         writeLock = readWriteLock.writeLock();
+        if (readWriteLock instanceof PerOntologyReadWriteLock) {
+            listenersLock = new ReentrantLock();
+        } else {
+            listenersLock = writeLock;
+        }
         documentMappers = new ConcurrentPriorityCollection<>(readWriteLock, sorting);
         ontologyFactories = new ConcurrentPriorityCollection<>(readWriteLock, sorting);
         parserFactories = new ConcurrentPriorityCollection<>(readWriteLock, sorting);
@@ -456,6 +485,10 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
                 if (ontology == null) {
                     ontology = getOntologyByDocumentIRI(declaration.getIRI());
                 }
+                ParallelImportsLoader importsLoader = parallelImportsLoader;
+                if (ontology == null && importsLoader != null) {
+                    ontology = awaitImport(declaration, importsLoader);
+                }
                 return ontology;
             } else {
                 return getOntology(ontologyID);
@@ -465,6 +498,29 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
         }
     }
 
+    /**
+     * Waits for an import scheduled on the parallel loader and adds it to this
+     * manager, so that parsers looking at the imports closure of the ontology
+     * being loaded see the same closure as with sequential loading.
+     *
+     * @param declaration import to wait for
+     * @param importsLoader loader the import has been scheduled on
+     * @return the imported ontology, or null if it is not available
+     */
+    @Nullable
+    private OWLOntology awaitImport(OWLImportsDeclaration declaration,
+        ParallelImportsLoader importsLoader) {
+        OWLOntology ontology = importsLoader.await(declaration.getIRI());
+        if (ontology != null) {
+            OWLOntologyID id = ontology.getOntologyID();
+            ontologiesByID.putIfAbsent(id, ontology);
+            importedIRIs.put(declaration.getIRI(), id);
+            ontologyIDsByImportsDeclaration.put(declaration, id);
+            resetImportsClosureCache();
+        }
+        return ontology;
+    }
+
     @Override
     public Stream<OWLOntology> directImports(OWLOntology ontology) {
         readLock.lock();
@@ -592,7 +648,67 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
 
     @Override
     public ChangeDetails applyChangesAndGetDetails(List<? extends OWLOntologyChange> changes) {
+        if (readWriteLock instanceof PerOntologyReadWriteLock) {
+            Collection<OntologyReadWriteLock> ontologyLocks;
+            readLock.lock();
+            try {
+                ontologyLocks = ontologyLocks(changes);
+            } finally {
+                readLock.unlock();
+            }
+            // listeners are called without holding the manager lock, so that
+            // they can call operations that need the write lock
+            if (!ontologyLocks.isEmpty()) {
+                return applyChanges(changes, ontologyLocks);
+            }
+        }
         writeLock.lock();
+        try {
+            return applyChanges(changes, Collections.emptyList());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Finds the locks of the ontologies affected by a list of changes. Called
+     * by a read lock holder.
+     *
+     * @param changes changes to apply
+     * @return the locks of the ontologies affected by the changes; empty if the changes also affect
+     * the state of this manager, e.g., imports changes, or if any of the ontologies does not have
+     * its own lock
+     */
+    private Collection<OntologyReadWriteLock> ontologyLocks(
+        List<? extends OWLOntologyChange> changes) {
+        Set<OntologyReadWriteLock> locks = new HashSet<>();
+        for (OWLOntologyChange change : changes) {
+            if (change.isImportChange() || change instanceof SetOntologyID) {
+                return Collections.emptyList();
+            }
+            // changes created by the ontology implementation refer to the
+            // delegate rather than to the ontology registered here
+            OWLOntology ont = ontologiesByID.get(change.getOntology().getOntologyID());
+            if (!(ont instanceof ConcurrentOWLOntologyImpl)) {
+                return Collections.emptyList();
+            }
+            ReadWriteLock lock = ((ConcurrentOWLOntologyImpl) ont).getReadWriteLock();
+            if (!(lock instanceof OntologyReadWriteLock)) {
+                return Collections.emptyList();
+            }
+            locks.add((OntologyReadWriteLock) lock);
+        }
+        return locks;
+    }
+
+    /**
+     * @param changes changes to apply
+     * @param ontologyLocks locks of the ontologies to change; if empty, the caller holds the write
+     * lock, otherwise the caller holds no lock
+     * @return details of the applied changes
+     */
+    private ChangeDetails applyChanges(List<? extends OWLOntologyChange> changes,
+        Collection<OntologyReadWriteLock> ontologyLocks) {
         try {
             broadcastImpendingChanges(changes);
             AtomicBoolean rollbackRequested = new AtomicBoolean(false);
@@ -601,10 +717,15 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
             // will be reverted in case of a rollback
             List<OWLOntologyChange> appliedChanges = new ArrayList<>();
             fireBeginChanges(changes.size());
-            actuallyApply(changes, rollbackRequested, allNoOps, appliedChanges);
-            if (rollbackRequested.get()) {
-                rollBack(appliedChanges);
-                appliedChanges.clear();
+            if (ontologyLocks.isEmpty()) {
+                actuallyApply(changes, rollbackRequested, allNoOps, appliedChanges);
+                if (rollbackRequested.get()) {
+                    rollBack(appliedChanges);
+                    appliedChanges.clear();
+                }
+            } else {
+                applyWithOntologyLocks(changes, rollbackRequested, allNoOps, appliedChanges,
+                    ontologyLocks);
             }
             fireEndChanges();
             broadcastChanges(appliedChanges);
@@ -619,14 +740,68 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
             // Some listener blocked the changes.
             broadcastOntologyChangesVetoed(changes, e);
             return new ChangeDetails(ChangeApplied.UNSUCCESSFULLY, Collections.emptyList());
+        }
+    }
+
+    /**
+     * Applies changes while holding the manager read lock and the write locks
+     * of the ontologies to change. If the ontologies to change have been
+     * replaced since the locks were looked up, or a change now affects the
+     * manager state, the changes are applied under the manager write lock
+     * instead. Progress listeners are notified once the locks are released,
+     * so that no listener is called while manager or ontology locks are held.
+     */
+    private void applyWithOntologyLocks(List<? extends OWLOntologyChange> changes,
+        AtomicBoolean rollbackRequested, AtomicBoolean allNoOps,
+        List<OWLOntologyChange> appliedChanges, Collection<OntologyReadWriteLock> ontologyLocks) {
+        List<OWLOntologyChange> attempted = new ArrayList<>();
+        boolean applied = false;
+        readLock.lock();
+        try {
+            if (ontologyLocks.equals(ontologyLocks(changes))) {
+                OntologyReadWriteLock.lockAll(ontologyLocks);
+                try {
+                    applyOrRollBack(changes, rollbackRequested, allNoOps, appliedChanges,
+                        attempted);
+                } finally {
+                    OntologyReadWriteLock.unlockAll(ontologyLocks);
+                }
+                applied = true;
+            }
         } finally {
-            writeLock.unlock();
+            readLock.unlock();
+        }
+        if (!applied) {
+            writeLock.lock();
+            try {
+                applyOrRollBack(changes, rollbackRequested, allNoOps, appliedChanges, attempted);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        attempted.forEach(this::fireChangeApplied);
+    }
+
+    private void applyOrRollBack(List<? extends OWLOntologyChange> changes,
+        AtomicBoolean rollbackRequested, AtomicBoolean allNoOps,
+        List<OWLOntologyChange> appliedChanges, List<OWLOntologyChange> attempted) {
+        actuallyApply(changes, rollbackRequested, allNoOps, appliedChanges, attempted::add);
+        if (rollbackRequested.get()) {
+            rollBack(appliedChanges);
+            appliedChanges.clear();
         }
     }
 
     protected void actuallyApply(List<? extends OWLOntologyChange> changes,
         AtomicBoolean rollbackRequested,
         AtomicBoolean allNoOps, List<OWLOntologyChange> appliedChanges) {
+        actuallyApply(changes, rollbackRequested, allNoOps, appliedChanges,
+            this::fireChangeApplied);
+    }
+
+    private void actuallyApply(List<? extends OWLOntologyChange> changes,
+        AtomicBoolean rollbackRequested, AtomicBoolean allNoOps,
+        List<OWLOntologyChange> appliedChanges, Consumer<OWLOntologyChange> attempted) {
         for (OWLOntologyChange change : changes) {
             // once rollback is requested by a failed change, do not carry
             // out any more changes
@@ -640,7 +815,7 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
                     allNoOps.set(false);
                     appliedChanges.add(change);
                 }
-                fireChangeApplied(change);
+                attempted.accept(change);
             }
         }
     }
@@ -890,6 +1065,7 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
     protected OWLOntology loadOntology(IRI iri, boolean allowExists,
         OWLOntologyLoaderConfiguration configuration)
         throws OWLOntologyCreationException {
+        OWLOntologyDocumentSource source;
         writeLock.lock();
         try {
             OWLOntology ontByID = null;
@@ -927,10 +1103,21 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
             if (ontByDocumentIRI != null) {
                 return ontByDocumentIRI;
             }
-            return loadOntology(iri, new IRIDocumentSource(documentIRI, null, null), configuration);
+            source = new IRIDocumentSource(documentIRI, null, null);
+            if (!loadsImportsInParallel(configuration)) {
+                return loadOntology(iri, source, configuration);
+            }
         } finally {
             writeLock.unlock();
         }
+        // parsing does not need this manager lock when imports are loaded in
+        // parallel
+        return loadOntology(iri, source, configuration);
+    }
+
+    private boolean loadsImportsInParallel(OWLOntologyLoaderConfiguration configuration) {
+        return parallelImportsLoader == null
+            && configuration.getParallelImportsLoadingThreads() > 0;
     }
 
     @Nullable
@@ -1016,6 +1203,9 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
     protected OWLOntology loadOntology(@Nullable IRI ontologyIRI,
         OWLOntologyDocumentSource documentSource,
         OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+        if (loadsImportsInParallel(configuration)) {
+            return loadWithParallelImports(ontologyIRI, documentSource, configuration);
+        }
         writeLock.lock();
         try {
             if (loadCount.get() != importsLoadCount.get()) {
@@ -1058,6 +1248,180 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
         }
     }
 
+    /**
+     * Loads an ontology and its imports closure with a
+     * {@link ParallelImportsLoader}. The documents are parsed without holding
+     * this manager lock; the write lock is only taken to register the loaded
+     * ontologies.
+     *
+     * @param ontologyIRI ontology IRI, only used to report to listeners; can be null
+     * @param documentSource document source
+     * @param configuration load configuration
+     * @return the loaded ontology
+     * @throws OWLOntologyCreationException if the ontology could not be loaded
+     */
+    private OWLOntology loadWithParallelImports(@Nullable IRI ontologyIRI,
+        OWLOntologyDocumentSource documentSource,
+        OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+        ParallelImportsLoader importsLoader;
+        readLock.lock();
+        try {
+            importsLoader = new ParallelImportsLoader(this,
+                configuration.getParallelImportsLoadingThreads(), knownOntologies());
+        } finally {
+            readLock.unlock();
+        }
+        fireStartedLoadingEvent(new OWLOntologyID(optional(ontologyIRI), emptyOptional()),
+            documentSource.getDocumentIRI(), false);
+        Exception ex = null;
+        OWLOntologyID idOfLoadedOntology = new OWLOntologyID();
+        try {
+            LoadedImport root = importsLoader.loadRoot(ontologyIRI, documentSource, configuration);
+            List<LoadedImport> imports = importsLoader.awaitAll();
+            writeLock.lock();
+            try {
+                OWLOntology o = registerParallelImports(root, imports, importsLoader, configuration);
+                idOfLoadedOntology = o.getOntologyID();
+                return o;
+            } finally {
+                writeLock.unlock();
+            }
+        } catch (UnloadableImportException | OWLOntologyCreationException e) {
+            ex = e;
+            throw e;
+        } catch (OWLRuntimeException e) {
+            if (e.getCause() instanceof OWLOntologyCreationException) {
+                ex = (OWLOntologyCreationException) e.getCause();
+                throw (OWLOntologyCreationException) e.getCause();
+            }
+            throw e;
+        } finally {
+            importsLoader.shutdown();
+            fireFinishedLoadingEvent(idOfLoadedOntology, documentSource.getDocumentIRI(), false,
+                ex);
+        }
+    }
+
+    /**
+     * @return the ontologies in this manager, by ontology IRI, version IRI and document IRI
+     */
+    private Map<IRI, OWLOntology> knownOntologies() {
+        Map<IRI, OWLOntology> known = new HashMap<>();
+        ontologiesByID.forEach((id, o) -> {
+            id.getOntologyIRI().ifPresent(iri -> known.put(iri, o));
+            id.getVersionIRI().ifPresent(iri -> known.put(iri, o));
+        });
+        documentIRIsByID.forEach((id, iri) -> {
+            OWLOntology o = ontologiesByID.get(id);
+            if (o != null) {
+                known.put(iri, o);
+            }
+        });
+        return known;
+    }
+
+    /**
+     * Moves the loaded root ontology and its imports to this manager and maps
+     * their imports declarations. Illegal punnings are checked over the whole
+     * closure once it is registered.
+     *
+     * @param root the loaded root ontology
+     * @param imports the loaded imports
+     * @param loader the loader used
+     * @param configuration loader configuration
+     * @return the registered root ontology
+     * @throws OWLOntologyCreationException if the root ontology is already in this manager
+     */
+    private OWLOntology registerParallelImports(LoadedImport root, List<LoadedImport> imports,
+        ParallelImportsLoader loader, OWLOntologyLoaderConfiguration configuration)
+        throws OWLOntologyCreationException {
+        OWLOntologyID rootID = verifyNotNull(root.ontology).getOntologyID();
+        if (ontologiesByID.containsKey(rootID)) {
+            throw new OWLOntologyAlreadyExistsException(rootID);
+        }
+        OWLOntology registered = register(root);
+        Map<OWLImportsDeclaration, Exception> failures = new LinkedHashMap<>();
+        for (LoadedImport loaded : imports) {
+            OWLOntology o = loaded.ontology;
+            OWLImportsDeclaration declaration = verifyNotNull(loaded.declaration);
+            if (o == null) {
+                failures.put(declaration, verifyNotNull(loaded.error));
+                continue;
+            }
+            if (!ontologiesByID.containsKey(o.getOntologyID())) {
+                register(loaded);
+            }
+            importedIRIs.put(declaration.getIRI(), o.getOntologyID());
+        }
+        for (OWLImportsDeclaration declaration : loader.requested()) {
+            Object id = importedIRIs.get(declaration.getIRI());
+            if (id instanceof OWLOntologyID) {
+                ontologyIDsByImportsDeclaration.put(declaration, (OWLOntologyID) id);
+            } else if (!failures.containsKey(declaration)) {
+                // already loaded before this imports closure
+                java.util.Optional<OWLOntologyID> existing = ids()
+                    .filter(i -> i.match(declaration.getIRI())).findAny();
+                if (existing.isPresent()) {
+                    importedIRIs.put(declaration.getIRI(), existing.get());
+                    ontologyIDsByImportsDeclaration.put(declaration, existing.get());
+                }
+            }
+        }
+        resetImportsClosureCache();
+        for (Map.Entry<OWLImportsDeclaration, Exception> e : failures.entrySet()) {
+            OWLOntologyCreationException ex = e.getValue() instanceof OWLOntologyCreationException
+                ? (OWLOntologyCreationException) e.getValue()
+                : new OWLOntologyCreationException(e.getValue());
+            if (configuration.getMissingImportHandlingStrategy()
+                == MissingImportHandlingStrategy.THROW_EXCEPTION) {
+                removeOntology(registered);
+                throw new UnloadableImportException(ex, e.getKey());
+            }
+            fireMissingImportEvent(new MissingImportEvent(e.getKey().getIRI(), ex));
+        }
+        broadcastChanges.set(false);
+        try {
+            fixIllegalPunnings(registered);
+        } finally {
+            if (loadCount.get() == 0) {
+                broadcastChanges.set(true);
+            }
+        }
+        return registered;
+    }
+
+    private OWLOntology register(LoadedImport loaded) {
+        OWLOntology o = verifyNotNull(loaded.ontology);
+        OWLOntologyID id = o.getOntologyID();
+        IRI documentIRI = loaded.loader.documentIRIsByID.get(id);
+        if (documentIRI != null) {
+            documentIRIsByID.put(id, documentIRI);
+        }
+        OWLDocumentFormat format = loaded.loader.ontologyFormatsByOntology.get(id);
+        if (format != null) {
+            ontologyFormatsByOntology.put(id, format);
+        }
+        OWLOntologyLoaderConfiguration config = loaded.loader.ontologyConfigurationsByOntologyID
+            .get(id);
+        if (config != null) {
+            ontologyConfigurationsByOntologyID.put(id, config);
+        }
+        o.setOWLOntologyManager(this);
+        if (!(readWriteLock instanceof NoOpReadWriteLock)) {
+            o = ConcurrentOWLOntologyBuilder.wrap(o, readWriteLock);
+        }
+        ontologiesByID.put(id, o);
+        return o;
+    }
+
+    /**
+     * @param loader loader to schedule imports on; imports requested through this manager will not
+     * be loaded inline, but scheduled on the loader
+     */
+    void setParallelImportsLoader(ParallelImportsLoader loader) {
+        parallelImportsLoader = loader;
+    }
+
     @Nullable
     protected OWLOntology load(OWLOntologyDocumentSource documentSource,
         OWLOntologyLoaderConfiguration configuration)
@@ -1070,7 +1434,11 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
                     // when the ontology is created.
                     OWLOntology ontology = factory
                         .loadOWLOntology(this, documentSource, this, configuration);
-                    fixIllegalPunnings(ontology);
+                    if (parallelImportsLoader == null) {
+                        // with parallel loading, punnings are fixed once the
+                        // whole imports closure has been registered
+                        fixIllegalPunnings(ontology);
+                    }
                     // Store the ontology to the document IRI mapping
                     documentIRIsByID.put(ontology.getOntologyID(), documentSource.getDocumentIRI());
                     ontologyConfigurationsByOntologyID.put(ontology.getOntologyID(), configuration);
@@ -1494,7 +1862,7 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
      * @param changes The ontology changes to broadcast
      */
     protected void broadcastChanges(List<? extends OWLOntologyChange> changes) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             if (!broadcastChanges.get()) {
                 return;
@@ -1518,12 +1886,12 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
                 }
             }
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
     protected void broadcastImpendingChanges(List<? extends OWLOntologyChange> changes) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             if (!broadcastChanges.get()) {
                 return;
@@ -1537,7 +1905,7 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
                 }
             }
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
@@ -1554,71 +1922,71 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
     @Override
     public void addOntologyChangeListener(OWLOntologyChangeListener listener,
         OWLOntologyChangeBroadcastStrategy strategy) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             listenerMap.put(listener, strategy);
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
     @Override
     public void addImpendingOntologyChangeListener(ImpendingOWLOntologyChangeListener listener) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             impendingChangeListenerMap.put(listener, defaultImpendingChangeBroadcastStrategy);
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
     @Override
     public void removeImpendingOntologyChangeListener(ImpendingOWLOntologyChangeListener listener) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             impendingChangeListenerMap.remove(listener);
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
     @Override
     public void removeOntologyChangeListener(OWLOntologyChangeListener listener) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             listenerMap.remove(listener);
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
     @Override
     public void addOntologyChangesVetoedListener(OWLOntologyChangesVetoedListener listener) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             vetoListeners.add(listener);
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
     @Override
     public void removeOntologyChangesVetoedListener(OWLOntologyChangesVetoedListener listener) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             vetoListeners.remove(listener);
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
     private void broadcastOntologyChangesVetoed(List<? extends OWLOntologyChange> changes,
         OWLOntologyChangeVetoException veto) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             new ArrayList<>(vetoListeners).forEach(l -> l.ontologyChangesVetoed(changes, veto));
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
@@ -1671,6 +2039,13 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
             if (!configuration.isIgnoredImport(iri) && !importedIRIs.containsKey(iri)) {
                 // insert temporary value - we do not know the actual ID yet
                 importedIRIs.put(iri, new Object());
+                ParallelImportsLoader importsLoader = parallelImportsLoader;
+                if (importsLoader != null) {
+                    // the ontology will be registered once the whole imports
+                    // closure has been loaded
+                    importsLoader.schedule(declaration, configuration);
+                    return;
+                }
                 try {
                     OWLOntology ont = loadImports(declaration, configuration);
                     if (ont != null) {
@@ -1768,26 +2143,26 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
 
     @Override
     public void addOntologyChangeProgessListener(OWLOntologyChangeProgressListener listener) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             progressListeners.add(listener);
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
     @Override
     public void removeOntologyChangeProgessListener(OWLOntologyChangeProgressListener listener) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             progressListeners.remove(listener);
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
     protected void fireBeginChanges(int size) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             if (!broadcastChanges.get()) {
                 return;
@@ -1801,12 +2176,12 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
                 }
             }
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
     protected void fireEndChanges() {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             if (!broadcastChanges.get()) {
                 return;
@@ -1820,12 +2195,12 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
                 }
             }
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 
     protected void fireChangeApplied(OWLOntologyChange change) {
-        writeLock.lock();
+        listenersLock.lock();
         try {
             if (!broadcastChanges.get()) {
                 return;
@@ -1842,7 +2217,7 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
                 }
             }
         } finally {
-            writeLock.unlock();
+            listenersLock.unlock();
         }
     }
 }
@@ -46,4 +46,23 @@ public abstract class OWLPropertyDomainAxiomImpl<P extends OWLPropertyExpression
     public OWLClassExpression getDomain() {
         return domain;
     }
+
+    @Override
+    public int componentCount() {
+        return 3;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return getProperty();
+            case 1:
+                return domain;
+            case 2:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -45,4 +45,23 @@ public abstract class OWLPropertyRangeAxiomImpl<P extends OWLPropertyExpression,
     public R getRange() {
         return range;
     }
+
+    @Override
+    public int componentCount() {
+        return 3;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return getProperty();
+            case 1:
+                return range;
+            case 2:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -39,4 +39,21 @@ public abstract class OWLQuantifiedRestrictionImpl<F extends OWLPropertyRange> e
     public F getFiller() {
         return filler;
     }
+
+    @Override
+    public int componentCount() {
+        return 2;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return getProperty();
+            case 1:
+                return filler;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -52,4 +52,23 @@ public abstract class OWLSubPropertyAxiomImpl<P extends OWLPropertyExpression> e
     public P getSuperProperty() {
         return superProperty;
     }
+
+    @Override
+    public int componentCount() {
+        return 3;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return subProperty;
+            case 1:
+                return superProperty;
+            case 2:
+                return annotations;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -36,4 +36,21 @@ public abstract class OWLValueRestrictionImpl<V extends OWLObject> extends
     public V getFiller() {
         return value;
     }
+
+    @Override
+    public int componentCount() {
+        return 2;
+    }
+
+    @Override
+    public Object componentAt(int index) {
+        switch (index) {
+            case 0:
+                return getProperty();
+            case 1:
+                return value;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
 }
@@ -0,0 +1,308 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.newDaemonThreadPool;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyIRIMapper;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.model.OntologyConfigurator;
+import org.semanticweb.owlapi.model.PriorityCollectionSorting;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NoOpReadWriteLock;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentOWLOntologyBuilder;
+
+/**
+ * Loads an ontology and its imports closure on a bounded executor. Each
+ * document is parsed by a private, non locking manager that shares the parsers
+ * and IRI mappers of the importing manager; imports found while parsing are
+ * scheduled on the executor rather than loaded inline, so the importing
+ * manager lock is not needed until the loaded ontologies are registered.
+ * <p>
+ * Parsers that look up an imported ontology while parsing, such as the RDF and
+ * Manchester syntax parsers, wait for it to be loaded, so that they see the
+ * same imports closure as with sequential loading. A load that would wait,
+ * directly or through other loads, on itself is part of an imports cycle; the
+ * import is then left out of the closure seen by the parser, as sequential
+ * loading does for ontologies still being loaded.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+class ParallelImportsLoader {
+
+    private final OWLDataFactory dataFactory;
+    private final OntologyConfigurator configurator;
+    private final List<OWLOntologyIRIMapper> mappers = new ArrayList<>();
+    private final List<OWLParserFactory> parsers = new ArrayList<>();
+    private final ExecutorService executor;
+    /**
+     * Ontologies in the importing manager before loading started, by ontology,
+     * version and document IRI.
+     */
+    private final Map<IRI, OWLOntology> known;
+    private final Map<IRI, LoadTask> tasks = new ConcurrentHashMap<>();
+    private final Queue<OWLImportsDeclaration> requested = new ConcurrentLinkedQueue<>();
+    private final Queue<LoadTask> pending = new ConcurrentLinkedQueue<>();
+    /**
+     * The load each blocked load is waiting for; guarded by itself.
+     */
+    private final Map<LoadTask, LoadTask> waiting = new HashMap<>();
+    private final ThreadLocal<Deque<LoadTask>> running = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * @param manager the manager that will receive the loaded ontologies; its mappers and parsers
+     * are copied here, so that workers never need its lock
+     * @param threads number of worker threads
+     * @param known ontologies already loaded in the manager, by ontology, version and document IRI
+     */
+    ParallelImportsLoader(OWLOntologyManagerImpl manager, int threads,
+        Map<IRI, OWLOntology> known) {
+        dataFactory = manager.getOWLDataFactory();
+        configurator = manager.getOntologyConfigurator();
+        manager.getIRIMappers().forEach(mappers::add);
+        manager.getOntologyParsers().forEach(parsers::add);
+        this.known = known;
+        executor = newDaemonThreadPool(threads, "owlapi-imports-loader");
+    }
+
+    private OWLOntologyManagerImpl newManager() {
+        OWLOntologyManagerImpl child = new OWLOntologyManagerImpl(dataFactory,
+            new NoOpReadWriteLock(), PriorityCollectionSorting.NEVER);
+        child.setOntologyConfigurator(configurator);
+        child.getIRIMappers().set(mappers);
+        child.getOntologyParsers().set(parsers);
+        child.getOntologyFactories().add(
+            new OWLOntologyFactoryImpl(new NonConcurrentOWLOntologyBuilder(OWLOntologyImpl::new)));
+        child.setParallelImportsLoader(this);
+        return child;
+    }
+
+    /**
+     * Loads the root ontology on the calling thread; its imports are scheduled
+     * on the executor.
+     *
+     * @param iri ontology IRI, only used to report to listeners; can be null
+     * @param source document source
+     * @param configuration loader configuration to use
+     * @return the loaded root ontology
+     * @throws OWLOntologyCreationException if the root ontology cannot be loaded
+     */
+    LoadedImport loadRoot(@Nullable IRI iri, OWLOntologyDocumentSource source,
+        OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+        OWLOntologyManagerImpl child = newManager();
+        LoadTask task = new LoadTask(() -> new LoadedImport(null, child,
+            child.loadOntology(iri, source, configuration), null));
+        // imports of the root, found while loading its imports, wait for it
+        // rather than loading it again
+        tasks.put(source.getDocumentIRI(), task);
+        if (iri != null) {
+            tasks.put(iri, task);
+        }
+        task.run();
+        return get(task);
+    }
+
+    /**
+     * Schedules the loading of an import. The call does not wait for the
+     * import to be loaded; imports whose IRI has already been claimed are only
+     * recorded, so that their declaration can be mapped when registering.
+     *
+     * @param declaration import to load
+     * @param configuration loader configuration to use
+     */
+    void schedule(OWLImportsDeclaration declaration, OWLOntologyLoaderConfiguration configuration) {
+        requested.add(declaration);
+        IRI iri = declaration.getIRI();
+        if (known.containsKey(iri) || tasks.containsKey(iri)) {
+            return;
+        }
+        LoadTask task = new LoadTask(() -> load(declaration, configuration));
+        if (tasks.putIfAbsent(iri, task) == null) {
+            pending.add(task);
+            executor.execute(task);
+        }
+    }
+
+    private LoadedImport load(OWLImportsDeclaration declaration,
+        OWLOntologyLoaderConfiguration configuration) {
+        OWLOntologyManagerImpl child = newManager();
+        try {
+            return new LoadedImport(declaration, child,
+                child.loadOntology(declaration.getIRI(), true, configuration), null);
+        } catch (OWLOntologyCreationException | OWLRuntimeException e) {
+            return new LoadedImport(declaration, child, null, e);
+        }
+    }
+
+    /**
+     * Waits for an imported ontology to be loaded. If no worker has started
+     * loading it yet, it is loaded on the calling thread.
+     *
+     * @param iri import IRI
+     * @return the imported ontology, or null if it was not scheduled, could not be loaded, or is
+     * part of an imports cycle with the load calling this method
+     */
+    @Nullable
+    OWLOntology await(IRI iri) {
+        OWLOntology existing = known.get(iri);
+        if (existing != null) {
+            return existing;
+        }
+        LoadTask task = tasks.get(iri);
+        if (task == null) {
+            return null;
+        }
+        LoadTask current = running.get().peek();
+        if (current != null) {
+            synchronized (waiting) {
+                for (LoadTask t = task; t != null; t = waiting.get(t)) {
+                    if (t == current) {
+                        return null;
+                    }
+                }
+                waiting.put(current, task);
+            }
+        }
+        try {
+            task.run();
+            return get(task).ontology;
+        } catch (OWLOntologyCreationException e) {
+            throw new OWLRuntimeException(e);
+        } finally {
+            if (current != null) {
+                synchronized (waiting) {
+                    waiting.remove(current);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for all scheduled loads, including those scheduled while waiting.
+     *
+     * @return loaded imports, in scheduling order
+     * @throws OWLOntologyCreationException if the current thread is interrupted while waiting
+     */
+    List<LoadedImport> awaitAll() throws OWLOntologyCreationException {
+        List<LoadedImport> loaded = new ArrayList<>();
+        LoadTask next = pending.poll();
+        while (next != null) {
+            // a task schedules the imports it finds before completing, so
+            // once the queue is empty all loads have been collected
+            next.run();
+            loaded.add(get(next));
+            next = pending.poll();
+        }
+        return loaded;
+    }
+
+    private static LoadedImport get(LoadTask task) throws OWLOntologyCreationException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OWLOntologyCreationException("Interrupted while loading imports", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof OWLOntologyCreationException) {
+                throw (OWLOntologyCreationException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OWLRuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * @return all the imports declarations encountered in the imports closure
+     */
+    Collection<OWLImportsDeclaration> requested() {
+        return requested;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A load that can run either on a worker or on a thread waiting for it;
+     * the load running on each thread is tracked to detect imports cycles.
+     */
+    private class LoadTask extends FutureTask<LoadedImport> {
+
+        LoadTask(Callable<LoadedImport> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            Deque<LoadTask> stack = running.get();
+            stack.push(this);
+            try {
+                // does nothing if the load has already been started
+                super.run();
+            } finally {
+                stack.pop();
+            }
+        }
+    }
+
+    /**
+     * Outcome of a load: the loading manager and either the ontology or the
+     * failure.
+     */
+    static class LoadedImport {
+
+        @Nullable
+        final OWLImportsDeclaration declaration;
+        final OWLOntologyManagerImpl loader;
+        @Nullable
+        final OWLOntology ontology;
+        @Nullable
+        final Exception error;
+
+        LoadedImport(@Nullable OWLImportsDeclaration declaration, OWLOntologyManagerImpl loader,
+            @Nullable OWLOntology ontology, @Nullable Exception error) {
+            this.declaration = declaration;
+            this.loader = loader;
+            this.ontology = ontology;
+            this.error = error;
+        }
+    }
+}
@@ -10,5 +10,15 @@ public enum Concurrency {
     CONCURRENT, /**
      * Non concurrent implementation.
      */
-    NON_CONCURRENT
+    NON_CONCURRENT, /**
+     * Concurrent implementation where each ontology has its own lock, so that
+     * changes to one ontology do not block queries on other ontologies in the
+     * same manager.
+     */
+    PER_ONTOLOGY, /**
+     * Concurrent implementation where small lookups, such as axiom
+     * containment and declaration checks, use optimistic reads and only take
+     * the read lock if a change happened meanwhile.
+     */
+    OPTIMISTIC
 }
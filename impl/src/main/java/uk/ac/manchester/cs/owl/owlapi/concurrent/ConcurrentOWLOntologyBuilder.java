@@ -31,6 +31,20 @@ public class ConcurrentOWLOntologyBuilder implements OWLOntologyBuilder {
     @Override
     public OWLOntology createOWLOntology(OWLOntologyManager manager, OWLOntologyID ontologyID) {
         OWLOntology owlOntology = builder.createOWLOntology(manager, ontologyID);
-        return new ConcurrentOWLOntologyImpl(owlOntology, readWriteLock);
+        return wrap(owlOntology, readWriteLock);
+    }
+
+    /**
+     * @param ontology ontology to wrap
+     * @param readWriteLock lock of the manager that will contain the ontology
+     * @return a concurrent ontology delegating to the ontology, with the implementation and lock
+     * matching the manager lock
+     */
+    public static ConcurrentOWLOntologyImpl wrap(OWLOntology ontology, ReadWriteLock readWriteLock) {
+        if (readWriteLock instanceof OptimisticReadWriteLock) {
+            return new OptimisticOWLOntologyImpl(ontology, (OptimisticReadWriteLock) readWriteLock);
+        }
+        return new ConcurrentOWLOntologyImpl(ontology,
+            PerOntologyReadWriteLock.forOntology(readWriteLock));
     }
 }
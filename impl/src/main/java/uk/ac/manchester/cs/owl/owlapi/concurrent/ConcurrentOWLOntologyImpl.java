@@ -120,8 +120,15 @@ import uk.ac.manchester.cs.owl.owlapi.HasTrimToSize;
 public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToSize {
 
     private final OWLOntology delegate;
+    private final ReadWriteLock readWriteLock;
     private final Lock readLock;
     private final Lock writeLock;
+    /**
+     * Lock for the changes that the delegate passes on to the manager. With
+     * per ontology locks, the manager takes the ontology locks itself, in the
+     * required order, so no lock is taken here.
+     */
+    private final Lock changeLock;
 
     /**
      * Constructs a ConcurrentOWLOntology that provides concurrent access to a
@@ -135,9 +142,29 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
     @Inject
     public ConcurrentOWLOntologyImpl(OWLOntology delegate, ReadWriteLock readWriteLock) {
         this.delegate = verifyNotNull(delegate);
-        verifyNotNull(readWriteLock);
+        this.readWriteLock = verifyNotNull(readWriteLock);
         readLock = readWriteLock.readLock();
         writeLock = readWriteLock.writeLock();
+        if (readWriteLock instanceof OntologyReadWriteLock) {
+            changeLock = new NoOpLock();
+        } else {
+            changeLock = writeLock;
+        }
+    }
+
+    /**
+     * @return the lock guarding this ontology
+     */
+    public ReadWriteLock getReadWriteLock() {
+        return readWriteLock;
+    }
+
+    /**
+     * @return the wrapped ontology; changes created by the ontology
+     *         implementation refer to it rather than to this ontology
+     */
+    OWLOntology getDelegate() {
+        return delegate;
     }
 
     @Override
@@ -2337,11 +2364,11 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
 
     @Override
     public ChangeApplied applyChange(OWLOntologyChange owlOntologyChange) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return getMutableOntology().applyChange(owlOntologyChange);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
@@ -2357,61 +2384,61 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
 
     @Override
     public ChangeApplied addAxiom(OWLAxiom owlAxiom) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return getMutableOntology().addAxiom(owlAxiom);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
     @Override
     public ChangeApplied addAxioms(Collection<? extends OWLAxiom> set) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return getMutableOntology().addAxioms(set);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
     @Override
     public ChangeApplied addAxioms(OWLAxiom... set) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return getMutableOntology().addAxioms(set);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
     @Override
     public ChangeApplied add(OWLAxiom owlAxiom) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return getMutableOntology().add(owlAxiom);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
     @Override
     public ChangeApplied add(Collection<? extends OWLAxiom> set) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return getMutableOntology().add(set);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
     @Override
     public ChangeApplied add(OWLAxiom... set) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return getMutableOntology().add(set);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
@@ -2485,61 +2512,61 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
 
     @Override
     public ChangeApplied removeAxiom(OWLAxiom axiom) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return delegate.removeAxiom(axiom);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
     @Override
     public ChangeApplied removeAxioms(Collection<? extends OWLAxiom> axioms) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return delegate.removeAxioms(axioms);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
     @Override
     public ChangeApplied removeAxioms(OWLAxiom... axioms) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return delegate.removeAxioms(axioms);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
     @Override
     public ChangeApplied remove(OWLAxiom axiom) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return delegate.remove(axiom);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
     @Override
     public ChangeApplied remove(Collection<? extends OWLAxiom> axioms) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return delegate.remove(axioms);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
     @Override
     public ChangeApplied remove(OWLAxiom... axioms) {
-        writeLock.lock();
+        changeLock.lock();
         try {
             return delegate.remove(axioms);
         } finally {
-            writeLock.unlock();
+            changeLock.unlock();
         }
     }
 
@@ -0,0 +1,106 @@
+package uk.ac.manchester.cs.owl.owlapi.concurrent;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import uk.ac.manchester.cs.owl.owlapi.Internals;
+import uk.ac.manchester.cs.owl.owlapi.OWLImmutableOntologyImpl;
+
+/**
+ * Immutable copy of the axioms, annotations and imports declarations of an
+ * ontology. The copy has its own concurrent indexes but shares the axiom objects
+ * with the source, and is not an
+ * {@link org.semanticweb.owlapi.model.OWLMutableOntology}, so any change applied
+ * to it through the manager fails. Readers can query it without locking, and
+ * without blocking each other, while the source ontology is being changed. Imported
+ * ontologies are not copied: lookups including the imports closure query the
+ * imported ontologies currently loaded in the manager.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class OWLOntologySnapshot extends OWLImmutableOntologyImpl {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Copies the source ontology; the caller must make sure that the source is
+     * not changed while this constructor runs.
+     *
+     * @param source ontology to copy
+     */
+    public OWLOntologySnapshot(OWLOntology source) {
+        this(new Contents(source));
+    }
+
+    /**
+     * Indexes contents collected earlier; the source can change while this
+     * constructor runs.
+     *
+     * @param contents contents to index
+     */
+    OWLOntologySnapshot(Contents contents) {
+        super(contents.manager, contents.id, new Internals(true));
+        for (OWLImportsDeclaration declaration : contents.importsDeclarations) {
+            ints.addImportsDeclaration(declaration);
+        }
+        for (OWLAnnotation annotation : contents.annotations) {
+            ints.addOntologyAnnotation(annotation);
+        }
+        for (OWLAxiom axiom : contents.axioms) {
+            ints.addAxiom(axiom);
+        }
+    }
+
+    // the manager caches imports closures by ontology id, and would return the
+    // closure of the live ontology; imported ontologies are looked up directly
+
+    @Override
+    public Stream<OWLOntology> directImports() {
+        return importsDeclarations().map(getOWLOntologyManager()::getImportedOntology)
+            .filter(Objects::nonNull);
+    }
+
+    @Override
+    public Stream<OWLOntology> imports() {
+        return directImports().flatMap(OWLOntology::importsClosure)
+            .filter(o -> !o.getOntologyID().equals(getOntologyID())).distinct();
+    }
+
+    @Override
+    public Stream<OWLOntology> importsClosure() {
+        return Stream.concat(Stream.of(this), imports());
+    }
+
+    /**
+     * Contents of an ontology, collected as arrays, so that the source only
+     * needs to be locked while the arrays are filled and not while they are
+     * indexed.
+     */
+    static class Contents {
+
+        final OWLOntologyManager manager;
+        final OWLOntologyID id;
+        final OWLImportsDeclaration[] importsDeclarations;
+        final OWLAnnotation[] annotations;
+        final OWLAxiom[] axioms;
+
+        /**
+         * @param source ontology to collect; the caller must make sure that
+         *        the source is not changed while this constructor runs
+         */
+        Contents(OWLOntology source) {
+            manager = source.getOWLOntologyManager();
+            id = source.getOntologyID();
+            importsDeclarations = source.importsDeclarations()
+                .toArray(OWLImportsDeclaration[]::new);
+            annotations = source.annotations().toArray(OWLAnnotation[]::new);
+            axioms = source.axioms().toArray(OWLAxiom[]::new);
+        }
+    }
+}
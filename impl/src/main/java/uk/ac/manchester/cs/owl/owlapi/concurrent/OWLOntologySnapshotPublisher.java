@@ -0,0 +1,177 @@
+package uk.ac.manchester.cs.owl.owlapi.concurrent;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * Publishes {@link OWLOntologySnapshot}s of an ontology. The publisher listens
+ * to the changes applied through the manager, and a new snapshot is copied at
+ * most once per batch of changes: by a task submitted to an executor right
+ * after the batch is applied if the publisher is eager, or by the first reader
+ * asking for it otherwise. The change listener itself never copies the
+ * ontology, and the ontology is only locked while its contents are collected,
+ * not while they are indexed, so writers are not held up by the copy. Readers always get the
+ * latest snapshot, and can keep using it for as long as they need a consistent
+ * view of the ontology. Call {@link #dispose()} to stop listening to changes.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class OWLOntologySnapshotPublisher implements OWLOntologyChangeListener {
+
+    private final OWLOntology ontology;
+    private final OWLOntologyManager manager;
+    /**
+     * Ontology that changes applied through the ontology refer to; for a
+     * concurrent ontology, this is the wrapped ontology.
+     */
+    private final OWLOntology changedOntology;
+    @Nullable
+    private final Executor executor;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot> current;
+
+    /**
+     * Creates a lazy publisher.
+     *
+     * @param ontology ontology to publish snapshots of
+     */
+    public OWLOntologySnapshotPublisher(OWLOntology ontology) {
+        this(ontology, null);
+    }
+
+    /**
+     * @param ontology ontology to publish snapshots of
+     * @param eager true if snapshots should be copied in the common fork join
+     *        pool as soon as changes are applied, rather than when first
+     *        requested
+     */
+    public OWLOntologySnapshotPublisher(OWLOntology ontology, boolean eager) {
+        this(ontology, eager ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * @param ontology ontology to publish snapshots of
+     * @param executor executor that copies the snapshots as soon as changes are
+     *        applied; if null, snapshots are copied when first requested
+     */
+    public OWLOntologySnapshotPublisher(OWLOntology ontology, @Nullable Executor executor) {
+        this.ontology = ontology;
+        changedOntology = ontology instanceof ConcurrentOWLOntologyImpl
+            ? ((ConcurrentOWLOntologyImpl) ontology).getDelegate() : ontology;
+        this.executor = executor;
+        manager = ontology.getOWLOntologyManager();
+        manager.addOntologyChangeListener(this);
+        current = new AtomicReference<>(copy());
+    }
+
+    /**
+     * @return the latest snapshot of the ontology
+     */
+    public OWLOntology getSnapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot.version == version.get()) {
+            return snapshot.ontology;
+        }
+        synchronized (this) {
+            snapshot = current.get();
+            if (snapshot.version == version.get()) {
+                return snapshot.ontology;
+            }
+            return publish(copy()).ontology;
+        }
+    }
+
+    /**
+     * Stops listening to changes; the last published snapshot can still be
+     * used, but will no longer be updated.
+     */
+    public void dispose() {
+        manager.removeOntologyChangeListener(this);
+    }
+
+    @Override
+    public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
+        // ontologies are compared by identity, as their ids change with
+        // SetOntologyID changes, and can be reused by other ontologies
+        if (changes.stream().map(OWLOntologyChange::getOntology)
+            .anyMatch(o -> o == ontology || o == changedOntology)) {
+            version.incrementAndGet();
+            // copying here would hold up the writer; batches applied before
+            // the copy starts share it
+            Executor e = executor;
+            if (e != null && refreshScheduled.compareAndSet(false, true)) {
+                e.execute(this::refresh);
+            }
+        }
+    }
+
+    private void refresh() {
+        // cleared first, so that changes applied during the copy schedule
+        // another one
+        refreshScheduled.set(false);
+        getSnapshot();
+    }
+
+    /**
+     * Collects the contents of the ontology under its read lock, if it has
+     * one, and indexes them once the lock is released. The version is read
+     * under the lock, so that it matches the collected axioms.
+     */
+    private Snapshot copy() {
+        long copiedVersion;
+        OWLOntologySnapshot.Contents contents;
+        Lock lock = readLock();
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            copiedVersion = version.get();
+            contents = new OWLOntologySnapshot.Contents(ontology);
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+        return new Snapshot(copiedVersion, new OWLOntologySnapshot(contents));
+    }
+
+    @Nullable
+    private Lock readLock() {
+        if (ontology instanceof ConcurrentOWLOntologyImpl) {
+            return ((ConcurrentOWLOntologyImpl) ontology).getReadWriteLock().readLock();
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the current snapshot unless a more recent one has been
+     * published meanwhile.
+     */
+    private Snapshot publish(Snapshot snapshot) {
+        return current.accumulateAndGet(snapshot,
+            (previous, next) -> next.version > previous.version ? next : previous);
+    }
+
+    private static class Snapshot {
+
+        final long version;
+        final OWLOntology ontology;
+
+        Snapshot(long version, OWLOntology ontology) {
+            this.version = version;
+            this.ontology = ontology;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package uk.ac.manchester.cs.owl.owlapi.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.Nullable;
+
+/**
+ * Lock for a single ontology in the {@link Concurrency#PER_ONTOLOGY} mode.
+ * Locks are acquired in a fixed order: the manager lock first, always for
+ * reading, then the ontology locks in ascending creation order. Readers may
+ * take ontology read locks in any order, e.g., while walking an imports
+ * closure; writers never wait indefinitely for an ontology write lock, but
+ * wait for a short time and, if the lock is still taken, release all the
+ * ontology locks they acquired and try again after a random pause. A queued
+ * writer therefore cannot keep readers that hold other ontology locks blocked
+ * forever, which rules out deadlocks between imports closure queries and
+ * changes spanning several ontologies.
+ * <p>
+ * Conditions are supported by the write lock only, as for
+ * {@link ReentrantReadWriteLock}; waiting on a condition releases both the
+ * ontology lock and the manager lock, and acquires them again in order.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class OntologyReadWriteLock implements ReadWriteLock, Comparable<OntologyReadWriteLock> {
+
+    private static final AtomicLong COUNTER = new AtomicLong();
+    private static final long WAIT_MILLIS = 10;
+    private static final long MAX_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private final long order = COUNTER.incrementAndGet();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    /**
+     * @param managerLock lock of the manager containing the ontology
+     */
+    OntologyReadWriteLock(ReadWriteLock managerLock) {
+        readLock = new ManagedLock(managerLock.readLock(), lock.readLock(), null);
+        writeLock = new ManagedLock(managerLock.readLock(), lock.writeLock(), lock);
+    }
+
+    @Override
+    public Lock readLock() {
+        return readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return writeLock;
+    }
+
+    @Override
+    public int compareTo(OntologyReadWriteLock o) {
+        return Long.compare(order, o.order);
+    }
+
+    /**
+     * Acquires the write locks of several ontologies in ascending order. The
+     * caller must already hold the manager lock, at least for reading.
+     *
+     * @param locks locks to acquire
+     */
+    public static void lockAll(Collection<OntologyReadWriteLock> locks) {
+        List<OntologyReadWriteLock> ordered = new ArrayList<>(new TreeSet<>(locks));
+        boolean interrupted = false;
+        int acquired = 0;
+        while (acquired < ordered.size()) {
+            Lock next = ordered.get(acquired).lock.writeLock();
+            try {
+                if (next.tryLock(WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    acquired++;
+                    continue;
+                }
+            } catch (@SuppressWarnings("unused") InterruptedException e) {
+                interrupted = true;
+            }
+            for (int i = 0; i < acquired; i++) {
+                ordered.get(i).lock.writeLock().unlock();
+            }
+            acquired = 0;
+            pause();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Releases the write locks acquired with {@link #lockAll(Collection)}.
+     *
+     * @param locks locks to release
+     */
+    public static void unlockAll(Collection<OntologyReadWriteLock> locks) {
+        new TreeSet<>(locks).forEach(l -> l.lock.writeLock().unlock());
+    }
+
+    private static void pause() {
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(MAX_PAUSE_NANOS));
+    }
+
+    /**
+     * Lock that acquires the manager lock before the ontology lock.
+     */
+    private static class ManagedLock implements Lock {
+
+        private final Lock managerLock;
+        private final Lock ontologyLock;
+        /**
+         * Lock owning the ontology lock if this is a write lock, null for read
+         * locks; write locks are acquired with timeouts.
+         */
+        @Nullable
+        private final ReentrantReadWriteLock owner;
+
+        ManagedLock(Lock managerLock, Lock ontologyLock, @Nullable ReentrantReadWriteLock owner) {
+            this.managerLock = managerLock;
+            this.ontologyLock = ontologyLock;
+            this.owner = owner;
+        }
+
+        @Override
+        public void lock() {
+            managerLock.lock();
+            lockOntology();
+        }
+
+        /**
+         * Acquires the ontology lock; the caller holds the manager lock.
+         */
+        private void lockOntology() {
+            if (owner == null) {
+                ontologyLock.lock();
+                return;
+            }
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    if (ontologyLock.tryLock(WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        break;
+                    }
+                } catch (@SuppressWarnings("unused") InterruptedException e) {
+                    interrupted = true;
+                }
+                pause();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            managerLock.lockInterruptibly();
+            try {
+                if (owner == null) {
+                    ontologyLock.lockInterruptibly();
+                    return;
+                }
+                while (!ontologyLock.tryLock(WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    pause();
+                }
+            } catch (InterruptedException e) {
+                managerLock.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (!managerLock.tryLock()) {
+                return false;
+            }
+            if (ontologyLock.tryLock()) {
+                return true;
+            }
+            managerLock.unlock();
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(long time, @Nullable TimeUnit unit) throws InterruptedException {
+            if (!managerLock.tryLock(time, unit)) {
+                return false;
+            }
+            try {
+                if (ontologyLock.tryLock(time, unit)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                managerLock.unlock();
+                throw e;
+            }
+            managerLock.unlock();
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            ontologyLock.unlock();
+            managerLock.unlock();
+        }
+
+        @Override
+        public Condition newCondition() {
+            if (owner == null) {
+                throw new UnsupportedOperationException("Read locks do not support conditions");
+            }
+            return new ManagedCondition(ontologyLock.newCondition(), owner);
+        }
+
+        /**
+         * Condition that releases the manager lock while waiting, so that a
+         * waiting thread does not keep manager writers, and the readers queued
+         * behind them, blocked.
+         */
+        private class ManagedCondition implements Condition {
+
+            private final Condition condition;
+            private final ReentrantReadWriteLock lockOwner;
+
+            ManagedCondition(Condition condition, ReentrantReadWriteLock lockOwner) {
+                this.condition = condition;
+                this.lockOwner = lockOwner;
+            }
+
+            /**
+             * Releases the manager lock once for each hold of the ontology
+             * lock, since each hold acquired the manager lock.
+             *
+             * @return number of holds of the ontology lock
+             */
+            private int release() {
+                if (!lockOwner.isWriteLockedByCurrentThread()) {
+                    throw new IllegalMonitorStateException();
+                }
+                int holds = lockOwner.getWriteHoldCount();
+                for (int i = 0; i < holds; i++) {
+                    managerLock.unlock();
+                }
+                return holds;
+            }
+
+            /**
+             * Called with the ontology lock held after waiting; releases it and
+             * acquires the manager lock and the ontology lock in order.
+             *
+             * @param holds number of holds to restore
+             */
+            private void reacquire(int holds) {
+                for (int i = 0; i < holds; i++) {
+                    ontologyLock.unlock();
+                }
+                for (int i = 0; i < holds; i++) {
+                    managerLock.lock();
+                }
+                lockOntology();
+                for (int i = 1; i < holds; i++) {
+                    ontologyLock.lock();
+                }
+            }
+
+            @Override
+            public void await() throws InterruptedException {
+                int holds = release();
+                try {
+                    condition.await();
+                } finally {
+                    reacquire(holds);
+                }
+            }
+
+            @Override
+            public void awaitUninterruptibly() {
+                int holds = release();
+                try {
+                    condition.awaitUninterruptibly();
+                } finally {
+                    reacquire(holds);
+                }
+            }
+
+            @Override
+            public long awaitNanos(long nanosTimeout) throws InterruptedException {
+                int holds = release();
+                try {
+                    return condition.awaitNanos(nanosTimeout);
+                } finally {
+                    reacquire(holds);
+                }
+            }
+
+            @Override
+            public boolean await(long time, @Nullable TimeUnit unit) throws InterruptedException {
+                int holds = release();
+                try {
+                    return condition.await(time, unit);
+                } finally {
+                    reacquire(holds);
+                }
+            }
+
+            @Override
+            public boolean awaitUntil(@Nullable Date deadline) throws InterruptedException {
+                int holds = release();
+                try {
+                    return condition.awaitUntil(deadline);
+                } finally {
+                    reacquire(holds);
+                }
+            }
+
+            @Override
+            public void signal() {
+                condition.signal();
+            }
+
+            @Override
+            public void signalAll() {
+                condition.signalAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package uk.ac.manchester.cs.owl.owlapi.concurrent;
+
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationSubject;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+/**
+ * Concurrent ontology that answers small, frequent lookups with optimistic
+ * reads: the lookup runs on the delegate without locking and is repeated
+ * under the read lock only if a writer was active meanwhile. This avoids the
+ * contention on the reader count of the read lock when many threads query the
+ * same ontologies. Lookups that return streams over potentially large results
+ * are not materialized, and take the read lock as in
+ * {@link ConcurrentOWLOntologyImpl}; so do lookups including the imports
+ * closure, which need the manager.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class OptimisticOWLOntologyImpl extends ConcurrentOWLOntologyImpl {
+
+    private final OWLOntology delegate;
+    private final OptimisticReadWriteLock lock;
+
+    /**
+     * @param delegate the delegate ontology
+     * @param lock the lock shared with the manager
+     */
+    public OptimisticOWLOntologyImpl(OWLOntology delegate, OptimisticReadWriteLock lock) {
+        super(delegate, lock);
+        this.delegate = delegate;
+        this.lock = lock;
+    }
+
+    /**
+     * Runs a lookup optimistically. A failure while a writer is active is
+     * expected, since the delegate may be seen in an inconsistent state; the
+     * lookup is then repeated under the read lock.
+     */
+    private boolean read(BooleanSupplier optimistic, BooleanSupplier locked) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                boolean value = optimistic.getAsBoolean();
+                if (lock.validate(stamp)) {
+                    return value;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return locked.getAsBoolean();
+    }
+
+    private int readInt(IntSupplier optimistic, IntSupplier locked) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                int value = optimistic.getAsInt();
+                if (lock.validate(stamp)) {
+                    return value;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return locked.getAsInt();
+    }
+
+    private <T> Stream<T> readAll(Supplier<Stream<T>> optimistic, Supplier<Stream<T>> locked) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                List<T> values = asList(optimistic.get());
+                if (lock.validate(stamp)) {
+                    return values.stream();
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return locked.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return read(delegate::isEmpty, super::isEmpty);
+    }
+
+    @Override
+    public boolean isDeclared(OWLEntity owlEntity) {
+        return read(() -> delegate.isDeclared(owlEntity), () -> super.isDeclared(owlEntity));
+    }
+
+    @Override
+    public boolean containsAxiom(OWLAxiom owlAxiom) {
+        return read(() -> delegate.containsAxiom(owlAxiom), () -> super.containsAxiom(owlAxiom));
+    }
+
+    @Override
+    public boolean containsAxiomIgnoreAnnotations(OWLAxiom owlAxiom) {
+        return read(() -> delegate.containsAxiomIgnoreAnnotations(owlAxiom),
+            () -> super.containsAxiomIgnoreAnnotations(owlAxiom));
+    }
+
+    @Override
+    public boolean containsEntityInSignature(OWLEntity owlEntity) {
+        return read(() -> delegate.containsEntityInSignature(owlEntity),
+            () -> super.containsEntityInSignature(owlEntity));
+    }
+
+    @Override
+    public boolean containsEntityInSignature(IRI iri) {
+        return read(() -> delegate.containsEntityInSignature(iri),
+            () -> super.containsEntityInSignature(iri));
+    }
+
+    @Override
+    public boolean containsClassInSignature(IRI iri) {
+        return read(() -> delegate.containsClassInSignature(iri),
+            () -> super.containsClassInSignature(iri));
+    }
+
+    @Override
+    public boolean containsObjectPropertyInSignature(IRI iri) {
+        return read(() -> delegate.containsObjectPropertyInSignature(iri),
+            () -> super.containsObjectPropertyInSignature(iri));
+    }
+
+    @Override
+    public boolean containsDataPropertyInSignature(IRI iri) {
+        return read(() -> delegate.containsDataPropertyInSignature(iri),
+            () -> super.containsDataPropertyInSignature(iri));
+    }
+
+    @Override
+    public boolean containsAnnotationPropertyInSignature(IRI iri) {
+        return read(() -> delegate.containsAnnotationPropertyInSignature(iri),
+            () -> super.containsAnnotationPropertyInSignature(iri));
+    }
+
+    @Override
+    public boolean containsDatatypeInSignature(IRI iri) {
+        return read(() -> delegate.containsDatatypeInSignature(iri),
+            () -> super.containsDatatypeInSignature(iri));
+    }
+
+    @Override
+    public boolean containsIndividualInSignature(IRI iri) {
+        return read(() -> delegate.containsIndividualInSignature(iri),
+            () -> super.containsIndividualInSignature(iri));
+    }
+
+    @Override
+    public boolean containsReference(OWLEntity owlEntity) {
+        return read(() -> delegate.containsReference(owlEntity),
+            () -> super.containsReference(owlEntity));
+    }
+
+    @Override
+    public int getAxiomCount() {
+        return readInt(delegate::getAxiomCount, super::getAxiomCount);
+    }
+
+    @Override
+    public int getLogicalAxiomCount() {
+        return readInt(delegate::getLogicalAxiomCount, super::getLogicalAxiomCount);
+    }
+
+    @Override
+    public Stream<OWLAnnotationAssertionAxiom> annotationAssertionAxioms(
+        OWLAnnotationSubject entity) {
+        return readAll(() -> delegate.annotationAssertionAxioms(entity),
+            () -> super.annotationAssertionAxioms(entity));
+    }
+
+    @Override
+    public Stream<OWLDeclarationAxiom> declarationAxioms(OWLEntity subject) {
+        return readAll(() -> delegate.declarationAxioms(subject),
+            () -> super.declarationAxioms(subject));
+    }
+}
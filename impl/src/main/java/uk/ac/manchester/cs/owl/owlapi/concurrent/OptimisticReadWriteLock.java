@@ -0,0 +1,101 @@
+package uk.ac.manchester.cs.owl.owlapi.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Reentrant read/write lock that also supports optimistic reads, for the
+ * {@link Concurrency#OPTIMISTIC} mode. Writers take a {@link StampedLock} for
+ * writing while they hold the outermost write lock; readers can then run
+ * without locking and check afterwards, with {@link #validate(long)}, that no
+ * writer was active in the meantime. The stamped lock is only ever taken by
+ * the thread holding the write lock, so acquiring it never blocks.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class OptimisticReadWriteLock extends ReentrantReadWriteLock {
+
+    private static final long serialVersionUID = 1L;
+    private final StampedLock sequence = new StampedLock();
+    private final SequencedWriteLock writeLock = new SequencedWriteLock(this);
+    /**
+     * Stamp of the current writer; only accessed while holding the write
+     * lock.
+     */
+    private long stamp;
+
+    @Override
+    public ReentrantReadWriteLock.WriteLock writeLock() {
+        return writeLock;
+    }
+
+    /**
+     * @return a stamp to validate after an optimistic read, or zero if a writer is active
+     */
+    public long tryOptimisticRead() {
+        return sequence.tryOptimisticRead();
+    }
+
+    /**
+     * @param readStamp stamp returned by {@link #tryOptimisticRead()}
+     * @return true if no writer has been active since the stamp was issued
+     */
+    public boolean validate(long readStamp) {
+        return sequence.validate(readStamp);
+    }
+
+    private void acquired() {
+        if (getWriteHoldCount() == 1) {
+            stamp = sequence.writeLock();
+        }
+    }
+
+    private class SequencedWriteLock extends ReentrantReadWriteLock.WriteLock {
+
+        private static final long serialVersionUID = 1L;
+
+        SequencedWriteLock(ReentrantReadWriteLock lock) {
+            super(lock);
+        }
+
+        @Override
+        public void lock() {
+            super.lock();
+            acquired();
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            super.lockInterruptibly();
+            acquired();
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (super.tryLock()) {
+                acquired();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(long timeout, TimeUnit unit) throws InterruptedException {
+            if (super.tryLock(timeout, unit)) {
+                acquired();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            if (getWriteHoldCount() == 1) {
+                sequence.unlockWrite(stamp);
+            }
+            super.unlock();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package uk.ac.manchester.cs.owl.owlapi.concurrent;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Manager lock for the {@link Concurrency#PER_ONTOLOGY} mode. The manager
+ * holds this lock for reading while changes are applied to its ontologies, and
+ * for writing only when its own state changes, e.g., when ontologies are
+ * created, loaded or removed, or when imports or ontology ids change. Each
+ * ontology is guarded by its own {@link OntologyReadWriteLock}.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class PerOntologyReadWriteLock extends ReentrantReadWriteLock {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @return a new lock for an ontology managed under this lock
+     */
+    public OntologyReadWriteLock newOntologyLock() {
+        return new OntologyReadWriteLock(this);
+    }
+
+    /**
+     * @param managerLock lock of the manager that will contain the ontology
+     * @return the lock to use for a new ontology: a new ontology lock if the manager lock is a
+     * per ontology lock, the manager lock otherwise
+     */
+    public static ReadWriteLock forOntology(ReadWriteLock managerLock) {
+        if (managerLock instanceof PerOntologyReadWriteLock) {
+            return ((PerOntologyReadWriteLock) managerLock).newOntologyLock();
+        }
+        return managerLock;
+    }
+}
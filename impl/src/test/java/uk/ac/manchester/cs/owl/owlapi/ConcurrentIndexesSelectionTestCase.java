@@ -0,0 +1,50 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+@SuppressWarnings("javadoc")
+public class ConcurrentIndexesSelectionTestCase {
+
+    private static final String NS = "urn:test:indexes#";
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+
+    private OWLOntologyManager manager() {
+        OWLOntologyManager m = new OWLOntologyManagerImpl(df, new ReentrantReadWriteLock());
+        m.getOntologyFactories()
+            .set(new OWLOntologyFactoryImpl((o, id) -> new OWLOntologyImpl(o, id)));
+        return m;
+    }
+
+    private OWLImmutableOntologyImpl create(OWLOntologyManager m, String name) throws Exception {
+        OWLImmutableOntologyImpl o =
+            (OWLImmutableOntologyImpl) m.createOntology(IRI.create(NS, name));
+        OWLClass a = df.getOWLClass(NS, "A");
+        OWLClass b = df.getOWLClass(NS, "B");
+        o.getOWLOntologyManager().addAxiom(o, df.getOWLSubClassOfAxiom(a, b));
+        assertEquals(1, o.subClassAxiomsForSubClass(a).count());
+        assertTrue(o.containsClassInSignature(b.getIRI()));
+        return o;
+    }
+
+    @Test
+    public void shouldSelectIndexesPerOntology() throws Exception {
+        OWLOntologyManager m = manager();
+        OWLImmutableOntologyImpl plain = create(m, "plain");
+        m.getOntologyConfigurator().withConcurrentIndexes(true);
+        OWLImmutableOntologyImpl concurrent = create(m, "concurrent");
+        assertFalse(plain.ints.getAxiomsByType() instanceof ConcurrentMapPointer);
+        assertTrue(concurrent.ints.getAxiomsByType() instanceof ConcurrentMapPointer);
+        // other managers are not affected
+        OWLImmutableOntologyImpl other = create(manager(), "other");
+        assertFalse(other.ints.getAxiomsByType() instanceof ConcurrentMapPointer);
+    }
+}
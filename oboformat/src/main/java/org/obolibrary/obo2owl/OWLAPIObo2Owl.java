@@ -1,6 +1,8 @@
 package org.obolibrary.obo2owl;
 
 import static org.obolibrary.obo2owl.Obo2OWLConstants.DEFAULT_IRI_PREFIX;
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.getResult;
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.newDaemonThreadPool;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.emptyOptional;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.optional;
@@ -8,6 +10,8 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.io.File;
 import java.io.IOException;
@@ -24,6 +28,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 import org.obolibrary.obo2owl.Obo2OWLConstants.Obo2OWLVocabulary;
@@ -96,6 +103,14 @@ public class OWLAPIObo2Owl {
     private static final Set<String> SKIPPED_QUALIFIERS = Sets
         .newHashSet("gci_relation", "gci_filler", "cardinality",
             "minCardinality", "maxCardinality", "all_some", "all_only");
+    /**
+     * Minimum size of the id to IRI cache.
+     */
+    private static final int MIN_CACHE_SIZE = 1024;
+    /**
+     * Number of chunks of term frames per translation thread.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
     /**
      * The id space map.
      */
@@ -138,15 +153,17 @@ public class OWLAPIObo2Owl {
      * ConcurrentHashMap implementation causes livelocks for this particular
      * situation.
      */
-    private final com.google.common.cache.LoadingCache<String, IRI> idToIRICache = CacheBuilder
-        .newBuilder()
-        .maximumSize(1024).build(new CacheLoader<String, IRI>() {
-
-            @Override
-            public IRI load(String key) {
-                return loadOboToIRI(key);
-            }
-        });
+    private LoadingCache<String, IRI> idToIRICache = createIdToIRICache(MIN_CACHE_SIZE);
+    /**
+     * Number of threads used to translate term frames; 0 translates them on
+     * the calling thread.
+     */
+    private int parallelTranslationThreads = 0;
+    /**
+     * Axioms translated by the current worker thread; null on the calling
+     * thread, where axioms are added to the ontology directly.
+     */
+    private final ThreadLocal<Set<OWLAxiom>> batch = new ThreadLocal<>();
 
     /**
      * Instantiates a new oWLAPI obo2 owl.
@@ -156,7 +173,8 @@ public class OWLAPIObo2Owl {
     @SuppressWarnings("null")
     public OWLAPIObo2Owl(OWLOntologyManager manager) {
         idSpaceMap = new HashMap<>();
-        apToDeclare = new HashSet<>();
+        // term frames translated in parallel declare annotation properties
+        apToDeclare = ConcurrentHashMap.newKeySet();
         clsToDeclare = new HashMap<>();
         typedefToAnnotationProperty = new HashMap<>();
         init(manager);
@@ -391,6 +409,26 @@ public class OWLAPIObo2Owl {
         this.manager = manager;
     }
 
+    /**
+     * @return number of threads used to translate term frames; 0 means term
+     *         frames are translated on the calling thread
+     */
+    public int getParallelTranslationThreads() {
+        return parallelTranslationThreads;
+    }
+
+    /**
+     * Sets the number of threads used to translate term frames. Each thread
+     * translates a chunk of term frames into a batch of axioms, and batches
+     * are added to the ontology on the calling thread. The translated axioms
+     * are the same as with sequential translation.
+     *
+     * @param threads number of threads; 0 translates on the calling thread
+     */
+    public void setParallelTranslationThreads(int threads) {
+        parallelTranslationThreads = threads;
+    }
+
     /**
      * Gets the obodoc.
      *
@@ -482,6 +520,11 @@ public class OWLAPIObo2Owl {
      */
     protected OWLOntology tr(OWLOntology in) {
         setOwlOntology(in);
+        // every frame id is translated at least once, and most are referred to
+        // from other frames as well
+        idToIRICache = createIdToIRICache(Math.max(MIN_CACHE_SIZE,
+            obodoc.getTermFrames().size() + obodoc.getTypedefFrames().size()
+                + obodoc.getInstanceFrames().size()));
         Frame hf = verifyNotNull(obodoc.getHeaderFrame());
         Clause ontClause = hf.getClause(OboFormatTag.TAG_ONTOLOGY);
         if (ontClause != null) {
@@ -526,7 +569,7 @@ public class OWLAPIObo2Owl {
         trHeaderFrame(hf);
         obodoc.getTypedefFrames().forEach(this::trTypedefToAnnotationProperty);
         obodoc.getTypedefFrames().forEach(this::trTypedefFrame);
-        obodoc.getTermFrames().forEach(this::trTermFrame);
+        trTermFrames(obodoc.getTermFrames());
         // TODO - individuals
         for (Clause cl : hf.getClauses(OboFormatTag.TAG_IMPORT)) {
             String path = getURI(cl.getValue().toString());
@@ -729,6 +772,44 @@ public class OWLAPIObo2Owl {
         apply(addAnn);
     }
 
+    /**
+     * Translates term frames, on worker threads if translation threads are
+     * configured.
+     *
+     * @param termFrames the term frames
+     */
+    protected void trTermFrames(Collection<Frame> termFrames) {
+        if (parallelTranslationThreads < 1 || termFrames.size() < 2) {
+            termFrames.forEach(this::trTermFrame);
+            return;
+        }
+        int chunks = parallelTranslationThreads * CHUNKS_PER_THREAD;
+        List<List<Frame>> partition = Lists
+            .partition(new ArrayList<>(termFrames), (termFrames.size() + chunks - 1) / chunks);
+        ExecutorService executor =
+            newDaemonThreadPool(parallelTranslationThreads, "owlapi-obo-translator");
+        try {
+            List<Future<Set<OWLAxiom>>> futures = new ArrayList<>(partition.size());
+            partition.forEach(frames -> futures.add(executor.submit(() -> trTermFrameBatch(frames))));
+            for (Future<Set<OWLAxiom>> f : futures) {
+                add(getResult(f));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Set<OWLAxiom> trTermFrameBatch(List<Frame> termFrames) {
+        Set<OWLAxiom> axioms = new HashSet<>();
+        batch.set(axioms);
+        try {
+            termFrames.forEach(this::trTermFrame);
+        } finally {
+            batch.remove();
+        }
+        return axioms;
+    }
+
     /**
      * Tr term frame.
      *
@@ -977,6 +1058,11 @@ public class OWLAPIObo2Owl {
             LOG.error("no axiom");
             return;
         }
+        Set<OWLAxiom> pending = batch.get();
+        if (pending != null) {
+            pending.addAll(axioms);
+            return;
+        }
         getOwlOntology().add(axioms);
     }
 
@@ -1433,8 +1519,7 @@ public class OWLAPIObo2Owl {
     protected OWLAnnotationProperty trTagToAnnotationProp(String tag) {
         IRI iri = trTagToIRI(tag);
         OWLAnnotationProperty ap = fac.getOWLAnnotationProperty(iri);
-        if (!apToDeclare.contains(ap)) {
-            apToDeclare.add(ap);
+        if (apToDeclare.add(ap)) {
             add(fac.getOWLDeclarationAxiom(ap));
             Obo2OWLVocabulary vocab = Obo2OWLConstants.getVocabularyObj(tag);
             if (vocab != null) {
@@ -1523,6 +1608,18 @@ public class OWLAPIObo2Owl {
         return idToIRICache.getUnchecked(id);
     }
 
+    private LoadingCache<String, IRI> createIdToIRICache(int size) {
+        return CacheBuilder.newBuilder().maximumSize(size)
+            .concurrencyLevel(Math.max(4, parallelTranslationThreads))
+            .build(new CacheLoader<String, IRI>() {
+
+                @Override
+                public IRI load(String key) {
+                    return loadOboToIRI(key);
+                }
+            });
+    }
+
     /**
      * Obo id to iri.
      *
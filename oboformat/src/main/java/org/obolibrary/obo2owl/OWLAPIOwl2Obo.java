@@ -1,6 +1,8 @@
 package org.obolibrary.obo2owl;
 
 import static org.semanticweb.owlapi.search.EntitySearcher.getAnnotationObjects;
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.getResult;
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.newDaemonThreadPool;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.emptyOptional;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.optional;
@@ -8,6 +10,7 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -17,10 +20,14 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -114,7 +121,8 @@ public class OWLAPIOwl2Obo {
         .newHashSet("gci_relation", "gci_filler", "cardinality",
             "minCardinality", "maxCardinality", "all_some", "all_only");
     protected final Pattern absoluteURLPattern = Pattern.compile("<\\s*http.*?>");
-    protected final Set<OWLAxiom> untranslatableAxioms = new HashSet<>();
+    // axioms translated on worker threads can be untranslatable
+    protected final Set<OWLAxiom> untranslatableAxioms = ConcurrentHashMap.newKeySet();
     protected final Map<String, String> idSpaceMap = new HashMap<>();
     protected final Set<OWLAnnotationProperty> apToDeclare = new HashSet<>();
     private final OWLDataFactory df;
@@ -128,6 +136,11 @@ public class OWLAPIOwl2Obo {
      * Mute untranslatable axiom warnings.
      */
     private boolean muteUntranslatableAxioms = false;
+    /**
+     * Number of threads used to translate class axioms; 0 translates them on
+     * the calling thread.
+     */
+    private int parallelTranslationThreads = 0;
 
     /**
      * Instantiates a new oWLAPI owl2 obo.
@@ -658,6 +671,27 @@ public class OWLAPIOwl2Obo {
         this.discardUntranslatable = discardUntranslatable;
     }
 
+    /**
+     * @return number of threads used to translate class axioms; 0 means all
+     *         axioms are translated on the calling thread
+     */
+    public int getParallelTranslationThreads() {
+        return parallelTranslationThreads;
+    }
+
+    /**
+     * Sets the number of threads used to translate class axioms. Declarations
+     * and subclass axioms of a named class only change the term frame of that
+     * class, so they are grouped by class and the groups are translated on
+     * worker threads; all other axioms are translated on the calling thread
+     * afterwards.
+     *
+     * @param threads number of threads; 0 translates on the calling thread
+     */
+    public void setParallelTranslationThreads(int threads) {
+        parallelTranslationThreads = threads;
+    }
+
     /**
      * Gets the manager.
      *
@@ -729,8 +763,7 @@ public class OWLAPIOwl2Obo {
         setObodoc(new OBODoc());
         preProcess();
         tr(getOWLOntology());
-        OWLAxiomVisitor visitor = new Translator();
-        getOWLOntology().axioms().forEach(ax -> ax.accept(visitor));
+        trAxioms(new Translator());
         if (!untranslatableAxioms.isEmpty() && !discardUntranslatable) {
             String axiomString = OwlStringTools.translate(untranslatableAxioms, manager);
             if (!axiomString.isEmpty()) {
@@ -745,6 +778,67 @@ public class OWLAPIOwl2Obo {
         return getObodoc();
     }
 
+    /**
+     * Translates the axioms of the ontology, in parallel if translation
+     * threads are configured.
+     *
+     * @param visitor the translating visitor
+     */
+    protected void trAxioms(OWLAxiomVisitor visitor) {
+        if (parallelTranslationThreads < 1) {
+            getOWLOntology().axioms().forEach(ax -> ax.accept(visitor));
+            return;
+        }
+        Map<OWLClass, List<OWLAxiom>> byClass = new LinkedHashMap<>();
+        List<OWLAxiom> others = new ArrayList<>();
+        getOWLOntology().axioms().forEach(ax -> {
+            OWLClass c = framedClass(ax);
+            if (c == null) {
+                others.add(ax);
+            } else {
+                byClass.computeIfAbsent(c, k -> new ArrayList<>()).add(ax);
+            }
+        });
+        int chunks = parallelTranslationThreads * 4;
+        List<List<List<OWLAxiom>>> partition = Lists.partition(
+            new ArrayList<>(byClass.values()), Math.max(1, (byClass.size() + chunks - 1) / chunks));
+        ExecutorService executor =
+            newDaemonThreadPool(parallelTranslationThreads, "owlapi-owl2obo-translator");
+        try {
+            List<Future<?>> futures = new ArrayList<>(partition.size());
+            partition.forEach(groups -> futures.add(executor.submit(
+                () -> groups.forEach(axioms -> axioms.forEach(ax -> ax.accept(visitor))))));
+            for (Future<?> f : futures) {
+                getResult(f);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        others.forEach(ax -> ax.accept(visitor));
+    }
+
+    /**
+     * @param ax axiom
+     * @return the class whose term frame is the only frame changed when
+     *         translating the axiom, or null if other frames might be changed
+     */
+    @Nullable
+    private OWLClass framedClass(OWLAxiom ax) {
+        if (ax instanceof OWLSubClassOfAxiom) {
+            OWLClassExpression sub = ((OWLSubClassOfAxiom) ax).getSubClass();
+            return sub.isOWLClass() ? sub.asOWLClass() : null;
+        }
+        if (ax instanceof OWLDeclarationAxiom) {
+            OWLEntity entity = ((OWLDeclarationAxiom) ax).getEntity();
+            // alt_id declarations change the frame of the replacing class
+            if (entity.isOWLClass() && !checkForOboAltId(
+                asList(getOWLOntology().annotationAssertionAxioms(entity.getIRI()))).isPresent()) {
+                return entity.asOWLClass();
+            }
+        }
+        return null;
+    }
+
     /**
      * Pre process.
      */
@@ -804,7 +898,7 @@ public class OWLAPIOwl2Obo {
         }
     }
 
-    protected void add(@Nullable Frame f) {
+    protected synchronized void add(@Nullable Frame f) {
         if (f != null) {
             try {
                 getObodoc().addFrame(f);
@@ -1869,7 +1963,7 @@ public class OWLAPIOwl2Obo {
         return getTermFrame(id);
     }
 
-    private Frame getTermFrame(String id) {
+    private synchronized Frame getTermFrame(String id) {
         Frame f = getObodoc().getTermFrame(id);
         if (f == null) {
             f = new Frame(FrameType.TERM);
@@ -1891,7 +1985,7 @@ public class OWLAPIOwl2Obo {
         return getTypedefFrame(checkNotNull(id));
     }
 
-    private Frame getTypedefFrame(String id) {
+    private synchronized Frame getTypedefFrame(String id) {
         Frame f = getObodoc().getTypedefFrame(id);
         if (f == null) {
             f = new Frame(FrameType.TYPEDEF);
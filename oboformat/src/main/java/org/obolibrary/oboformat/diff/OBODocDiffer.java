@@ -1,21 +1,47 @@
 package org.obolibrary.oboformat.diff;
 
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.getResult;
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.newDaemonThreadPool;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import org.obolibrary.oboformat.model.Clause;
 import org.obolibrary.oboformat.model.Frame;
+import org.obolibrary.oboformat.model.Frame.FrameType;
 import org.obolibrary.oboformat.model.OBODoc;
+import org.obolibrary.oboformat.model.QualifierValue;
 import org.obolibrary.oboformat.model.Xref;
 import org.obolibrary.oboformat.parser.OBOFormatConstants.OboFormatTag;
+import org.obolibrary.oboformat.parser.OBOFormatParser;
 
 /**
  * Diffs two OBO Documents. Performs structural diffing only - does not use
- * reasoning (use OWLDiff or similar tools for this)
+ * reasoning (use OWLDiff or similar tools for this).
+ * <p>
+ * The hashed variants compare per-frame content hashes first, and only compare
+ * clause by clause the frames whose hashes differ; the diffs returned are the
+ * same as the ones returned by {@link #getDiffs(OBODoc, OBODoc)}. Diffing two
+ * files only keeps in memory the hashes of all frames and the frames that
+ * differ.
  *
  * @author cjm
  */
@@ -39,6 +65,168 @@ public class OBODocDiffer {
         return diffs;
     }
 
+    /**
+     * Diffs two documents comparing frame content hashes first; frames with
+     * different hashes are compared on a pool of worker threads.
+     *
+     * @param doc1 doc1
+     * @param doc2 doc2
+     * @param threads number of worker threads; 0 or less compares frames on
+     *        the calling thread
+     * @return list of diffs, same as {@link #getDiffs(OBODoc, OBODoc)}
+     */
+    public static List<Diff> getDiffs(OBODoc doc1, OBODoc doc2, int threads) {
+        List<Diff> diffs = new ArrayList<>();
+        diffs.addAll(getDiffs("Header", verifyNotNull(doc1.getHeaderFrame()),
+            verifyNotNull(doc2.getHeaderFrame())));
+        diffs.addAll(getHashedDiffs("Term", doc1.getTermFrames(), doc2.getTermFrames(), threads));
+        diffs.addAll(
+            getHashedDiffs("Typedef", doc1.getTypedefFrames(), doc2.getTypedefFrames(), threads));
+        diffs.addAll(getHashedDiffs("Instance", doc1.getInstanceFrames(),
+            doc2.getInstanceFrames(), threads));
+        return diffs;
+    }
+
+    /**
+     * Diffs two OBO files without materializing both documents. A first pass
+     * over each file computes the content hash of every frame; a second pass
+     * parses only the frames whose hashes differ, or which are missing in the
+     * second file. Frames are compared on a pool of worker threads.
+     *
+     * @param file1 file1
+     * @param file2 file2
+     * @param threads number of worker threads; 0 or less compares frames on
+     *        the calling thread
+     * @return list of diffs, same as {@link #getDiffs(OBODoc, OBODoc)} for the
+     *         parsed files
+     * @throws IOException if the files cannot be read
+     */
+    public static List<Diff> getDiffs(File file1, File file2, int threads) throws IOException {
+        FrameHashes hashes1 = new FrameHashes();
+        Frame header1 = verifyNotNull(hashes1.parse(file1).getHeaderFrame());
+        FrameHashes hashes2 = new FrameHashes();
+        Frame header2 = verifyNotNull(hashes2.parse(file2).getHeaderFrame());
+        Map<FrameType, Set<String>> changed1 = new EnumMap<>(FrameType.class);
+        Map<FrameType, Set<String>> changed2 = new EnumMap<>(FrameType.class);
+        for (FrameType type : FrameType.values()) {
+            Set<String> ids1 = new HashSet<>();
+            Set<String> ids2 = new HashSet<>();
+            Map<String, HashCode> h2 = hashes2.get(type);
+            hashes1.get(type).forEach((id, h) -> {
+                if (!h2.containsKey(id)) {
+                    ids1.add(id);
+                } else if (h == null || !h.equals(h2.get(id))) {
+                    ids1.add(id);
+                    ids2.add(id);
+                }
+            });
+            changed1.put(type, ids1);
+            changed2.put(type, ids2);
+        }
+        OBODoc doc1 = parse(file1, changed1);
+        OBODoc doc2 = parse(file2, changed2);
+        List<Diff> diffs = new ArrayList<>();
+        diffs.addAll(getDiffs("Header", header1, header2));
+        diffs.addAll(getHashedDiffs("Term", frames(hashes1.get(FrameType.TERM), doc1::getTermFrame),
+            map(doc2.getTermFrames()), hashes2.get(FrameType.TERM)::containsKey, threads));
+        diffs.addAll(getHashedDiffs("Typedef",
+            frames(hashes1.get(FrameType.TYPEDEF), doc1::getTypedefFrame),
+            map(doc2.getTypedefFrames()), hashes2.get(FrameType.TYPEDEF)::containsKey, threads));
+        diffs.addAll(getHashedDiffs("Instance",
+            frames(hashes1.get(FrameType.INSTANCE), doc1::getInstanceFrame),
+            map(doc2.getInstanceFrames()), hashes2.get(FrameType.INSTANCE)::containsKey, threads));
+        return diffs;
+    }
+
+    /**
+     * @return the materialized frames, in the iteration order of the frames
+     *         in the fully parsed document
+     */
+    private static List<Frame> frames(Map<String, HashCode> hashes,
+        Function<String, Frame> materialized) {
+        List<Frame> frames = new ArrayList<>();
+        hashes.keySet().forEach(id -> {
+            Frame f = materialized.apply(id);
+            if (f != null) {
+                frames.add(f);
+            }
+        });
+        return frames;
+    }
+
+    private static OBODoc parse(File file, Map<FrameType, Set<String>> ids) throws IOException {
+        return new OBOFormatParser() {
+
+            @Override
+            protected void addFrame(OBODoc obodoc, Frame f, int lineNo,
+                @Nullable String line) {
+                FrameType type = f.getType();
+                if (type != null && verifyNotNull(ids.get(type)).contains(f.getId())) {
+                    super.addFrame(obodoc, f, lineNo, line);
+                }
+            }
+        }.parse(file);
+    }
+
+    /**
+     * Content hash of a frame. Frames with the same hash have no diffs: clauses
+     * are hashed as a set, in a form that distinguishes any two clauses that
+     * are not equal.
+     *
+     * @param f frame
+     * @return content hash
+     */
+    public static HashCode contentHash(Frame f) {
+        Set<String> clauses = new TreeSet<>();
+        f.getClauses().forEach(c -> clauses.add(canonical(c)));
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        clauses.forEach(c -> hasher.putInt(c.length()).putUnencodedChars(c));
+        return hasher.hash();
+    }
+
+    private static String canonical(Clause c) {
+        StringBuilder b = new StringBuilder();
+        append(b, c.getTag());
+        c.getValues().forEach(v -> append(b, v));
+        // order of xrefs and qualifiers is not important, but their number is
+        b.append('|');
+        sorted(c.getXrefs()).forEach(x -> append(b, x));
+        b.append('|');
+        List<String> qualifiers = new ArrayList<>(c.getQualifierValues().size());
+        c.getQualifierValues().forEach(q -> qualifiers.add(canonical(q)));
+        qualifiers.sort(null);
+        qualifiers.forEach(q -> append(b, q));
+        return b.toString();
+    }
+
+    private static String canonical(QualifierValue q) {
+        StringBuilder b = new StringBuilder();
+        append(b, q.getQualifier());
+        append(b, q.getValue());
+        return b.toString();
+    }
+
+    private static List<String> sorted(Collection<Xref> xrefs) {
+        List<String> list = new ArrayList<>(xrefs.size());
+        // the string form includes the xref annotation
+        xrefs.forEach(x -> list.add(x.toString()));
+        list.sort(null);
+        return list;
+    }
+
+    private static void append(StringBuilder b, @Nullable Object o) {
+        if (o == null) {
+            b.append('-');
+            return;
+        }
+        String s = o.toString();
+        b.append(o.getClass().getName()).append(':').append(s.length()).append(':').append(s);
+        if (!(o instanceof String || o instanceof Xref || o instanceof Boolean)) {
+            // other values might have the same string form and not be equal
+            b.append('#').append(o.hashCode());
+        }
+    }
+
     // FRAME LISTS
     private static List<Diff> getDiffsAsym(String ftype, Collection<Frame> fl1,
         Collection<Frame> fl2, int n,
@@ -66,6 +254,70 @@ public class OBODocDiffer {
         return diffs;
     }
 
+    private static List<Diff> getHashedDiffs(String ftype, Collection<Frame> fl1,
+        Collection<Frame> fl2, int threads) {
+        Map<String, Frame> fm2 = map(fl2);
+        return getHashedDiffs(ftype, new ArrayList<>(fl1), fm2, fm2::containsKey, threads);
+    }
+
+    private static Map<String, Frame> map(Collection<Frame> frames) {
+        Map<String, Frame> map = new HashMap<>();
+        frames.forEach(f -> map.put(f.getId(), f));
+        return map;
+    }
+
+    /**
+     * @param fl1 frames of the first document
+     * @param fm2 frames of the second document by id, at least those with the
+     *        same ids as frames in fl1 and different content hashes
+     * @param inDoc2 tells whether an id has a frame in the second document
+     */
+    private static List<Diff> getHashedDiffs(String ftype, List<Frame> fl1,
+        Map<String, Frame> fm2, Predicate<String> inDoc2, int threads) {
+        List<Diff> diffs = new ArrayList<>();
+        if (threads <= 0) {
+            fl1.forEach(f1 -> diffs.addAll(getHashedDiffs(ftype, f1, fm2, inDoc2)));
+        } else {
+            int chunks = threads * 4;
+            List<List<Frame>> partition = Lists.partition(fl1,
+                Math.max(1, (fl1.size() + chunks - 1) / chunks));
+            ExecutorService executor = newDaemonThreadPool(threads, "owlapi-obo-differ");
+            try {
+                List<Future<List<Diff>>> futures = new ArrayList<>(partition.size());
+                partition.forEach(frames -> futures.add(executor.submit(() -> {
+                    List<Diff> l = new ArrayList<>();
+                    frames.forEach(f1 -> l.addAll(getHashedDiffs(ftype, f1, fm2, inDoc2)));
+                    return l;
+                })));
+                for (Future<List<Diff>> f : futures) {
+                    diffs.addAll(getResult(f));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        for (Frame f1 : fl1) {
+            if (!inDoc2.test(f1.getId())) {
+                diffs.add(new Diff(ftype, "cannot find frame", f1, 2));
+            }
+        }
+        return diffs;
+    }
+
+    private static List<Diff> getHashedDiffs(String ftype, Frame f1, Map<String, Frame> fm2,
+        Predicate<String> inDoc2) {
+        List<Diff> diffs = new ArrayList<>();
+        if (inDoc2.test(f1.getId())) {
+            Frame f2 = verifyNotNull(fm2.get(f1.getId()));
+            if (!contentHash(f1).equals(contentHash(f2))) {
+                diffs.addAll(getDiffs(ftype, f1, f2));
+            }
+        } else {
+            diffs.add(new Diff(ftype, "cannot find frame", f1, 1));
+        }
+        return diffs;
+    }
+
     // FRAMES
     private static List<Diff> getDiffsAsym(String ftype, Frame f1, Frame f2, int n) {
         List<Diff> diffs = new ArrayList<>();
@@ -104,4 +356,58 @@ public class OBODocDiffer {
         diffs.addAll(getDiffsAsym(ftype, f2, f1, 2));
         return diffs;
     }
+
+    /**
+     * Frame content hashes by type and id, in the order in which a parsed
+     * document would keep the frames. Frames defined by more than one stanza
+     * have a null hash, so that they are always compared clause by clause.
+     */
+    private static class FrameHashes {
+
+        private final Map<FrameType, Map<String, HashCode>> hashes = new EnumMap<>(
+            FrameType.class);
+
+        FrameHashes() {
+            for (FrameType type : FrameType.values()) {
+                // same map type as the frame maps in OBODoc, so that the
+                // iteration order matches
+                hashes.put(type, new HashMap<>());
+            }
+        }
+
+        Map<String, HashCode> get(FrameType type) {
+            return verifyNotNull(hashes.get(type));
+        }
+
+        /**
+         * @return a document with only the header frame
+         */
+        OBODoc parse(File file) throws IOException {
+            return new OBOFormatParser() {
+
+                @Override
+                protected void addFrame(OBODoc obodoc, Frame f, int lineNo,
+                    @Nullable String line) {
+                    FrameType type = f.getType();
+                    if (type == null) {
+                        return;
+                    }
+                    Map<String, HashCode> map = get(type);
+                    String id = f.getId();
+                    if (map.containsKey(id)) {
+                        map.put(id, null);
+                        return;
+                    }
+                    // the parser adds the default namespace to frames in the
+                    // document once parsing is complete
+                    String ns = verifyNotNull(obodoc.getHeaderFrame())
+                        .getTagValue(OboFormatTag.TAG_DEFAULT_NAMESPACE, String.class);
+                    if (ns != null && f.getClause(OboFormatTag.TAG_NAMESPACE) == null) {
+                        f.addClause(new Clause(OboFormatTag.TAG_NAMESPACE, ns));
+                    }
+                    map.put(id, contentHash(f));
+                }
+            }.parse(file);
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package org.obolibrary.oboformat.parser;
 
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.getResult;
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.newDaemonThreadPool;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -10,14 +12,19 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import javax.annotation.Nullable;
 import org.obolibrary.oboformat.model.Clause;
 import org.obolibrary.oboformat.model.Frame;
@@ -36,10 +43,16 @@ import org.slf4j.LoggerFactory;
 public class OBOFormatParser {
 
     static final Logger LOG = LoggerFactory.getLogger(OBOFormatParser.class);
+    /**
+     * Minimum number of characters in a block of stanzas parsed by a worker
+     * thread.
+     */
+    private static final int BLOCK_SIZE = 1 << 16;
     protected final MyStream stream;
     private final LoadingCache<String, String> stringCache;
     private boolean followImport;
     private Object location;
+    private int parallelParsingThreads = 0;
 
     /**
      *
@@ -51,16 +64,24 @@ public class OBOFormatParser {
     /**
      * @param s input stream
      */
-    @SuppressWarnings("null")
     protected OBOFormatParser(MyStream s) {
+        this(s, createStringCache());
+    }
+
+    private OBOFormatParser(MyStream s, LoadingCache<String, String> stringCache) {
         stream = s;
+        this.stringCache = stringCache;
+    }
+
+    @SuppressWarnings("null")
+    private static LoadingCache<String, String> createStringCache() {
         Caffeine<String, String> builder = Caffeine.newBuilder().maximumWeight(8388608)
             .weigher((String key,
                 String value) -> key.length());
         if (LOG.isDebugEnabled()) {
             builder.recordStats();
         }
-        stringCache = builder.build(key -> key);
+        return builder.build(key -> key);
     }
 
     private static void addOboNamespace(@Nullable Collection<Frame> frames,
@@ -117,6 +138,27 @@ public class OBOFormatParser {
         followImport = followImports;
     }
 
+    /**
+     * @return number of threads used to parse stanzas; 0 means stanzas are
+     *         parsed on the calling thread
+     */
+    public int getParallelParsingThreads() {
+        return parallelParsingThreads;
+    }
+
+    /**
+     * Sets the number of threads used to parse stanzas. The header is parsed
+     * on the calling thread; the rest of the document is split into blocks of
+     * stanzas, which are parsed on worker threads. Frames are added to the
+     * document in document order on the calling thread, so duplicate frames
+     * are merged, or rejected, as in sequential parsing.
+     *
+     * @param threads number of threads; 0 parses on the calling thread
+     */
+    public void setParallelParsingThreads(int threads) {
+        parallelParsingThreads = threads;
+    }
+
     /**
      * Parses a local file or URL to an OBODoc.
      *
@@ -239,6 +281,9 @@ public class OBOFormatParser {
         parseHeaderFrame(h);
         h.freeze();
         parseZeroOrMoreWsOptCmtNl();
+        if (parallelParsingThreads > 0 && !stream.eof()) {
+            parseEntityFramesInParallel(obodoc);
+        }
         while (!stream.eof()) {
             parseEntityFrame(obodoc);
             parseZeroOrMoreWsOptCmtNl();
@@ -253,6 +298,122 @@ public class OBOFormatParser {
         }
     }
 
+    /**
+     * Splits the rest of the document in blocks of stanzas, at lines starting
+     * a stanza, and parses the blocks on worker threads. Only a few blocks are
+     * in flight at a time. Parsing stops at the first instance stanza, as in
+     * sequential parsing.
+     */
+    private void parseEntityFramesInParallel(OBODoc obodoc) {
+        ExecutorService executor = newDaemonThreadPool(parallelParsingThreads, "owlapi-obo-parser");
+        Deque<Future<List<ParsedFrame>>> inFlight = new ArrayDeque<>();
+        try {
+            StringBuilder block = new StringBuilder();
+            int blockStart = stream.lineNo;
+            String line = stream.line().substring(stream.pos);
+            while (line != null) {
+                String stanza = stanza(line);
+                if (!stanza.isEmpty() && block.length() >= BLOCK_SIZE) {
+                    submit(executor, inFlight, obodoc, block.toString(), blockStart);
+                    block.setLength(0);
+                    blockStart = stream.lineNo;
+                }
+                block.append(line).append('\n');
+                if (stanza.startsWith("[Instance]")) {
+                    // the instance stanza is reported by the block parser
+                    while (stream.line != null) {
+                        stream.advanceLine();
+                    }
+                    break;
+                }
+                stream.advanceLine();
+                line = stream.line;
+            }
+            if (block.length() > 0) {
+                submit(executor, inFlight, obodoc, block.toString(), blockStart);
+            }
+            while (!inFlight.isEmpty()) {
+                addFrames(obodoc, inFlight.removeFirst());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the line without leading spaces if it starts a stanza, the empty
+     *         string otherwise
+     */
+    private static String stanza(String line) {
+        int i = 0;
+        while (i < line.length() && line.charAt(i) == ' ') {
+            i++;
+        }
+        if (i < line.length() && line.charAt(i) == '[') {
+            return line.substring(i);
+        }
+        return "";
+    }
+
+    private void submit(ExecutorService executor, Deque<Future<List<ParsedFrame>>> inFlight,
+        OBODoc obodoc, String block, int firstLine) {
+        if (inFlight.size() >= parallelParsingThreads * 2) {
+            addFrames(obodoc, inFlight.removeFirst());
+        }
+        inFlight.add(executor.submit(() -> {
+            MyStream s = new MyStream(new BufferedReader(new StringReader(block)));
+            s.lineNo = firstLine - 1;
+            StanzaParser parser = new StanzaParser(s, stringCache);
+            parser.parseZeroOrMoreWsOptCmtNl();
+            while (!s.eof()) {
+                parser.parseEntityFrame(obodoc);
+                parser.parseZeroOrMoreWsOptCmtNl();
+            }
+            return parser.frames;
+        }));
+    }
+
+    private void addFrames(OBODoc obodoc, Future<List<ParsedFrame>> future) {
+        for (ParsedFrame f : getResult(future)) {
+            addFrame(obodoc, f.frame, f.lineNo, f.line);
+        }
+    }
+
+    /**
+     * Adds a parsed frame to the document, at the current position of the
+     * stream.
+     *
+     * @param obodoc obodoc
+     * @param f frame
+     * @throws OBOFormatParserException if the frame cannot be merged with an
+     *         existing frame
+     */
+    protected void addFrame(OBODoc obodoc, Frame f) {
+        addFrame(obodoc, f, stream.lineNo, stream.line);
+    }
+
+    /**
+     * Adds a parsed frame to the document. All frames go through this method,
+     * including frames parsed in parallel, which are added in document order
+     * once their block is parsed; subclasses that filter or collect frames
+     * should override this method.
+     *
+     * @param obodoc obodoc
+     * @param f frame
+     * @param lineNo line number where the frame ended, for error reporting
+     * @param line text of that line, for error reporting
+     * @throws OBOFormatParserException if the frame cannot be merged with an
+     *         existing frame
+     */
+    protected void addFrame(OBODoc obodoc, Frame f, int lineNo, @Nullable String line) {
+        try {
+            obodoc.addFrame(f);
+        } catch (FrameMergeException e) {
+            throw new OBOFormatParserException("Could not add frame " + f
+                + " to document, duplicate frame definition?", e, lineNo, line);
+        }
+    }
+
     /**
      * @param doc doc
      * @return list of references
@@ -454,13 +615,8 @@ public class OBOFormatParser {
                 parseTermFrameClauseEOL(f);
                 parseZeroOrMoreWsOptCmtNl();
             }
-            try {
-                f.freeze();
-                obodoc.addFrame(f);
-            } catch (FrameMergeException e) {
-                throw new OBOFormatParserException("Could not add frame " + f
-                    + " to document, duplicate frame definition?", e, stream.lineNo, stream.line);
-            }
+            f.freeze();
+            addFrame(obodoc, f);
         } else {
             error("Expected a [Term] frame, but found unknown stanza type.");
         }
@@ -581,13 +737,8 @@ public class OBOFormatParser {
                 parseTypedefFrameClauseEOL(f);
                 parseZeroOrMoreWsOptCmtNl();
             }
-            try {
-                f.freeze();
-                obodoc.addFrame(f);
-            } catch (FrameMergeException e) {
-                throw new OBOFormatParserException("Could not add frame " + f
-                    + " to document, duplicate frame definition?", e, stream.lineNo, stream.line);
-            }
+            f.freeze();
+            addFrame(obodoc, f);
         } else {
             error("Expected a [Typedef] frame, but found unknown stanza type.");
         }
@@ -1314,6 +1465,41 @@ public class OBOFormatParser {
         LOG.warn("LINE: {} {}  LINE:\n{}", Integer.valueOf(stream.lineNo), message, stream.line);
     }
 
+    /**
+     * Frame parsed by a worker thread, with the position where it ended.
+     */
+    private static class ParsedFrame {
+
+        final Frame frame;
+        final int lineNo;
+        @Nullable
+        final String line;
+
+        ParsedFrame(Frame frame, int lineNo, @Nullable String line) {
+            this.frame = frame;
+            this.lineNo = lineNo;
+            this.line = line;
+        }
+    }
+
+    /**
+     * Parser for a block of stanzas; frames are collected rather than added to
+     * the document.
+     */
+    private static class StanzaParser extends OBOFormatParser {
+
+        final List<ParsedFrame> frames = new ArrayList<>();
+
+        StanzaParser(MyStream s, LoadingCache<String, String> stringCache) {
+            super(s, stringCache);
+        }
+
+        @Override
+        protected void addFrame(OBODoc obodoc, Frame f, int lineNo, @Nullable String line) {
+            frames.add(new ParsedFrame(f, lineNo, line));
+        }
+    }
+
     protected static class MyStream {
 
         int pos = 0;
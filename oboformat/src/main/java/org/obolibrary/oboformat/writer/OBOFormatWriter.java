@@ -1,6 +1,8 @@
 package org.obolibrary.oboformat.writer;
 
 import static org.semanticweb.owlapi.model.parameters.Navigation.IN_SUB_POSITION;
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.getResult;
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.newDaemonThreadPool;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 
@@ -15,18 +17,23 @@ import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Serializable;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import org.obolibrary.obo2owl.OWLAPIObo2Owl;
@@ -79,6 +86,7 @@ public class OBOFormatWriter {
         .comparing(Clause::getTag, termsTagsComparator)
         .thenComparing(clauseComparator);
     private boolean isCheckStructure = true;
+    private int parallelWritingThreads = 0;
 
     private static int getHeaderPriority(String s) {
         return actualGet(s, HEADERTAGSPRIORITIES);
@@ -673,6 +681,25 @@ public class OBOFormatWriter {
         this.isCheckStructure = isCheckStructure;
     }
 
+    /**
+     * @return number of threads used to render frames; 0 means frames are
+     *         rendered on the calling thread
+     */
+    public int getParallelWritingThreads() {
+        return parallelWritingThreads;
+    }
+
+    /**
+     * Sets the number of threads used to render frames. Frames are sorted and
+     * rendered in chunks on worker threads, and the rendered chunks are written
+     * in order on the calling thread; the output does not change.
+     *
+     * @param threads number of threads; 0 renders on the calling thread
+     */
+    public void setParallelWritingThreads(int threads) {
+        parallelWritingThreads = threads;
+    }
+
     /**
      * @param fn the file name to read in
      * @param writer the writer
@@ -768,19 +795,51 @@ public class OBOFormatWriter {
         List<Frame> instanceFrames = new ArrayList<>();
         typeDefFrames.addAll(doc.getInstanceFrames());
         Collections.sort(instanceFrames, framesComparator);
-        for (Frame f : termFrames) {
-            write(f, writer, nameProvider);
-        }
-        for (Frame f : typeDefFrames) {
-            write(f, writer, nameProvider);
-        }
-        for (Frame f : instanceFrames) {
-            write(f, writer, nameProvider);
+        List<Frame> frames = new ArrayList<>(termFrames);
+        frames.addAll(typeDefFrames);
+        frames.addAll(instanceFrames);
+        if (parallelWritingThreads < 1) {
+            for (Frame f : frames) {
+                write(f, writer, nameProvider);
+            }
+        } else {
+            writeInParallel(frames, writer, nameProvider);
         }
         // to be save always flush writer
         writer.flush();
     }
 
+    /**
+     * Renders chunks of frames on worker threads and writes them in order.
+     * Only a few rendered chunks are kept in memory at a time.
+     */
+    private void writeInParallel(List<Frame> frames, Writer writer, NameProvider nameProvider)
+        throws IOException {
+        int chunkSize = Math.max(1, Math.min(1000, frames.size() / (parallelWritingThreads * 4)));
+        ExecutorService executor = newDaemonThreadPool(parallelWritingThreads, "owlapi-obo-writer");
+        try {
+            Deque<Future<String>> inFlight = new ArrayDeque<>();
+            for (int i = 0; i < frames.size(); i += chunkSize) {
+                if (inFlight.size() >= parallelWritingThreads * 2) {
+                    writer.write(getResult(inFlight.removeFirst(), IOException.class));
+                }
+                List<Frame> chunk = frames.subList(i, Math.min(frames.size(), i + chunkSize));
+                inFlight.add(executor.submit(() -> {
+                    StringWriter buffer = new StringWriter();
+                    for (Frame f : chunk) {
+                        write(f, buffer, nameProvider);
+                    }
+                    return buffer.toString();
+                }));
+            }
+            while (!inFlight.isEmpty()) {
+                writer.write(getResult(inFlight.removeFirst(), IOException.class));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Write header.
      *
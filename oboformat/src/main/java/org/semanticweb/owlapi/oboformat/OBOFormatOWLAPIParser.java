@@ -41,9 +41,11 @@ public class OBOFormatOWLAPIParser implements OWLParser, Serializable {
         OWLOntologyLoaderConfiguration config) {
         try {
             OBOFormatParser p = new OBOFormatParser();
+            p.setParallelParsingThreads(config.getParallelParsingThreads());
             OBODoc obodoc = p.parse(wrapInputAsReader(source, config));
             // create a translator object and feed it the OBO Document
             OWLAPIObo2Owl bridge = new OWLAPIObo2Owl(in.getOWLOntologyManager());
+            bridge.setParallelTranslationThreads(config.getParallelParsingThreads());
             bridge.convert(obodoc, in);
             return new OBODocumentFormat();
         } catch (OBOFormatParserException | IOException | OWLOntologyInputSourceException e) {
@@ -47,7 +47,10 @@ public class OBOFormatRenderer implements OWLRenderer {
     public static void render(OWLOntology ontology, Writer writer, OWLDocumentFormat format)
         throws OWLOntologyStorageException {
         try {
+            int threads = format.getParameter(OBODocumentFormat.THREADS, Integer.valueOf(0))
+                .intValue();
             OWLAPIOwl2Obo translator = new OWLAPIOwl2Obo(ontology.getOWLOntologyManager());
+            translator.setParallelTranslationThreads(threads);
             final OBODoc result = translator.convert(ontology);
             boolean hasImports = !asList(ontology.imports()).isEmpty();
             NameProvider nameProvider;
@@ -83,6 +86,7 @@ public class OBOFormatRenderer implements OWLRenderer {
             oboFormatWriter
                 .setCheckStructure(format.getParameter(OBODocumentFormat.VALIDATION, Boolean.TRUE)
                     .booleanValue());
+            oboFormatWriter.setParallelWritingThreads(threads);
             oboFormatWriter
                 .write(result, new PrintWriter(new BufferedWriter(writer)), nameProvider);
         } catch (IOException e) {
@@ -17,7 +17,7 @@ public class LoadCellTestCase {
     @Test
     public void shouldParse() throws OWLOntologyCreationException {
         OWLOntologyManager m = OWLManager.createOWLOntologyManager();
-        assertEquals(20, m.getOntologyParsers().size());
+        assertEquals(21, m.getOntologyParsers().size());
         OWLOntologyDocumentSource source = new StreamDocumentSource(getClass()
             .getResourceAsStream("/celltype.obo"), "obo",
             new OBO12DocumentFormat(), null);
@@ -27,7 +27,7 @@ public class LoadCellTestCase {
     @Test
     public void shouldParseOBO12() throws OWLOntologyCreationException {
         OWLOntologyManager m = OWLManager.createOWLOntologyManager();
-        assertEquals(20, m.getOntologyParsers().size());
+        assertEquals(21, m.getOntologyParsers().size());
         OWLOntologyDocumentSource source = new StreamDocumentSource(getClass()
             .getResourceAsStream("/behavior.obo"), "obo",
             new OBO12DocumentFormat(), null);
@@ -37,7 +37,7 @@ public class LoadCellTestCase {
     @Test
     public void shouldParseGenericOBO() throws OWLOntologyCreationException {
         OWLOntologyManager m = OWLManager.createOWLOntologyManager();
-        assertEquals(20, m.getOntologyParsers().size());
+        assertEquals(21, m.getOntologyParsers().size());
         OWLOntologyDocumentSource source = new StreamDocumentSource(getClass()
             .getResourceAsStream("/behavior.obo"), IRI.generateDocumentIRI(),
             new OBO12DocumentFormat(), null);
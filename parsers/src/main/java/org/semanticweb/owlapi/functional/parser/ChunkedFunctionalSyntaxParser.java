@@ -0,0 +1,370 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.functional.parser;
+
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.newDaemonThreadPool;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.OWLAnnotationAxiom;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OntologyConfigurator;
+import org.semanticweb.owlapi.util.RemappingIndividualProvider;
+
+/**
+ * Parses a functional syntax document by splitting the axioms after the
+ * ontology header in chunks, at top level boundaries, and parsing the chunks
+ * concurrently. The prefixes and ontology header are parsed first, on the
+ * calling thread; the parsed axioms are added to the ontology in document
+ * order, one batch per chunk. Anonymous individual ids are resolved by a
+ * provider shared between chunks, so that the same node id maps to the same
+ * individual across the whole document.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+class ChunkedFunctionalSyntaxParser {
+
+    /**
+     * Target size of a chunk, in characters.
+     */
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final String IMPORT = "Import";
+    private static final String ANNOTATION = "Annotation";
+    private final Reader reader;
+    private final OWLOntology ontology;
+    private final OWLOntologyLoaderConfiguration config;
+    private final int threads;
+    private final char[] buffer = new char[1 << 16];
+    private int position;
+    private int limit;
+    private int line = 1;
+    @Nullable
+    private FunctionalSyntaxDocumentFormat format;
+    @Nullable
+    private RemappingIndividualProvider anonymousIndividuals;
+    private final Deque<Future<List<OWLAxiom>>> inFlight = new ArrayDeque<>();
+
+    /**
+     * @param reader document to parse
+     * @param ontology ontology to fill
+     * @param config loader configuration
+     */
+    ChunkedFunctionalSyntaxParser(Reader reader, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration config) {
+        this.reader = reader;
+        this.ontology = ontology;
+        this.config = config;
+        threads = config.getParallelParsingThreads();
+    }
+
+    /**
+     * @return the format of the parsed document
+     * @throws IOException if the document cannot be read
+     */
+    FunctionalSyntaxDocumentFormat parse() throws IOException {
+        ExecutorService executor = newDaemonThreadPool(threads, "owlapi-functional-parser");
+        try {
+            scan(executor);
+            while (!inFlight.isEmpty()) {
+                addNextChunk();
+            }
+            return verifyFormat();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the document, parsing the header as soon as its end is found and
+     * submitting the axioms in chunks.
+     */
+    private void scan(ExecutorService executor) throws IOException {
+        StringBuilder text = new StringBuilder();
+        boolean inBody = false;
+        int chunkStart = line;
+        int depth = 0;
+        int c = read();
+        while (c != -1) {
+            if (c == '#') {
+                c = copyUntil(text, c, '\n');
+            } else if (c == '"') {
+                c = copyString(text);
+            } else if (c == '<') {
+                c = copyUntil(text, c, '>');
+            } else if (c == '(') {
+                depth++;
+                text.append((char) c);
+                c = read();
+            } else if (c == ')') {
+                depth--;
+                if (depth < 0) {
+                    throw new OWLParserException("Unbalanced parentheses", line, 0);
+                }
+                if (depth == 0 && inBody) {
+                    // end of the ontology; the closing parenthesis was parsed with the header
+                    submit(executor, text.toString(), chunkStart);
+                    checkTrailingContent();
+                    return;
+                }
+                text.append((char) c);
+                c = read();
+            } else if (depth == 1 && (c == ':' || c == '_')) {
+                // abbreviated IRI with the empty prefix, or node id; never a
+                // keyword
+                c = copyName(text, c);
+            } else if (depth == 1 && Character.isLetter(c)) {
+                StringBuilder word = new StringBuilder();
+                c = copyName(word, c);
+                if (isAxiomStart(word)) {
+                    if (!inBody) {
+                        text.append(')');
+                        parseHeader(text.toString());
+                        inBody = true;
+                        text.setLength(0);
+                        chunkStart = line;
+                    } else if (text.length() >= CHUNK_SIZE) {
+                        submit(executor, text.toString(), chunkStart);
+                        text.setLength(0);
+                        chunkStart = line;
+                    }
+                }
+                text.append(word);
+            } else {
+                if (c == '\n') {
+                    line++;
+                }
+                text.append((char) c);
+                c = read();
+            }
+        }
+        if (depth != 0) {
+            throw new OWLParserException("Unexpected end of document", line, 0);
+        }
+        // ontology without axioms, or malformed document; the sequential
+        // parser reports any error
+        parseHeader(text.toString());
+    }
+
+    private static boolean isAxiomStart(CharSequence word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) == ':') {
+                // abbreviated IRI, e.g., the ontology IRI
+                return false;
+            }
+        }
+        String s = word.toString();
+        return !IMPORT.equals(s) && !ANNOTATION.equals(s);
+    }
+
+    private void parseHeader(String header) {
+        OWLFunctionalSyntaxParser parser = new OWLFunctionalSyntaxParser(new StringProvider(header));
+        parser.setUp(ontology, config);
+        OntologyConfigurator configurator = ontology.getOWLOntologyManager().getOntologyConfigurator();
+        anonymousIndividuals = new SynchronizedIndividualProvider(configurator,
+            ontology.getOWLOntologyManager().getOWLDataFactory());
+        parser.anonProvider = anonymousIndividuals;
+        try {
+            format = parser.parse();
+        } catch (ParseException e) {
+            throw new OWLParserException(e.getMessage(), e, line(e, 1), column(e));
+        }
+    }
+
+    private void submit(ExecutorService executor, String chunk, int startLine) {
+        // parsers are set up here, as setting up may need the manager lock
+        // held by this thread
+        OWLFunctionalSyntaxParser parser = new OWLFunctionalSyntaxParser(new StringProvider(chunk));
+        parser.setUp(ontology, config);
+        parser.setPrefixes(verifyFormat());
+        parser.anonProvider = anonymousIndividuals;
+        inFlight.add(executor.submit(() -> parseAxioms(parser, startLine)));
+        while (inFlight.size() > threads * 2) {
+            addNextChunk();
+        }
+    }
+
+    private List<OWLAxiom> parseAxioms(OWLFunctionalSyntaxParser parser, int startLine) {
+        List<OWLAxiom> axioms = new ArrayList<>();
+        try {
+            while (parser.getToken(1).kind != OWLFunctionalSyntaxParserConstants.EOF) {
+                OWLAxiom ax = parser.Axiom();
+                if (ax != null
+                    && (!(ax instanceof OWLAnnotationAxiom) || config.isLoadAnnotationAxioms())) {
+                    axioms.add(ax);
+                }
+            }
+        } catch (ParseException e) {
+            throw new OWLParserException(e.getMessage(), e, line(e, startLine), column(e));
+        }
+        return axioms;
+    }
+
+    private void addNextChunk() {
+        try {
+            ontology.addAxioms(inFlight.removeFirst().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OWLParserException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OWLParserException(e.getCause());
+        }
+    }
+
+    private FunctionalSyntaxDocumentFormat verifyFormat() {
+        if (format == null) {
+            throw new OWLParserException("No ontology header found", line, 0);
+        }
+        return format;
+    }
+
+    private static int line(ParseException e, int startLine) {
+        if (e.currentToken == null || e.currentToken.next == null) {
+            return startLine;
+        }
+        return startLine + e.currentToken.next.beginLine - 1;
+    }
+
+    private static int column(ParseException e) {
+        if (e.currentToken == null || e.currentToken.next == null) {
+            return 0;
+        }
+        return e.currentToken.next.beginColumn;
+    }
+
+    private void checkTrailingContent() throws IOException {
+        int c = read();
+        while (c != -1) {
+            if (c == '#') {
+                c = copyUntil(new StringBuilder(), c, '\n');
+            } else if (Character.isWhitespace(c)) {
+                if (c == '\n') {
+                    line++;
+                }
+                c = read();
+            } else {
+                throw new OWLParserException("Unexpected content after the ontology", line, 0);
+            }
+        }
+    }
+
+    /**
+     * Copies characters up to and including the terminator.
+     *
+     * @return the character following the terminator
+     */
+    private int copyUntil(StringBuilder text, int first, char terminator) throws IOException {
+        text.append((char) first);
+        int c = read();
+        while (c != -1) {
+            text.append((char) c);
+            if (c == '\n') {
+                line++;
+            }
+            if (c == terminator) {
+                return read();
+            }
+            c = read();
+        }
+        return c;
+    }
+
+    /**
+     * Copies a quoted string, honouring backslash escapes.
+     *
+     * @return the character following the closing quote
+     */
+    private int copyString(StringBuilder text) throws IOException {
+        text.append('"');
+        int c = read();
+        while (c != -1) {
+            text.append((char) c);
+            if (c == '\n') {
+                line++;
+            }
+            if (c == '\\') {
+                c = read();
+                if (c == -1) {
+                    return c;
+                }
+                text.append((char) c);
+                if (c == '\n') {
+                    line++;
+                }
+            } else if (c == '"') {
+                return read();
+            }
+            c = read();
+        }
+        return c;
+    }
+
+    /**
+     * Copies a keyword or abbreviated IRI.
+     *
+     * @return the character following the name
+     */
+    private int copyName(StringBuilder word, int first) throws IOException {
+        int c = first;
+        while (c != -1
+            && (Character.isLetterOrDigit(c) || c == ':' || c == '_' || c == '-' || c == '.')) {
+            word.append((char) c);
+            c = read();
+        }
+        return c;
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Anonymous individual provider shared between chunk parsers.
+     */
+    private static class SynchronizedIndividualProvider extends RemappingIndividualProvider {
+
+        SynchronizedIndividualProvider(OntologyConfigurator m, OWLDataFactory df) {
+            super(m, df);
+        }
+
+        @Override
+        public synchronized OWLAnonymousIndividual getOWLAnonymousIndividual(String nodeId) {
+            return super.getOWLAnonymousIndividual(nodeId);
+        }
+    }
+}
@@ -40,6 +40,9 @@ public class OWLFunctionalSyntaxOWLParser extends AbstractOWLParser {
     public OWLDocumentFormat parse(OWLOntologyDocumentSource source, OWLOntology ontology,
         OWLOntologyLoaderConfiguration config) {
         try (Reader r = DocumentSources.wrapInputAsReader(source, config)) {
+            if (config.getParallelParsingThreads() > 0) {
+                return new ChunkedFunctionalSyntaxParser(r, ontology, config).parse();
+            }
             OWLFunctionalSyntaxParser parser = new OWLFunctionalSyntaxParser(new StreamProvider(r));
             parser.setUp(ontology, config);
             return parser.parse();
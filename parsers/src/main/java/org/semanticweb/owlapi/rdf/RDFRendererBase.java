@@ -283,7 +283,7 @@ public abstract class RDFRendererBase {
     private void renderEntities(Stream<? extends OWLEntity> entities, String bannerText,
         Collection<IRI> illegalPuns) {
         AtomicBoolean firstRendering = new AtomicBoolean(true);
-        sortOptionally(entities).stream().filter(e -> createGraph(e, illegalPuns))
+        ordered(entities).filter(e -> createGraph(e, illegalPuns))
             .forEach(e -> render(e,
                 firstRendering, bannerText));
     }
@@ -338,7 +338,7 @@ public abstract class RDFRendererBase {
                 .getSubject(), annotatedIRIs));
         if (!annotatedIRIs.isEmpty()) {
             writeBanner(ANNOTATED_IRIS_BANNER_TEXT);
-            sortOptionally(annotatedIRIs).forEach(this::renderIRI);
+            ordered(annotatedIRIs.stream()).forEach(this::renderIRI);
         }
     }
 
@@ -351,7 +351,7 @@ public abstract class RDFRendererBase {
     }
 
     private void renderAnonymousIndividuals() {
-        sortOptionally(ontology.referencedAnonymousIndividuals()).forEach(this::renderAnon);
+        ordered(ontology.referencedAnonymousIndividuals()).forEach(this::renderAnon);
     }
 
     protected void renderAnon(OWLAnonymousIndividual anonInd) {
@@ -415,22 +415,32 @@ public abstract class RDFRendererBase {
      * disjoint classes, disjoint object properties, disjoint data properties
      * and HasKey axioms where the class expression is anonymous.
      *
-     * @return A set of axioms that are general axioms (and can't be written out in a frame-based
-     * style).
+     * @return A stream of axioms that are general axioms (and can't be written out in a
+     * frame-based style).
      */
-    private List<OWLAxiom> getGeneralAxioms() {
-        List<OWLAxiom> generalAxioms = new ArrayList<>();
-        add(generalAxioms, ontology.generalClassAxioms());
-        add(generalAxioms, ontology.axioms(DIFFERENT_INDIVIDUALS));
-        add(generalAxioms,
-            ontology.axioms(DISJOINT_CLASSES).filter(ax -> ax.classExpressions().count() > 2));
-        add(generalAxioms,
-            ontology.axioms(DISJOINT_OBJECT_PROPERTIES).filter(ax -> ax.properties().count() > 2));
-        add(generalAxioms,
-            ontology.axioms(DISJOINT_DATA_PROPERTIES).filter(ax -> ax.properties().count() > 2));
-        add(generalAxioms,
-            ontology.axioms(HAS_KEY).filter(ax -> ax.getClassExpression().isAnonymous()));
-        return sortOptionally(generalAxioms);
+    private Stream<OWLAxiom> getGeneralAxioms() {
+        Stream<OWLAxiom> generalAxioms = Stream.of(ontology.generalClassAxioms(),
+            ontology.axioms(DIFFERENT_INDIVIDUALS),
+            ontology.axioms(DISJOINT_CLASSES).filter(ax -> ax.classExpressions().count() > 2),
+            ontology.axioms(DISJOINT_OBJECT_PROPERTIES).filter(ax -> ax.properties().count() > 2),
+            ontology.axioms(DISJOINT_DATA_PROPERTIES).filter(ax -> ax.properties().count() > 2),
+            ontology.axioms(HAS_KEY).filter(ax -> ax.getClassExpression().isAnonymous()))
+            .flatMap(x -> x);
+        return ordered(generalAxioms);
+    }
+
+    /**
+     * Sorts the objects to render, unless rendering is streaming, in which case the objects are
+     * rendered in the order in which the ontology returns them, without collecting them first.
+     *
+     * @param objects objects to render
+     * @return objects in rendering order
+     */
+    protected <T extends OWLObject> Stream<T> ordered(Stream<T> objects) {
+        if (config.isStreamingRDFRendering()) {
+            return objects;
+        }
+        return sortOptionally(objects).stream();
     }
 
     protected void renderOntologyHeader() {
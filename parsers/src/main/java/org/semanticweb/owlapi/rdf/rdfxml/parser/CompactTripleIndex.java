@@ -0,0 +1,352 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.rdf.rdfxml.parser;
+
+import gnu.trove.map.hash.TObjectIntHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLLiteral;
+
+/**
+ * Triple index for very large documents. Each distinct IRI or literal is
+ * stored once and given an int id; triples are three ints in primitive arrays,
+ * chained by subject in insertion order. Compared to
+ * {@link HashTripleIndex}, which needs several map entries and a set per
+ * subject and predicate, a triple costs 12 bytes plus the cost of any new term.
+ * Removed triples are unlinked from their chain but their slots are not
+ * reused.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+class CompactTripleIndex implements TripleIndex {
+
+    private static final int NONE = -1;
+    private static final int REMOVED = -2;
+    private static final int INITIAL_TERMS = 1024;
+    private static final int INITIAL_TRIPLES = 4096;
+    private final List<Object> terms = new ArrayList<>();
+    private final TObjectIntHashMap<Object> ids =
+        new TObjectIntHashMap<>(INITIAL_TERMS, 0.5F, NONE);
+    /**
+     * First and last triple with each term as subject.
+     */
+    private int[] first = new int[INITIAL_TERMS];
+    private int[] last = new int[INITIAL_TERMS];
+    /**
+     * Predicate, object and next triple with the same subject, by triple. The predicate of a
+     * removed triple is {@link #REMOVED}.
+     */
+    private int[] predicates = new int[INITIAL_TRIPLES];
+    private int[] objects = new int[INITIAL_TRIPLES];
+    private int[] next = new int[INITIAL_TRIPLES];
+    private int size;
+    private int live;
+
+    @Override
+    public void add(IRI subject, IRI predicate, IRI object) {
+        addTriple(subject, predicate, object);
+    }
+
+    @Override
+    public void add(IRI subject, IRI predicate, OWLLiteral object) {
+        addTriple(subject, predicate, object);
+    }
+
+    private void addTriple(IRI subject, IRI predicate, Object object) {
+        int s = idOf(subject);
+        int p = idOf(predicate);
+        int o = idOf(object);
+        for (int t = first[s]; t != NONE; t = next[t]) {
+            if (predicates[t] == p && objects[t] == o) {
+                return;
+            }
+        }
+        if (size == predicates.length) {
+            int capacity = size + (size >> 1);
+            predicates = Arrays.copyOf(predicates, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        predicates[size] = p;
+        objects[size] = o;
+        next[size] = NONE;
+        if (last[s] == NONE) {
+            first[s] = size;
+        } else {
+            next[last[s]] = size;
+        }
+        last[s] = size;
+        size++;
+        live++;
+    }
+
+    private int idOf(Object term) {
+        int id = ids.get(term);
+        if (id != NONE) {
+            return id;
+        }
+        id = terms.size();
+        terms.add(term);
+        ids.put(term, id);
+        if (id == first.length) {
+            int capacity = id + (id >> 1);
+            first = Arrays.copyOf(first, capacity);
+            last = Arrays.copyOf(last, capacity);
+        }
+        first[id] = NONE;
+        last[id] = NONE;
+        return id;
+    }
+
+    private boolean isLiteral(int term) {
+        return terms.get(term) instanceof OWLLiteral;
+    }
+
+    /**
+     * Removes a triple from the chain of its subject.
+     *
+     * @param s subject id
+     * @param previous previous triple in the chain, or {@link #NONE}
+     * @param t triple
+     */
+    private void remove(int s, int previous, int t) {
+        if (previous == NONE) {
+            first[s] = next[t];
+        } else {
+            next[previous] = next[t];
+        }
+        if (last[s] == t) {
+            last[s] = previous;
+        }
+        predicates[t] = REMOVED;
+        live--;
+    }
+
+    @Override
+    public void predicates(IRI subject, Collection<IRI> result) {
+        int s = ids.get(subject);
+        if (s == NONE) {
+            return;
+        }
+        // resource triples first, as in HashTripleIndex
+        for (int t = first[s]; t != NONE; t = next[t]) {
+            if (!isLiteral(objects[t])) {
+                result.add((IRI) terms.get(predicates[t]));
+            }
+        }
+        for (int t = first[s]; t != NONE; t = next[t]) {
+            if (isLiteral(objects[t])) {
+                result.add((IRI) terms.get(predicates[t]));
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    public IRI resourceObject(IRI subject, IRI predicate, boolean consume) {
+        return (IRI) object(subject, predicate, false, consume);
+    }
+
+    @Override
+    public void resourceObjects(IRI subject, IRI predicate, Collection<IRI> result) {
+        int s = ids.get(subject);
+        int p = ids.get(predicate);
+        if (s == NONE || p == NONE) {
+            return;
+        }
+        for (int t = first[s]; t != NONE; t = next[t]) {
+            if (predicates[t] == p && !isLiteral(objects[t])) {
+                result.add((IRI) terms.get(objects[t]));
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    public OWLLiteral literalObject(IRI subject, IRI predicate, boolean consume) {
+        return (OWLLiteral) object(subject, predicate, true, consume);
+    }
+
+    @Override
+    public void literalObjects(IRI subject, IRI predicate, Collection<OWLLiteral> result) {
+        int s = ids.get(subject);
+        int p = ids.get(predicate);
+        if (s == NONE || p == NONE) {
+            return;
+        }
+        for (int t = first[s]; t != NONE; t = next[t]) {
+            if (predicates[t] == p && isLiteral(objects[t])) {
+                result.add((OWLLiteral) terms.get(objects[t]));
+            }
+        }
+    }
+
+    @Nullable
+    private Object object(IRI subject, IRI predicate, boolean literal, boolean consume) {
+        int s = ids.get(subject);
+        int p = ids.get(predicate);
+        if (s == NONE || p == NONE) {
+            return null;
+        }
+        int previous = NONE;
+        for (int t = first[s]; t != NONE; t = next[t]) {
+            if (predicates[t] == p && isLiteral(objects[t]) == literal) {
+                Object object = terms.get(objects[t]);
+                if (consume) {
+                    remove(s, previous, t);
+                }
+                return object;
+            }
+            previous = t;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean contains(IRI subject, IRI predicate, IRI object, boolean consume) {
+        return containsTriple(subject, predicate, object, consume);
+    }
+
+    @Override
+    public boolean contains(IRI subject, IRI predicate, OWLLiteral object, boolean consume) {
+        return containsTriple(subject, predicate, object, consume);
+    }
+
+    private boolean containsTriple(IRI subject, IRI predicate, Object object, boolean consume) {
+        int s = ids.get(subject);
+        int p = ids.get(predicate);
+        int o = ids.get(object);
+        if (s == NONE || p == NONE || o == NONE) {
+            return false;
+        }
+        int previous = NONE;
+        for (int t = first[s]; t != NONE; t = next[t]) {
+            if (predicates[t] == p && objects[t] == o) {
+                if (consume) {
+                    remove(s, previous, t);
+                }
+                return true;
+            }
+            previous = t;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasPredicate(IRI subject, IRI predicate) {
+        int s = ids.get(subject);
+        int p = ids.get(predicate);
+        if (s == NONE || p == NONE) {
+            return false;
+        }
+        for (int t = first[s]; t != NONE; t = next[t]) {
+            if (predicates[t] == p) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void iterateResources(ResourceTripleIterator iterator) {
+        iterate(false, (s, p, o) -> iterator.handleResourceTriple((IRI) terms.get(s),
+            (IRI) terms.get(p), (IRI) terms.get(o)));
+    }
+
+    @Override
+    public void iterateLiterals(LiteralTripleIterator iterator) {
+        iterate(true, (s, p, o) -> iterator.handleLiteralTriple((IRI) terms.get(s),
+            (IRI) terms.get(p), (OWLLiteral) terms.get(o)));
+    }
+
+    /**
+     * Visits the triples of each subject, one predicate at a time. The objects for a subject and
+     * predicate are collected before visiting them, so that the visitor can remove triples.
+     */
+    private void iterate(boolean literal, IdTripleVisitor visitor) {
+        int subjects = terms.size();
+        int[] group = new int[16];
+        for (int s = 0; s < subjects; s++) {
+            if (first[s] == NONE) {
+                continue;
+            }
+            int predicateCount = 0;
+            for (int t = first[s]; t != NONE; t = next[t]) {
+                if (isLiteral(objects[t]) == literal
+                    && !contains(group, predicateCount, predicates[t])) {
+                    group = ensureCapacity(group, predicateCount);
+                    group[predicateCount++] = predicates[t];
+                }
+            }
+            int[] subjectPredicates = Arrays.copyOf(group, predicateCount);
+            for (int p : subjectPredicates) {
+                int objectCount = 0;
+                for (int t = first[s]; t != NONE; t = next[t]) {
+                    if (predicates[t] == p && isLiteral(objects[t]) == literal) {
+                        group = ensureCapacity(group, objectCount);
+                        group[objectCount++] = objects[t];
+                    }
+                }
+                int[] subjectObjects = Arrays.copyOf(group, objectCount);
+                for (int o : subjectObjects) {
+                    visitor.visit(s, p, o);
+                }
+            }
+        }
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] ensureCapacity(int[] values, int count) {
+        if (count < values.length) {
+            return values;
+        }
+        return Arrays.copyOf(values, count * 2);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return live == 0;
+    }
+
+    @Override
+    public void clear() {
+        terms.clear();
+        ids.clear();
+        first = new int[INITIAL_TERMS];
+        last = new int[INITIAL_TERMS];
+        predicates = new int[INITIAL_TRIPLES];
+        objects = new int[INITIAL_TRIPLES];
+        next = new int[INITIAL_TRIPLES];
+        size = 0;
+        live = 0;
+    }
+
+    @FunctionalInterface
+    private interface IdTripleVisitor {
+
+        void visit(int subject, int predicate, int object);
+    }
+}
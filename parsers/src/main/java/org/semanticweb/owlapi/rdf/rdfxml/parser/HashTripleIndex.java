@@ -0,0 +1,183 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.rdf.rdfxml.parser;
+
+import static org.semanticweb.owlapi.util.CollectionFactory.createLinkedSet;
+import static org.semanticweb.owlapi.util.CollectionFactory.createMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLLiteral;
+
+/**
+ * Triple index based on maps from subject to predicate to objects.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+class HashTripleIndex implements TripleIndex {
+
+    private final Map<IRI, Map<IRI, Collection<IRI>>> resTriplesBySubject = createMap();
+    private final Map<IRI, Map<IRI, Collection<OWLLiteral>>> litTriplesBySubject = createMap();
+
+    @Override
+    public void add(IRI subject, IRI predicate, IRI object) {
+        resTriplesBySubject.computeIfAbsent(subject, x -> createMap())
+            .computeIfAbsent(predicate, x -> createLinkedSet()).add(object);
+    }
+
+    @Override
+    public void add(IRI subject, IRI predicate, OWLLiteral object) {
+        litTriplesBySubject.computeIfAbsent(subject, x -> createMap())
+            .computeIfAbsent(predicate, x -> createLinkedSet()).add(object);
+    }
+
+    @Override
+    public void predicates(IRI subject, Collection<IRI> predicates) {
+        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
+        if (predObjMap != null) {
+            predicates.addAll(predObjMap.keySet());
+        }
+        Map<IRI, Collection<OWLLiteral>> predObjMapLit = litTriplesBySubject.get(subject);
+        if (predObjMapLit != null) {
+            predicates.addAll(predObjMapLit.keySet());
+        }
+    }
+
+    @Nullable
+    @Override
+    public IRI resourceObject(IRI subject, IRI predicate, boolean consume) {
+        return object(resTriplesBySubject, subject, predicate, consume);
+    }
+
+    @Override
+    public void resourceObjects(IRI subject, IRI predicate, Collection<IRI> objects) {
+        objects(resTriplesBySubject, subject, predicate, objects);
+    }
+
+    @Nullable
+    @Override
+    public OWLLiteral literalObject(IRI subject, IRI predicate, boolean consume) {
+        return object(litTriplesBySubject, subject, predicate, consume);
+    }
+
+    @Override
+    public void literalObjects(IRI subject, IRI predicate, Collection<OWLLiteral> objects) {
+        objects(litTriplesBySubject, subject, predicate, objects);
+    }
+
+    @Override
+    public boolean contains(IRI subject, IRI predicate, IRI object, boolean consume) {
+        return contains(resTriplesBySubject, subject, predicate, object, consume);
+    }
+
+    @Override
+    public boolean contains(IRI subject, IRI predicate, OWLLiteral object, boolean consume) {
+        return contains(litTriplesBySubject, subject, predicate, object, consume);
+    }
+
+    @Override
+    public boolean hasPredicate(IRI subject, IRI predicate) {
+        Map<IRI, Collection<IRI>> resPredObjMap = resTriplesBySubject.get(subject);
+        if (resPredObjMap != null && resPredObjMap.containsKey(predicate)) {
+            return true;
+        }
+        Map<IRI, Collection<OWLLiteral>> litPredObjMap = litTriplesBySubject.get(subject);
+        return litPredObjMap != null && litPredObjMap.containsKey(predicate);
+    }
+
+    @Override
+    public void iterateResources(ResourceTripleIterator iterator) {
+        new ArrayList<>(resTriplesBySubject.entrySet())
+            .forEach(e -> new ArrayList<>(e.getValue().entrySet())
+                .forEach(p -> new ArrayList<>(p.getValue()).forEach(
+                    object -> iterator.handleResourceTriple(e.getKey(), p.getKey(), object))));
+    }
+
+    @Override
+    public void iterateLiterals(LiteralTripleIterator iterator) {
+        new ArrayList<>(litTriplesBySubject.entrySet())
+            .forEach(e -> new ArrayList<>(e.getValue().entrySet())
+                .forEach(p -> new ArrayList<>(p.getValue()).forEach(
+                    object -> iterator.handleLiteralTriple(e.getKey(), p.getKey(), object))));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return resTriplesBySubject.isEmpty() && litTriplesBySubject.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        resTriplesBySubject.clear();
+        litTriplesBySubject.clear();
+    }
+
+    @Nullable
+    private static <T> T object(Map<IRI, Map<IRI, Collection<T>>> map, IRI subject,
+        IRI predicate, boolean consume) {
+        Map<IRI, Collection<T>> predObjMap = map.get(subject);
+        if (predObjMap != null) {
+            Collection<T> objects = predObjMap.get(predicate);
+            if (objects != null && !objects.isEmpty()) {
+                T object = objects.iterator().next();
+                if (consume) {
+                    objects.remove(object);
+                }
+                if (objects.isEmpty()) {
+                    predObjMap.remove(predicate);
+                    if (predObjMap.isEmpty()) {
+                        map.remove(subject);
+                    }
+                }
+                return object;
+            }
+        }
+        return null;
+    }
+
+    private static <T> void objects(Map<IRI, Map<IRI, Collection<T>>> map, IRI subject,
+        IRI predicate, Collection<T> objects) {
+        Map<IRI, Collection<T>> predObjMap = map.get(subject);
+        if (predObjMap != null) {
+            Collection<T> values = predObjMap.get(predicate);
+            if (values != null) {
+                objects.addAll(values);
+            }
+        }
+    }
+
+    private static <T> boolean contains(Map<IRI, Map<IRI, Collection<T>>> map, IRI subject,
+        IRI predicate, T object, boolean consume) {
+        Map<IRI, Collection<T>> predObjMap = map.get(subject);
+        if (predObjMap != null) {
+            Collection<T> objects = predObjMap.get(predicate);
+            if (objects != null && objects.contains(object)) {
+                if (consume) {
+                    objects.remove(object);
+                    if (objects.isEmpty()) {
+                        predObjMap.remove(predicate);
+                        if (predObjMap.isEmpty()) {
+                            map.remove(subject);
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
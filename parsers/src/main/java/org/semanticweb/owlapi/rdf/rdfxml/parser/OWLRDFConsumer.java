@@ -231,18 +231,13 @@ public class OWLRDFConsumer
      */
     private final Map<IRI, OWLObjectPropertyExpression> translatedProperties = createMap();
     /**
-     * Subject, predicate, object
+     * Resource and literal triples by subject, except single valued ones.
      */
-    private final Map<IRI, Map<IRI, Collection<IRI>>> resTriplesBySubject = createMap();
+    private final TripleIndex triples;
     /**
      * Predicate, subject, object
      */
     private final Map<IRI, Map<IRI, IRI>> singleValuedResTriplesByPredicate = createMap();
-    /**
-     * Literal triples
-     */
-    private final Map<IRI, Map<IRI, Collection<OWLLiteral>>> litTriplesBySubject = createMap();
-    // Resource triples
     /**
      * Predicate, subject, object
      */
@@ -278,6 +273,14 @@ public class OWLRDFConsumer
      * The parsed all triples.
      */
     private boolean parsedAllTriples = false;
+    /**
+     * True if property assertions can be translated while streaming.
+     */
+    private final boolean streaming;
+    /**
+     * True while a declaration pass is in progress.
+     */
+    private boolean declarationPass = false;
 
     /**
      * Instantiates a new oWLRDF consumer.
@@ -304,6 +307,9 @@ public class OWLRDFConsumer
         anonProvider = new RemappingIndividualProvider(
                         ontology.getOWLOntologyManager().getOntologyConfigurator(), df);
         this.configuration = configuration;
+        streaming = configuration.getRDFStreamingMode() != RDFStreamingMode.DISABLED;
+        triples = configuration.isCompactTripleBuffer() ? new CompactTripleIndex()
+                        : new HashTripleIndex();
         handlerAccessor = new HandlerAccessor(this);
         translatorAccessor = new TranslatorAccessor(this);
         BUILT_IN_AP_IRIS.forEach(annPropertyIRIs::add);
@@ -1252,17 +1258,14 @@ public class OWLRDFConsumer
     protected void dumpRemainingTriples() {
         // if info logging is disabled or all collections are empty, do not
         // output anything
-        if (LOGGER.isInfoEnabled() && singleValuedResTriplesByPredicate.size()
-                        + singleValuedLitTriplesByPredicate.size() + resTriplesBySubject.size()
-                        + litTriplesBySubject.size() > 0) {
+        if (LOGGER.isInfoEnabled() && (singleValuedResTriplesByPredicate.size()
+                        + singleValuedLitTriplesByPredicate.size() > 0 || !triples.isEmpty())) {
             singleValuedResTriplesByPredicate
                             .forEach((p, map) -> map.forEach((s, o) -> printTriple(s, p, o)));
             singleValuedLitTriplesByPredicate
                             .forEach((p, map) -> map.forEach((s, o) -> printTriple(s, p, o)));
-            resTriplesBySubject.forEach((p, map) -> map
-                            .forEach((s, o) -> o.forEach(x -> printTriple(s, p, x))));
-            litTriplesBySubject.forEach((p, map) -> map
-                            .forEach((s, o) -> o.forEach(x -> printTriple(s, p, x))));
+            triples.iterateResources(OWLRDFConsumer::printTriple);
+            triples.iterateLiterals(OWLRDFConsumer::printTriple);
         }
     }
 
@@ -1280,8 +1283,57 @@ public class OWLRDFConsumer
         return parsedAllTriples;
     }
 
+    /**
+     * @return true if property assertions can be translated as soon as they are parsed, rather
+     *         than buffered until the end of the document
+     */
+    public boolean isStreamingMode() {
+        return streaming;
+    }
+
+    /**
+     * Starts a declaration pass. Until the next call to {@link #endModel()}, triples are not
+     * translated; only the explicit entity declarations they contain are recorded. Parsers that
+     * can read a document twice use this to learn the entity types before the actual parsing
+     * starts.
+     */
+    public void startDeclarationPass() {
+        declarationPass = true;
+    }
+
+    /**
+     * Records the entity declared by a type triple, if any.
+     *
+     * @param s subject
+     * @param p predicate
+     * @param o object
+     */
+    private void recordDeclaration(IRI s, IRI p, IRI o) {
+        if (!p.equals(RDF_TYPE.getIRI()) || isAnonymousNode(s)) {
+            return;
+        }
+        if (o.equals(OWL_CLASS.getIRI())) {
+            addClassExpression(s, true);
+        } else if (o.equals(OWL_OBJECT_PROPERTY.getIRI())) {
+            addObjectProperty(s, true);
+        } else if (o.equals(OWL_DATA_PROPERTY.getIRI())) {
+            addDataProperty(s, true);
+        } else if (o.equals(OWL_ANNOTATION_PROPERTY.getIRI())) {
+            addAnnotationProperty(s, true);
+        } else if (o.equals(RDFS_DATATYPE.getIRI())) {
+            addDataRange(s, true);
+        } else if (o.equals(OWL_NAMED_INDIVIDUAL.getIRI())) {
+            addOWLNamedIndividual(s, true);
+        }
+    }
+
     @Override
     public void endModel() {
+        if (declarationPass) {
+            declarationPass = false;
+            IRIMap.clear();
+            return;
+        }
         parsedAllTriples = true;
         // We are now left with triples that could not be consumed during
         // streaming parsing
@@ -1393,8 +1445,7 @@ public class OWLRDFConsumer
         listRestTripleMap.clear();
         // XXX clean new members
         translatorAccessor.cleanup();
-        resTriplesBySubject.clear();
-        litTriplesBySubject.clear();
+        triples.clear();
         singleValuedLitTriplesByPredicate.clear();
         singleValuedResTriplesByPredicate.clear();
         guessedDeclarations.clear();
@@ -1429,6 +1480,9 @@ public class OWLRDFConsumer
     @Override
     public void statementWithLiteralValue(String subject, String predicate, String object,
                     @Nullable String language, @Nullable String datatype) {
+        if (declarationPass) {
+            return;
+        }
         tripleLogger.logTriple(subject, predicate, object, language, datatype);
         IRI subjectIRI = getIRI(remapOnlyIfRemapped(subject));
         IRI predicateIRI = getIRI(predicate);
@@ -1440,12 +1494,20 @@ public class OWLRDFConsumer
     @Override
     public void statementWithLiteralValue(IRI subject, IRI predicate, String object,
                     @Nullable String language, @Nullable IRI datatype) {
+        if (declarationPass) {
+            return;
+        }
         tripleLogger.logTriple(subject, predicate, object, language, datatype);
         handlerAccessor.handleStreaming(subject, getSynonym(predicate), object, datatype, language);
     }
 
     @Override
     public void statementWithResourceValue(String subject, String predicate, String object) {
+        if (declarationPass) {
+            recordDeclaration(getIRI(subject), getSynonym(getIRI(predicate)),
+                            getSynonym(getIRI(object)));
+            return;
+        }
         tripleLogger.logTriple(subject, predicate, object);
         IRI subjectIRI = getIRI(subject);
         IRI predicateIRI = getSynonym(getIRI(predicate));
@@ -1455,6 +1517,10 @@ public class OWLRDFConsumer
 
     @Override
     public void statementWithResourceValue(IRI subject, IRI predicate, IRI object) {
+        if (declarationPass) {
+            recordDeclaration(subject, getSynonym(predicate), getSynonym(object));
+            return;
+        }
         tripleLogger.logTriple(subject, predicate, object);
         handlerAccessor.handleStreaming(subject, getSynonym(predicate), getSynonym(object));
     }
@@ -1750,14 +1816,7 @@ public class OWLRDFConsumer
      */
     protected Set<IRI> getPredicatesBySubject(IRI subject) {
         Set<IRI> iris = createLinkedSet();
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            iris.addAll(predObjMap.keySet());
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMapLit = litTriplesBySubject.get(subject);
-        if (predObjMapLit != null) {
-            iris.addAll(predObjMapLit.keySet());
-        }
+        triples.predicates(subject, iris);
         return iris;
     }
 
@@ -1792,24 +1851,7 @@ public class OWLRDFConsumer
             }
             return obj;
         }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null && !objects.isEmpty()) {
-                IRI object = objects.iterator().next();
-                if (consume) {
-                    objects.remove(object);
-                }
-                if (objects.isEmpty()) {
-                    predObjMap.remove(predicate);
-                    if (predObjMap.isEmpty()) {
-                        resTriplesBySubject.remove(subject);
-                    }
-                }
-                return object;
-            }
-        }
-        return null;
+        return triples.resourceObject(subject, predicate, consume);
     }
 
     /**
@@ -1828,13 +1870,7 @@ public class OWLRDFConsumer
                 result.add(obj);
             }
         }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                result.addAll(objects);
-            }
-        }
+        triples.resourceObjects(subject, predicate, result);
         return result;
     }
 
@@ -1870,21 +1906,7 @@ public class OWLRDFConsumer
             }
             return obj;
         }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null && !objects.isEmpty()) {
-                OWLLiteral object = objects.iterator().next();
-                if (consume) {
-                    objects.remove(object);
-                }
-                if (objects.isEmpty()) {
-                    predObjMap.remove(predicate);
-                }
-                return object;
-            }
-        }
-        return null;
+        return triples.literalObject(subject, predicate, consume);
     }
 
     /**
@@ -1903,13 +1925,7 @@ public class OWLRDFConsumer
                 result.add(obj);
             }
         }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                result.addAll(objects);
-            }
-        }
+        triples.literalObjects(subject, predicate, result);
         return result;
     }
 
@@ -1931,23 +1947,7 @@ public class OWLRDFConsumer
             }
             return obj != null;
         }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null && objects.contains(object)) {
-                if (consume) {
-                    objects.remove(object);
-                    if (objects.isEmpty()) {
-                        predObjMap.remove(predicate);
-                        if (predObjMap.isEmpty()) {
-                            resTriplesBySubject.remove(subject);
-                        }
-                    }
-                }
-                return true;
-            }
-        }
-        return false;
+        return triples.contains(subject, predicate, object, consume);
     }
 
     /**
@@ -1969,23 +1969,7 @@ public class OWLRDFConsumer
             }
             return obj != null;
         }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null && objects.contains(object)) {
-                if (consume) {
-                    objects.remove(object);
-                    if (objects.isEmpty()) {
-                        predObjMap.remove(predicate);
-                        if (predObjMap.isEmpty()) {
-                            litTriplesBySubject.remove(subject);
-                        }
-                    }
-                }
-                return true;
-            }
-        }
-        return false;
+        return triples.contains(subject, predicate, object, consume);
     }
 
     /**
@@ -2004,15 +1988,7 @@ public class OWLRDFConsumer
         if (litPredMap != null) {
             return litPredMap.containsKey(subject);
         }
-        Map<IRI, Collection<IRI>> resPredObjMap = resTriplesBySubject.get(subject);
-        if (resPredObjMap != null && resPredObjMap.containsKey(predicate)) {
-            return true;
-        }
-        Map<IRI, Collection<OWLLiteral>> litPredObjMap = litTriplesBySubject.get(subject);
-        if (litPredObjMap != null) {
-            return litPredObjMap.containsKey(predicate);
-        }
-        return false;
+        return triples.hasPredicate(subject, predicate);
     }
 
     /**
@@ -2127,8 +2103,8 @@ public class OWLRDFConsumer
     }
 
     protected boolean isAxiomIRI(IRI s) {
-        return contains(resTriplesBySubject, s, OWLRDFVocabulary.RDF_TYPE.getIRI(),
-                        OWLRDFVocabulary.OWL_AXIOM.getIRI());
+        return triples.contains(s, OWLRDFVocabulary.RDF_TYPE.getIRI(),
+                        OWLRDFVocabulary.OWL_AXIOM.getIRI(), false);
     }
 
     /**
@@ -2154,12 +2130,7 @@ public class OWLRDFConsumer
      * @param iterator the iterator
      */
     protected void iterateResources(ResourceTripleIterator iterator) {
-        new ArrayList<>(resTriplesBySubject.entrySet())
-                        .forEach(e -> new ArrayList<>(e.getValue().entrySet())
-                                        .forEach(p -> new ArrayList<>(p.getValue()).forEach(
-                                                        object -> iterator.handleResourceTriple(
-                                                                        e.getKey(), p.getKey(),
-                                                                        object))));
+        triples.iterateResources(iterator);
     }
 
     /**
@@ -2168,12 +2139,7 @@ public class OWLRDFConsumer
      * @param iterator the iterator
      */
     protected void iterateLiterals(LiteralTripleIterator iterator) {
-        new ArrayList<>(litTriplesBySubject.entrySet())
-                        .forEach(e -> new ArrayList<>(e.getValue().entrySet())
-                                        .forEach(p -> new ArrayList<>(p.getValue()).forEach(
-                                                        object -> iterator.handleLiteralTriple(
-                                                                        e.getKey(), p.getKey(),
-                                                                        object))));
+        triples.iterateLiterals(iterator);
     }
 
     @Override
@@ -2204,8 +2170,7 @@ public class OWLRDFConsumer
         if (subjObjMap != null) {
             subjObjMap.put(subject, object);
         } else {
-            resTriplesBySubject.computeIfAbsent(subject, x -> createMap())
-                            .computeIfAbsent(predicate, x -> createLinkedSet()).add(object);
+            triples.add(subject, predicate, object);
         }
     }
 
@@ -2214,8 +2179,7 @@ public class OWLRDFConsumer
         if (subjObjMap != null) {
             subjObjMap.put(subject, con);
         } else {
-            litTriplesBySubject.computeIfAbsent(subject, x -> createMap())
-                            .computeIfAbsent(predicate, x -> createLinkedSet()).add(con);
+            triples.add(subject, predicate, con);
         }
     }
 }
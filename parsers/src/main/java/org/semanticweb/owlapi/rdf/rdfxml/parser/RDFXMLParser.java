@@ -23,6 +23,7 @@ import org.semanticweb.owlapi.model.OWLDocumentFormat;
 import org.semanticweb.owlapi.model.OWLDocumentFormatFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.RDFStreamingMode;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
@@ -54,8 +55,16 @@ public class RDFXMLParser extends AbstractOWLParser {
                 }
             };
             OWLRDFConsumer consumer = new OWLRDFConsumer(ontology, configuration);
-            consumer.setIRIProvider(parser);
             consumer.setOntologyFormat(format);
+            if (configuration.getRDFStreamingMode() == RDFStreamingMode.TWO_PASS) {
+                // document sources return a new stream on each request, so the
+                // document can be read once to collect the declarations
+                RDFParser declarationParser = new RDFParser();
+                consumer.setIRIProvider(declarationParser);
+                consumer.startDeclarationPass();
+                declarationParser.parse(getInputSource(documentSource, configuration), consumer);
+            }
+            consumer.setIRIProvider(parser);
             InputSource is = getInputSource(documentSource, configuration);
             parser.parse(is, consumer);
             return format;
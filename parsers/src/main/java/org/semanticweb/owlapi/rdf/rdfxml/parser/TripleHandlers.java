@@ -923,7 +923,9 @@ public class TripleHandlers {
 
         @Override
         public boolean canHandleStreaming(IRI s, IRI p, OWLLiteral o) {
-            return false;
+            // in streaming mode, assertions on named individuals whose property is already known
+            // need not wait for the end of the document
+            return consumer.isStreamingMode() && !isAnon(s) && canHandle(s, p, o);
         }
 
         @Override
@@ -976,7 +978,9 @@ public class TripleHandlers {
 
         @Override
         public boolean canHandleStreaming(IRI s, IRI p, IRI o) {
-            return false;
+            // in streaming mode, assertions between named individuals whose property is already
+            // known need not wait for the end of the document
+            return consumer.isStreamingMode() && !isAnon(s) && !isAnon(o) && canHandle(s, p, o);
         }
 
         @Override
@@ -0,0 +1,134 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.rdf.rdfxml.parser;
+
+import java.util.Collection;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLLiteral;
+
+/**
+ * Triples buffered by {@link OWLRDFConsumer} until they can be translated,
+ * indexed by subject. Triples with single valued predicates are not stored
+ * here.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+interface TripleIndex {
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param object object
+     */
+    void add(IRI subject, IRI predicate, IRI object);
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param object object
+     */
+    void add(IRI subject, IRI predicate, OWLLiteral object);
+
+    /**
+     * @param subject subject
+     * @param predicates collection to fill with the predicates of resource triples, then those of
+     *        literal triples, with the subject
+     */
+    void predicates(IRI subject, Collection<IRI> predicates);
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param consume true if the triple found should be removed
+     * @return the object of a resource triple with subject and predicate, or null if there is none
+     */
+    @Nullable
+    IRI resourceObject(IRI subject, IRI predicate, boolean consume);
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param objects collection to fill with the objects of resource triples with subject and
+     *        predicate
+     */
+    void resourceObjects(IRI subject, IRI predicate, Collection<IRI> objects);
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param consume true if the triple found should be removed
+     * @return the object of a literal triple with subject and predicate, or null if there is none
+     */
+    @Nullable
+    OWLLiteral literalObject(IRI subject, IRI predicate, boolean consume);
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param objects collection to fill with the objects of literal triples with subject and
+     *        predicate
+     */
+    void literalObjects(IRI subject, IRI predicate, Collection<OWLLiteral> objects);
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param object object
+     * @param consume true if the triple should be removed
+     * @return true if the triple is present
+     */
+    boolean contains(IRI subject, IRI predicate, IRI object, boolean consume);
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param object object
+     * @param consume true if the triple should be removed
+     * @return true if the triple is present
+     */
+    boolean contains(IRI subject, IRI predicate, OWLLiteral object, boolean consume);
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @return true if any triple has the subject and predicate
+     */
+    boolean hasPredicate(IRI subject, IRI predicate);
+
+    /**
+     * Visits all resource triples. The triples with a subject and predicate are collected when
+     * the iteration reaches them, so triples removed by the iterator after that are still visited.
+     *
+     * @param iterator iterator
+     */
+    void iterateResources(ResourceTripleIterator iterator);
+
+    /**
+     * Visits all literal triples, as {@link #iterateResources(ResourceTripleIterator)}.
+     *
+     * @param iterator iterator
+     */
+    void iterateLiterals(LiteralTripleIterator iterator);
+
+    /**
+     * @return true if no triples are stored
+     */
+    boolean isEmpty();
+
+    /**
+     * Removes all triples.
+     */
+    void clear();
+}
@@ -24,6 +24,7 @@ import org.semanticweb.owlapi.model.OWLDocumentFormat;
 import org.semanticweb.owlapi.model.OWLDocumentFormatFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.RDFStreamingMode;
 
 /**
  * The Class TurtleOntologyParser.
@@ -41,19 +42,30 @@ public class TurtleOntologyParser extends AbstractOWLParser {
     @Override
     public OWLDocumentFormat parse(OWLOntologyDocumentSource source,
         OWLOntology ontology, OWLOntologyLoaderConfiguration config) {
+        OWLRDFConsumerAdapter consumer = new OWLRDFConsumerAdapter(ontology, config);
+        TurtleDocumentFormat format = new TurtleDocumentFormat();
+        consumer.setOntologyFormat(format);
+        if (config.getRDFStreamingMode() == RDFStreamingMode.TWO_PASS) {
+            // document sources return a new reader on each request, so the
+            // document can be read once to collect the declarations
+            consumer.startDeclarationPass();
+            parse(source, config, consumer, format);
+        }
+        parse(source, config, consumer, format);
+        return format;
+    }
+
+    private static void parse(OWLOntologyDocumentSource source,
+        OWLOntologyLoaderConfiguration config, OWLRDFConsumerAdapter consumer,
+        TurtleDocumentFormat format) {
         try (Reader r = DocumentSources.wrapInputAsReader(source, config)) {
             TurtleParser parser;
             parser = new TurtleParser(r, new ConsoleTripleHandler(),
                 source.getDocumentIRI());
-            OWLRDFConsumerAdapter consumer = new OWLRDFConsumerAdapter(
-                ontology, config);
-            TurtleDocumentFormat format = new TurtleDocumentFormat();
-            consumer.setOntologyFormat(format);
             consumer.startModel(source.getDocumentIRI());
             parser.setTripleHandler(consumer);
             parser.parseDocument();
             format.copyPrefixesFrom(parser.getPrefixManager());
-            return format;
         } catch (ParseException | IOException | OWLOntologyInputSourceException e) {
             throw new TurtleParserException(e);
         }
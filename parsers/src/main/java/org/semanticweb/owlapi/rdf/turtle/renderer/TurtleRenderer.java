@@ -354,6 +354,12 @@ public class TurtleRenderer extends RDFRendererBase {
     @Override
     protected void endObject() {
         writeNewLine();
+        if (config.isStreamingRDFRendering()) {
+            // only keep track of the nodes rendered for the current object;
+            // a node shared with later objects might be written again, which
+            // repeats its triples but keeps memory use bounded
+            renderedNodes.clear();
+        }
     }
 
     @Override
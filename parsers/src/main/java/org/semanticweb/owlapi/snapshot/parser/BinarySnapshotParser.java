@@ -0,0 +1,91 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.snapshot.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat;
+import org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormatFactory;
+import org.semanticweb.owlapi.io.AbstractOWLParser;
+import org.semanticweb.owlapi.io.DocumentSources;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.IRIDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyInputSourceException;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLDocumentFormatFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+/**
+ * Parser for binary snapshots. Local files are memory mapped one section at a
+ * time; other sources are read as streams.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class BinarySnapshotParser extends AbstractOWLParser {
+
+    @Override
+    public OWLDocumentFormatFactory getSupportedFormat() {
+        return new BinarySnapshotDocumentFormatFactory();
+    }
+
+    @Override
+    public OWLDocumentFormat parse(OWLOntologyDocumentSource documentSource, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration configuration) {
+        if (!documentSource.getInputStream().isPresent()
+            && documentSource.getReader().isPresent()) {
+            // the document has already been decoded to characters, so it
+            // cannot be a snapshot; other parsers can still try it
+            throw new OWLParserException("Binary snapshots cannot be read from a character stream");
+        }
+        BinarySnapshotReader reader = new BinarySnapshotReader(ontology, configuration);
+        try {
+            File file = localFile(documentSource);
+            if (file != null) {
+                try (FileChannel channel = FileChannel.open(file.toPath(),
+                    StandardOpenOption.READ)) {
+                    if (reader.read(channel)) {
+                        return new BinarySnapshotDocumentFormat();
+                    }
+                }
+            }
+            try (InputStream in = DocumentSources.wrapInput(documentSource, configuration)) {
+                reader.read(in);
+            }
+            return new BinarySnapshotDocumentFormat();
+        } catch (IOException | OWLOntologyInputSourceException e) {
+            throw new OWLParserException(e);
+        }
+    }
+
+    @Nullable
+    private static File localFile(OWLOntologyDocumentSource source) {
+        if (!(source instanceof FileDocumentSource) && !(source instanceof IRIDocumentSource)) {
+            return null;
+        }
+        IRI iri = source.getDocumentIRI();
+        if (!"file".equals(iri.getScheme())) {
+            return null;
+        }
+        File file = new File(iri.toURI());
+        return file.isFile() ? file : null;
+    }
+}
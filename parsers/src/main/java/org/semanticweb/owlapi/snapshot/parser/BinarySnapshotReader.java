@@ -0,0 +1,678 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.snapshot.parser;
+
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.AXIOMS;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.END;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.ENTITY_TABLE;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.IRI_TABLE;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.LITERAL_TABLE;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.MAGIC;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.ONTOLOGY_HEADER;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.VERSION;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnnotationSubject;
+import org.semanticweb.owlapi.model.OWLAnnotationValue;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDataPropertyExpression;
+import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.semanticweb.owlapi.model.SWRLDArgument;
+import org.semanticweb.owlapi.model.SWRLIArgument;
+import org.semanticweb.owlapi.model.SetOntologyID;
+import org.semanticweb.owlapi.util.RemappingIndividualProvider;
+import org.semanticweb.owlapi.vocab.OWLFacet;
+
+/**
+ * Reads a binary snapshot into an ontology. Sections are read from a file
+ * channel, each one mapped in memory, or from a stream; the axioms of each
+ * section are added to the ontology in one batch.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+class BinarySnapshotReader {
+
+    private static final AxiomType<?>[] AXIOM_TYPES = axiomTypes();
+    private static final int CHUNK = 1 << 20;
+    private final OWLOntology ontology;
+    private final OWLOntologyManager manager;
+    private final OWLDataFactory df;
+    private final OWLOntologyLoaderConfiguration config;
+    private final RemappingIndividualProvider anonProvider;
+    private IRI[] iris = new IRI[0];
+    private OWLEntity[] entities = new OWLEntity[0];
+    private OWLLiteral[] literals = new OWLLiteral[0];
+    private ByteBuffer buf = ByteBuffer.allocate(0);
+
+    /**
+     * @param ontology ontology to fill
+     * @param config loader configuration
+     */
+    BinarySnapshotReader(OWLOntology ontology, OWLOntologyLoaderConfiguration config) {
+        this.ontology = ontology;
+        manager = ontology.getOWLOntologyManager();
+        df = manager.getOWLDataFactory();
+        this.config = config;
+        anonProvider = new RemappingIndividualProvider(manager.getOntologyConfigurator(), df);
+    }
+
+    private static AxiomType<?>[] axiomTypes() {
+        AxiomType<?>[] types = new AxiomType<?>[AxiomType.AXIOM_TYPES.size()];
+        for (AxiomType<?> t : AxiomType.AXIOM_TYPES) {
+            types[t.getIndex()] = t;
+        }
+        return types;
+    }
+
+    /**
+     * @param channel channel to read; each section is mapped in memory
+     * @return false if the channel does not contain a snapshot; in this case nothing has been read
+     * @throws IOException if reading fails
+     */
+    boolean read(FileChannel channel) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate(12);
+        head.limit(8);
+        if (!readFully(channel, head, 0)) {
+            return false;
+        }
+        head.flip();
+        if (head.getInt() != MAGIC) {
+            return false;
+        }
+        checkVersion(head.getInt());
+        long size = channel.size();
+        long position = 8;
+        int kind = 0;
+        while (kind != END) {
+            head.clear();
+            if (!readFully(channel, head, position)) {
+                throw new OWLParserException("Truncated snapshot section at " + position);
+            }
+            head.flip();
+            kind = head.getInt();
+            long length = head.getLong();
+            position += 12;
+            if (length < 0 || length > Integer.MAX_VALUE || position + length > size) {
+                throw new OWLParserException("Invalid snapshot section length: " + length);
+            }
+            readSection(kind, channel.map(MapMode.READ_ONLY, position, length));
+            position += length;
+        }
+        return true;
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer b, long position)
+        throws IOException {
+        long p = position;
+        while (b.hasRemaining()) {
+            int read = channel.read(b, p);
+            if (read < 0) {
+                return false;
+            }
+            p += read;
+        }
+        return true;
+    }
+
+    /**
+     * @param in stream to read
+     * @throws IOException if reading fails
+     */
+    void read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new OWLParserException("Not a binary snapshot");
+        }
+        checkVersion(data.readInt());
+        int kind = 0;
+        while (kind != END) {
+            long length;
+            try {
+                kind = data.readInt();
+                length = data.readLong();
+            } catch (EOFException e) {
+                throw new OWLParserException("Truncated snapshot: missing end section", e);
+            }
+            if (length < 0 || length > Integer.MAX_VALUE) {
+                throw new OWLParserException("Invalid snapshot section length: " + length);
+            }
+            readSection(kind, ByteBuffer.wrap(readSection(data, (int) length)));
+        }
+    }
+
+    /**
+     * Reads a section from a stream. Large sections are read in chunks, so
+     * that a corrupt length does not allocate more than the stream holds.
+     */
+    private static byte[] readSection(DataInputStream data, int length) throws IOException {
+        if (length <= CHUNK) {
+            byte[] section = new byte[length];
+            try {
+                data.readFully(section);
+            } catch (EOFException e) {
+                throw new OWLParserException("Truncated snapshot section", e);
+            }
+            return section;
+        }
+        ByteArrayOutputStream section = new ByteArrayOutputStream(CHUNK);
+        byte[] chunk = new byte[CHUNK];
+        int left = length;
+        while (left > 0) {
+            int read = data.read(chunk, 0, Math.min(left, CHUNK));
+            if (read < 0) {
+                throw new OWLParserException("Truncated snapshot section");
+            }
+            section.write(chunk, 0, read);
+            left -= read;
+        }
+        return section.toByteArray();
+    }
+
+    private static void checkVersion(int version) {
+        if (version != VERSION) {
+            throw new OWLParserException("Unsupported snapshot version: " + version);
+        }
+    }
+
+    private void readSection(int kind, ByteBuffer section) {
+        buf = section;
+        try {
+            readSection(kind);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | ClassCastException
+            | IllegalArgumentException e) {
+            // content not matching the layout: the snapshot is corrupt
+            throw new OWLParserException("Corrupt snapshot section of kind " + kind, e);
+        }
+    }
+
+    private void readSection(int kind) {
+        switch (kind) {
+            case IRI_TABLE:
+                iris = new IRI[readCount()];
+                for (int i = 0; i < iris.length; i++) {
+                    iris[i] = IRI.create(readString());
+                }
+                break;
+            case ENTITY_TABLE:
+                entities = new OWLEntity[readCount()];
+                for (int i = 0; i < entities.length; i++) {
+                    entities[i] = df.getOWLEntity(entityType(readInt()), iris[readInt()]);
+                }
+                break;
+            case LITERAL_TABLE:
+                literals = new OWLLiteral[readCount()];
+                for (int i = 0; i < literals.length; i++) {
+                    OWLDatatype datatype = df.getOWLDatatype(iris[readInt()]);
+                    String literal = readString();
+                    String lang = readString();
+                    literals[i] = lang.isEmpty() ? df.getOWLLiteral(literal, datatype)
+                        : df.getOWLLiteral(literal, lang);
+                }
+                break;
+            case ONTOLOGY_HEADER:
+                readHeader();
+                break;
+            case AXIOMS:
+                readAxioms();
+                break;
+            default:
+                // sections unknown to this version are skipped
+                break;
+        }
+    }
+
+    private static EntityType<?> entityType(int typeIndex) {
+        switch (typeIndex) {
+            case 1001:
+                return EntityType.CLASS;
+            case 1002:
+                return EntityType.OBJECT_PROPERTY;
+            case 1004:
+                return EntityType.DATA_PROPERTY;
+            case 1005:
+                return EntityType.NAMED_INDIVIDUAL;
+            case 1006:
+                return EntityType.ANNOTATION_PROPERTY;
+            case 4001:
+                return EntityType.DATATYPE;
+            default:
+                throw new OWLParserException("Unknown entity type: " + typeIndex);
+        }
+    }
+
+    private void readHeader() {
+        IRI ontologyIRI = readOptionalIRI();
+        IRI versionIRI = readOptionalIRI();
+        if (ontologyIRI != null) {
+            manager.applyChange(
+                new SetOntologyID(ontology, new OWLOntologyID(ontologyIRI, versionIRI)));
+        }
+        int imports = readInt();
+        for (int i = 0; i < imports; i++) {
+            OWLImportsDeclaration decl = df.getOWLImportsDeclaration(iris[readInt()]);
+            manager.applyChange(new AddImport(ontology, decl));
+            manager.makeLoadImportRequest(decl, config);
+        }
+        List<OWLAnnotation> annotations = readList();
+        annotations.forEach(a -> manager.applyChange(new AddOntologyAnnotation(ontology, a)));
+    }
+
+    @Nullable
+    private IRI readOptionalIRI() {
+        int index = readInt();
+        return index == 0 ? null : iris[index - 1];
+    }
+
+    private void readAxioms() {
+        AxiomType<?> type = AXIOM_TYPES[readInt()];
+        Supplier<OWLAxiom> decoder = decoder(type);
+        int count = readCount();
+        List<OWLAxiom> axioms = new ArrayList<>(count);
+        boolean skipAnnotationAxioms = !config.isLoadAnnotationAxioms();
+        for (int i = 0; i < count; i++) {
+            OWLAxiom ax = decoder.get();
+            if (!skipAnnotationAxioms || !(ax instanceof OWLAnnotationAxiom)) {
+                axioms.add(ax);
+            }
+        }
+        ontology.addAxioms(axioms);
+    }
+
+    /**
+     * @param type axiom type of the section
+     * @return decoder for the axioms of the section; the content of each axiom
+     * is followed by its annotations
+     */
+    private Supplier<OWLAxiom> decoder(AxiomType<?> type) {
+        if (AxiomType.DECLARATION == type) {
+            return () -> df.getOWLDeclarationAxiom(read(), readList());
+        }
+        if (AxiomType.SUBCLASS_OF == type) {
+            return () -> df.getOWLSubClassOfAxiom(ce(), ce(), readList());
+        }
+        if (AxiomType.EQUIVALENT_CLASSES == type) {
+            return () -> df.getOWLEquivalentClassesAxiom(readList(), readList());
+        }
+        if (AxiomType.DISJOINT_CLASSES == type) {
+            return () -> df.getOWLDisjointClassesAxiom(readList(), readList());
+        }
+        if (AxiomType.DISJOINT_UNION == type) {
+            return () -> df.getOWLDisjointUnionAxiom((OWLClass) read(), readList(), readList());
+        }
+        if (AxiomType.CLASS_ASSERTION == type) {
+            return () -> {
+                OWLIndividual i = read();
+                return df.getOWLClassAssertionAxiom(ce(), i, readList());
+            };
+        }
+        if (AxiomType.SAME_INDIVIDUAL == type) {
+            return () -> df.getOWLSameIndividualAxiom(readList(), readList());
+        }
+        if (AxiomType.DIFFERENT_INDIVIDUALS == type) {
+            return () -> df.getOWLDifferentIndividualsAxiom(readList(), readList());
+        }
+        if (AxiomType.OBJECT_PROPERTY_ASSERTION == type) {
+            return () -> {
+                OWLIndividual s = read();
+                OWLObjectPropertyExpression p = read();
+                OWLIndividual o = read();
+                return df.getOWLObjectPropertyAssertionAxiom(p, s, o, readList());
+            };
+        }
+        if (AxiomType.NEGATIVE_OBJECT_PROPERTY_ASSERTION == type) {
+            return () -> {
+                OWLIndividual s = read();
+                OWLObjectPropertyExpression p = read();
+                OWLIndividual o = read();
+                return df.getOWLNegativeObjectPropertyAssertionAxiom(p, s, o, readList());
+            };
+        }
+        if (AxiomType.DATA_PROPERTY_ASSERTION == type) {
+            return () -> {
+                OWLIndividual s = read();
+                OWLDataPropertyExpression p = read();
+                OWLLiteral o = read();
+                return df.getOWLDataPropertyAssertionAxiom(p, s, o, readList());
+            };
+        }
+        if (AxiomType.NEGATIVE_DATA_PROPERTY_ASSERTION == type) {
+            return () -> {
+                OWLIndividual s = read();
+                OWLDataPropertyExpression p = read();
+                OWLLiteral o = read();
+                return df.getOWLNegativeDataPropertyAssertionAxiom(p, s, o, readList());
+            };
+        }
+        if (AxiomType.EQUIVALENT_OBJECT_PROPERTIES == type) {
+            return () -> df.getOWLEquivalentObjectPropertiesAxiom(readList(), readList());
+        }
+        if (AxiomType.SUB_OBJECT_PROPERTY == type) {
+            return () -> df.getOWLSubObjectPropertyOfAxiom(ope(), ope(), readList());
+        }
+        if (AxiomType.INVERSE_OBJECT_PROPERTIES == type) {
+            return () -> {
+                List<OWLObjectPropertyExpression> pair = readList();
+                return df.getOWLInverseObjectPropertiesAxiom(pair.get(0),
+                    pair.get(pair.size() - 1), readList());
+            };
+        }
+        if (AxiomType.FUNCTIONAL_OBJECT_PROPERTY == type) {
+            return () -> df.getOWLFunctionalObjectPropertyAxiom(ope(), readList());
+        }
+        if (AxiomType.INVERSE_FUNCTIONAL_OBJECT_PROPERTY == type) {
+            return () -> df.getOWLInverseFunctionalObjectPropertyAxiom(ope(), readList());
+        }
+        if (AxiomType.SYMMETRIC_OBJECT_PROPERTY == type) {
+            return () -> df.getOWLSymmetricObjectPropertyAxiom(ope(), readList());
+        }
+        if (AxiomType.ASYMMETRIC_OBJECT_PROPERTY == type) {
+            return () -> df.getOWLAsymmetricObjectPropertyAxiom(ope(), readList());
+        }
+        if (AxiomType.TRANSITIVE_OBJECT_PROPERTY == type) {
+            return () -> df.getOWLTransitiveObjectPropertyAxiom(ope(), readList());
+        }
+        if (AxiomType.REFLEXIVE_OBJECT_PROPERTY == type) {
+            return () -> df.getOWLReflexiveObjectPropertyAxiom(ope(), readList());
+        }
+        if (AxiomType.IRREFLEXIVE_OBJECT_PROPERTY == type) {
+            return () -> df.getOWLIrreflexiveObjectPropertyAxiom(ope(), readList());
+        }
+        if (AxiomType.OBJECT_PROPERTY_DOMAIN == type) {
+            return () -> df.getOWLObjectPropertyDomainAxiom(ope(), ce(), readList());
+        }
+        if (AxiomType.OBJECT_PROPERTY_RANGE == type) {
+            return () -> df.getOWLObjectPropertyRangeAxiom(ope(), ce(), readList());
+        }
+        if (AxiomType.DISJOINT_OBJECT_PROPERTIES == type) {
+            return () -> df.getOWLDisjointObjectPropertiesAxiom(readList(), readList());
+        }
+        if (AxiomType.SUB_PROPERTY_CHAIN_OF == type) {
+            return () -> {
+                List<OWLObjectPropertyExpression> chain = readList();
+                return df.getOWLSubPropertyChainOfAxiom(chain, ope(), readList());
+            };
+        }
+        if (AxiomType.EQUIVALENT_DATA_PROPERTIES == type) {
+            return () -> df.getOWLEquivalentDataPropertiesAxiom(readList(), readList());
+        }
+        if (AxiomType.SUB_DATA_PROPERTY == type) {
+            return () -> df.getOWLSubDataPropertyOfAxiom(dpe(), dpe(), readList());
+        }
+        if (AxiomType.FUNCTIONAL_DATA_PROPERTY == type) {
+            return () -> df.getOWLFunctionalDataPropertyAxiom(dpe(), readList());
+        }
+        if (AxiomType.DATA_PROPERTY_DOMAIN == type) {
+            return () -> df.getOWLDataPropertyDomainAxiom(dpe(), ce(), readList());
+        }
+        if (AxiomType.DATA_PROPERTY_RANGE == type) {
+            return () -> df.getOWLDataPropertyRangeAxiom(dpe(), dr(), readList());
+        }
+        if (AxiomType.DISJOINT_DATA_PROPERTIES == type) {
+            return () -> df.getOWLDisjointDataPropertiesAxiom(readList(), readList());
+        }
+        if (AxiomType.HAS_KEY == type) {
+            return () -> df.getOWLHasKeyAxiom(ce(), readList(), readList());
+        }
+        if (AxiomType.SWRL_RULE == type) {
+            return () -> {
+                List<SWRLAtom> body = readList();
+                List<SWRLAtom> head = readList();
+                return df.getSWRLRule(body, head, readList());
+            };
+        }
+        if (AxiomType.ANNOTATION_ASSERTION == type) {
+            return () -> {
+                OWLObject s = read();
+                OWLAnnotationProperty p = read();
+                OWLObject v = read();
+                return df.getOWLAnnotationAssertionAxiom(p, (OWLAnnotationSubject) s,
+                    (OWLAnnotationValue) v, readList());
+            };
+        }
+        if (AxiomType.SUB_ANNOTATION_PROPERTY_OF == type) {
+            return () -> df.getOWLSubAnnotationPropertyOfAxiom(ap(), ap(), readList());
+        }
+        if (AxiomType.ANNOTATION_PROPERTY_DOMAIN == type) {
+            return () -> df.getOWLAnnotationPropertyDomainAxiom(ap(), (IRI) read(), readList());
+        }
+        if (AxiomType.ANNOTATION_PROPERTY_RANGE == type) {
+            return () -> df.getOWLAnnotationPropertyRangeAxiom(ap(), (IRI) read(), readList());
+        }
+        if (AxiomType.DATATYPE_DEFINITION == type) {
+            return () -> df.getOWLDatatypeDefinitionAxiom((OWLDatatype) read(), dr(), readList());
+        }
+        throw new OWLParserException("Unsupported axiom type: " + type);
+    }
+
+    /**
+     * Reads an object: its type index followed by its content.
+     */
+    private OWLObject readObject() {
+        int typeIndex = readInt();
+        switch (typeIndex) {
+            case 0:
+                return iris[readInt()];
+            case 1001:
+            case 1002:
+            case 1004:
+            case 1005:
+            case 1006:
+            case 4001:
+                return entities[readInt()];
+            case 4008:
+                return literals[readInt()];
+            case 1003:
+                return df.getOWLObjectInverseOf((OWLObjectProperty) read());
+            case 1007:
+                return anonProvider.getOWLAnonymousIndividual(readString());
+            case 3001:
+                return df.getOWLObjectIntersectionOf(this.<OWLClassExpression>readList());
+            case 3002:
+                return df.getOWLObjectUnionOf(this.<OWLClassExpression>readList());
+            case 3003:
+                return df.getOWLObjectComplementOf(ce());
+            case 3004:
+                return df.getOWLObjectOneOf(this.<OWLIndividual>readList());
+            case 3005:
+                return df.getOWLObjectSomeValuesFrom(ope(), ce());
+            case 3006:
+                return df.getOWLObjectAllValuesFrom(ope(), ce());
+            case 3007:
+                return df.getOWLObjectHasValue(ope(), (OWLIndividual) read());
+            case 3008: {
+                OWLObjectPropertyExpression p = ope();
+                return df.getOWLObjectMinCardinality(readInt(), p, ce());
+            }
+            case 3009: {
+                OWLObjectPropertyExpression p = ope();
+                return df.getOWLObjectExactCardinality(readInt(), p, ce());
+            }
+            case 3010: {
+                OWLObjectPropertyExpression p = ope();
+                return df.getOWLObjectMaxCardinality(readInt(), p, ce());
+            }
+            case 3011:
+                return df.getOWLObjectHasSelf(ope());
+            case 3012:
+                return df.getOWLDataSomeValuesFrom(dpe(), dr());
+            case 3013:
+                return df.getOWLDataAllValuesFrom(dpe(), dr());
+            case 3014:
+                return df.getOWLDataHasValue(dpe(), (OWLLiteral) read());
+            case 3015: {
+                OWLDataPropertyExpression p = dpe();
+                return df.getOWLDataMinCardinality(readInt(), p, dr());
+            }
+            case 3016: {
+                OWLDataPropertyExpression p = dpe();
+                return df.getOWLDataExactCardinality(readInt(), p, dr());
+            }
+            case 3017: {
+                OWLDataPropertyExpression p = dpe();
+                return df.getOWLDataMaxCardinality(readInt(), p, dr());
+            }
+            case 4002:
+                return df.getOWLDataComplementOf(dr());
+            case 4003:
+                return df.getOWLDataOneOf(this.<OWLLiteral>readList());
+            case 4004:
+                return df.getOWLDataIntersectionOf(this.<OWLDataRange>readList());
+            case 4005:
+                return df.getOWLDataUnionOf(this.<OWLDataRange>readList());
+            case 4006:
+                return df.getOWLDatatypeRestriction((OWLDatatype) read(), readList());
+            case 4007:
+                return df.getOWLFacetRestriction(OWLFacet.getFacet(iris[readInt()]),
+                    (OWLLiteral) read());
+            case 5001:
+                return df.getOWLAnnotation(ap(),
+                    (OWLAnnotationValue) read(), readList());
+            case 6001:
+                return df.getSWRLClassAtom(ce(), (SWRLIArgument) read());
+            case 6002:
+                return df.getSWRLDataRangeAtom(dr(), (SWRLDArgument) read());
+            case 6003:
+                return df.getSWRLObjectPropertyAtom(ope(), (SWRLIArgument) read(),
+                    (SWRLIArgument) read());
+            case 6004:
+                return df.getSWRLDataPropertyAtom(dpe(), (SWRLIArgument) read(),
+                    (SWRLDArgument) read());
+            case 6005:
+                return df.getSWRLBuiltInAtom(iris[readInt()], this.<SWRLDArgument>readList());
+            case 6006:
+                return df.getSWRLVariable(iris[readInt()]);
+            case 6007:
+                return df.getSWRLIndividualArgument((OWLIndividual) read());
+            case 6008:
+                return df.getSWRLLiteralArgument((OWLLiteral) read());
+            case 6009:
+                return df.getSWRLSameIndividualAtom((SWRLIArgument) read(), (SWRLIArgument) read());
+            case 6010:
+                return df.getSWRLDifferentIndividualsAtom((SWRLIArgument) read(),
+                    (SWRLIArgument) read());
+            default:
+                throw new OWLParserException("Unknown object type: " + typeIndex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T read() {
+        return (T) readObject();
+    }
+
+    private OWLClassExpression ce() {
+        return read();
+    }
+
+    private OWLObjectPropertyExpression ope() {
+        return read();
+    }
+
+    private OWLDataPropertyExpression dpe() {
+        return read();
+    }
+
+    private OWLDataRange dr() {
+        return read();
+    }
+
+    private OWLAnnotationProperty ap() {
+        return read();
+    }
+
+    private <T> List<T> readList() {
+        int size = readCount();
+        List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(read());
+        }
+        return list;
+    }
+
+    private int readInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Reads a number of elements or bytes to follow; each takes at least one
+     * byte, so a count larger than the bytes left in the section is corrupt.
+     */
+    private int readCount() {
+        int count = readInt();
+        if (count < 0 || count > buf.remaining()) {
+            throw new OWLParserException("Corrupt snapshot: invalid count " + count);
+        }
+        return count;
+    }
+
+    private String readString() {
+        int length = readCount();
+        if (buf.hasArray()) {
+            String s = new String(buf.array(), buf.arrayOffset() + buf.position(), length,
+                StandardCharsets.UTF_8);
+            buf.position(buf.position() + length);
+            return s;
+        }
+        byte[] bytes = new byte[length];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
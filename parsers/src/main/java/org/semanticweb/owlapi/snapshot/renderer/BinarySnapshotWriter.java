@@ -0,0 +1,424 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.snapshot.renderer;
+
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.AXIOMS;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.END;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.ENTITY_TABLE;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.IRI_TABLE;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.LITERAL_TABLE;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.MAGIC;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.ONTOLOGY_HEADER;
+import static org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat.VERSION;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.HasDomain;
+import org.semanticweb.owlapi.model.HasOperands;
+import org.semanticweb.owlapi.model.HasProperty;
+import org.semanticweb.owlapi.model.HasRange;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLCardinalityRestriction;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataComplementOf;
+import org.semanticweb.owlapi.model.OWLDataOneOf;
+import org.semanticweb.owlapi.model.OWLDatatypeDefinitionAxiom;
+import org.semanticweb.owlapi.model.OWLDatatypeRestriction;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointUnionAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLFacetRestriction;
+import org.semanticweb.owlapi.model.OWLHasKeyAxiom;
+import org.semanticweb.owlapi.model.OWLHasValueRestriction;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNaryAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectComplementOf;
+import org.semanticweb.owlapi.model.OWLObjectHasSelf;
+import org.semanticweb.owlapi.model.OWLObjectInverseOf;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLQuantifiedRestriction;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.model.OWLSubAnnotationPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
+import org.semanticweb.owlapi.model.OWLUnaryPropertyAxiom;
+import org.semanticweb.owlapi.model.SWRLBinaryAtom;
+import org.semanticweb.owlapi.model.SWRLBuiltInAtom;
+import org.semanticweb.owlapi.model.SWRLDataPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLIndividualArgument;
+import org.semanticweb.owlapi.model.SWRLLiteralArgument;
+import org.semanticweb.owlapi.model.SWRLObjectPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLRule;
+import org.semanticweb.owlapi.model.SWRLUnaryAtom;
+import org.semanticweb.owlapi.model.SWRLVariable;
+
+/**
+ * Writes an ontology as a binary snapshot. The ontology is traversed twice:
+ * the first pass fills the IRI, entity and literal tables, the second writes
+ * the tables followed by the ontology header and one section per axiom type.
+ * Each section is buffered before being written, so that its length can
+ * precede it; only one section is held in memory at a time.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+class BinarySnapshotWriter {
+
+    private static final OutputStream DISCARD = new OutputStream() {
+
+        @Override
+        public void write(int b) {
+            // first pass: only the tables are of interest
+        }
+    };
+    private final OWLOntology ontology;
+    private final Map<IRI, Integer> iris = new HashMap<>();
+    private final List<IRI> iriTable = new ArrayList<>();
+    private final Map<OWLEntity, Integer> entities = new HashMap<>();
+    private final List<OWLEntity> entityTable = new ArrayList<>();
+    private final Map<OWLLiteral, Integer> literals = new HashMap<>();
+    private final List<OWLLiteral> literalTable = new ArrayList<>();
+    private OutputStream out = DISCARD;
+
+    @FunctionalInterface
+    private interface Content {
+
+        void write() throws IOException;
+    }
+
+    /**
+     * @param ontology ontology to write
+     */
+    BinarySnapshotWriter(OWLOntology ontology) {
+        this.ontology = ontology;
+    }
+
+    /**
+     * @param target stream to write to; not closed
+     * @throws IOException if writing fails
+     */
+    void write(OutputStream target) throws IOException {
+        List<AxiomType<?>> types = new ArrayList<>();
+        for (AxiomType<?> type : AxiomType.AXIOM_TYPES) {
+            if (ontology.getAxiomCount(type) > 0) {
+                types.add(type);
+            }
+        }
+        out = DISCARD;
+        writeHeader();
+        for (AxiomType<?> type : types) {
+            writeAxioms(type);
+        }
+        DataOutputStream data = new DataOutputStream(target);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        section(data, IRI_TABLE, this::writeIRITable);
+        section(data, ENTITY_TABLE, this::writeEntityTable);
+        section(data, LITERAL_TABLE, this::writeLiteralTable);
+        section(data, ONTOLOGY_HEADER, this::writeHeader);
+        for (AxiomType<?> type : types) {
+            section(data, AXIOMS, () -> writeAxioms(type));
+        }
+        section(data, END, () -> {
+            // empty
+        });
+        data.flush();
+    }
+
+    private void section(DataOutputStream data, int kind, Content content) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        out = buffer;
+        content.write();
+        data.writeInt(kind);
+        data.writeLong(buffer.size());
+        buffer.writeTo(data);
+    }
+
+    private void writeIRITable() throws IOException {
+        writeInt(iriTable.size());
+        for (IRI iri : iriTable) {
+            writeString(iri.toString());
+        }
+    }
+
+    private void writeEntityTable() throws IOException {
+        writeInt(entityTable.size());
+        for (OWLEntity e : entityTable) {
+            writeInt(e.typeIndex());
+            writeInt(iri(e.getIRI()));
+        }
+    }
+
+    private void writeLiteralTable() throws IOException {
+        writeInt(literalTable.size());
+        for (OWLLiteral l : literalTable) {
+            writeInt(iri(l.getDatatype().getIRI()));
+            writeString(l.getLiteral());
+            writeString(l.getLang());
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        OWLOntologyID id = ontology.getOntologyID();
+        writeOptionalIRI(id.getOntologyIRI().orElse(null));
+        writeOptionalIRI(id.getVersionIRI().orElse(null));
+        List<IRI> imports = asList(ontology.importsDeclarations().map(OWLImportsDeclaration::getIRI));
+        writeInt(imports.size());
+        for (IRI i : imports) {
+            writeInt(iri(i));
+        }
+        writeObjects(ontology.annotations());
+    }
+
+    private void writeOptionalIRI(@Nullable IRI i) throws IOException {
+        // 0 for absent IRIs, index + 1 otherwise
+        writeInt(i == null ? 0 : iri(i) + 1);
+    }
+
+    private void writeAxioms(AxiomType<?> type) throws IOException {
+        writeInt(type.getIndex());
+        List<? extends OWLAxiom> axioms = asList(ontology.axioms(type));
+        writeInt(axioms.size());
+        for (OWLAxiom ax : axioms) {
+            writeAxiom(ax);
+        }
+    }
+
+    private void writeAxiom(OWLAxiom ax) throws IOException {
+        if (ax instanceof OWLDeclarationAxiom) {
+            writeObject(((OWLDeclarationAxiom) ax).getEntity());
+        } else if (ax instanceof OWLSubClassOfAxiom) {
+            writeObject(((OWLSubClassOfAxiom) ax).getSubClass());
+            writeObject(((OWLSubClassOfAxiom) ax).getSuperClass());
+        } else if (ax instanceof OWLNaryAxiom) {
+            writeObjects(((OWLNaryAxiom<?>) ax).operands());
+        } else if (ax instanceof OWLDisjointUnionAxiom) {
+            writeObject(((OWLDisjointUnionAxiom) ax).getOWLClass());
+            writeObjects(((OWLDisjointUnionAxiom) ax).classExpressions());
+        } else if (ax instanceof OWLClassAssertionAxiom) {
+            writeObject(((OWLClassAssertionAxiom) ax).getIndividual());
+            writeObject(((OWLClassAssertionAxiom) ax).getClassExpression());
+        } else if (ax instanceof OWLPropertyAssertionAxiom) {
+            OWLPropertyAssertionAxiom<?, ?> a = (OWLPropertyAssertionAxiom<?, ?>) ax;
+            writeObject(a.getSubject());
+            writeObject(a.getProperty());
+            writeObject(a.getObject());
+        } else if (ax instanceof OWLSubPropertyAxiom) {
+            writeObject(((OWLSubPropertyAxiom<?>) ax).getSubProperty());
+            writeObject(((OWLSubPropertyAxiom<?>) ax).getSuperProperty());
+        } else if (ax instanceof OWLSubAnnotationPropertyOfAxiom) {
+            writeObject(((OWLSubAnnotationPropertyOfAxiom) ax).getSubProperty());
+            writeObject(((OWLSubAnnotationPropertyOfAxiom) ax).getSuperProperty());
+        } else if (ax instanceof HasDomain) {
+            // property domains, including annotation property domains
+            writeObject(((HasProperty<?>) ax).getProperty());
+            writeObject(((HasDomain<?>) ax).getDomain());
+        } else if (ax instanceof HasRange) {
+            writeObject(((HasProperty<?>) ax).getProperty());
+            writeObject(((HasRange<?>) ax).getRange());
+        } else if (ax instanceof OWLUnaryPropertyAxiom) {
+            writeObject(((OWLUnaryPropertyAxiom<?>) ax).getProperty());
+        } else if (ax instanceof OWLSubPropertyChainOfAxiom) {
+            writeObjects(((OWLSubPropertyChainOfAxiom) ax).getPropertyChain().stream());
+            writeObject(((OWLSubPropertyChainOfAxiom) ax).getSuperProperty());
+        } else if (ax instanceof OWLHasKeyAxiom) {
+            writeObject(((OWLHasKeyAxiom) ax).getClassExpression());
+            writeObjects(((OWLHasKeyAxiom) ax).propertyExpressions());
+        } else if (ax instanceof SWRLRule) {
+            writeObjects(((SWRLRule) ax).body());
+            writeObjects(((SWRLRule) ax).head());
+        } else if (ax instanceof OWLAnnotationAssertionAxiom) {
+            OWLAnnotationAssertionAxiom a = (OWLAnnotationAssertionAxiom) ax;
+            writeObject(a.getSubject());
+            writeObject(a.getProperty());
+            writeObject(a.getValue());
+        } else if (ax instanceof OWLDatatypeDefinitionAxiom) {
+            writeObject(((OWLDatatypeDefinitionAxiom) ax).getDatatype());
+            writeObject(((OWLDatatypeDefinitionAxiom) ax).getDataRange());
+        } else {
+            throw new OWLRuntimeException("Unsupported axiom: " + ax);
+        }
+        writeObjects(ax.annotations());
+    }
+
+    /**
+     * Writes the type index of an object, followed by its content. Entities
+     * and literals are written as indexes in their tables.
+     */
+    private void writeObject(Object o) throws IOException {
+        if (o instanceof IRI) {
+            writeInt(((IRI) o).typeIndex());
+            writeInt(iri((IRI) o));
+            return;
+        }
+        if (!(o instanceof OWLObject)) {
+            throw new OWLRuntimeException("Unsupported object: " + o);
+        }
+        OWLObject object = (OWLObject) o;
+        writeInt(object.typeIndex());
+        if (object instanceof OWLEntity) {
+            writeInt(entity((OWLEntity) object));
+        } else if (object instanceof OWLLiteral) {
+            writeInt(literal((OWLLiteral) object));
+        } else if (object instanceof OWLAnonymousIndividual) {
+            writeString(((OWLAnonymousIndividual) object).getID().getID());
+        } else if (object instanceof OWLObjectInverseOf) {
+            writeObject(((OWLObjectInverseOf) object).getInverse());
+        } else if (object instanceof HasOperands) {
+            // boolean class expressions and data ranges, ObjectOneOf
+            writeObjects(((HasOperands<?>) object).operands());
+        } else if (object instanceof OWLObjectComplementOf) {
+            writeObject(((OWLObjectComplementOf) object).getOperand());
+        } else if (object instanceof OWLCardinalityRestriction) {
+            OWLCardinalityRestriction<?> r = (OWLCardinalityRestriction<?>) object;
+            writeObject(r.getProperty());
+            writeInt(r.getCardinality());
+            writeObject(r.getFiller());
+        } else if (object instanceof OWLQuantifiedRestriction) {
+            writeObject(((OWLQuantifiedRestriction<?>) object).getProperty());
+            writeObject(((OWLQuantifiedRestriction<?>) object).getFiller());
+        } else if (object instanceof OWLHasValueRestriction) {
+            writeObject(((OWLHasValueRestriction<?>) object).getProperty());
+            writeObject(((OWLHasValueRestriction<?>) object).getFiller());
+        } else if (object instanceof OWLObjectHasSelf) {
+            writeObject(((OWLObjectHasSelf) object).getProperty());
+        } else if (object instanceof OWLDataComplementOf) {
+            writeObject(((OWLDataComplementOf) object).getDataRange());
+        } else if (object instanceof OWLDataOneOf) {
+            writeObjects(((OWLDataOneOf) object).values());
+        } else if (object instanceof OWLDatatypeRestriction) {
+            writeObject(((OWLDatatypeRestriction) object).getDatatype());
+            writeObjects(((OWLDatatypeRestriction) object).facetRestrictions());
+        } else if (object instanceof OWLFacetRestriction) {
+            writeInt(iri(((OWLFacetRestriction) object).getFacet().getIRI()));
+            writeObject(((OWLFacetRestriction) object).getFacetValue());
+        } else if (object instanceof OWLAnnotation) {
+            writeObject(((OWLAnnotation) object).getProperty());
+            writeObject(((OWLAnnotation) object).getValue());
+            writeObjects(((OWLAnnotation) object).annotations());
+        } else {
+            writeSWRLObject(object);
+        }
+    }
+
+    private void writeSWRLObject(OWLObject object) throws IOException {
+        if (object instanceof SWRLVariable) {
+            writeInt(iri(((SWRLVariable) object).getIRI()));
+        } else if (object instanceof SWRLIndividualArgument) {
+            writeObject(((SWRLIndividualArgument) object).getIndividual());
+        } else if (object instanceof SWRLLiteralArgument) {
+            writeObject(((SWRLLiteralArgument) object).getLiteral());
+        } else if (object instanceof SWRLBuiltInAtom) {
+            writeInt(iri(((SWRLBuiltInAtom) object).getPredicate()));
+            writeObjects(((SWRLBuiltInAtom) object).arguments());
+        } else if (object instanceof SWRLObjectPropertyAtom
+            || object instanceof SWRLDataPropertyAtom) {
+            SWRLBinaryAtom<?, ?> atom = (SWRLBinaryAtom<?, ?>) object;
+            writeObject(atom.getPredicate());
+            writeObject(atom.getFirstArgument());
+            writeObject(atom.getSecondArgument());
+        } else if (object instanceof SWRLBinaryAtom) {
+            // same and different individuals atoms have a fixed predicate
+            writeObject(((SWRLBinaryAtom<?, ?>) object).getFirstArgument());
+            writeObject(((SWRLBinaryAtom<?, ?>) object).getSecondArgument());
+        } else if (object instanceof SWRLUnaryAtom) {
+            writeObject(((SWRLUnaryAtom<?>) object).getPredicate());
+            writeObject(((SWRLUnaryAtom<?>) object).getArgument());
+        } else {
+            throw new OWLRuntimeException("Unsupported object: " + object);
+        }
+    }
+
+    private void writeObjects(Stream<?> objects) throws IOException {
+        writeObjects(asList(objects));
+    }
+
+    private void writeObjects(Collection<?> objects) throws IOException {
+        writeInt(objects.size());
+        for (Object o : objects) {
+            writeObject(o);
+        }
+    }
+
+    private int iri(IRI i) {
+        Integer index = iris.get(i);
+        if (index == null) {
+            index = Integer.valueOf(iriTable.size());
+            iris.put(i, index);
+            iriTable.add(i);
+        }
+        return index.intValue();
+    }
+
+    private int entity(OWLEntity e) {
+        Integer index = entities.get(e);
+        if (index == null) {
+            iri(e.getIRI());
+            index = Integer.valueOf(entityTable.size());
+            entities.put(e, index);
+            entityTable.add(e);
+        }
+        return index.intValue();
+    }
+
+    private int literal(OWLLiteral l) {
+        Integer index = literals.get(l);
+        if (index == null) {
+            iri(l.getDatatype().getIRI());
+            index = Integer.valueOf(literalTable.size());
+            literals.put(l, index);
+            literalTable.add(l);
+        }
+        return index.intValue();
+    }
+
+    /**
+     * Writes a non negative int in seven bit groups, least significant group
+     * first.
+     */
+    private void writeInt(int value) throws IOException {
+        int v = value;
+        while ((v & ~0x7F) != 0) {
+            out.write((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.write(v);
+    }
+
+    private void writeString(String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
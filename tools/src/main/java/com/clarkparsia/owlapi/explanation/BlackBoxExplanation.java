@@ -13,17 +13,25 @@
 package com.clarkparsia.owlapi.explanation;
 
 import static org.semanticweb.owlapi.model.parameters.Imports.INCLUDED;
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.getResult;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.add;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import javax.annotation.Nullable;
 
@@ -47,7 +55,11 @@ import org.slf4j.LoggerFactory;
 import com.clarkparsia.owlapi.explanation.util.OntologyUtils;
 
 /**
- * A black box explanation.
+ * A black box explanation. While an explanation is computed, satisfiability tests are run by a
+ * single buffering reasoner over a debugging ontology, which is updated with the axioms added and
+ * removed since the previous test; results are cached by axiom set. If an executor is set, the
+ * windows tested during fast pruning are tested in parallel, each with its own debugging ontology
+ * and reasoner.
  */
 public class BlackBoxExplanation extends SingleExplanationGeneratorImpl
     implements SingleExplanationGenerator {
@@ -86,15 +98,37 @@ public class BlackBoxExplanation extends SingleExplanationGeneratorImpl
      * The owl ontology manager.
      */
     private final OWLOntologyManager man;
+    /**
+     * The manager that holds the debugging ontologies.
+     */
+    private final OWLOntologyManager debuggingManager;
     /**
      * The debugging axioms.
      */
     protected Set<OWLAxiom> debuggingAxioms = new LinkedHashSet<>();
+    /**
+     * Axioms that must not be used in the explanation being computed.
+     */
+    private Set<OWLAxiom> excludedAxioms = Collections.emptySet();
+    /**
+     * Satisfiability of the unsat class for the axiom sets tested so far.
+     */
+    private final Map<Set<OWLAxiom>, Boolean> satCache = new HashMap<>();
     /**
      * The debugging ontology.
      */
     @Nullable
     private OWLOntology debuggingOntology;
+    /**
+     * The reasoner for the debugging ontology.
+     */
+    @Nullable
+    private OWLReasoner debuggingReasoner;
+    /**
+     * The executor for parallel fast pruning.
+     */
+    @Nullable
+    private ExecutorService executor;
     /**
      * The expansion limit.
      */
@@ -115,8 +149,32 @@ public class BlackBoxExplanation extends SingleExplanationGeneratorImpl
      */
     public BlackBoxExplanation(OWLOntology ontology, OWLReasonerFactory reasonerFactory,
         OWLReasoner reasoner) {
+        this(ontology, reasonerFactory, reasoner, ontology.getOWLOntologyManager());
+    }
+
+    /**
+     * Instantiates a new black box explanation whose debugging ontologies are created in a separate
+     * manager. If an executor is set, or if more than one explanation generator explain the same
+     * ontology concurrently, the debugging manager must be thread safe.
+     *
+     * @param ontology the ontology
+     * @param reasonerFactory the reasoner factory
+     * @param reasoner the reasoner
+     * @param debuggingManager the manager for debugging ontologies
+     */
+    public BlackBoxExplanation(OWLOntology ontology, OWLReasonerFactory reasonerFactory,
+        OWLReasoner reasoner, OWLOntologyManager debuggingManager) {
         super(ontology, reasonerFactory, reasoner);
         man = ontology.getOWLOntologyManager();
+        this.debuggingManager = checkNotNull(debuggingManager, "debuggingManager cannot be null");
+    }
+
+    /**
+     * @param executor executor for testing the fast pruning windows in parallel; null to test
+     *        them sequentially
+     */
+    public void setExecutor(@Nullable ExecutorService executor) {
+        this.executor = executor;
     }
 
     /**
@@ -144,15 +202,22 @@ public class BlackBoxExplanation extends SingleExplanationGeneratorImpl
 
     @Override
     public void dispose() {
-        reset();
+        release();
         getReasoner().dispose();
     }
 
+    /**
+     * Releases the debugging ontology and stops tracking definitions, but does not dispose of the
+     * reasoner, which may be shared with other generators.
+     */
+    void release() {
+        reset();
+        getDefinitionTracker().dispose();
+    }
+
     private void reset() {
-        if (debuggingOntology != null) {
-            man.removeOntology(verifyNotNull(debuggingOntology));
-            debuggingOntology = null;
-        }
+        releaseDebuggingOntology();
+        satCache.clear();
         debuggingAxioms.clear();
         objectsExpandedWithDefiningAxioms.clear();
         objectsExpandedWithReferencingAxioms.clear();
@@ -163,6 +228,20 @@ public class BlackBoxExplanation extends SingleExplanationGeneratorImpl
 
     @Override
     public Set<OWLAxiom> getExplanation(OWLClassExpression unsatClass) {
+        return getExplanation(unsatClass, Collections.emptySet());
+    }
+
+    /**
+     * Computes an explanation that does not use any of the excluded axioms, as if they had been
+     * removed from the ontology. The ontology itself is not changed, so that explanations
+     * excluding different axioms can be computed concurrently by different generators.
+     *
+     * @param unsatClass the unsat class
+     * @param excluded axioms that must not be used
+     * @return the explanation, or an empty set if the class is satisfiable without the excluded
+     *         axioms
+     */
+    public Set<OWLAxiom> getExplanation(OWLClassExpression unsatClass, Set<OWLAxiom> excluded) {
         if (!getDefinitionTracker().isDefined(unsatClass)) {
             return Collections.emptySet();
         }
@@ -172,12 +251,16 @@ public class BlackBoxExplanation extends SingleExplanationGeneratorImpl
                 return Collections.emptySet();
             }
             reset();
+            excludedAxioms = checkNotNull(excluded, "excluded cannot be null");
             expandUntilUnsatisfiable(unsatClass);
             pruneUntilMinimal(unsatClass);
             removeDeclarations();
             return new HashSet<>(debuggingAxioms);
         } catch (OWLException e) {
             throw new OWLRuntimeException(e);
+        } finally {
+            excludedAxioms = Collections.emptySet();
+            releaseDebuggingOntology();
         }
     }
 
@@ -251,13 +334,17 @@ public class BlackBoxExplanation extends SingleExplanationGeneratorImpl
         getOntology().importsClosure().forEach(ont -> {
             boolean referenceFound = false;
             if (obj instanceof OWLClass) {
-                referenceFound = add(expansionAxioms, ont.axioms((OWLClass) obj));
+                referenceFound = add(expansionAxioms, ont.axioms((OWLClass) obj)
+                    .filter(this::isIncluded));
             } else if (obj.isOWLObjectProperty()) {
-                referenceFound = add(expansionAxioms, ont.axioms(obj.asOWLObjectProperty()));
+                referenceFound = add(expansionAxioms, ont.axioms(obj.asOWLObjectProperty())
+                    .filter(this::isIncluded));
             } else if (obj.isOWLDataProperty()) {
-                referenceFound = add(expansionAxioms, ont.axioms(obj.asOWLDataProperty()));
+                referenceFound = add(expansionAxioms, ont.axioms(obj.asOWLDataProperty())
+                    .filter(this::isIncluded));
             } else if (obj instanceof OWLIndividual) {
-                referenceFound = add(expansionAxioms, ont.axioms((OWLIndividual) obj));
+                referenceFound = add(expansionAxioms, ont.axioms((OWLIndividual) obj)
+                    .filter(this::isIncluded));
             }
             if (!referenceFound) {
                 expansionAxioms.add(man.getOWLDataFactory().getOWLDeclarationAxiom(obj));
@@ -280,9 +367,14 @@ public class BlackBoxExplanation extends SingleExplanationGeneratorImpl
         Set<OWLAxiom> expansionAxioms =
             asUnorderedSet(getOntology().referencingAxioms(obj, INCLUDED));
         expansionAxioms.removeAll(debuggingAxioms);
+        expansionAxioms.removeAll(excludedAxioms);
         return addMax(expansionAxioms, debuggingAxioms, limit);
     }
 
+    private boolean isIncluded(OWLAxiom ax) {
+        return !excludedAxioms.contains(ax);
+    }
+
     // Contraction/Pruning - Fast pruning is performed and then slow pruning is
     // performed.
     private void performFastPruning(OWLClassExpression unsatClass) throws OWLException {
@@ -322,6 +414,61 @@ public class BlackBoxExplanation extends SingleExplanationGeneratorImpl
         LOGGER.info("    - End of fast pruning");
     }
 
+    /**
+     * Tests all windows in parallel against the current debugging axioms. Windows that can be
+     * removed one at a time can almost always be removed together, since most of them are not
+     * related to the clash; if not, they are removed one at a time as in sequential fast pruning.
+     *
+     * @param unsatClass the unsat class
+     * @param pool the executor that runs the tests
+     * @throws OWLException the oWL exception
+     */
+    private void performParallelFastPruning(OWLClassExpression unsatClass, ExecutorService pool)
+        throws OWLException {
+        List<OWLAxiom> axioms = new ArrayList<>(debuggingAxioms);
+        List<List<OWLAxiom>> windows = new ArrayList<>();
+        for (int i = 0; i < axioms.size(); i += fastPruningWindowSize) {
+            windows.add(axioms.subList(i, Math.min(i + fastPruningWindowSize, axioms.size())));
+        }
+        LOGGER.info("Parallel fast pruning: ");
+        LOGGER.info("     - Windows: {}", Integer.valueOf(windows.size()));
+        List<Set<OWLAxiom>> remaining = new ArrayList<>(windows.size());
+        List<Future<Boolean>> tests = new ArrayList<>(windows.size());
+        for (List<OWLAxiom> window : windows) {
+            Set<OWLAxiom> axiomSet = new HashSet<>(debuggingAxioms);
+            axiomSet.removeAll(window);
+            remaining.add(axiomSet);
+            Boolean cached = satCache.get(axiomSet);
+            if (cached == null) {
+                satTestCount++;
+                tests.add(pool.submit(() -> Boolean.valueOf(isSatisfiable(unsatClass, axiomSet))));
+            } else {
+                tests.add(CompletableFuture.completedFuture(cached));
+            }
+        }
+        List<List<OWLAxiom>> removable = new ArrayList<>();
+        for (int i = 0; i < windows.size(); i++) {
+            Boolean sat = getResult(tests.get(i), OWLException.class);
+            satCache.put(remaining.get(i), sat);
+            if (!sat.booleanValue()) {
+                removable.add(windows.get(i));
+            }
+        }
+        Set<OWLAxiom> all = debuggingAxioms;
+        debuggingAxioms = new LinkedHashSet<>(all);
+        removable.forEach(debuggingAxioms::removeAll);
+        if (removable.size() > 1 && isSatisfiable(unsatClass)) {
+            debuggingAxioms = all;
+            for (List<OWLAxiom> window : removable) {
+                debuggingAxioms.removeAll(window);
+                if (isSatisfiable(unsatClass)) {
+                    debuggingAxioms.addAll(window);
+                }
+            }
+        }
+        LOGGER.info("    - End of parallel fast pruning");
+    }
+
     private void performSlowPruning(OWLClassExpression unsatClass) throws OWLException {
         // Simply remove axioms one at a time. If the class
         // being debugged turns satisfiable then we know we have
@@ -337,41 +484,99 @@ public class BlackBoxExplanation extends SingleExplanationGeneratorImpl
     }
 
     /**
-     * Tests the satisfiability of the test class. The ontology is recreated before the test is
-     * performed.
+     * Tests the satisfiability of the test class against the debugging axioms. The debugging
+     * ontology is updated with the differences from the previous test, and the changes are flushed
+     * to the reasoner, which is only created for the first test.
      *
      * @param unsatClass the unsat class
      * @return true, if is satisfiable
      * @throws OWLException the oWL exception
      */
     private boolean isSatisfiable(OWLClassExpression unsatClass) throws OWLException {
+        Set<OWLAxiom> axiomSet = new HashSet<>(debuggingAxioms);
+        Boolean cached = satCache.get(axiomSet);
+        if (cached != null) {
+            return cached.booleanValue();
+        }
+        satTestCount++;
+        boolean sat;
         try {
-            createDebuggingOntology();
-            OWLReasoner reasoner =
-                getReasonerFactory().createNonBufferingReasoner(verifyNotNull(debuggingOntology));
-            if (OntologyUtils.containsUnreferencedEntity(verifyNotNull(debuggingOntology),
-                unsatClass)) {
-                reasoner.dispose();
-                return true;
+            OWLOntology ont = getDebuggingOntology();
+            ont.remove(asList(ont.axioms().filter(ax -> !axiomSet.contains(ax))));
+            ont.add(asList(axiomSet.stream().filter(ax -> !ont.containsAxiom(ax))));
+            if (OntologyUtils.containsUnreferencedEntity(ont, unsatClass)) {
+                sat = true;
+            } else {
+                OWLReasoner reasoner = debuggingReasoner;
+                if (reasoner == null) {
+                    reasoner = getReasonerFactory().createReasoner(ont);
+                    debuggingReasoner = reasoner;
+                } else {
+                    reasoner.flush();
+                }
+                sat = reasoner.isSatisfiable(unsatClass);
             }
-            satTestCount++;
-            boolean sat = reasoner.isSatisfiable(unsatClass);
-            reasoner.dispose();
-            return sat;
         } catch (IllegalArgumentException e) {
             LOGGER.warn(
                 "Illegal argument found - satisfiability cannot be checked for {} because of {}",
                 unsatClass, e);
-            return false;
+            sat = false;
         }
+        satCache.put(axiomSet, Boolean.valueOf(sat));
+        return sat;
     }
 
-    private void createDebuggingOntology() throws OWLException {
+    private OWLOntology getDebuggingOntology() throws OWLException {
+        if (debuggingOntology == null) {
+            debuggingOntology = debuggingManager.createOntology();
+        }
+        return verifyNotNull(debuggingOntology);
+    }
+
+    private void releaseDebuggingOntology() {
+        if (debuggingReasoner != null) {
+            verifyNotNull(debuggingReasoner).dispose();
+            debuggingReasoner = null;
+        }
         if (debuggingOntology != null) {
-            man.removeOntology(verifyNotNull(debuggingOntology));
+            debuggingManager.removeOntology(verifyNotNull(debuggingOntology));
+            debuggingOntology = null;
+        }
+    }
+
+    /**
+     * Tests the satisfiability of the test class with a fresh debugging ontology and reasoner. The
+     * debugging ontology is created before the test is performed, and removed afterwards; tests can
+     * run concurrently if the debugging manager is thread safe.
+     *
+     * @param unsatClass the unsat class
+     * @param axioms the axioms to test against
+     * @return true, if is satisfiable
+     * @throws OWLException the oWL exception
+     */
+    private boolean isSatisfiable(OWLClassExpression unsatClass, Collection<OWLAxiom> axioms)
+        throws OWLException {
+        OWLOntology debuggingOntology = debuggingManager.createOntology();
+        try {
+            debuggingOntology.add(axioms);
+            if (OntologyUtils.containsUnreferencedEntity(debuggingOntology, unsatClass)) {
+                return true;
+            }
+            OWLReasoner reasoner =
+                getReasonerFactory().createNonBufferingReasoner(debuggingOntology);
+            try {
+                return reasoner.isSatisfiable(unsatClass);
+            } finally {
+                reasoner.dispose();
+            }
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn(
+                "Illegal argument found - satisfiability cannot be checked for {} because of {}",
+                unsatClass, e);
+            return false;
+        } finally {
+            debuggingManager.removeOntology(debuggingOntology);
         }
-        debuggingOntology = man.createOntology();
-        debuggingOntology.add(debuggingAxioms);
     }
 
     private void resetSatisfiabilityTestCounter() {
@@ -422,7 +627,12 @@ public class BlackBoxExplanation extends SingleExplanationGeneratorImpl
         resetSatisfiabilityTestCounter();
         LOGGER.info("Fast pruning...");
         fastPruningWindowSize = DEFAULT_FAST_PRUNING_WINDOW_SIZE;
-        performFastPruning(unsatClass);
+        ExecutorService pool = executor;
+        if (pool == null) {
+            performFastPruning(unsatClass);
+        } else {
+            performParallelFastPruning(unsatClass, pool);
+        }
         LOGGER.info("... end of fast pruning. Axioms remaining: {}",
             Integer.valueOf(debuggingAxioms.size()));
         LOGGER.info("Performed {} satisfiability tests during fast pruning",
@@ -0,0 +1,275 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2011, Clark & Parsia, LLC
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package com.clarkparsia.owlapi.explanation;
+
+import static org.semanticweb.owlapi.util.OWLAPIConcurrencyUtils.getResult;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import com.clarkparsia.owlapi.explanation.util.ExplanationProgressMonitor;
+import com.clarkparsia.owlapi.explanation.util.SilentExplanationProgressMonitor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
+import org.semanticweb.owlapi.util.OWLAPIPreconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HST explanation generator that expands the hitting set tree breadth first, computing the nodes
+ * of each level in parallel on an executor. Unlike {@link HSTExplanationGenerator}, the ontology is
+ * never changed: each node is computed by a {@link BlackBoxExplanation} worker that ignores the
+ * axioms on the path to the node, so the ontology must not be changed while explanations are
+ * computed. Each worker uses its own reasoners, over debugging ontologies created in a thread safe
+ * manager. The fast pruning windows for the first explanation are also tested in parallel. The
+ * search stops as soon as the requested number of explanations has been found.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class ParallelHSTExplanationGenerator implements MultipleExplanationGenerator {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(ParallelHSTExplanationGenerator.class);
+    private final BlackBoxExplanation singleExplanationGenerator;
+    private final List<BlackBoxExplanation> allWorkers = new ArrayList<>();
+    private final BlockingQueue<BlackBoxExplanation> workers;
+    private final ExecutorService executor;
+    private ExplanationProgressMonitor progressMonitor = new SilentExplanationProgressMonitor();
+
+    /**
+     * @param ontology the ontology to explain; must not be changed while explanations are computed
+     * @param reasonerFactory the reasoner factory
+     * @param reasoner the reasoner for the ontology
+     * @param debuggingManager thread safe manager for the debugging ontologies, e.g., a concurrent
+     *        manager
+     * @param executor the executor that runs the workers
+     * @param workerCount the number of workers, i.e., the maximum number of nodes computed at the
+     *        same time
+     */
+    public ParallelHSTExplanationGenerator(OWLOntology ontology,
+        OWLReasonerFactory reasonerFactory, OWLReasoner reasoner,
+        OWLOntologyManager debuggingManager, ExecutorService executor, int workerCount) {
+        this.executor = checkNotNull(executor, "executor cannot be null");
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("workerCount must be positive: " + workerCount);
+        }
+        singleExplanationGenerator =
+            new BlackBoxExplanation(ontology, reasonerFactory, reasoner, debuggingManager);
+        singleExplanationGenerator.setExecutor(executor);
+        // workers are created upfront, as generators register listeners with the manager
+        workers = new ArrayBlockingQueue<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            BlackBoxExplanation worker =
+                new BlackBoxExplanation(ontology, reasonerFactory, reasoner, debuggingManager);
+            // workers never compute a first explanation, so they never use the shared reasoner
+            worker.beginTransaction();
+            allWorkers.add(worker);
+            workers.add(worker);
+        }
+    }
+
+    @Override
+    public void setProgressMonitor(ExplanationProgressMonitor progressMonitor) {
+        this.progressMonitor = checkNotNull(progressMonitor, "progressMonitor cannot be null");
+    }
+
+    @Override
+    public OWLOntologyManager getOntologyManager() {
+        return singleExplanationGenerator.getOntologyManager();
+    }
+
+    @Override
+    public OWLOntology getOntology() {
+        return singleExplanationGenerator.getOntology();
+    }
+
+    @Override
+    public OWLReasoner getReasoner() {
+        return singleExplanationGenerator.getReasoner();
+    }
+
+    @Override
+    public OWLReasonerFactory getReasonerFactory() {
+        return singleExplanationGenerator.getReasonerFactory();
+    }
+
+    @Override
+    public Set<OWLAxiom> getExplanation(OWLClassExpression unsatClass) {
+        return singleExplanationGenerator.getExplanation(unsatClass);
+    }
+
+    @Override
+    public Set<Set<OWLAxiom>> getExplanations(OWLClassExpression unsatClass) {
+        return getExplanations(unsatClass, 0);
+    }
+
+    @Override
+    public void dispose() {
+        try {
+            singleExplanationGenerator.dispose();
+        } finally {
+            // workers share the reasoner disposed above, and may be checked out of the queue
+            allWorkers.forEach(BlackBoxExplanation::release);
+        }
+    }
+
+    @Override
+    public Set<Set<OWLAxiom>> getExplanations(OWLClassExpression unsatClass,
+        @Nonnegative int maxExplanations) {
+        OWLAPIPreconditions
+            .checkNotNegative(maxExplanations, "max explanations cannot be negative");
+        Object max = maxExplanations == 0 ? "all" : Integer.valueOf(maxExplanations);
+        LOGGER.info("Get {} explanation(s) for: {}", max, unsatClass);
+        Set<OWLAxiom> firstMups = getExplanation(unsatClass);
+        if (firstMups.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Search search = new Search(unsatClass, maxExplanations);
+        search.addMups(firstMups);
+        List<Set<OWLAxiom>> level = search.children(Collections.emptySet(), firstMups);
+        while (!level.isEmpty() && !search.isDone()) {
+            LOGGER.info("Expanding {} nodes", Integer.valueOf(level.size()));
+            List<Future<List<Set<OWLAxiom>>>> nodes = new ArrayList<>(level.size());
+            for (Set<OWLAxiom> path : level) {
+                nodes.add(executor.submit(() -> search.expand(path)));
+            }
+            List<Set<OWLAxiom>> next = new ArrayList<>();
+            for (Future<List<Set<OWLAxiom>>> node : nodes) {
+                next.addAll(getResult(node));
+            }
+            level = next;
+        }
+        progressMonitor.foundAllExplanations();
+        List<Set<OWLAxiom>> allMups = search.allMups;
+        if (maxExplanations > 0 && allMups.size() > maxExplanations) {
+            allMups = allMups.subList(0, maxExplanations);
+        }
+        return new LinkedHashSet<>(allMups);
+    }
+
+    /**
+     * State of a hitting set tree search, shared by the tasks computing its nodes. A node is
+     * identified by the set of axioms on the path from the root.
+     */
+    private class Search {
+
+        private final OWLClassExpression unsatClass;
+        private final int maxExplanations;
+        final List<Set<OWLAxiom>> allMups = new CopyOnWriteArrayList<>();
+        private final Set<Set<OWLAxiom>> satPaths = ConcurrentHashMap.newKeySet();
+        private final Set<Set<OWLAxiom>> visitedPaths = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        Search(OWLClassExpression unsatClass, int maxExplanations) {
+            this.unsatClass = unsatClass;
+            this.maxExplanations = maxExplanations;
+        }
+
+        boolean isDone() {
+            return done.get() || progressMonitor.isCancelled();
+        }
+
+        /**
+         * Computes the label of a node, and returns the paths to its children that have not been
+         * visited yet.
+         */
+        List<Set<OWLAxiom>> expand(Set<OWLAxiom> path) throws InterruptedException {
+            if (isDone() || isSatisfiable(path)) {
+                return Collections.emptyList();
+            }
+            Set<OWLAxiom> mups = reusableMups(path);
+            if (mups == null) {
+                BlackBoxExplanation worker = workers.take();
+                try {
+                    mups = worker.getExplanation(unsatClass, path);
+                } finally {
+                    workers.add(worker);
+                }
+                if (mups.isEmpty()) {
+                    LOGGER.info("Stop - satisfiable");
+                    satPaths.add(path);
+                    return Collections.emptyList();
+                }
+                addMups(mups);
+            }
+            return children(path, mups);
+        }
+
+        /**
+         * Early path termination: if the path contains a path that makes the class satisfiable, no
+         * explanation can be found below it.
+         */
+        private boolean isSatisfiable(Set<OWLAxiom> path) {
+            for (Set<OWLAxiom> satPath : satPaths) {
+                if (path.containsAll(satPath)) {
+                    LOGGER.info("Stop - satisfiable (early termination)");
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Nullable
+        private Set<OWLAxiom> reusableMups(Set<OWLAxiom> path) {
+            for (Set<OWLAxiom> mups : allMups) {
+                if (Collections.disjoint(mups, path)) {
+                    return mups;
+                }
+            }
+            return null;
+        }
+
+        synchronized void addMups(Set<OWLAxiom> mups) {
+            if (done.get() || allMups.contains(mups)) {
+                return;
+            }
+            LOGGER.info("MUPS {}: {}", Integer.valueOf(allMups.size()), mups);
+            allMups.add(mups);
+            progressMonitor.foundExplanation(mups);
+            if (allMups.size() == maxExplanations) {
+                LOGGER.info("Computed {} explanations", Integer.valueOf(maxExplanations));
+                done.set(true);
+            }
+        }
+
+        List<Set<OWLAxiom>> children(Set<OWLAxiom> path, Set<OWLAxiom> mups) {
+            List<Set<OWLAxiom>> children = new ArrayList<>(mups.size());
+            for (OWLAxiom axiom : mups) {
+                Set<OWLAxiom> child = new HashSet<>(path);
+                child.add(axiom);
+                if (visitedPaths.add(child)) {
+                    children.add(child);
+                }
+            }
+            return children;
+        }
+    }
+}
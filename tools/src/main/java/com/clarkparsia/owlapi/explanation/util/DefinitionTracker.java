@@ -97,6 +97,13 @@ public class DefinitionTracker implements OWLOntologyChangeListener {
         return !classExpression.signature().anyMatch(e -> !isDefined(e));
     }
 
+    /**
+     * Stops tracking changes to the ontology.
+     */
+    public void dispose() {
+        ontology.getOWLOntologyManager().removeOntologyChangeListener(this);
+    }
+
     @Override
     public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
         for (OWLOntologyChange change : changes) {
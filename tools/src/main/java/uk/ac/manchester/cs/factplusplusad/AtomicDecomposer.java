@@ -1,8 +1,21 @@
 package uk.ac.manchester.cs.factplusplusad;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.semanticweb.owlapi.atomicdecomposition.ModuleMethod;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapitools.decomposition.AxiomSelector;
 import org.semanticweb.owlapitools.decomposition.AxiomWrapper;
 import org.semanticweb.owlapitools.decomposition.OntologyAtom;
 import uk.ac.manchester.cs.owlapi.modularity.ModuleType;
@@ -10,7 +23,7 @@ import uk.ac.manchester.cs.owlapi.modularity.ModuleType;
 /**
  * atomical decomposer of the ontology
  */
-class AtomicDecomposer {
+public class AtomicDecomposer {
 
     /**
      * atomic structure to build
@@ -23,7 +36,7 @@ class AtomicDecomposer {
     /**
      * tautologies of the ontology
      */
-    Set<AxiomWrapper> tautologies;
+    Set<AxiomWrapper> tautologies = new HashSet<>();
     /**
      * fake atom that represents the whole ontology
      */
@@ -32,6 +45,15 @@ class AtomicDecomposer {
      * module type for current AOS creation
      */
     ModuleType type;
+    /**
+     * number of locality checks performed by the modularizers of the parallel
+     * decomposition
+     */
+    LongAdder parallelChecks = new LongAdder();
+    /**
+     * wall time of the last decomposition, in milliseconds
+     */
+    long decompositionTime = 0;
 
     /**
      * @param m modulariser
@@ -40,6 +62,38 @@ class AtomicDecomposer {
         modularizer = m;
     }
 
+    /**
+     * @param moduleMethod module method used to build the modules
+     */
+    public AtomicDecomposer(ModuleMethod moduleMethod) {
+        this(new Modularizer(moduleMethod));
+    }
+
+    /**
+     * Decomposes a list of axioms on the calling thread.
+     *
+     * @param axioms axioms to decompose
+     * @param t module type
+     * @return the atoms, by id
+     */
+    public List<OntologyAtom> decompose(List<OWLAxiom> axioms, ModuleType t) {
+        return getAOS(AxiomSelector.wrap(axioms), t).atoms;
+    }
+
+    /**
+     * Decomposes a list of axioms, extracting the modules of the axioms on a
+     * fork/join pool. The atoms and their dependencies are the same as those
+     * built by {@link #decompose(List, ModuleType)}.
+     *
+     * @param axioms axioms to decompose
+     * @param t module type
+     * @param pool pool to extract modules on
+     * @return the atoms, by id
+     */
+    public List<OntologyAtom> decompose(List<OWLAxiom> axioms, ModuleType t, ForkJoinPool pool) {
+        return getAOS(AxiomSelector.wrap(axioms), t, pool).atoms;
+    }
+
     /**
      * restore all tautologies back
      */
@@ -57,8 +111,15 @@ class AtomicDecomposer {
     /**
      * @return number of performed locality checks
      */
-    long getLocChekNumber() {
-        return modularizer.getNChecks();
+    public long getLocChekNumber() {
+        return modularizer.getNChecks() + parallelChecks.sum();
+    }
+
+    /**
+     * @return wall time of the last decomposition, in milliseconds
+     */
+    public long getDecompositionTime() {
+        return decompositionTime;
     }
 
     /**
@@ -144,6 +205,7 @@ class AtomicDecomposer {
      * @return atomic structure for given module type T
      */
     AOStructure getAOS(Collection<AxiomWrapper> o, ModuleType t) {
+        long start = System.currentTimeMillis();
         // remember the type of the module
         type = t;
         // prepare a new AO structure
@@ -174,6 +236,99 @@ class AtomicDecomposer {
         rootAtom = null;
         // reduce graph
         aos.reduceGraph();
+        decompositionTime = System.currentTimeMillis() - start;
         return aos;
     }
+
+    /**
+     * Parallel version of {@link #getAOS(Collection, ModuleType)}. The modules
+     * of the axioms are extracted on the pool by modularizers confined to the
+     * pool threads, each with its own copy of the axiom wrappers and its own
+     * signature index. Axioms with the same module form an atom; the
+     * dependencies of each atom are then collected concurrently.
+     *
+     * @param o ontology
+     * @param t module type
+     * @param pool pool to extract modules on
+     * @return atomic structure for given module type T
+     */
+    AOStructure getAOS(Collection<AxiomWrapper> o, ModuleType t, ForkJoinPool pool) {
+        long start = System.currentTimeMillis();
+        type = t;
+        aos = new AOStructure();
+        modularizer.preprocessOntology(o);
+        removeTautologies(o);
+        rootAtom = new OntologyAtom();
+        rootAtom.setModule(o);
+        List<AxiomWrapper> axioms = new ArrayList<>(o);
+        // atom of each axiom, by position
+        OntologyAtom[] atoms = new OntologyAtom[axioms.size()];
+        Optional<OntologyAtom> bottomAtom = buildModule(new Signature(), rootAtom);
+        if (bottomAtom.isPresent()) {
+            for (AxiomWrapper q : bottomAtom.get().getModule()) {
+                bottomAtom.get().addAxiom(q);
+            }
+        }
+        for (int i = 0; i < atoms.length; i++) {
+            atoms[i] = axioms.get(i).getAtom().orElse(null);
+        }
+        int[] pending = IntStream.range(0, atoms.length)
+            .filter(i -> axioms.get(i).isUsed() && atoms[i] == null).toArray();
+        BitSet[] modules = new BitSet[atoms.length];
+        int workers = Math.max(1, Math.min(pool.getParallelism(), pending.length));
+        pool.submit(() -> IntStream.range(0, workers).parallel()
+            .forEach(w -> extractModules(axioms, pending, w, workers, modules))).join();
+        // axioms with the same module belong to the same atom; atoms are
+        // created in axiom order, so that the ids do not depend on scheduling
+        Map<BitSet, OntologyAtom> atomsByModule = new HashMap<>();
+        for (int i : pending) {
+            OntologyAtom atom = atomsByModule.computeIfAbsent(modules[i], m -> {
+                OntologyAtom a = aos.newAtom();
+                a.setModule(m.stream().mapToObj(axioms::get).collect(Collectors.toList()));
+                return a;
+            });
+            atom.addAxiom(axioms.get(i));
+            atoms[i] = atom;
+        }
+        // each atom only updates its own dependencies
+        pool.submit(() -> atomsByModule.entrySet().parallelStream()
+            .forEach(e -> e.getKey().stream().forEach(q -> e.getValue().addDepAtom(atoms[q]))))
+            .join();
+        restoreTautologies();
+        rootAtom = null;
+        aos.reduceGraph();
+        decompositionTime = System.currentTimeMillis() - start;
+        return aos;
+    }
+
+    /**
+     * Extract the modules for every step-th pending axiom, starting at the
+     * given offset, with a modularizer confined to the current thread.
+     *
+     * @param axioms all axioms
+     * @param pending positions of the axioms to build modules for
+     * @param offset first pending axiom to process
+     * @param step distance between the pending axioms to process
+     * @param modules modules by axiom position, filled in by this method
+     */
+    void extractModules(List<AxiomWrapper> axioms, int[] pending, int offset, int step,
+        BitSet[] modules) {
+        List<AxiomWrapper> copies = new ArrayList<>(axioms.size());
+        for (int i = 0; i < axioms.size(); i++) {
+            AxiomWrapper copy = new AxiomWrapper(axioms.get(i).getAxiom());
+            copy.setUsed(axioms.get(i).isUsed());
+            copy.setId(i);
+            copies.add(copy);
+        }
+        Modularizer m = new Modularizer(modularizer.getModuleMethod());
+        m.preprocessOntology(copies);
+        for (int k = offset; k < pending.length; k += step) {
+            AxiomWrapper ax = copies.get(pending[k]);
+            m.extract(copies, new Signature(ax.signature()), type);
+            BitSet module = new BitSet(copies.size());
+            m.getModule().forEach(q -> module.set(q.getId()));
+            modules[pending[k]] = module;
+        }
+        parallelChecks.add(m.getNChecks());
+    }
 }
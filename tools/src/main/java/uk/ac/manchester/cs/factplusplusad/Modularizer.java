@@ -25,6 +25,10 @@ public class Modularizer {
      * pointer to a sig index; if not NULL then use optimized algo
      */
     private final SigIndex sigIndex;
+    /**
+     * module method used to create the locality checker
+     */
+    private final ModuleMethod moduleMethod;
     /**
      * shared signature signature
      */
@@ -60,6 +64,7 @@ public class Modularizer {
      * @param moduleMethod module method
      */
     Modularizer(ModuleMethod moduleMethod) {
+        this.moduleMethod = moduleMethod;
         checker = LocalityChecker.createLocalityChecker(moduleMethod, sig);
         sigIndex = new SigIndex(checker);
     }
@@ -237,6 +242,13 @@ public class Modularizer {
         return checker;
     }
 
+    /**
+     * @return the module method used by this modularizer
+     */
+    ModuleMethod getModuleMethod() {
+        return moduleMethod;
+    }
+
     /**
      * @return the last computed module
      */
@@ -0,0 +1,383 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owlapi.modularity;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.contains;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.modularity.OntologySegmenter;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import com.clarkparsia.owlapi.modularity.locality.LocalityClass;
+import com.clarkparsia.owlapi.modularity.locality.SyntacticLocalityEvaluator;
+
+/**
+ * Module extractor that caches the modules it computes, keyed by seed signature and module type,
+ * for services extracting modules for many overlapping signatures from an ontology that rarely
+ * changes. Top and bottom modules for a new signature are extracted starting from the cached
+ * modules of its subsets, which are always contained in the new module. The extractor listens to
+ * the changes to the imports closure of the ontology, and only discards the cached modules that a
+ * change can affect: the modules containing a removed axiom, and the modules whose signature
+ * makes an added axiom non-local or refers to an added declaration or annotation. Star modules
+ * are discarded on any other addition. Call {@link #dispose()} to stop listening to
+ * changes.
+ * <p>
+ * The extractors used by this class create unnamed copies of the imports closure in the manager
+ * of the ontology; a copy is removed from the manager as soon as its extractor is discarded.
+ * <p>
+ * Extractions can run concurrently. The cache lock only guards the cached modules, and is never
+ * held while the ontology is read; a module extracted while the ontology changed is extracted
+ * again rather than cached.
+ *
+ * @author ignazio
+ * @since 5.1.1
+ */
+public class CachingModuleExtractor implements OntologySegmenter, OWLOntologyChangeListener {
+
+    private final OWLOntology ontology;
+    private final OWLOntologyManager manager;
+    private final ModuleType moduleType;
+    private final int maxSize;
+    /**
+     * Guards the cache, the extractors and the generation.
+     */
+    private final Object cacheLock = new Object();
+    /**
+     * Cached modules, least recently used first.
+     */
+    private final Map<Key, Entry> cache;
+    /**
+     * Extractors over the current axioms; discarded when the axioms change.
+     */
+    private final Map<ModuleType, SyntacticLocalityModuleExtractor> extractors =
+        new EnumMap<>(ModuleType.class);
+    /**
+     * Incremented at each relevant change; modules extracted across a change are not cached.
+     */
+    private long generation = 0;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param ontology the ontology to extract modules from; its imports closure is included
+     * @param moduleType the default module type
+     */
+    public CachingModuleExtractor(OWLOntology ontology, ModuleType moduleType) {
+        this(ontology, moduleType, 1000);
+    }
+
+    /**
+     * @param ontology the ontology to extract modules from; its imports closure is included
+     * @param moduleType the default module type
+     * @param maxSize maximum number of cached modules
+     */
+    public CachingModuleExtractor(OWLOntology ontology, ModuleType moduleType, int maxSize) {
+        this.ontology = checkNotNull(ontology, "ontology cannot be null");
+        this.moduleType = checkNotNull(moduleType, "moduleType cannot be null");
+        this.maxSize = maxSize;
+        manager = ontology.getOWLOntologyManager();
+        cache = new LinkedHashMap<>(16, 0.75F, true);
+        manager.addOntologyChangeListener(this);
+    }
+
+    /**
+     * Stops listening to changes and clears the cache.
+     */
+    public void dispose() {
+        manager.removeOntologyChangeListener(this);
+        clear();
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        List<SyntacticLocalityModuleExtractor> discarded;
+        synchronized (cacheLock) {
+            generation++;
+            cache.clear();
+            discarded = discardExtractors();
+        }
+        discarded.forEach(SyntacticLocalityModuleExtractor::removeOntology);
+    }
+
+    /**
+     * Called while holding the cache lock; the ontologies of the discarded extractors must be
+     * removed from the manager once the lock is released.
+     */
+    private List<SyntacticLocalityModuleExtractor> discardExtractors() {
+        List<SyntacticLocalityModuleExtractor> discarded = new ArrayList<>(extractors.values());
+        extractors.clear();
+        return discarded;
+    }
+
+    /**
+     * @return number of extractions answered from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of extractions that computed a module
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return number of cached modules
+     */
+    public int size() {
+        synchronized (cacheLock) {
+            return cache.size();
+        }
+    }
+
+    @Override
+    public Set<OWLAxiom> extract(Set<OWLEntity> signature) {
+        return extract(signature, moduleType);
+    }
+
+    /**
+     * Extracts a module of the given type; the module is the same that a
+     * {@link SyntacticLocalityModuleExtractor} for the imports closure of the ontology would
+     * extract.
+     *
+     * @param signature the seed signature
+     * @param type the module type
+     * @return the module
+     */
+    public Set<OWLAxiom> extract(Set<OWLEntity> signature, ModuleType type) {
+        Key key = new Key(signature, type);
+        while (true) {
+            long current;
+            SyntacticLocalityModuleExtractor extractor;
+            List<OWLAxiom> known = new ArrayList<>();
+            synchronized (cacheLock) {
+                Entry entry = cache.get(key);
+                if (entry != null) {
+                    hits.incrementAndGet();
+                    return new HashSet<>(entry.module);
+                }
+                current = generation;
+                extractor = extractors.get(type);
+                if (type != ModuleType.STAR) {
+                    for (Entry e : cache.values()) {
+                        if (e.key.type == type && signature.containsAll(e.key.signature)) {
+                            known.addAll(e.logicalModule);
+                        }
+                    }
+                }
+            }
+            boolean created = extractor == null;
+            if (extractor == null) {
+                extractor = newExtractor(type);
+            }
+            Set<OWLEntity> moduleSignature = new HashSet<>(signature);
+            Set<OWLAxiom> logicalModule = extractor.extractLogicalModule(moduleSignature, known);
+            Set<OWLAxiom> module = extractor.enrich(logicalModule, moduleSignature);
+            boolean cached = false;
+            boolean kept = false;
+            synchronized (cacheLock) {
+                if (generation == current) {
+                    cached = true;
+                    misses.incrementAndGet();
+                    kept = extractors.putIfAbsent(type, extractor) == null;
+                    cache.put(key, new Entry(key, logicalModule, moduleSignature, module));
+                    if (cache.size() > maxSize) {
+                        Iterator<Entry> eldest = cache.values().iterator();
+                        eldest.next();
+                        eldest.remove();
+                    }
+                }
+            }
+            if (created && !kept) {
+                extractor.removeOntology();
+            }
+            if (cached) {
+                return new HashSet<>(module);
+            }
+            // the ontology changed during the extraction, and the known axioms or the extractor
+            // may be stale
+        }
+    }
+
+    /**
+     * Creates an extractor over the current axioms; reads the ontology, so it must not be called
+     * while holding the cache lock.
+     */
+    private SyntacticLocalityModuleExtractor newExtractor(ModuleType type) {
+        SyntacticLocalityModuleExtractor extractor =
+            new SyntacticLocalityModuleExtractor(manager, ontology, type);
+        // reusing known axioms needs the index
+        extractor.setIndexed(true);
+        return extractor;
+    }
+
+    @Override
+    public Set<OWLAxiom> extract(Set<OWLEntity> signature, int superClassLevel,
+        int subClassLevel, @Nullable OWLReasoner reasoner) {
+        Set<OWLEntity> enrichedSig = SyntacticLocalityModuleExtractor.enrichSignature(signature,
+            superClassLevel, subClassLevel, reasoner);
+        return extract(enrichedSig, moduleType);
+    }
+
+    @Override
+    public OWLOntology extractAsOntology(Set<OWLEntity> signature, IRI iri)
+        throws OWLOntologyCreationException {
+        return manager.createOntology(extract(signature), iri);
+    }
+
+    @Override
+    public OWLOntology extractAsOntology(Set<OWLEntity> signature, IRI iri, int superClassLevel,
+        int subClassLevel, @Nullable OWLReasoner reasoner) throws OWLOntologyCreationException {
+        return manager.createOntology(extract(signature, superClassLevel, subClassLevel, reasoner),
+            iri);
+    }
+
+    @Override
+    public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
+        // the imports closure is read before taking the cache lock, which extractions hold
+        // without reading the ontology
+        List<OWLOntologyChange> relevant = new ArrayList<>();
+        for (OWLOntologyChange change : changes) {
+            if ((change.isImportChange() || change.isAxiomChange())
+                && contains(ontology.importsClosure(), change.getOntology())) {
+                relevant.add(change);
+            }
+        }
+        if (relevant.isEmpty()) {
+            return;
+        }
+        List<SyntacticLocalityModuleExtractor> discarded;
+        synchronized (cacheLock) {
+            generation++;
+            discarded = discardExtractors();
+            for (OWLOntologyChange change : relevant) {
+                if (change.isImportChange()) {
+                    cache.clear();
+                } else {
+                    OWLAxiom axiom = change.getAxiom();
+                    if (change.isAddAxiom()) {
+                        cache.values().removeIf(e -> e.isAffectedByAddition(axiom));
+                    } else {
+                        cache.values().removeIf(e -> e.module.contains(axiom));
+                    }
+                }
+            }
+        }
+        discarded.forEach(SyntacticLocalityModuleExtractor::removeOntology);
+    }
+
+    private static class Key {
+
+        final Set<OWLEntity> signature;
+        final ModuleType type;
+        private final int hashCode;
+
+        Key(Set<OWLEntity> signature, ModuleType type) {
+            this.signature = Collections.unmodifiableSet(new HashSet<>(signature));
+            this.type = type;
+            hashCode = signature.hashCode() * 37 + type.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return type == other.type && signature.equals(other.signature);
+        }
+    }
+
+    private static class Entry {
+
+        final Key key;
+        final Set<OWLAxiom> logicalModule;
+        /**
+         * Seed signature plus the signature of the logical module.
+         */
+        final Set<OWLEntity> signature;
+        final Set<OWLAxiom> module;
+
+        Entry(Key key, Set<OWLAxiom> logicalModule, Set<OWLEntity> signature,
+            Set<OWLAxiom> module) {
+            this.key = key;
+            this.logicalModule = logicalModule;
+            this.signature = signature;
+            this.module = module;
+        }
+
+        /**
+         * An added axiom that is local with respect to the module signature does not change a top
+         * or bottom module, unless it is one of the axioms added when enriching the module.
+         */
+        boolean isAffectedByAddition(OWLAxiom axiom) {
+            if (axiom instanceof OWLDeclarationAxiom) {
+                return signature.contains(((OWLDeclarationAxiom) axiom).getEntity());
+            }
+            if (axiom instanceof OWLAnnotationAssertionAxiom) {
+                Optional<IRI> subject = ((OWLAnnotationAssertionAxiom) axiom).getSubject().asIRI();
+                return subject.isPresent()
+                    && signature.stream().anyMatch(e -> e.getIRI().equals(subject.get()));
+            }
+            if (axiom.isOfType(AxiomType.SAME_INDIVIDUAL, AxiomType.DIFFERENT_INDIVIDUALS)
+                && axiom.signature().anyMatch(signature::contains)) {
+                return true;
+            }
+            switch (key.type) {
+                case TOP:
+                    return !new SyntacticLocalityEvaluator(LocalityClass.TOP_TOP).isLocal(axiom,
+                        signature);
+                case BOT:
+                    return !new SyntacticLocalityEvaluator(LocalityClass.BOTTOM_BOTTOM)
+                        .isLocal(axiom, signature);
+                default:
+                    return true;
+            }
+        }
+    }
+}
@@ -16,13 +16,21 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.add;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -72,6 +80,11 @@ public class SyntacticLocalityModuleExtractor implements OntologySegmenter {
      * Type of module.
      */
     private ModuleType moduleType;
+    /**
+     * True if modules are extracted over the entity/axiom index rather than by
+     * scanning all axioms until the signature stabilizes.
+     */
+    private boolean indexed = false;
 
     /**
      * Creates a new module extractor for a subset of a given ontology, its manager, and a specified
@@ -210,6 +223,34 @@ public class SyntacticLocalityModuleExtractor implements OntologySegmenter {
         this.moduleType = checkNotNull(moduleType, "moduleType cannot be null");
     }
 
+    /**
+     * @return true if modules are extracted over the entity/axiom index
+     */
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    /**
+     * Selects how modules are extracted. The indexed extraction numbers the entities and axioms of
+     * the ontology on first use, and then only checks the locality of the axioms whose signature
+     * contains an entity added to the module signature; the index is reused by all subsequent
+     * extractions. The alternative, used by default, scans all axioms until the signature
+     * stabilizes. Both produce the same modules.
+     *
+     * @param indexed true if modules should be extracted over the entity/axiom index
+     */
+    public void setIndexed(boolean indexed) {
+        this.indexed = indexed;
+    }
+
+    /**
+     * Removes the ontology created for the axioms of this extractor from the manager. The
+     * extractor can still extract modules, but the ontology is no longer managed.
+     */
+    void removeOntology() {
+        manager.removeOntology(ontology);
+    }
+
     /**
      * This auxiliary method extracts a module from a given sub-ontology of the associated ontology
      * for a given signature and locality type. The module will contain only logical axioms, no
@@ -226,6 +267,9 @@ public class SyntacticLocalityModuleExtractor implements OntologySegmenter {
      */
     boolean[] extractLogicalAxioms(boolean[] subOnt, Set<OWLEntity> signature,
         LocalityClass localityClass) {
+        if (indexed) {
+            return extractIndexedLogicalAxioms(subOnt, signature, localityClass);
+        }
         boolean[] mod = ontologyAxiomSet.getSubset(false);
         boolean[] q2 = ontologyAxiomSet.cloneSubset(subOnt);
         SyntacticLocalityEvaluator sle = new SyntacticLocalityEvaluator(localityClass);
@@ -259,6 +303,88 @@ public class SyntacticLocalityModuleExtractor implements OntologySegmenter {
         return mod;
     }
 
+    /**
+     * Indexed version of {@link #extractLogicalAxioms(boolean[], Set, LocalityClass)}. Only the
+     * intersection of an axiom signature with the module signature affects its locality, so an
+     * axiom needs checking only when an entity in its signature enters the module signature; axioms
+     * that are not local with respect to the empty signature belong to every module.
+     *
+     * @param subOnt an array of Booleans representing the sub-ontology
+     * @param signature the seed signature (set of entities) for the module; on return of the
+     *        method, this will contain the signature of the module
+     * @param localityClass the type of locality
+     * @return an array of Booleans representing the module
+     */
+    boolean[] extractIndexedLogicalAxioms(boolean[] subOnt, Set<OWLEntity> signature,
+        LocalityClass localityClass) {
+        return extractIndexedLogicalAxioms(subOnt, signature, localityClass,
+            Collections.emptySet());
+    }
+
+    /**
+     * Indexed extraction starting from axioms known to belong to the module, e.g., the axioms of
+     * the modules of subsets of the signature. Since modules are monotone in the signature, the
+     * result is the same as extracting from scratch.
+     *
+     * @param subOnt an array of Booleans representing the sub-ontology
+     * @param signature the seed signature (set of entities) for the module; on return of the
+     *        method, this will contain the signature of the module
+     * @param localityClass the type of locality
+     * @param known axioms known to belong to the module
+     * @return an array of Booleans representing the module
+     */
+    boolean[] extractIndexedLogicalAxioms(boolean[] subOnt, Set<OWLEntity> signature,
+        LocalityClass localityClass, Collection<OWLAxiom> known) {
+        boolean[] mod = ontologyAxiomSet.getSubset(false);
+        SyntacticLocalityEvaluator sle = new SyntacticLocalityEvaluator(localityClass);
+        BitSet inSignature = new BitSet(ontologyAxiomSet.entityCount());
+        // every entity is queued at most once
+        int[] queue = new int[ontologyAxiomSet.entityCount()];
+        int tail = 0;
+        for (OWLEntity e : signature) {
+            int id = ontologyAxiomSet.getEntityId(e);
+            if (id >= 0 && !inSignature.get(id)) {
+                inSignature.set(id);
+                queue[tail++] = id;
+            }
+        }
+        for (OWLAxiom axiom : known) {
+            int i = ontologyAxiomSet.getAxiomId(axiom);
+            if (i >= 0 && subOnt[i] && !mod[i]) {
+                tail = addToModule(i, mod, signature, inSignature, queue, tail);
+            }
+        }
+        for (int i : ontologyAxiomSet.getNonLocalAxioms(localityClass)) {
+            if (subOnt[i] && !mod[i]) {
+                tail = addToModule(i, mod, signature, inSignature, queue, tail);
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            for (int i : ontologyAxiomSet.getAxiomIds(queue[head])) {
+                if (subOnt[i] && !mod[i]
+                    && !sle.isLocal(ontologyAxiomSet.getAxiom(i), signature)) {
+                    tail = addToModule(i, mod, signature, inSignature, queue, tail);
+                }
+            }
+        }
+        return mod;
+    }
+
+    private int addToModule(int i, boolean[] mod, Set<OWLEntity> signature, BitSet inSignature,
+        int[] queue, int tail) {
+        LOGGER.info("      Non-local axiom:   {}", ontologyAxiomSet.getAxiom(i));
+        mod[i] = true;
+        int newTail = tail;
+        for (int id : ontologyAxiomSet.getSignatureIds(i)) {
+            if (!inSignature.get(id)) {
+                inSignature.set(id);
+                signature.add(ontologyAxiomSet.getEntity(id));
+                queue[newTail++] = id;
+            }
+        }
+        return newTail;
+    }
+
     /**
      * This method extracts a module from a given sub-ontology of the associated ontology for a
      * given signature and locality type. The module will only contain logical axioms, no annotation
@@ -400,8 +526,8 @@ public class SyntacticLocalityModuleExtractor implements OntologySegmenter {
      * @param reasoner the reasoner
      * @return the sets the
      */
-    Set<OWLEntity> enrichSignature(Set<OWLEntity> sig, int superClassLevel, int subClassLevel,
-        @Nullable OWLReasoner reasoner) {
+    static Set<OWLEntity> enrichSignature(Set<OWLEntity> sig, int superClassLevel,
+        int subClassLevel, @Nullable OWLReasoner reasoner) {
         Set<OWLEntity> enrichedSig = new HashSet<>(sig);
         Set<OWLClass> classesInSig = new HashSet<>();
         for (OWLEntity ent : sig) {
@@ -467,6 +593,21 @@ public class SyntacticLocalityModuleExtractor implements OntologySegmenter {
     }
 
     protected Set<OWLAxiom> extractStar(Set<OWLEntity> enrichedSig) {
+        Set<OWLEntity> seedSig = new HashSet<>(enrichedSig);
+        Set<OWLAxiom> moduleAsSet = ontologyAxiomSet.toSet(extractStarLogicalAxioms(seedSig));
+        return enrich(moduleAsSet, seedSig);
+    }
+
+    /**
+     * Extracts the logical axioms of a star module, alternating bottom and top modules until the
+     * module stabilizes.
+     *
+     * @param signature the seed signature (set of entities) for the module; on return of the
+     *        method, this will contain the signature of the module
+     * @return an array of Booleans representing the module
+     */
+    boolean[] extractStarLogicalAxioms(Set<OWLEntity> signature) {
+        Set<OWLEntity> enrichedSig = new HashSet<>(signature);
         boolean[] subOnt = ontologyAxiomSet.getSubset(true);
         boolean nextStepNecessary = true;
         boolean inFirstStep = true;
@@ -489,8 +630,37 @@ public class SyntacticLocalityModuleExtractor implements OntologySegmenter {
                 localityClass = LocalityClass.BOTTOM_BOTTOM;
             }
         }
-        Set<OWLAxiom> moduleAsSet = ontologyAxiomSet.toSet(subOnt);
-        return enrich(moduleAsSet, seedSig);
+        signature.addAll(seedSig);
+        return subOnt;
+    }
+
+    /**
+     * Extracts the logical axioms of the module for a signature, without enriching the module.
+     * Top and bottom modules are extracted starting from axioms known to belong to the module;
+     * these are ignored for star modules, and when the extraction is not indexed.
+     *
+     * @param signature the seed signature (set of entities) for the module; on return of the
+     *        method, this will contain the signature of the module
+     * @param known axioms known to belong to the module
+     * @return the logical axioms of the module
+     */
+    Set<OWLAxiom> extractLogicalModule(Set<OWLEntity> signature, Collection<OWLAxiom> known) {
+        boolean[] subOnt = ontologyAxiomSet.getSubset(true);
+        switch (moduleType) {
+            case TOP:
+                return ontologyAxiomSet.toSet(indexed
+                    ? extractIndexedLogicalAxioms(subOnt, signature, LocalityClass.TOP_TOP, known)
+                    : extractLogicalAxioms(subOnt, signature, LocalityClass.TOP_TOP));
+            case BOT:
+                return ontologyAxiomSet.toSet(indexed
+                    ? extractIndexedLogicalAxioms(subOnt, signature, LocalityClass.BOTTOM_BOTTOM,
+                        known)
+                    : extractLogicalAxioms(subOnt, signature, LocalityClass.BOTTOM_BOTTOM));
+            case STAR:
+                return ontologyAxiomSet.toSet(extractStarLogicalAxioms(signature));
+            default:
+                throw new OWLRuntimeException("Unsupported module type: " + moduleType);
+        }
     }
 
     @Override
@@ -521,6 +691,21 @@ public class SyntacticLocalityModuleExtractor implements OntologySegmenter {
          * Array representing all axioms of the associated ontology.
          */
         final OWLAxiom[] ax;
+        /**
+         * Entity/axiom index; built on first use, and published once complete so that extractions
+         * on several threads can share it.
+         */
+        @Nullable
+        private volatile Index index;
+        /**
+         * Axioms that are not local with respect to the empty signature, by locality class.
+         */
+        private final Map<LocalityClass, int[]> nonLocal = new ConcurrentHashMap<>();
+        /**
+         * Axiom numbers; built on first use.
+         */
+        @Nullable
+        private volatile Map<OWLAxiom, Integer> axiomNumbers;
 
         /**
          * Creates a new OntologyAxiomSet from a given set of axioms without looking up the
@@ -532,6 +717,93 @@ public class SyntacticLocalityModuleExtractor implements OntologySegmenter {
             ax = axs.toArray(new OWLAxiom[axs.size()]);
         }
 
+        /**
+         * @return the entity/axiom index, built on first use
+         */
+        private Index index() {
+            Index i = index;
+            if (i == null) {
+                synchronized (this) {
+                    i = index;
+                    if (i == null) {
+                        i = new Index(ax);
+                        index = i;
+                    }
+                }
+            }
+            return i;
+        }
+
+        /**
+         * @return number of entities in the axiom signatures
+         */
+        public int entityCount() {
+            return index().entities.length;
+        }
+
+        /**
+         * @param e entity
+         * @return number of the entity, or -1 if no axiom refers to it
+         */
+        public int getEntityId(OWLEntity e) {
+            Integer id = index().entityIds.get(e);
+            return id == null ? -1 : id.intValue();
+        }
+
+        /**
+         * @param id entity number
+         * @return entity
+         */
+        public OWLEntity getEntity(int id) {
+            return index().entities[id];
+        }
+
+        /**
+         * @param id entity number
+         * @return numbers of the axioms referring to the entity
+         */
+        public int[] getAxiomIds(int id) {
+            return index().axiomIds[id];
+        }
+
+        /**
+         * @param i axiom number
+         * @return numbers of the entities in the axiom signature
+         */
+        public int[] getSignatureIds(int i) {
+            return index().signatures[i];
+        }
+
+        /**
+         * @param axiom axiom
+         * @return number of the axiom, or -1 if the axiom is not in this set
+         */
+        public int getAxiomId(OWLAxiom axiom) {
+            Map<OWLAxiom, Integer> numbers = axiomNumbers;
+            if (numbers == null) {
+                numbers = new HashMap<>();
+                for (int i = 0; i < ax.length; i++) {
+                    numbers.put(ax[i], Integer.valueOf(i));
+                }
+                axiomNumbers = numbers;
+            }
+            Integer id = numbers.get(axiom);
+            return id == null ? -1 : id.intValue();
+        }
+
+        /**
+         * @param localityClass locality class
+         * @return numbers of the axioms that are not local with respect to the empty signature
+         */
+        public int[] getNonLocalAxioms(LocalityClass localityClass) {
+            return nonLocal.computeIfAbsent(localityClass, c -> {
+                SyntacticLocalityEvaluator sle = new SyntacticLocalityEvaluator(c);
+                Set<OWLEntity> empty = Collections.emptySet();
+                return IntStream.range(0, ax.length)
+                    .filter(i -> !sle.isLocal(ax[i], empty)).toArray();
+            });
+        }
+
         /**
          * Returns the number of axioms in this set.
          *
@@ -609,4 +881,58 @@ public class SyntacticLocalityModuleExtractor implements OntologySegmenter {
             return axs;
         }
     }
+
+    /**
+     * Dense numbering of the entities in the axiom signatures, with the axiom signatures and the
+     * posting lists; immutable once built.
+     */
+    private static class Index {
+
+        /**
+         * Entity numbers.
+         */
+        final Map<OWLEntity, Integer> entityIds = new HashMap<>();
+        /**
+         * Entities by number.
+         */
+        final OWLEntity[] entities;
+        /**
+         * Signature of each axiom, as entity numbers.
+         */
+        final int[][] signatures;
+        /**
+         * Axioms containing each entity in their signature, by entity number.
+         */
+        final int[][] axiomIds;
+
+        /**
+         * Numbers the entities and builds the axiom signatures and the posting lists.
+         *
+         * @param ax axioms to index
+         */
+        Index(OWLAxiom[] ax) {
+            List<OWLEntity> list = new ArrayList<>();
+            List<List<Integer>> postings = new ArrayList<>();
+            signatures = new int[ax.length][];
+            for (int i = 0; i < ax.length; i++) {
+                int axiom = i;
+                signatures[i] = ax[i].signature().mapToInt(e -> {
+                    Integer id = entityIds.get(e);
+                    if (id == null) {
+                        id = Integer.valueOf(list.size());
+                        entityIds.put(e, id);
+                        list.add(e);
+                        postings.add(new ArrayList<>());
+                    }
+                    postings.get(id.intValue()).add(Integer.valueOf(axiom));
+                    return id.intValue();
+                }).toArray();
+            }
+            entities = list.toArray(new OWLEntity[list.size()]);
+            axiomIds = new int[postings.size()][];
+            for (int e = 0; e < axiomIds.length; e++) {
+                axiomIds[e] = postings.get(e).stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+    }
 }